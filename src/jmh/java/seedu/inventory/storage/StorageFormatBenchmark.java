@@ -0,0 +1,99 @@
+package seedu.inventory.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.item.Image;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.Name;
+import seedu.inventory.model.item.Price;
+import seedu.inventory.model.item.Quantity;
+import seedu.inventory.model.item.Sku;
+import seedu.inventory.model.tag.Tag;
+import seedu.inventory.storage.binary.BinaryInventoryStorage;
+
+/**
+ * Compares reading and writing an inventory with {@link XmlFileStorage} against the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    private int itemCount;
+
+    private Path directory;
+    private Path xmlFile;
+    private Path binaryFile;
+    private Inventory inventory;
+    private BinaryInventoryStorage binaryStorage;
+
+    /**
+     * Writes an inventory of {@code itemCount} items in both formats.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        xmlFile = directory.resolve("inventory.xml");
+        binaryFile = directory.resolve("inventory.bin");
+        binaryStorage = new BinaryInventoryStorage(binaryFile, directory.resolve("staff.bin"));
+
+        inventory = new Inventory();
+        for (int i = 0; i < itemCount; i++) {
+            inventory.addItem(new Item(new Name("Item " + i), new Price(String.format("%d.%02d", i % 1000, i % 100)),
+                    new Quantity(Integer.toString(i % 500)), new Sku("sku" + i),
+                    new Image("docs/images/iphone.jpg"), Collections.singleton(new Tag("tag" + i % 10))));
+        }
+        XmlFileStorage.saveInventoryToFile(xmlFile, inventory);
+        binaryStorage.saveInventory(inventory);
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFile);
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyInventory readXml() throws DataConversionException, IOException, IllegalValueException {
+        return XmlFileStorage.loadInventoryFromSaveFile(xmlFile);
+    }
+
+    @Benchmark
+    public ReadOnlyInventory readBinary() throws DataConversionException, IOException {
+        return binaryStorage.readInventory().get();
+    }
+
+    @Benchmark
+    public void writeXml() throws IOException {
+        XmlFileStorage.saveInventoryToFile(xmlFile, inventory);
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        binaryStorage.saveInventory(inventory);
+    }
+}
@@ -3,8 +3,14 @@ package seedu.inventory;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javax.xml.bind.JAXBException;
+
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Application;
@@ -18,6 +24,7 @@ import seedu.inventory.commons.events.ui.ExitAppRequestEvent;
 import seedu.inventory.commons.exceptions.DataConversionException;
 import seedu.inventory.commons.util.ConfigUtil;
 import seedu.inventory.commons.util.StringUtil;
+import seedu.inventory.commons.util.XmlUtil;
 import seedu.inventory.logic.Logic;
 import seedu.inventory.logic.LogicManager;
 import seedu.inventory.model.Inventory;
@@ -28,16 +35,26 @@ import seedu.inventory.model.ReadOnlySaleList;
 import seedu.inventory.model.ReadOnlyStaffList;
 import seedu.inventory.model.SaleList;
 import seedu.inventory.model.UserPrefs;
+import seedu.inventory.model.item.ImageMetadataCache;
 import seedu.inventory.model.util.SampleDataUtil;
 import seedu.inventory.storage.InventoryStorage;
+import seedu.inventory.storage.JournaledInventoryStorage;
 import seedu.inventory.storage.JsonUserPrefsStorage;
 import seedu.inventory.storage.ReportingStorage;
 import seedu.inventory.storage.SaleListStorage;
 import seedu.inventory.storage.Storage;
 import seedu.inventory.storage.StorageManager;
 import seedu.inventory.storage.UserPrefsStorage;
+import seedu.inventory.storage.XmlAdaptedItem;
+import seedu.inventory.storage.XmlAdaptedJournalRecord;
+import seedu.inventory.storage.XmlAdaptedPurchaseOrder;
+import seedu.inventory.storage.XmlAdaptedSale;
+import seedu.inventory.storage.XmlAdaptedStaff;
 import seedu.inventory.storage.XmlInventoryStorage;
 import seedu.inventory.storage.XmlSaleListStorage;
+import seedu.inventory.storage.binary.BinaryInventoryStorage;
+import seedu.inventory.storage.binary.BinaryStorageMigration;
+import seedu.inventory.storage.binary.MappedSaleListStorage;
 import seedu.inventory.storage.csv.CsvReportingStorage;
 import seedu.inventory.ui.Ui;
 import seedu.inventory.ui.UiManager;
@@ -58,100 +75,214 @@ public class MainApp extends Application {
     protected Config config;
     protected UserPrefs userPrefs;
 
+    private long initStartTime;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Inventory ]===========================");
         super.init();
+        initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        InventoryStorage inventoryStorage = new XmlInventoryStorage(userPrefs.getInventoryFilePath(),
-                userPrefs.getStaffListFilePath());
-        SaleListStorage saleListStorage = new XmlSaleListStorage();
+        InventoryStorage inventoryStorage;
+        SaleListStorage saleListStorage;
+        if (userPrefs.isBinaryStorage()) {
+            Path saleListFilePath = new XmlSaleListStorage().getSaleListFilePath();
+            long migrationStartTime = System.nanoTime();
+            migrateToBinaryStorage(userPrefs, saleListFilePath);
+            logPhaseTime("Migrating to binary storage", migrationStartTime);
+            inventoryStorage = new JournaledInventoryStorage(
+                    new BinaryInventoryStorage(userPrefs.getInventoryFilePath(), userPrefs.getStaffListFilePath()));
+            saleListStorage = new MappedSaleListStorage(saleListFilePath);
+        } else {
+            inventoryStorage = new JournaledInventoryStorage(
+                    new XmlInventoryStorage(userPrefs.getInventoryFilePath(), userPrefs.getStaffListFilePath()));
+            saleListStorage = new XmlSaleListStorage();
+        }
         ReportingStorage reportingStorage = new CsvReportingStorage();
-        storage = new StorageManager(inventoryStorage, userPrefsStorage, saleListStorage, reportingStorage);
+        StorageManager storageManager = new StorageManager(inventoryStorage, userPrefsStorage, saleListStorage,
+                reportingStorage);
+        storageManager.setCompletionExecutor(Platform::runLater);
+        storage = storageManager;
         initLogging(config);
 
+        long modelStartTime = System.nanoTime();
         model = initModelManager(storage, userPrefs);
+        logPhaseTime("Initializing model", modelStartTime);
 
         logic = new LogicManager(model);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
+        logPhaseTime("Initializing", initStartTime);
+    }
+
+    /**
+     * Rewrites the data files that are still in xml in the binary format.
+     * The files are left as they are if they cannot be migrated, as the binary storage can still read them.
+     */
+    private void migrateToBinaryStorage(UserPrefs userPrefs, Path saleListFilePath) {
+        try {
+            BinaryStorageMigration.migrate(userPrefs.getInventoryFilePath(), userPrefs.getStaffListFilePath(),
+                    saleListFilePath);
+        } catch (DataConversionException e) {
+            logger.warning("Data files are not in the correct format, leaving them as xml");
+        } catch (IOException e) {
+            logger.warning("Problem while migrating the data files to the binary format, leaving them as xml");
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s inventory and {@code userPrefs}. <br>
      * The data from the sample inventory will be used instead if {@code storage}'s inventory is not found,
      * or an empty inventory will be used instead if errors occur when reading {@code storage}'s inventory.
+     * The inventory and the staff list are read at the same time. The sale list, which refers to the items of the
+     * inventory, is read after the inventory and is left loading in the background, to be put in the model before
+     * it is first used.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyInventory> inventoryOptional;
-        ReadOnlyInventory initialData;
+        ExecutorService loader = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader.execute(MainApp::initXmlBinding);
+
+        long loadStartTime = System.nanoTime();
+        CompletableFuture<ReadOnlyInventory> inventoryLoading = CompletableFuture.supplyAsync(() -> {
+            // item images are validated against what is known of them as the items are read
+            readImageMetadata(storage);
+            ReadOnlyInventory inventory = readInventory(storage);
+            logPhaseTime("Reading inventory", loadStartTime);
+            return inventory;
+        }, loader);
+        CompletableFuture<Optional<ReadOnlyStaffList>> staffListLoading = CompletableFuture.supplyAsync(() -> {
+            Optional<ReadOnlyStaffList> staffList = readStaffList(storage);
+            logPhaseTime("Reading staff list", loadStartTime);
+            return staffList;
+        }, loader);
+        CompletableFuture<ReadOnlySaleList> saleListLoading = inventoryLoading.thenApplyAsync(inventory -> {
+            ReadOnlySaleList saleList = readSaleList(storage, inventory);
+            logPhaseTime("Reading sale list", loadStartTime);
+            return saleList;
+        }, loader);
+
+        ReadOnlyInventory initialData = inventoryLoading.join();
+        staffListLoading.join().ifPresent(Inventory.class.cast(initialData)::resetData);
+
+        Model modelManager = new ModelManager(initialData, userPrefs, new SaleList());
+        modelManager.loadSaleList(saleListLoading);
+        saleListLoading.thenRun(() -> Platform.runLater(modelManager::awaitSaleList));
+        return modelManager;
+    }
 
+    /**
+     * Loads what is known of the item image files from {@code storage}, so that unchanged images are not probed
+     * again. All images are probed if it cannot be read.
+     */
+    private static void readImageMetadata(Storage storage) {
         try {
-            inventoryOptional = storage.readInventory();
+            storage.readImageMetadata().ifPresent(ImageMetadataCache.getInstance()::load);
+        } catch (DataConversionException e) {
+            logger.warning("Image metadata file not in the correct format. Will be probing all images");
+        } catch (IOException e) {
+            logger.warning("Problem while reading the image metadata file. Will be probing all images");
+        }
+    }
+
+    /**
+     * Returns the inventory read from {@code storage}, or the sample inventory if it is not found, or an empty
+     * inventory if errors occur when reading it.
+     */
+    private static ReadOnlyInventory readInventory(Storage storage) {
+        try {
+            Optional<ReadOnlyInventory> inventoryOptional = storage.readInventory();
 
             if (!inventoryOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Inventory");
             }
 
-            initialData = inventoryOptional.orElseGet(SampleDataUtil::getSampleInventory);
+            return inventoryOptional.orElseGet(SampleDataUtil::getSampleInventory);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty Inventory");
-            initialData = new Inventory();
+            return new Inventory();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty Inventory");
-            initialData = new Inventory();
+            return new Inventory();
         }
+    }
 
-        // Staff List
-        Optional<ReadOnlyStaffList> staffListOptional;
-        ReadOnlyStaffList initialStaffListData;
-
+    /**
+     * Returns the staff list read from {@code storage}, or the sample staff list if it is not found, or an empty
+     * optional if errors occur when reading it, in which case the inventory keeps an empty staff list.
+     */
+    private static Optional<ReadOnlyStaffList> readStaffList(Storage storage) {
         try {
-            staffListOptional = storage.readStaffList();
+            Optional<ReadOnlyStaffList> staffListOptional = storage.readStaffList();
 
             if (!staffListOptional.isPresent()) {
                 logger.info("Staff data file not found. Will be starting with a sample Staff List");
             }
-            initialStaffListData = staffListOptional.orElseGet(SampleDataUtil::getSampleStaffList);
-            Inventory.class.cast(initialData).resetData(initialStaffListData);
+            return Optional.of(staffListOptional.orElseGet(SampleDataUtil::getSampleStaffList));
         } catch (DataConversionException e) {
             logger.warning("Staff Data file not in the correct format. Will be starting with an empty StaffList");
         } catch (IOException e) {
             logger.warning("Problem while reading staff from the file. Will be starting with an empty StaffList");
         }
+        return Optional.empty();
+    }
 
-        // Sale List
-        Optional<ReadOnlySaleList> saleListOptional;
-        ReadOnlySaleList readOnlySaleList;
-
+    /**
+     * Returns the sale list read from {@code storage}, with its items looked up in {@code inventory}, or an empty
+     * sale list if it is not found or errors occur when reading it.
+     */
+    private static ReadOnlySaleList readSaleList(Storage storage, ReadOnlyInventory inventory) {
         try {
-            saleListOptional = storage.readSaleList(initialData);
+            Optional<ReadOnlySaleList> saleListOptional = storage.readSaleList(inventory);
             if (!saleListOptional.isPresent()) {
                 logger.info("Data file not found for sale list. Will be starting with empty sale list.");
             }
 
-            readOnlySaleList = saleListOptional.orElse(new SaleList());
-            Inventory.class.cast(initialData).resetData(readOnlySaleList);
+            return saleListOptional.orElse(new SaleList());
         } catch (DataConversionException e) {
             logger.warning("Data file for sale list not in the correct format."
                     + " Will be starting with an empty sale list");
-
-            readOnlySaleList = new SaleList();
+            return new SaleList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty sale list");
+            return new SaleList();
+        }
+    }
 
-            readOnlySaleList = new SaleList();
+    /**
+     * Creates the xml bindings of the data files ahead of their first use, as creating them is costly.
+     */
+    private static void initXmlBinding() {
+        long startTime = System.nanoTime();
+        try {
+            XmlUtil.getContext(XmlAdaptedItem.class);
+            XmlUtil.getContext(XmlAdaptedPurchaseOrder.class);
+            XmlUtil.getContext(XmlAdaptedStaff.class);
+            XmlUtil.getContext(XmlAdaptedSale.class);
+            XmlUtil.getContext(XmlAdaptedJournalRecord.class);
+            logPhaseTime("Creating xml bindings", startTime);
+        } catch (JAXBException e) {
+            logger.warning("Failed to create the xml bindings ahead of use: " + StringUtil.getDetails(e));
         }
+    }
 
-        return new ModelManager(initialData, userPrefs, readOnlySaleList);
+    /**
+     * Logs the time taken by {@code phase} of the start up, which started at {@code startTime} as given by
+     * {@link System#nanoTime()}.
+     */
+    private static void logPhaseTime(String phase, long startTime) {
+        logger.info(String.format("%s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
     }
 
     private void initLogging(Config config) {
@@ -234,21 +365,40 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Inventory " + MainApp.VERSION);
         ui.start(primaryStage);
+        logPhaseTime("Starting up", initStartTime);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Inventory ] =============================");
         ui.stop();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        saveImageMetadata();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Saves what is known of the item image files, if it changed since it was read.
+     */
+    private void saveImageMetadata() {
+        ImageMetadataCache imageMetadataCache = ImageMetadataCache.getInstance();
+        if (!imageMetadataCache.isChanged()) {
+            return;
+        }
+        try {
+            storage.saveImageMetadata(imageMetadataCache.getEntries());
+            imageMetadataCache.markSaved();
+        } catch (IOException e) {
+            logger.warning("Failed to save image metadata " + StringUtil.getDetails(e));
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
@@ -0,0 +1,15 @@
+package seedu.inventory.commons.events.model;
+
+import seedu.inventory.commons.events.BaseEvent;
+
+/**
+ * Indicates the imports and exports of files that are still running need to be cancelled
+ */
+public class FileOperationCancelEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return "Cancelling running imports and exports";
+    }
+
+}
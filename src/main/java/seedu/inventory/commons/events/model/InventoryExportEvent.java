@@ -0,0 +1,26 @@
+package seedu.inventory.commons.events.model;
+
+import java.nio.file.Path;
+
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.model.ReadOnlyInventory;
+
+/**
+ * Indicates all lists in the model need to be exported to a directory
+ */
+public class InventoryExportEvent extends BaseEvent {
+    public final ReadOnlyInventory data;
+    public final Path directory;
+
+    public InventoryExportEvent(ReadOnlyInventory data, Path directory) {
+        this.data = data;
+        this.directory = directory;
+    }
+
+    @Override
+    public String toString() {
+        return "number of items " + data.getItemList().size() + ", sales " + data.getSaleList().size()
+                + ", staffs " + data.getStaffList().size() + ", purchase orders "
+                + data.getPurchaseOrderList().size() + " to directory:" + directory.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.inventory.commons.events.model;
+
+import java.nio.file.Path;
+
+import seedu.inventory.commons.events.BaseEvent;
+
+/**
+ * Indicates all lists in the model need to be imported from a directory
+ */
+public class InventoryImportEvent extends BaseEvent {
+
+    public final Path directory;
+
+    public InventoryImportEvent(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public String toString() {
+        return "Inventory is importing from " + directory;
+    }
+
+}
@@ -0,0 +1,20 @@
+package seedu.inventory.commons.events.model;
+
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.model.ReadOnlyItemList;
+
+/**
+ * Indicates the images of the items in the model need to be validated again
+ */
+public class ItemImageValidationEvent extends BaseEvent {
+    public final ReadOnlyItemList data;
+
+    public ItemImageValidationEvent(ReadOnlyItemList data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "number of items " + data.getItemList().size();
+    }
+}
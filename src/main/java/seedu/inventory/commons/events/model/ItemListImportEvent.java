@@ -10,15 +10,20 @@ import seedu.inventory.commons.events.BaseEvent;
 public class ItemListImportEvent extends BaseEvent {
 
     public final Path filePath;
+    public final boolean isMerge;
 
     public ItemListImportEvent(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, false);
+    }
 
+    public ItemListImportEvent(Path filePath, boolean isMerge) {
+        this.filePath = filePath;
+        this.isMerge = isMerge;
     }
 
     @Override
     public String toString() {
-        return "Item list is importing from " + filePath;
+        return "Item list is " + (isMerge ? "merging" : "importing") + " from " + filePath;
     }
 
 }
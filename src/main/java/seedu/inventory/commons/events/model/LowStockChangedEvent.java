@@ -0,0 +1,24 @@
+package seedu.inventory.commons.events.model;
+
+import java.util.List;
+
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.model.item.Item;
+
+/** Indicates that items in the inventory have crossed their low stock threshold */
+public class LowStockChangedEvent extends BaseEvent {
+
+    public final List<Item> itemsNowLow;
+    public final List<Item> itemsNoLongerLow;
+
+    public LowStockChangedEvent(List<Item> itemsNowLow, List<Item> itemsNoLongerLow) {
+        this.itemsNowLow = itemsNowLow;
+        this.itemsNoLongerLow = itemsNoLongerLow;
+    }
+
+    @Override
+    public String toString() {
+        return "number of items now low on stock " + itemsNowLow.size()
+                + ", no longer low on stock " + itemsNoLongerLow.size();
+    }
+}
@@ -13,15 +13,21 @@ public class SaleListImportEvent extends BaseEvent {
 
     public final ReadOnlyInventory inventory;
     public final Path filePath;
+    public final boolean isMerge;
 
     public SaleListImportEvent(ReadOnlyInventory inventory, Path filePath) {
+        this(inventory, filePath, false);
+    }
+
+    public SaleListImportEvent(ReadOnlyInventory inventory, Path filePath, boolean isMerge) {
         this.inventory = inventory;
         this.filePath = filePath;
+        this.isMerge = isMerge;
     }
 
     @Override
     public String toString() {
-        return "Sale list is importing from " + filePath;
+        return "Sale list is " + (isMerge ? "merging" : "importing") + " from " + filePath;
     }
 
 }
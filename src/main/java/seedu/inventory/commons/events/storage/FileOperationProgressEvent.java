@@ -0,0 +1,44 @@
+package seedu.inventory.commons.events.storage;
+
+import seedu.inventory.commons.events.BaseEvent;
+
+/**
+ * Indicates the progress of an import or export of a file running in the background.
+ */
+public class FileOperationProgressEvent extends BaseEvent {
+
+    /**
+     * The states that an import or export can be in.
+     */
+    public enum State {
+        RUNNING, FINISHED, CANCELLED
+    }
+
+    public final String description;
+    public final long done;
+    public final long total;
+    public final State state;
+
+    public FileOperationProgressEvent(String description, long done, long total, State state) {
+        this.description = description;
+        this.done = done;
+        this.total = total;
+        this.state = state;
+    }
+
+    /**
+     * Returns the fraction of the work done, between 0 and 1, or -1 if the amount of work is not known.
+     */
+    public double getProgress() {
+        if (total <= 0) {
+            return -1;
+        }
+        return Math.min(1.0, (double) done / total);
+    }
+
+    @Override
+    public String toString() {
+        return description + " " + state.name().toLowerCase() + ": " + done + " of " + total;
+    }
+
+}
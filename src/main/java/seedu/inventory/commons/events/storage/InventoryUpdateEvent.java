@@ -0,0 +1,22 @@
+package seedu.inventory.commons.events.storage;
+
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.model.ReadOnlyInventory;
+
+/**
+ * Indicates an update of all lists of the inventory.
+ */
+public class InventoryUpdateEvent extends BaseEvent {
+
+    public final ReadOnlyInventory inventory;
+
+    public InventoryUpdateEvent(ReadOnlyInventory inventory) {
+        this.inventory = inventory;
+    }
+
+    @Override
+    public String toString() {
+        return "Inventory need update.";
+    }
+
+}
@@ -9,9 +9,15 @@ import seedu.inventory.model.ReadOnlyItemList;
 public class ItemListUpdateEvent extends BaseEvent {
 
     public final ReadOnlyItemList itemList;
+    public final boolean isMerge;
 
     public ItemListUpdateEvent(ReadOnlyItemList itemList) {
+        this(itemList, false);
+    }
+
+    public ItemListUpdateEvent(ReadOnlyItemList itemList, boolean isMerge) {
         this.itemList = itemList;
+        this.isMerge = isMerge;
     }
 
     @Override
@@ -9,9 +9,15 @@ import seedu.inventory.model.ReadOnlySaleList;
 public class SaleListUpdateEvent extends BaseEvent {
 
     public final ReadOnlySaleList saleList;
+    public final boolean isMerge;
 
     public SaleListUpdateEvent(ReadOnlySaleList saleList) {
+        this(saleList, false);
+    }
+
+    public SaleListUpdateEvent(ReadOnlySaleList saleList, boolean isMerge) {
         this.saleList = saleList;
+        this.isMerge = isMerge;
     }
 
     @Override
@@ -10,9 +10,11 @@ public class ItemPanelSelectionChangedEvent extends BaseEvent {
 
 
     private final Item newSelection;
+    private final int newSelectionIndex;
 
-    public ItemPanelSelectionChangedEvent(Item newSelection) {
+    public ItemPanelSelectionChangedEvent(Item newSelection, int newSelectionIndex) {
         this.newSelection = newSelection;
+        this.newSelectionIndex = newSelectionIndex;
     }
 
     @Override
@@ -23,4 +25,11 @@ public class ItemPanelSelectionChangedEvent extends BaseEvent {
     public Item getNewSelection() {
         return newSelection;
     }
+
+    /**
+     * Returns the index of the new selection in the item list.
+     */
+    public int getNewSelectionIndex() {
+        return newSelectionIndex;
+    }
 }
@@ -0,0 +1,147 @@
+package seedu.inventory.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+
+/**
+ * Reads rows from csv data one at a time, as described in RFC 4180.
+ * Fields may be quoted, in which case they can hold commas, line breaks and quotes written as two quotes.
+ * The data is read through a fixed buffer, so only the row being read is held in memory.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int END_OF_DATA = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+    private long rowLineNumber;
+
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next row, or null if there are no more rows.
+     *
+     * @throws UnrecognizableDataException if the row ends inside a quoted field.
+     */
+    public List<String> readRow() throws IOException, UnrecognizableDataException {
+        if (peek() == END_OF_DATA) {
+            return null;
+        }
+        rowLineNumber = lineNumber;
+
+        List<String> row = new ArrayList<>();
+        field.setLength(0);
+        boolean isQuoted = false;
+        while (true) {
+            int c = read();
+            if (isQuoted) {
+                if (c == END_OF_DATA) {
+                    throw new UnrecognizableDataException("Quoted field starting on line " + rowLineNumber
+                            + " is not closed");
+                } else if (c == '"' && peek() == '"') {
+                    read();
+                    field.append('"');
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+            case ',':
+                row.add(field.toString());
+                field.setLength(0);
+                break;
+            case '"':
+                isQuoted = true;
+                break;
+            case '\r':
+                if (peek() == '\n') {
+                    read();
+                }
+                return endRow(row);
+            case '\n':
+                return endRow(row);
+            case END_OF_DATA:
+                row.add(field.toString());
+                return row;
+            default:
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Returns the line that the row last read by {@link #readRow()} starts on, counting from 1.
+     */
+    public long getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> endRow(List<String> row) {
+        row.add(field.toString());
+        lineNumber++;
+        return row;
+    }
+
+    /**
+     * Returns the next character and moves past it, or {@code END_OF_DATA} if there is none.
+     */
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_DATA;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Returns the next character without moving past it, or {@code END_OF_DATA} if there is none.
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_DATA;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Reads more data into the buffer, and returns false if there is no more data.
+     */
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        while (read == 0) {
+            read = reader.read(buffer, 0, buffer.length);
+        }
+        if (read == END_OF_DATA) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
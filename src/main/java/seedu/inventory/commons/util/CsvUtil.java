@@ -2,29 +2,35 @@ package seedu.inventory.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import seedu.inventory.commons.exceptions.IllegalValueException;
 import seedu.inventory.commons.exceptions.UnrecognizableDataException;
 import seedu.inventory.storage.csv.CsvSerializableData;
+
 /**
  * Helps with reading from and writing to CSV files.
+ * Files with a .gz extension are compressed with gzip as they are written, and decompressed as they are read.
  */
 public class CsvUtil {
 
     private static final String CHARSET = "GB2312";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_ROWS = 2;
+    private static final int PROGRESS_INTERVAL = 1024;
 
     /**
      * Returns the csv data in the file as an object of the specified type. The format of data is constrained.
@@ -49,6 +55,44 @@ public class CsvUtil {
         return dataTypeToConvert.createInstance(contents);
     }
 
+    /**
+     * Reads the csv data in the file one content at a time, passing each content to {@code handler} as it is read,
+     * so that the contents are never all held in memory. The format of data is constrained.
+     *
+     * @param file           Points to a valid csv file containing data that match the {@code dataTypeToConvert}.
+     *                       Cannot be null.
+     * @param dataTypeToConvert The class corresponding to the csv data.
+     *                       Cannot be null.
+     * @param handler        Handles each content in the file, in order.
+     *                       Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws UnrecognizableDataException Thrown if the file is empty or does not have the correct format.
+     * @throws IllegalValueException Thrown if {@code handler} finds a content invalid.
+     */
+    public static void readContentsFromFile(Path file, CsvSerializableData dataTypeToConvert,
+            ContentHandler handler) throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        readContentsFromFile(file, dataTypeToConvert, handler, ProgressListener.NONE);
+    }
+
+    /**
+     * Reads the csv data in the file one content at a time as {@link #readContentsFromFile(Path,
+     * CsvSerializableData, ContentHandler)} does, reporting the number of bytes read out of the size of the file to
+     * {@code progressListener} as the contents are read.
+     * Reading stops with an {@code UnrecognizableDataException} once the reading thread is interrupted.
+     */
+    public static void readContentsFromFile(Path file, CsvSerializableData dataTypeToConvert,
+            ContentHandler handler, ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        requireNonNull(file);
+        requireNonNull(dataTypeToConvert);
+        requireNonNull(handler);
+        requireNonNull(progressListener);
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        readContents(file, dataTypeToConvert, true, handler, progressListener);
+    }
+
     /**
      * Returns true if header in the csv file is recognizable.
      *
@@ -60,27 +104,11 @@ public class CsvUtil {
     public static boolean isDataHeaderRecognizable(Path file, CsvSerializableData dataTypeToConvert) {
         requireNonNull(file);
         requireNonNull(dataTypeToConvert);
-        BufferedReader reader;
-        try {
-            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file.toFile()), CHARSET));
-            List<String> dataTypes = Arrays.stream(reader.readLine().split(",")).collect(Collectors.toList());
-
-            if (!isDataTypeEqual(dataTypes, dataTypeToConvert)) {
-                return false;
-            }
-
-            List<String> dataFields = Arrays.stream(reader.readLine().split(",")).collect(Collectors.toList());
-
-            if (!isDataFieldsEqual(dataFields, dataTypeToConvert)) {
-                return false;
-            }
-            reader.close();
-        } catch (IOException e) {
-            return false;
-        } catch (NullPointerException e) {
+        try (CsvReader reader = openReader(file)) {
+            return hasDataHeader(reader, dataTypeToConvert);
+        } catch (IOException | UnrecognizableDataException e) {
             return false;
         }
-        return true;
     }
 
     /**
@@ -95,25 +123,12 @@ public class CsvUtil {
             throws UnrecognizableDataException {
         requireNonNull(file);
         requireNonNull(dataTypeToConvert);
-        BufferedReader reader;
-        List<List<String>> contents = new LinkedList<>();
+        List<List<String>> contents = new ArrayList<>();
         try {
-            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file.toFile()), CHARSET));
-            reader.readLine();
-            long fieldsNumber = Arrays.stream(reader.readLine().split(",")).count();
-            String contentLine;
-            while ((contentLine = reader.readLine()) != null) {
-                List<String> content = getContentFromLine(contentLine);
-                if (content.size() != fieldsNumber) {
-                    throw new UnrecognizableDataException("File content format can not be recognized");
-                }
-                contents.add(content);
-            }
-            reader.close();
-        } catch (IOException e) {
-            throw new UnrecognizableDataException("File content format can not be recognized");
-        } catch (NullPointerException e) {
-            throw new UnrecognizableDataException("File content format can not be recognized");
+            readContents(file, dataTypeToConvert, false, (content, lineNumber) -> contents.add(content),
+                    ProgressListener.NONE);
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Collecting contents should not fail", ive);
         }
         return contents;
     }
@@ -154,49 +169,94 @@ public class CsvUtil {
      */
     public static List<String> getContentFromLine(String contentLine) {
         requireNonNull(contentLine);
-        boolean hasQuotesBefore = false;
-        boolean hasCommaBefore = true;
-        LinkedList<String> content = new LinkedList<>();
-        String stringStack = "";
-        for (int i = 0; i < contentLine.length(); i++) {
-            if (contentLine.charAt(i) == ',') {
-                if (!hasQuotesBefore) {
-                    if ("".equals(stringStack)) {
-                        if (hasCommaBefore) {
-                            content.add(stringStack);
-                        } else {
-                            hasCommaBefore = true;
-                        }
-                    } else {
-                        content.add(stringStack);
-                        stringStack = "";
-                        hasCommaBefore = true;
-                    }
-                } else {
-                    stringStack += ",";
-                }
-            } else if (contentLine.charAt(i) == '\"') {
-                if (!hasQuotesBefore) {
-                    hasQuotesBefore = true;
-                } else {
-                    content.add(stringStack);
-                    stringStack = "";
-                    hasQuotesBefore = false;
+        try (CsvReader reader = new CsvReader(new StringReader(contentLine))) {
+            List<String> content = reader.readRow();
+            return content == null ? new ArrayList<>(Arrays.asList("")) : content;
+        } catch (IOException | UnrecognizableDataException e) {
+            throw new IllegalArgumentException("Content line can not be recognized: " + contentLine, e);
+        }
+    }
+
+    /**
+     * Reads the contents of the csv file after its header, passing each to {@code handler}, and reporting the bytes
+     * read to {@code progressListener} every {@code PROGRESS_INTERVAL} contents.
+     * Every content must have as many fields as the header names.
+     * The bytes are counted as they are stored, before a compressed file is decompressed, so that they can be
+     * reported out of the size of the file.
+     *
+     * @param isHeaderChecked Whether the header must also match the {@code dataTypeToConvert}.
+     */
+    private static void readContents(Path file, CsvSerializableData dataTypeToConvert, boolean isHeaderChecked,
+            ContentHandler handler, ProgressListener progressListener)
+            throws UnrecognizableDataException, IllegalValueException {
+        long fileSize = file.toFile().length();
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(file));
+                CsvReader reader = new CsvReader(new InputStreamReader(FileUtil.decompressIfNeeded(file, input),
+                        CHARSET))) {
+            int fieldsNumber;
+            if (isHeaderChecked) {
+                if (!hasDataHeader(reader, dataTypeToConvert)) {
+                    throw new UnrecognizableDataException("File header format can not be recognized");
                 }
-                hasCommaBefore = false;
+                fieldsNumber = dataTypeToConvert.getDataFields().length;
             } else {
-                stringStack += contentLine.charAt(i);
-                hasCommaBefore = false;
+                reader.readRow();
+                List<String> dataFields = reader.readRow();
+                if (dataFields == null) {
+                    throw new UnrecognizableDataException("File content format can not be recognized");
+                }
+                fieldsNumber = withoutTrailingEmptyFields(dataFields).size();
             }
-        }
-        if ("".equals(stringStack)) {
-            if (hasCommaBefore) {
-                content.add(stringStack);
+
+            List<String> content;
+            long contentCount = 0;
+            while ((content = reader.readRow()) != null) {
+                if (content.size() != fieldsNumber) {
+                    throw new UnrecognizableDataException("File content format can not be recognized at line "
+                            + reader.getRowLineNumber());
+                }
+                handler.handle(content, reader.getRowLineNumber());
+                contentCount++;
+                if (contentCount % PROGRESS_INTERVAL == 0) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new UnrecognizableDataException("Reading of the file was interrupted");
+                    }
+                    progressListener.update(input.getCount(), fileSize);
+                }
             }
-        } else {
-            content.add(stringStack);
+            progressListener.update(fileSize, fileSize);
+        } catch (IOException e) {
+            throw new UnrecognizableDataException("File content format can not be recognized");
         }
-        return content;
+    }
+
+    /**
+     * Returns true if the next two rows of {@code reader} are the header of {@code dataTypeToConvert}.
+     */
+    private static boolean hasDataHeader(CsvReader reader, CsvSerializableData dataTypeToConvert)
+            throws IOException, UnrecognizableDataException {
+        List<String> dataTypes = reader.readRow();
+        if (dataTypes == null || !isDataTypeEqual(withoutTrailingEmptyFields(dataTypes), dataTypeToConvert)) {
+            return false;
+        }
+        List<String> dataFields = reader.readRow();
+        return dataFields != null && isDataFieldsEqual(withoutTrailingEmptyFields(dataFields), dataTypeToConvert);
+    }
+
+    /**
+     * Returns {@code fields} without the empty fields at its end, which only pad a header row to the width of the
+     * contents.
+     */
+    private static List<String> withoutTrailingEmptyFields(List<String> fields) {
+        int size = fields.size();
+        while (size > 0 && fields.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return fields.subList(0, size);
+    }
+
+    private static CsvReader openReader(Path file) throws IOException {
+        return new CsvReader(new InputStreamReader(FileUtil.openInputStream(file), CHARSET));
     }
 
     /**
@@ -210,49 +270,119 @@ public class CsvUtil {
      * @throws IOException           Thrown if there is an error during writing data to the file.
      */
     public static void saveDataToFile(Path file, CsvSerializableData data) throws FileNotFoundException, IOException {
+        requireNonNull(data);
+        writeContentsToFile(file, data, writer -> {
+            for (List<String> content : data.getContents()) {
+                writer.writeRow(content);
+            }
+        });
+    }
 
+    /**
+     * Writes the header of {@code dataType} to the file in csv format, followed by the contents written by
+     * {@code contentWriter}, which are written straight to the file as they are produced.
+     *
+     * @param file          Points to a csv file address to write data.
+     *                      Cannot be null.
+     * @param dataType      The class corresponding to the csv data.
+     *                      Cannot be null.
+     * @param contentWriter Writes the contents, one row per content.
+     *                      Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error during writing data to the file.
+     */
+    public static void writeContentsToFile(Path file, CsvSerializableData dataType, ContentWriter contentWriter)
+            throws FileNotFoundException, IOException {
+        writeContentsToFile(file, dataType, contentWriter, 0, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes the header and contents to the file in csv format as {@link #writeContentsToFile(Path,
+     * CsvSerializableData, ContentWriter)} does, reporting the number of rows written out of the
+     * {@code contentCount} contents and the header to {@code progressListener} as they are written.
+     * Writing stops with an {@code InterruptedIOException} once the writing thread is interrupted.
+     */
+    public static void writeContentsToFile(Path file, CsvSerializableData dataType, ContentWriter contentWriter,
+            long contentCount, ProgressListener progressListener) throws FileNotFoundException, IOException {
         requireNonNull(file);
-        requireNonNull(data);
+        requireNonNull(dataType);
+        requireNonNull(contentWriter);
+        requireNonNull(progressListener);
 
         if (!Files.exists(file)) {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        file.toFile().createNewFile();
-        BufferedWriter writer =
-                new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file.toFile()), CHARSET));
+        long totalRows = contentCount + HEADER_ROWS;
+        try (CsvWriter writer = new CsvWriter(new BufferedWriter(
+                new OutputStreamWriter(FileUtil.openOutputStream(file), CHARSET), WRITE_BUFFER_SIZE),
+                totalRows, progressListener)) {
+            String[] dataFields = dataType.getDataFields();
+            writer.writeField(dataType.getDataType());
+            for (int i = 0; i < dataFields.length - 1; i++) {
+                writer.writeField("");
+            }
+            writer.endRow();
+            writer.writeRow(Arrays.asList(dataFields));
+
+            contentWriter.write(writer);
+            progressListener.update(writer.getRowCount(), Math.max(totalRows, writer.getRowCount()));
+        }
+    }
 
-        String separator = ",";
-        String dataType = data.getDataType();
-        String[] dataFields = data.getDataFields();
-        List<List<String>> contents = data.getContents();
-        int fieldsLength = dataFields.length;
+    /**
+     * An input stream that counts the bytes read through it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
 
-        writer.write(dataType);
-        for (int i = 0; i < fieldsLength - 1; i++) {
-            writer.write(separator);
+        CountingInputStream(InputStream in) {
+            super(in);
         }
-        writer.write("\n");
 
-        for (int i = 0; i < fieldsLength - 1; i++) {
-            writer.write(dataFields[i] + separator);
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                count++;
+            }
+            return read;
         }
-        writer.write(dataFields[fieldsLength - 1] + "\n");
 
-        for (List<String> content : contents) {
-            List<String> csvStandardContent = getCsvStandardContent(content);
-            for (int i = 0; i < fieldsLength - 1; i++) {
-                writer.write(csvStandardContent.get(i) + separator);
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read != -1) {
+                count += read;
             }
-            writer.write(csvStandardContent.get(fieldsLength - 1) + "\n");
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
         }
-        writer.flush();
-        writer.close();
     }
 
-    public static List<String> getCsvStandardContent(List<String> content) {
-        return content.stream()
-                .map(field -> field.contains(",") ? "\"" + field + "\"" : field)
-                .collect(Collectors.toList());
+    /**
+     * Writes contents to a csv file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(CsvWriter writer) throws IOException;
+    }
+
+    /**
+     * Handles a content read from a csv file, given with the line of the file it starts on.
+     */
+    @FunctionalInterface
+    public interface ContentHandler {
+        void handle(List<String> content, long lineNumber) throws IllegalValueException;
     }
 }
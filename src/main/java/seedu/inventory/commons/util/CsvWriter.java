@@ -0,0 +1,121 @@
+package seedu.inventory.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows of csv data one field at a time, as described in RFC 4180.
+ * Fields holding commas, quotes or line breaks are quoted, with their quotes written as two quotes.
+ * The number of rows written is reported to a {@code ProgressListener} as the rows are written, and writing stops
+ * with an {@code InterruptedIOException} once the writing thread is interrupted.
+ */
+public class CsvWriter implements Closeable {
+
+    public static final int PROGRESS_INTERVAL = 1024;
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Writer writer;
+    private final long totalRows;
+    private final ProgressListener progressListener;
+    private boolean isRowStarted;
+    private long rowCount;
+
+    public CsvWriter(Writer writer) {
+        this(writer, 0, ProgressListener.NONE);
+    }
+
+    /**
+     * Creates a writer that reports the number of rows written out of {@code totalRows} to {@code progressListener}
+     * every {@code PROGRESS_INTERVAL} rows.
+     */
+    public CsvWriter(Writer writer, long totalRows, ProgressListener progressListener) {
+        requireNonNull(writer);
+        requireNonNull(progressListener);
+        this.writer = writer;
+        this.totalRows = totalRows;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Writes {@code field} as the next field of the current row.
+     */
+    public void writeField(String field) throws IOException {
+        requireNonNull(field);
+        if (isRowStarted) {
+            writer.write(',');
+        }
+        isRowStarted = true;
+
+        if (!isQuoteNeeded(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = field.indexOf('"'); i != -1; i = field.indexOf('"', i + 1)) {
+            writer.write(field, start, i + 1 - start);
+            writer.write('"');
+            start = i + 1;
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write('"');
+    }
+
+    /**
+     * Writes {@code fields} as a whole row.
+     */
+    public void writeRow(List<String> fields) throws IOException {
+        for (String field : fields) {
+            writeField(field);
+        }
+        endRow();
+    }
+
+    /**
+     * Ends the current row.
+     *
+     * @throws InterruptedIOException if the writing thread has been interrupted.
+     */
+    public void endRow() throws IOException {
+        writer.write(LINE_SEPARATOR);
+        isRowStarted = false;
+        rowCount++;
+        if (rowCount % PROGRESS_INTERVAL == 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Writing was interrupted after " + rowCount + " rows");
+            }
+            progressListener.update(rowCount, totalRows);
+        }
+    }
+
+    /**
+     * Returns the number of rows written so far.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns true if {@code field} has to be quoted to be read back as one field.
+     */
+    private static boolean isQuoteNeeded(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,17 +1,25 @@
 package seedu.inventory.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -32,10 +40,13 @@ public class FileUtil {
     }
 
     /**
-     * Returns true if {@code file} has a .csv extension
+     * Returns true if {@code file} has a .csv extension, or a .csv.gz extension if it is a compressed file
      */
     public static boolean isValidCsvFile (Path file) {
         String path = file.toAbsolutePath().toString();
+        if (isCompressedFile(file)) {
+            path = path.substring(0, path.length() - COMPRESSED_FILE_EXTENSION.length());
+        }
         if (!path.contains(".")) {
             return false;
         }
@@ -43,6 +54,56 @@ public class FileUtil {
         return "csv".equals(content[content.length - 1]);
     }
 
+    /**
+     * Returns true if {@code file} has a .gz extension, which marks its contents to be gzip compressed.
+     */
+    public static boolean isCompressedFile(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Opens {@code file} for reading its contents, which are decompressed as they are read if it is a compressed
+     * file.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        return decompressIfNeeded(file, Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a stream reading the contents of {@code file} from {@code in}, which reads the bytes of the file as
+     * they are stored, decompressing them as they are read if it is a compressed file.
+     * {@code in} is closed if the compressed contents can not be recognized.
+     */
+    public static InputStream decompressIfNeeded(Path file, InputStream in) throws IOException {
+        if (!isCompressedFile(file)) {
+            return in;
+        }
+        try {
+            return new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE);
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Opens {@code file} for writing its contents, replacing what it holds. The contents are compressed as they are
+     * written if it is a compressed file.
+     */
+    public static OutputStream openOutputStream(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (!isCompressedFile(file)) {
+            return out;
+        }
+        try {
+            return new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+        } catch (IOException ioe) {
+            out.close();
+            throw ioe;
+        }
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -92,4 +153,19 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     */
+    public static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
 }
@@ -0,0 +1,19 @@
+package seedu.inventory.commons.util;
+
+/**
+ * Listens to the progress of a long running operation, such as the reading or writing of a file.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * A listener that ignores all progress.
+     */
+    ProgressListener NONE = (done, total) -> { };
+
+    /**
+     * Called when {@code done} out of {@code total} units of work, such as bytes or rows, have been done.
+     * {@code total} may be 0 if the amount of work is not known.
+     */
+    void update(long done, long total);
+}
@@ -0,0 +1,168 @@
+package seedu.inventory.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the child elements of the root element of an xml file one at a time, so that each element can be converted
+ * and discarded before the next is read, rather than reading the whole file into one object.
+ */
+public class XmlElementReader implements AutoCloseable {
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final InputStream in;
+    private final XMLStreamReader reader;
+    private final Map<Class<?>, Unmarshaller> unmarshallers = new HashMap<>();
+    private boolean isAtUnreadElement;
+
+    /**
+     * Opens {@code file} and checks that its root element is named {@code rootName}.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     */
+    public XmlElementReader(Path file, String rootName) throws FileNotFoundException, JAXBException {
+        requireNonNull(file);
+        requireNonNull(rootName);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try {
+            in = FileUtil.openInputStream(file);
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
+        try {
+            reader = inputFactory.createXMLStreamReader(in);
+            reader.nextTag();
+        } catch (XMLStreamException e) {
+            closeQuietly();
+            throw new JAXBException(e);
+        }
+        if (!reader.getLocalName().equals(rootName)) {
+            closeQuietly();
+            throw new JAXBException("Unexpected element " + reader.getLocalName() + ", expected " + rootName);
+        }
+        try {
+            reader.next();
+        } catch (XMLStreamException e) {
+            closeQuietly();
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Moves to the next child element of the root element, skipping the current one if it was not read.
+     * Returns false if there are no more child elements.
+     *
+     * @throws JAXBException Thrown if the file does not have the correct format.
+     */
+    public boolean nextElement() throws JAXBException {
+        try {
+            if (isAtUnreadElement) {
+                skipElement();
+            }
+            while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                if (reader.getEventType() == XMLStreamConstants.END_ELEMENT
+                        || reader.getEventType() == XMLStreamConstants.END_DOCUMENT) {
+                    return false;
+                }
+                reader.next();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+        isAtUnreadElement = true;
+        return true;
+    }
+
+    /**
+     * Returns the name of the element that {@link #nextElement()} moved to.
+     */
+    public String getElementName() {
+        assert isAtUnreadElement;
+        return reader.getLocalName();
+    }
+
+    /**
+     * Reads the element that {@link #nextElement()} moved to as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if the element does not have the correct format.
+     */
+    public <T> T readElement(Class<T> type) throws JAXBException {
+        requireNonNull(type);
+        assert isAtUnreadElement;
+
+        Unmarshaller um = unmarshallers.get(type);
+        if (um == null) {
+            um = XmlUtil.getContext(type).createUnmarshaller();
+            unmarshallers.put(type, um);
+        }
+        T element = um.unmarshal(reader, type).getValue();
+        isAtUnreadElement = false;
+        return element;
+    }
+
+    /**
+     * Moves past the end of the current element.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (reader.getEventType() == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+        isAtUnreadElement = false;
+    }
+
+    @Override
+    public void close() throws JAXBException {
+        try {
+            reader.close();
+            in.close();
+        } catch (XMLStreamException | IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Closes the file after a failure to open it for reading, ignoring any further failure.
+     */
+    private void closeQuietly() {
+        try {
+            in.close();
+        } catch (IOException ioe) {
+            // the file could not be read anyway
+        }
+    }
+}
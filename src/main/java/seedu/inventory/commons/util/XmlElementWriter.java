@@ -0,0 +1,118 @@
+package seedu.inventory.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+
+/**
+ * Writes the child elements of the root element of an xml file one at a time, so that the objects to write need
+ * not be gathered into one object first.
+ * The file is laid out as {@link XmlUtil#saveDataToFile(Path, Object)} lays out the same data.
+ */
+public class XmlElementWriter implements AutoCloseable {
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+
+    private final Writer out;
+    private final String rootName;
+    private final Map<Class<?>, Marshaller> marshallers = new HashMap<>();
+    private boolean hasElements;
+
+    /**
+     * Opens {@code file} for writing a root element named {@code rootName}, replacing its contents.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if there is an error writing to the file.
+     */
+    public XmlElementWriter(Path file, String rootName) throws FileNotFoundException, JAXBException {
+        requireNonNull(file);
+        requireNonNull(rootName);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        this.rootName = rootName;
+        try {
+            out = new BufferedWriter(new OutputStreamWriter(FileUtil.openOutputStream(file), UTF_8));
+            out.write(DECLARATION);
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
+    }
+
+    /**
+     * Writes {@code element} of the specified type as a child element named {@code name}.
+     *
+     * @throws JAXBException Thrown if there is an error converting the element into xml or writing it to the file.
+     */
+    public <T> void writeElement(String name, Class<T> type, T element) throws JAXBException {
+        requireNonNull(name);
+        requireNonNull(type);
+        requireNonNull(element);
+
+        StringWriter xml = new StringWriter();
+        getMarshaller(type).marshal(new JAXBElement<>(new QName(name), type, element), xml);
+        try {
+            if (!hasElements) {
+                out.write("<" + rootName + ">\n");
+                hasElements = true;
+            }
+            for (String line : xml.toString().split("\n")) {
+                out.write(INDENT);
+                out.write(line);
+                out.write('\n');
+            }
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
+    }
+
+    /**
+     * Returns a marshaller of fragments of the specified type, laid out in lines with indentation.
+     */
+    private Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Marshaller m = marshallers.get(type);
+        if (m == null) {
+            m = XmlUtil.getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshallers.put(type, m);
+        }
+        return m;
+    }
+
+    /**
+     * Ends the root element and closes the file.
+     *
+     * @throws JAXBException Thrown if there is an error writing to the file.
+     */
+    @Override
+    public void close() throws JAXBException {
+        try {
+            try {
+                out.write(hasElements ? "</" + rootName + ">\n" : "<" + rootName + "/>\n");
+            } finally {
+                out.close();
+            }
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
+    }
+}
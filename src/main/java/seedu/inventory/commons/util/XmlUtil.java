@@ -3,8 +3,13 @@ package seedu.inventory.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +18,36 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * Files with a .gz extension are compressed with gzip as they are written, and decompressed as they are read.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the context that binds the specified type, which is created on the first call for the type and
+     * reused afterwards as creating a context is costly.
+     *
+     * @throws JAXBException Thrown if the type cannot be bound.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // contexts are created one at a time, so that a context being created in the background is waited for
+            // rather than created again
+            synchronized (contexts) {
+                context = contexts.get(type);
+                if (context == null) {
+                    context = JAXBContext.newInstance(type);
+                    contexts.put(type, context);
+                }
+            }
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +69,13 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
-        return ((T) um.unmarshal(file.toFile()));
+        try (InputStream in = FileUtil.openInputStream(file)) {
+            return ((T) um.unmarshal(in));
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
     }
 
     /**
@@ -61,11 +96,14 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-        m.marshal(data, file.toFile());
+        try (OutputStream out = FileUtil.openOutputStream(file)) {
+            m.marshal(data, out);
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
     }
 
 }
@@ -37,6 +37,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the sale orders */
     ObservableList<Sale> getObservableSaleList();
 
+    /** Returns true if {@code item} is in the inventory and low on stock */
+    boolean isLowStock(Item item);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
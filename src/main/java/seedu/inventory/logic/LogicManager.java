@@ -12,6 +12,7 @@ import seedu.inventory.logic.commands.ExitCommand;
 import seedu.inventory.logic.commands.HelpCommand;
 import seedu.inventory.logic.commands.HistoryCommand;
 import seedu.inventory.logic.commands.authentication.LoginCommand;
+import seedu.inventory.logic.commands.csv.CancelCsvCommand;
 import seedu.inventory.logic.commands.csv.ExportCsvCommand;
 import seedu.inventory.logic.commands.csv.ImportCsvCommand;
 import seedu.inventory.logic.commands.exceptions.CommandException;
@@ -60,6 +61,9 @@ public class LogicManager extends ComponentManager implements Logic {
                 throw new CommandException(MESSAGE_NOT_LOGGED_IN);
             }
             checkIsValidRole(command);
+            if (!isPublicCommand(command)) {
+                model.awaitSaleList();
+            }
             return command.execute(model, history);
         } finally {
             if (commandText.contains("logout")) {
@@ -95,6 +99,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getObservableSaleList();
     }
 
+    @Override
+    public boolean isLowStock(Item item) {
+        return model.isLowStock(item);
+    }
+
     @Override
     public boolean isPublicCommand(Command command) {
         return command instanceof HelpCommand || command instanceof LoginCommand || command instanceof ExitCommand
@@ -106,6 +115,7 @@ public class LogicManager extends ComponentManager implements Logic {
         return command instanceof AddStaffCommand || command instanceof EditStaffCommand
                 || command instanceof ListStaffCommand || command instanceof DeleteStaffCommand
                 || command instanceof ImportCsvCommand || command instanceof ExportCsvCommand
+                || command instanceof CancelCsvCommand
                 || command instanceof ClearCommand;
     }
 
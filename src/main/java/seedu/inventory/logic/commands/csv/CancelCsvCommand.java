@@ -0,0 +1,30 @@
+package seedu.inventory.logic.commands.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.inventory.logic.CommandHistory;
+import seedu.inventory.logic.commands.Command;
+import seedu.inventory.logic.commands.CommandResult;
+import seedu.inventory.model.Model;
+
+/**
+ * Cancels the Csv imports and exports that are still running.
+ */
+public class CancelCsvCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel-csv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels the Csv imports and exports that are "
+            + "still running. A cancelled import leaves the data as it is, and the file of a cancelled export is "
+            + "deleted.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Running imports and exports are cancelling";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.cancelFileOperations();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.inventory.logic.commands.csv;
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.logic.parser.CliSyntax.PREFIX_FILEPATH;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -24,6 +25,7 @@ public class ExportCsvCommand extends Command {
     public static final String COMMAND_WORD_SALES = "export-csv-sales";
     public static final String COMMAND_WORD_STAFFS = "export-csv-staffs";
     public static final String COMMAND_WORD_PURCHASE_ORDERS = "export-csv-orders";
+    public static final String COMMAND_WORD_ALL = "export-csv-all";
 
     public static final String MESSAGE_USAGE_ITEMS = COMMAND_WORD_ITEMS + ": Export the item list to a Csv file. "
             + "Parameters: "
@@ -50,10 +52,18 @@ public class ExportCsvCommand extends Command {
             + "Example: " + COMMAND_WORD_PURCHASE_ORDERS + " "
             + PREFIX_FILEPATH + "E:/out/orders.csv";
 
+    public static final String MESSAGE_USAGE_ALL = COMMAND_WORD_ALL
+            + ": Export all lists to Csv files in a directory, together with a manifest of the files. "
+            + "Parameters: "
+            + PREFIX_FILEPATH + "DIRECTORY \n"
+            + "Example: " + COMMAND_WORD_ALL + " "
+            + PREFIX_FILEPATH + "E:/out/inventory";
+
     public static final String MESSAGE_USAGE = MESSAGE_USAGE_ITEMS + "\n"
             + MESSAGE_USAGE_SALES + "\n"
             + MESSAGE_USAGE_STAFFS + "\n"
-            + MESSAGE_USAGE_PURCHASE_ORDERS;
+            + MESSAGE_USAGE_PURCHASE_ORDERS + "\n"
+            + MESSAGE_USAGE_ALL;
 
     public static final String MESSAGE_SUCCESS_ITEMS = "Item list is exporting to %s";
 
@@ -63,8 +73,12 @@ public class ExportCsvCommand extends Command {
 
     public static final String MESSAGE_SUCCESS_PURCHASE_ORDERS = "Purchase order list is exporting to %s";
 
+    public static final String MESSAGE_SUCCESS_ALL = "All lists are exporting to %s";
+
     public static final String MESSAGE_INVALID_CSV_FILEPATH = "%s is not a valid csv file path";
 
+    public static final String MESSAGE_INVALID_DIRECTORY = "%s is not a directory";
+
     public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word is invalid";
 
     public static final String MESSAGE_EXPORT = "Data is exporting";
@@ -91,6 +105,13 @@ public class ExportCsvCommand extends Command {
         requireNonNull(model);
         requireNonNull(commandWord);
 
+        if (commandWord.equals(COMMAND_WORD_ALL)) {
+            if (Files.exists(filePath) && !Files.isDirectory(filePath)) {
+                throw new CommandException(String.format(MESSAGE_INVALID_DIRECTORY, filePath));
+            }
+            model.exportInventory(filePath);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, filePath.toAbsolutePath()));
+        }
         if (!FileUtil.isValidCsvFile(filePath)) {
             throw new CommandException(String.format(MESSAGE_INVALID_CSV_FILEPATH, filePath));
         }
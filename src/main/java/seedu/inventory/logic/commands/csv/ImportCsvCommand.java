@@ -2,7 +2,9 @@ package seedu.inventory.logic.commands.csv;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.logic.parser.CliSyntax.PREFIX_FILEPATH;
+import static seedu.inventory.logic.parser.CliSyntax.PREFIX_IMPORT_MODE;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -22,16 +24,25 @@ public class ImportCsvCommand extends Command {
     public static final String COMMAND_WORD_SALES = "import-csv-sales";
     public static final String COMMAND_WORD_STAFFS = "import-csv-staffs";
     public static final String COMMAND_WORD_PURCHASE_ORDERS = "import-csv-orders";
+    public static final String COMMAND_WORD_ALL = "import-csv-all";
+
+    public static final String IMPORT_MODE_REPLACE = "replace";
+    public static final String IMPORT_MODE_MERGE = "merge";
 
     public static final String MESSAGE_USAGE_ITEMS = COMMAND_WORD_ITEMS + ": Import the item list from a Csv file. "
+            + "In merge mode, new items are added and changed items are updated, instead of replacing the list. "
             + "Parameters: "
-            + PREFIX_FILEPATH + "FILEPATH \n"
+            + PREFIX_FILEPATH + "FILEPATH "
+            + "[" + PREFIX_IMPORT_MODE + IMPORT_MODE_REPLACE + "|" + IMPORT_MODE_MERGE + "]\n"
             + "Example: " + COMMAND_WORD_ITEMS + " "
-            + PREFIX_FILEPATH + "E:/in/items.csv";
+            + PREFIX_FILEPATH + "E:/in/items.csv "
+            + PREFIX_IMPORT_MODE + IMPORT_MODE_MERGE;
 
     public static final String MESSAGE_USAGE_SALES = COMMAND_WORD_SALES + ": Import the sale list from a Csv file. "
+            + "In merge mode, new sales are added and changed sales are updated, instead of replacing the list. "
             + "Parameters: "
-            + PREFIX_FILEPATH + "FILEPATH \n"
+            + PREFIX_FILEPATH + "FILEPATH "
+            + "[" + PREFIX_IMPORT_MODE + IMPORT_MODE_REPLACE + "|" + IMPORT_MODE_MERGE + "]\n"
             + "Example: " + COMMAND_WORD_SALES + " "
             + PREFIX_FILEPATH + "E:/in/sales.csv";
 
@@ -48,10 +59,19 @@ public class ImportCsvCommand extends Command {
             + "Example: " + COMMAND_WORD_PURCHASE_ORDERS + " "
             + PREFIX_FILEPATH + "E:/in/orders.csv";
 
+    public static final String MESSAGE_USAGE_ALL = COMMAND_WORD_ALL
+            + ": Import all lists from the Csv files in a directory exported by "
+            + ExportCsvCommand.COMMAND_WORD_ALL + ", replacing the current lists. "
+            + "Parameters: "
+            + PREFIX_FILEPATH + "DIRECTORY \n"
+            + "Example: " + COMMAND_WORD_ALL + " "
+            + PREFIX_FILEPATH + "E:/in/inventory";
+
     public static final String MESSAGE_USAGE = MESSAGE_USAGE_ITEMS + "\n"
             + MESSAGE_USAGE_SALES + "\n"
             + MESSAGE_USAGE_STAFFS + "\n"
-            + MESSAGE_USAGE_PURCHASE_ORDERS;
+            + MESSAGE_USAGE_PURCHASE_ORDERS + "\n"
+            + MESSAGE_USAGE_ALL;
 
     public static final String MESSAGE_SUCCESS_ITEMS = "Item list is importing from %s";
 
@@ -61,6 +81,16 @@ public class ImportCsvCommand extends Command {
 
     public static final String MESSAGE_SUCCESS_PURCHASE_ORDERS = "Purchase order list is importing from %s";
 
+    public static final String MESSAGE_SUCCESS_ALL = "All lists are importing from %s";
+
+    public static final String MESSAGE_MERGE_ITEMS = "Item list is merging from %s";
+
+    public static final String MESSAGE_MERGE_SALES = "Sale list is merging from %s";
+
+    public static final String MESSAGE_MERGE_NOT_SUPPORTED = "Only the item list and the sale list can be merged";
+
+    public static final String MESSAGE_INVALID_DIRECTORY = "%s is not a directory";
+
     public static final String MESSAGE_INVALID_CSV_FILEPATH = "%s is not a valid csv file path";
 
     public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word is invalid";
@@ -71,12 +101,22 @@ public class ImportCsvCommand extends Command {
 
     private final Path filePath;
 
+    private final boolean isMerge;
+
     /**
-     * Creates an ImportCsvCommand to import the data.
+     * Creates an ImportCsvCommand to import the data, replacing the current data.
      */
     public ImportCsvCommand(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates an ImportCsvCommand to import the data, merging it into the current data if {@code isMerge} is true.
+     */
+    public ImportCsvCommand(Path filePath, boolean isMerge) {
         requireNonNull(filePath);
         this.filePath = filePath;
+        this.isMerge = isMerge;
     }
 
     public ImportCsvCommand setCommandWord(String commandWord) {
@@ -89,31 +129,48 @@ public class ImportCsvCommand extends Command {
         requireNonNull(model);
         requireNonNull(commandWord);
 
+        if (commandWord.equals(COMMAND_WORD_ALL)) {
+            requireReplaceMode();
+            if (!Files.isDirectory(filePath)) {
+                throw new CommandException(String.format(MESSAGE_INVALID_DIRECTORY, filePath));
+            }
+            model.importInventory(filePath);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, filePath.toAbsolutePath()));
+        }
         if (!FileUtil.isValidCsvFile(filePath)) {
             throw new CommandException(String.format(MESSAGE_INVALID_CSV_FILEPATH, filePath));
         }
         switch (commandWord) {
         case COMMAND_WORD_ITEMS:
-            model.importItemList(filePath);
-            model.commitInventory();
-            return new CommandResult(String.format(MESSAGE_SUCCESS_ITEMS, filePath.toAbsolutePath()));
+            model.importItemList(filePath, isMerge);
+            return new CommandResult(String.format(isMerge ? MESSAGE_MERGE_ITEMS : MESSAGE_SUCCESS_ITEMS,
+                    filePath.toAbsolutePath()));
         case COMMAND_WORD_SALES:
-            model.importSaleList(filePath);
-            model.commitInventory();
-            return new CommandResult(String.format(MESSAGE_SUCCESS_SALES, filePath.toAbsolutePath()));
+            model.importSaleList(filePath, isMerge);
+            return new CommandResult(String.format(isMerge ? MESSAGE_MERGE_SALES : MESSAGE_SUCCESS_SALES,
+                    filePath.toAbsolutePath()));
         case COMMAND_WORD_STAFFS:
+            requireReplaceMode();
             model.importStaffList(filePath);
-            model.commitInventory();
             return new CommandResult(String.format(MESSAGE_SUCCESS_STAFFS, filePath.toAbsolutePath()));
         case COMMAND_WORD_PURCHASE_ORDERS:
+            requireReplaceMode();
             model.importPurchaseOrderList(filePath);
-            model.commitInventory();
             return new CommandResult(String.format(MESSAGE_SUCCESS_PURCHASE_ORDERS, filePath.toAbsolutePath()));
         default:
             throw new CommandException(MESSAGE_INVALID_COMMAND_WORD);
         }
     }
 
+    /**
+     * Throws a {@code CommandException} if the data is to be merged, as only the item list and the sale list can be.
+     */
+    private void requireReplaceMode() throws CommandException {
+        if (isMerge) {
+            throw new CommandException(MESSAGE_MERGE_NOT_SUPPORTED);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -125,9 +182,11 @@ public class ImportCsvCommand extends Command {
         ImportCsvCommand that = (ImportCsvCommand) o;
         if (this.commandWord == null) {
             return that.commandWord == null
-                    && Objects.equals(filePath, that.filePath);
+                    && Objects.equals(filePath, that.filePath)
+                    && isMerge == that.isMerge;
         }
         return Objects.equals(commandWord, that.commandWord)
-                && Objects.equals(filePath, that.filePath);
+                && Objects.equals(filePath, that.filePath)
+                && isMerge == that.isMerge;
     }
 }
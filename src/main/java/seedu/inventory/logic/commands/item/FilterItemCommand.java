@@ -9,6 +9,7 @@ import seedu.inventory.logic.CommandHistory;
 import seedu.inventory.logic.commands.Command;
 import seedu.inventory.logic.commands.CommandResult;
 import seedu.inventory.model.Model;
+import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.item.FilterItemPredicate;
 
 /**
@@ -21,12 +22,13 @@ public class FilterItemCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters items based on quantity and/or price. Either "
             + "one of the parameters have to be present. For each parameter, use '>' for more than or equals to and "
-            + "'<' for less than or equals to. "
+            + "'<' for less than or equals to. Repeat a parameter to give both sides of a range. "
             + "Parameters: "
-            + "[" + PREFIX_PRICE + "[<][>]PRICE] "
-            + "[" + PREFIX_QUANTITY + "[<][>]QUANTITY]\n"
+            + "[" + PREFIX_PRICE + "[<][>]PRICE]... "
+            + "[" + PREFIX_QUANTITY + "[<][>]QUANTITY]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PRICE + ">100 "
+            + PREFIX_PRICE + "<500 "
             + PREFIX_QUANTITY + "<10";
 
     private final FilterItemPredicate predicate;
@@ -39,7 +41,9 @@ public class FilterItemCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         model.viewItem();
-        model.updateFilteredItemList(predicate);
+        ReadOnlyInventory inventory = model.getInventory();
+        model.updateFilteredItemList(
+                predicate.usingIndex(inventory.getItemPriceIndex(), inventory.getItemQuantityIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredItemList().size()));
     }
@@ -32,7 +32,7 @@ public class FindItemCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         model.viewItem();
-        model.updateFilteredItemList(predicate);
+        model.updateFilteredItemList(predicate.usingIndex(model.getInventory().getItemNameIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredItemList().size()));
     }
@@ -32,7 +32,7 @@ public class FindItemSkuCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         model.viewItem();
-        model.updateFilteredItemList(predicate);
+        model.updateFilteredItemList(predicate.usingIndex(model.getInventory().getItemSkuIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredItemList().size()));
     }
@@ -8,7 +8,7 @@ import seedu.inventory.logic.commands.CommandResult;
 import seedu.inventory.model.Model;
 
 /**
- * Lists all items in the inventory that have quantities less than or equal to 10 to the user.
+ * Lists all items in the inventory that are at or below their low stock threshold to the user.
  */
 public class ListLowQuantityCommand extends Command {
 
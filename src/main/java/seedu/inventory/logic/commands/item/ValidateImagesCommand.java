@@ -0,0 +1,28 @@
+package seedu.inventory.logic.commands.item;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.inventory.logic.CommandHistory;
+import seedu.inventory.logic.commands.Command;
+import seedu.inventory.logic.commands.CommandResult;
+import seedu.inventory.model.Model;
+
+/**
+ * Validates the images of all items again in the background, whether or not they changed.
+ */
+public class ValidateImagesCommand extends Command {
+
+    public static final String COMMAND_WORD = "validate-images";
+
+    public static final String MESSAGE_SUCCESS = "Validating item images in the background";
+    public static final String MESSAGE_ALL_VALID = "Validated %1$d image files. All item images are valid.";
+    public static final String MESSAGE_INVALID_IMAGES =
+            "Validated %1$d image files. Items with images that are no longer valid: %2$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.validateItemImages();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
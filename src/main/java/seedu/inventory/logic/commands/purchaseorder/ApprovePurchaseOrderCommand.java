@@ -54,9 +54,8 @@ public class ApprovePurchaseOrderCommand extends Command {
         model.approvePurchaseOrder(targetIndex.getZeroBased(), purchaseOrderToApprove);
 
         Item item = model.getInventory().getItemBySku(purchaseOrderToApprove.getSku().value);
-        int newIntQuantity = Integer.parseInt(item.getQuantity().toString())
-                + Integer.parseInt(purchaseOrderToApprove.getQuantity().toString());
-        Quantity newQuantity = new Quantity(Integer.toString(newIntQuantity));
+        Quantity newQuantity = new Quantity(item.getQuantity().getIntValue()
+                + purchaseOrderToApprove.getQuantity().getIntValue());
 
         model.updateItem(item, new Item(item.getName(), item.getPrice(), newQuantity, item.getSku(),
                 item.getImage(), item.getTags()));
@@ -65,12 +65,12 @@ public class AddSaleCommand extends Command {
         }
 
         // Check if item quantity enough
-        if (Integer.parseInt(item.getQuantity().toString()) < Integer.parseInt(quantity.toString())) {
+        if (item.getQuantity().getIntValue() < quantity.getIntValue()) {
             throw new CommandException(String.format(MESSAGE_QUANTITY_INSUFFICIENT, item.getQuantity()));
         }
 
         // Check for zero quantity
-        if (Integer.parseInt(quantity.toString()) <= 0) {
+        if (quantity.getIntValue() <= 0) {
             throw new CommandException(MESSAGE_QUANTITY_INVALID);
         }
 
@@ -78,8 +78,7 @@ public class AddSaleCommand extends Command {
 
         model.addSale(sale);
 
-        int newIntQuantity = Integer.parseInt(item.getQuantity().toString()) - Integer.parseInt(quantity.toString());
-        Quantity newQuantity = new Quantity(Integer.toString(newIntQuantity));
+        Quantity newQuantity = new Quantity(item.getQuantity().getIntValue() - quantity.getIntValue());
 
         // Deduct item quantity
         model.updateItem(item, new Item(item.getName(), item.getPrice(), newQuantity, item.getSku(),
@@ -56,9 +56,8 @@ public class DeleteSaleCommand extends Command {
         Item searchedItem = model.getInventory().getItemBySku(item.getSku().toString());
 
         if (searchedItem != null) {
-            int newIntQuantity = Integer.parseInt(searchedItem.getQuantity().toString())
-                    + Integer.parseInt(sale.getSaleQuantity().toString());
-            Quantity newQuantity = new Quantity(Integer.toString(newIntQuantity));
+            Quantity newQuantity = new Quantity(searchedItem.getQuantity().getIntValue()
+                    + sale.getSaleQuantity().getIntValue());
 
             // Add item quantity
             model.updateItem(searchedItem, new Item(item.getName(), item.getPrice(), newQuantity, item.getSku(),
@@ -24,5 +24,6 @@ public class CliSyntax {
 
     /* Reporting prefix definitions */
     public static final Prefix PREFIX_FILEPATH = new Prefix("f/");
+    public static final Prefix PREFIX_IMPORT_MODE = new Prefix("m/");
 
 }
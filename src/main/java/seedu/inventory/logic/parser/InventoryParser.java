@@ -17,6 +17,7 @@ import seedu.inventory.logic.commands.UndoCommand;
 import seedu.inventory.logic.commands.authentication.ChangePasswordCommand;
 import seedu.inventory.logic.commands.authentication.LoginCommand;
 import seedu.inventory.logic.commands.authentication.LogoutCommand;
+import seedu.inventory.logic.commands.csv.CancelCsvCommand;
 import seedu.inventory.logic.commands.csv.ExportCsvCommand;
 import seedu.inventory.logic.commands.csv.ImportCsvCommand;
 import seedu.inventory.logic.commands.item.AddItemCommand;
@@ -27,6 +28,7 @@ import seedu.inventory.logic.commands.item.FindItemCommand;
 import seedu.inventory.logic.commands.item.FindItemSkuCommand;
 import seedu.inventory.logic.commands.item.ListItemCommand;
 import seedu.inventory.logic.commands.item.ListLowQuantityCommand;
+import seedu.inventory.logic.commands.item.ValidateImagesCommand;
 import seedu.inventory.logic.commands.purchaseorder.AddPurchaseOrderCommand;
 import seedu.inventory.logic.commands.purchaseorder.ApprovePurchaseOrderCommand;
 import seedu.inventory.logic.commands.purchaseorder.DeletePurchaseOrderCommand;
@@ -139,6 +141,9 @@ public class InventoryParser {
         case ListLowQuantityCommand.COMMAND_WORD:
             return new ListLowQuantityCommand();
 
+        case ValidateImagesCommand.COMMAND_WORD:
+            return new ValidateImagesCommand();
+
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
@@ -185,14 +190,19 @@ public class InventoryParser {
         case ExportCsvCommand.COMMAND_WORD_SALES:
         case ExportCsvCommand.COMMAND_WORD_STAFFS:
         case ExportCsvCommand.COMMAND_WORD_PURCHASE_ORDERS:
+        case ExportCsvCommand.COMMAND_WORD_ALL:
             return new ExportCsvCommandParser().parse(arguments).setCommandWord(commandWord);
 
         case ImportCsvCommand.COMMAND_WORD_ITEMS:
         case ImportCsvCommand.COMMAND_WORD_SALES:
         case ImportCsvCommand.COMMAND_WORD_STAFFS:
         case ImportCsvCommand.COMMAND_WORD_PURCHASE_ORDERS:
+        case ImportCsvCommand.COMMAND_WORD_ALL:
             return new ImportCsvCommandParser().parse(arguments).setCommandWord(commandWord);
 
+        case CancelCsvCommand.COMMAND_WORD:
+            return new CancelCsvCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
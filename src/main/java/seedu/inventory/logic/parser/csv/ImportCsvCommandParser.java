@@ -2,8 +2,10 @@ package seedu.inventory.logic.parser.csv;
 
 import static seedu.inventory.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.inventory.logic.parser.CliSyntax.PREFIX_FILEPATH;
+import static seedu.inventory.logic.parser.CliSyntax.PREFIX_IMPORT_MODE;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.inventory.logic.commands.csv.ImportCsvCommand;
@@ -19,6 +21,9 @@ import seedu.inventory.logic.parser.exceptions.ParseException;
  */
 public class ImportCsvCommandParser implements Parser<ImportCsvCommand> {
 
+    public static final String MESSAGE_INVALID_IMPORT_MODE = "Import mode should be either "
+            + ImportCsvCommand.IMPORT_MODE_REPLACE + " or " + ImportCsvCommand.IMPORT_MODE_MERGE;
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCsvCommand
      * and returns an ImportCsvCommand object for execution.
@@ -26,7 +31,7 @@ public class ImportCsvCommandParser implements Parser<ImportCsvCommand> {
      */
     public ImportCsvCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_FILEPATH);
+                ArgumentTokenizer.tokenize(args, PREFIX_FILEPATH, PREFIX_IMPORT_MODE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_FILEPATH)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -35,8 +40,28 @@ public class ImportCsvCommandParser implements Parser<ImportCsvCommand> {
         }
 
         Path filePath = ParserUtil.parsePath(argMultimap.getValue(PREFIX_FILEPATH).get());
+        boolean isMerge = parseIsMerge(argMultimap.getValue(PREFIX_IMPORT_MODE));
+
+        return new ImportCsvCommand(filePath, isMerge);
+    }
 
-        return new ImportCsvCommand(filePath);
+    /**
+     * Returns true if {@code importMode} is the merge mode, and false if it is the replace mode or absent.
+     * @throws ParseException if {@code importMode} is neither mode.
+     */
+    private static boolean parseIsMerge(Optional<String> importMode) throws ParseException {
+        if (!importMode.isPresent()) {
+            return false;
+        }
+        String trimmedImportMode = importMode.get().trim().toLowerCase();
+        switch (trimmedImportMode) {
+        case ImportCsvCommand.IMPORT_MODE_MERGE:
+            return true;
+        case ImportCsvCommand.IMPORT_MODE_REPLACE:
+            return false;
+        default:
+            throw new ParseException(MESSAGE_INVALID_IMPORT_MODE);
+        }
     }
 
     /**
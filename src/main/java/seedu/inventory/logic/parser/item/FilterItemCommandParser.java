@@ -4,6 +4,8 @@ import static seedu.inventory.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORM
 import static seedu.inventory.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.inventory.logic.parser.CliSyntax.PREFIX_QUANTITY;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.inventory.logic.commands.item.FilterItemCommand;
@@ -38,20 +40,17 @@ public class FilterItemCommandParser implements Parser<FilterItemCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterItemCommand.MESSAGE_USAGE));
         }
 
-        if (arePrefixesPresent(argMultimap, PREFIX_PRICE, PREFIX_QUANTITY)) {
-            FilterPrice price = ParserUtil.parseFilterPrice(argMultimap.getValue(PREFIX_PRICE).get());
-            FilterQuantity quantity = ParserUtil.parseFilterQuantity(argMultimap.getValue(PREFIX_QUANTITY).get());
-
-            return new FilterItemCommand(new FilterItemPredicate(price, quantity));
-        } else if (arePrefixesPresent(argMultimap, PREFIX_PRICE)) {
-            FilterPrice price = ParserUtil.parseFilterPrice(argMultimap.getValue(PREFIX_PRICE).get());
-
-            return new FilterItemCommand(new FilterItemPredicate(price));
-        } else {
-            FilterQuantity quantity = ParserUtil.parseFilterQuantity(argMultimap.getValue(PREFIX_QUANTITY).get());
+        List<FilterPrice> prices = new ArrayList<>();
+        for (String price : argMultimap.getAllValues(PREFIX_PRICE)) {
+            prices.add(ParserUtil.parseFilterPrice(price));
+        }
 
-            return new FilterItemCommand(new FilterItemPredicate(quantity));
+        List<FilterQuantity> quantities = new ArrayList<>();
+        for (String quantity : argMultimap.getAllValues(PREFIX_QUANTITY)) {
+            quantities.add(ParserUtil.parseFilterQuantity(quantity));
         }
+
+        return new FilterItemCommand(new FilterItemPredicate(prices, quantities));
     }
 
     /**
@@ -6,8 +6,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.ItemNameIndex;
+import seedu.inventory.model.item.ItemRangeIndex;
+import seedu.inventory.model.item.ItemSkuIndex;
+import seedu.inventory.model.item.LowStockThresholds;
+import seedu.inventory.model.item.LowStockWatchSet;
 import seedu.inventory.model.item.UniqueItemList;
 import seedu.inventory.model.purchaseorder.NonUniquePurchaseOrderList;
 import seedu.inventory.model.purchaseorder.PurchaseOrder;
@@ -28,7 +34,22 @@ public class Inventory implements ReadOnlyInventory {
     private final UniqueStaffList staffs = new UniqueStaffList();
     private final UniqueSaleList sales = new UniqueSaleList();
 
+    // Read-only views are kept so that the version listeners below stay registered on the backing lists.
+    private final ObservableList<Item> itemView = items.asUnmodifiableObservableList();
+    private final ObservableList<PurchaseOrder> purchaseOrderView = purchaseOrders.asUnmodifiableObservableList();
+    private final ObservableList<Staff> staffView = staffs.asUnmodifiableObservableList();
+    private final ObservableList<Sale> saleView = sales.asUnmodifiableObservableList();
+
+    private long itemListVersion;
+    private long purchaseOrderListVersion;
+    private long staffListVersion;
+    private long saleListVersion;
+
     public Inventory() {
+        itemView.addListener((ListChangeListener<Item>) change -> itemListVersion++);
+        purchaseOrderView.addListener((ListChangeListener<PurchaseOrder>) change -> purchaseOrderListVersion++);
+        staffView.addListener((ListChangeListener<Staff>) change -> staffListVersion++);
+        saleView.addListener((ListChangeListener<Sale>) change -> saleListVersion++);
     }
 
     /**
@@ -75,6 +96,30 @@ public class Inventory implements ReadOnlyInventory {
         setSaleList(newSaleList.getSaleList());
     }
 
+    /**
+     * Merges {@code newItemList} into the existing item list of this {@code Inventory}, adding the items with new SKUs
+     * and replacing the items that changed.
+     *
+     * @return the number of items that were added or replaced.
+     */
+    public int mergeItemList(ReadOnlyItemList newItemList) {
+        requireNonNull(newItemList);
+
+        return items.mergeItems(newItemList.getItemList());
+    }
+
+    /**
+     * Merges {@code newSaleList} into the existing sale list of this {@code Inventory}, adding the sales with new
+     * sale IDs and replacing the sales that changed.
+     *
+     * @return the number of sales that were added or replaced.
+     */
+    public int mergeSaleList(ReadOnlySaleList newSaleList) {
+        requireNonNull(newSaleList);
+
+        return sales.mergeSales(newSaleList.getSaleList());
+    }
+
     /**
      * Replaces the contents of the item list with {@code items}.
      * {@code items} must not contain duplicate items.
@@ -83,6 +128,14 @@ public class Inventory implements ReadOnlyInventory {
         this.items.setItems(items);
     }
 
+    /**
+     * Replaces the items from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code items}, updating the item indexes only for the items that changed.
+     */
+    public void setItems(int fromIndex, int toIndex, List<Item> items) {
+        this.items.setItems(fromIndex, toIndex, items);
+    }
+
     /**
      * Replaces the contents of the purchase order list with {@code purchaseOrders}.
      */
@@ -90,6 +143,14 @@ public class Inventory implements ReadOnlyInventory {
         this.purchaseOrders.setPurchaseOrders(purchaseOrders);
     }
 
+    /**
+     * Replaces the purchase orders from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive,
+     * with {@code purchaseOrders}.
+     */
+    public void setPurchaseOrders(int fromIndex, int toIndex, List<PurchaseOrder> purchaseOrders) {
+        this.purchaseOrders.setPurchaseOrders(fromIndex, toIndex, purchaseOrders);
+    }
+
     /**
      * Replaces the contents of the staff list with {@code staffs}
      *
@@ -99,6 +160,14 @@ public class Inventory implements ReadOnlyInventory {
         this.staffs.setStaffs(staffs);
     }
 
+    /**
+     * Replaces the staffs from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code staffs}.
+     */
+    public void setStaffs(int fromIndex, int toIndex, List<Staff> staffs) {
+        this.staffs.setStaffs(fromIndex, toIndex, staffs);
+    }
+
     /**
      * Replaces the contents of the sale list with {@code saleLists}.
      */
@@ -106,6 +175,14 @@ public class Inventory implements ReadOnlyInventory {
         this.sales.setSales(sales);
     }
 
+    /**
+     * Replaces the sales from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code sales}, updating the sale ID index only for the sales that changed.
+     */
+    public void setSaleList(int fromIndex, int toIndex, List<Sale> sales) {
+        this.sales.setSales(fromIndex, toIndex, sales);
+    }
+
 
     //===================== item-level operations ==========================================
 
@@ -221,6 +298,41 @@ public class Inventory implements ReadOnlyInventory {
         return items.getItemBySku(sku);
     }
 
+    @Override
+    public ItemNameIndex getItemNameIndex() {
+        return items.getNameIndex();
+    }
+
+    @Override
+    public ItemSkuIndex getItemSkuIndex() {
+        return items.getSkuFragmentIndex();
+    }
+
+    @Override
+    public ItemRangeIndex getItemPriceIndex() {
+        return items.getPriceIndex();
+    }
+
+    @Override
+    public ItemRangeIndex getItemQuantityIndex() {
+        return items.getQuantityIndex();
+    }
+
+    /**
+     * Returns the set of the items in the inventory that are low on stock.
+     */
+    public LowStockWatchSet getLowStockWatchSet() {
+        return items.getLowStockWatchSet();
+    }
+
+    /**
+     * Replaces the thresholds at which items in the inventory are considered low on stock.
+     */
+    public void setLowStockThresholds(LowStockThresholds thresholds) {
+        requireNonNull(thresholds);
+        items.setLowStockThresholds(thresholds);
+    }
+
     //===================== purchaseorder-level operations =================================
 
     /**
@@ -361,11 +473,39 @@ public class Inventory implements ReadOnlyInventory {
     }
 
     public ObservableList<Sale> getSaleList() {
-        return this.sales.asUnmodifiableObservableList();
+        return saleView;
     }
 
     //===================== util methods =======================================================
 
+    /**
+     * Returns a counter that is incremented every time the item list is modified.
+     */
+    public long getItemListVersion() {
+        return itemListVersion;
+    }
+
+    /**
+     * Returns a counter that is incremented every time the purchase order list is modified.
+     */
+    public long getPurchaseOrderListVersion() {
+        return purchaseOrderListVersion;
+    }
+
+    /**
+     * Returns a counter that is incremented every time the staff list is modified.
+     */
+    public long getStaffListVersion() {
+        return staffListVersion;
+    }
+
+    /**
+     * Returns a counter that is incremented every time the sale list is modified.
+     */
+    public long getSaleListVersion() {
+        return saleListVersion;
+    }
+
     //===================== list overwrite operations ==============================
 
     /**
@@ -400,16 +540,16 @@ public class Inventory implements ReadOnlyInventory {
 
     @Override
     public ObservableList<Item> getItemList() {
-        return items.asUnmodifiableObservableList();
+        return itemView;
     }
 
     @Override
     public ObservableList<PurchaseOrder> getPurchaseOrderList() {
-        return purchaseOrders.asUnmodifiableObservableList();
+        return purchaseOrderView;
     }
 
     public ObservableList<Staff> getStaffList() {
-        return staffs.asUnmodifiableObservableList();
+        return staffView;
     }
 
     @Override
@@ -0,0 +1,48 @@
+package seedu.inventory.model;
+
+import java.util.Objects;
+
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.staff.Staff;
+
+/**
+ * The modifications made to each list of an {@code Inventory} by one command.
+ */
+class InventoryDelta {
+
+    /**
+     * Rough number of bytes retained per list entry held by a delta, used to estimate the memory taken by the history.
+     */
+    static final long ESTIMATED_BYTES_PER_ENTRY = 256;
+
+    final ListDelta<Item> items = new ListDelta<>();
+    final ListDelta<PurchaseOrder> purchaseOrders = new ListDelta<>();
+    final ListDelta<Staff> staffs = new ListDelta<>();
+    final ListDelta<Sale> sales = new ListDelta<>();
+
+    /**
+     * Returns an estimate of the number of bytes retained by this delta.
+     */
+    long getEstimatedSize() {
+        long entryCount = items.getEntryCount() + purchaseOrders.getEntryCount() + staffs.getEntryCount()
+                + sales.getEntryCount();
+        return entryCount * ESTIMATED_BYTES_PER_ENTRY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InventoryDelta // instanceof handles nulls
+                && items.equals(((InventoryDelta) other).items)
+                && purchaseOrders.equals(((InventoryDelta) other).purchaseOrders)
+                && staffs.equals(((InventoryDelta) other).staffs)
+                && sales.equals(((InventoryDelta) other).sales));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, purchaseOrders, staffs, sales);
+    }
+}
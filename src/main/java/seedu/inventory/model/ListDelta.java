@@ -0,0 +1,136 @@
+package seedu.inventory.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Records the modifications made to a list as a sequence of edits, each replacing the entries in a range of the
+ * list with other entries. The recorded edits can be reverted or reapplied in place to the list.
+ */
+class ListDelta<T> {
+
+    private final List<Edit<T>> edits = new ArrayList<>();
+    private int entryCount;
+
+    /**
+     * Records the modifications described by {@code change}.
+     */
+    void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            List<T> removed = new ArrayList<>();
+            List<T> added = new ArrayList<>();
+
+            if (change.wasPermutated()) {
+                List<? extends T> list = change.getList();
+                for (int i = from; i < change.getTo(); i++) {
+                    removed.add(list.get(change.getPermutation(i)));
+                }
+                added.addAll(list.subList(from, change.getTo()));
+            } else {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+
+            // replacing entries with equal ones leaves the list unchanged
+            if (!removed.equals(added)) {
+                edits.add(new Edit<>(from, removed, added));
+                entryCount += removed.size() + added.size();
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Returns the number of list entries held by this delta.
+     */
+    int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Undoes the recorded edits in place through {@code editor}, which must edit the list the edits were recorded on.
+     */
+    void revert(RangeEditor<T> editor) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit<T> edit = edits.get(i);
+            editor.replace(edit.from, edit.from + edit.added.size(), edit.removed);
+        }
+    }
+
+    /**
+     * Applies the recorded edits again in place through {@code editor}, which must edit the list the edits were
+     * recorded on.
+     */
+    void apply(RangeEditor<T> editor) {
+        for (Edit<T> edit : edits) {
+            editor.replace(edit.from, edit.from + edit.removed.size(), edit.added);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListDelta // instanceof handles nulls
+                && edits.equals(((ListDelta<?>) other).edits));
+    }
+
+    @Override
+    public int hashCode() {
+        return edits.hashCode();
+    }
+
+    /**
+     * Replaces the entries of a list in place.
+     */
+    @FunctionalInterface
+    interface RangeEditor<T> {
+        /**
+         * Replaces the entries from index {@code from}, inclusive, to index {@code to}, exclusive, with
+         * {@code entries}.
+         */
+        void replace(int from, int to, List<T> entries);
+    }
+
+    /**
+     * Replacement of the entries {@code removed}, starting at index {@code from}, by the entries {@code added}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Edit(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+
+            Edit<?> otherEdit = (Edit<?>) other;
+            return from == otherEdit.from
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
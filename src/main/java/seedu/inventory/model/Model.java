@@ -1,10 +1,12 @@
 package seedu.inventory.model;
 
 import java.nio.file.Path;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.inventory.commons.events.storage.InventoryUpdateEvent;
 import seedu.inventory.commons.events.storage.ItemListUpdateEvent;
 import seedu.inventory.commons.events.storage.PurchaseOrderListUpdateEvent;
 import seedu.inventory.commons.events.storage.SaleListUpdateEvent;
@@ -23,11 +25,6 @@ public interface Model {
      */
     Predicate<Item> PREDICATE_SHOW_ALL_ITEMS = unused -> true;
 
-    /**
-     * {@code Predicate} that returns item list that contains items with quantities less than or equal to 10
-     */
-    Predicate<Item> PREDICATE_SHOW_ALL_LOW_QUANTITY = item -> Integer.parseInt(item.getQuantity().value) <= 10;
-
     /**
      * {@code Predicate} that always evaluate to true
      */
@@ -53,6 +50,31 @@ public interface Model {
      */
     void resetSaleList(ReadOnlySaleList newSaleList);
 
+    /**
+     * Merges the provided item list into the item list in backing model, adding the items with new SKUs and
+     * replacing the items that changed.
+     */
+    void mergeItemList(ReadOnlyItemList newItemList);
+
+    /**
+     * Merges the provided sale list into the sale list in backing model, adding the sales with new sale IDs and
+     * replacing the sales that changed.
+     */
+    void mergeSaleList(ReadOnlySaleList newSaleList);
+
+    /**
+     * Replaces the sale list in backing model with the sale list loaded by {@code saleListLoading} once it is
+     * needed, as part of the initial state of the inventory. The sale list is put in the model by
+     * {@link #awaitSaleList()}.
+     */
+    void loadSaleList(Future<? extends ReadOnlySaleList> saleListLoading);
+
+    /**
+     * Waits for the sale list given to {@link #loadSaleList(Future)} to be loaded and puts it in the model.
+     * Does nothing if there is no sale list being loaded.
+     */
+    void awaitSaleList();
+
     /**
      * Replaces the staff list in backing model with the provided new staff list.
      */
@@ -108,6 +130,20 @@ public interface Model {
      */
     void importItemList(Path filePath);
 
+    /**
+     * Import the item list from the file path, merging it into the current item list if {@code isMerge} is true.
+     *
+     * @param filePath The path to import.
+     * @param isMerge Whether the item list is merged into the current one instead of replacing it.
+     */
+    void importItemList(Path filePath, boolean isMerge);
+
+    /**
+     * Validates the images of all items again in the background, probing every image file whether or not it
+     * changed.
+     */
+    void validateItemImages();
+
     /**
      * Export the sale list to the file path.
      * @param filePath The path to export.
@@ -120,6 +156,13 @@ public interface Model {
      */
     void importSaleList(Path filePath);
 
+    /**
+     * Import the sale list from the file path, merging it into the current sale list if {@code isMerge} is true.
+     * @param filePath The path to import.
+     * @param isMerge Whether the sale list is merged into the current one instead of replacing it.
+     */
+    void importSaleList(Path filePath, boolean isMerge);
+
     /**
      * Export the staff list to the file path.
      * @param filePath The path to export.
@@ -144,6 +187,23 @@ public interface Model {
      */
     void importPurchaseOrderList(Path filePath);
 
+    /**
+     * Export all lists to their files in the directory.
+     * @param directory The directory to export to.
+     */
+    void exportInventory(Path directory);
+
+    /**
+     * Import all lists from their files in the directory, replacing the current lists.
+     * @param directory The directory to import from.
+     */
+    void importInventory(Path directory);
+
+    /**
+     * Cancel the imports and exports of files that are still running.
+     */
+    void cancelFileOperations();
+
     //=========== Item API =============================================================
 
     /**
@@ -157,10 +217,15 @@ public interface Model {
     void viewItem();
 
     /**
-     * Returns true if an item with the same identity as {@code item} exists in the inventory.
+     * Shows the items that are low on stock.
      */
     void viewLowQuantity();
 
+    /**
+     * Returns true if {@code item} is in the inventory and low on stock.
+     */
+    boolean isLowStock(Item item);
+
     /**
      * Deletes the given item.
      * The item must exist in the inventory.
@@ -425,4 +490,9 @@ public interface Model {
      */
     void handlePurchaseOrderListUpdateEvent(PurchaseOrderListUpdateEvent event);
 
+    /**
+     * Handler function of InventoryUpdateEvent.
+     */
+    void handleInventoryUpdateEvent(InventoryUpdateEvent event);
+
 }
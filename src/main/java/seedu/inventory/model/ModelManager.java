@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -18,9 +21,14 @@ import seedu.inventory.commons.events.model.AccessItemEvent;
 import seedu.inventory.commons.events.model.AccessPurchaseOrderEvent;
 import seedu.inventory.commons.events.model.AccessSaleEvent;
 import seedu.inventory.commons.events.model.AccessStaffEvent;
+import seedu.inventory.commons.events.model.FileOperationCancelEvent;
 import seedu.inventory.commons.events.model.InventoryChangedEvent;
+import seedu.inventory.commons.events.model.InventoryExportEvent;
+import seedu.inventory.commons.events.model.InventoryImportEvent;
+import seedu.inventory.commons.events.model.ItemImageValidationEvent;
 import seedu.inventory.commons.events.model.ItemListExportEvent;
 import seedu.inventory.commons.events.model.ItemListImportEvent;
+import seedu.inventory.commons.events.model.LowStockChangedEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListExportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListImportEvent;
 import seedu.inventory.commons.events.model.SaleListChangedEvent;
@@ -29,6 +37,7 @@ import seedu.inventory.commons.events.model.SaleListImportEvent;
 import seedu.inventory.commons.events.model.StaffListChangedEvent;
 import seedu.inventory.commons.events.model.StaffListExportEvent;
 import seedu.inventory.commons.events.model.StaffListImportEvent;
+import seedu.inventory.commons.events.storage.InventoryUpdateEvent;
 import seedu.inventory.commons.events.storage.ItemListUpdateEvent;
 import seedu.inventory.commons.events.storage.PurchaseOrderListUpdateEvent;
 import seedu.inventory.commons.events.storage.SaleListUpdateEvent;
@@ -41,6 +50,7 @@ import seedu.inventory.commons.events.ui.ShowSaleTableViewEvent;
 import seedu.inventory.commons.events.ui.ShowStaffTableViewEvent;
 import seedu.inventory.commons.events.ui.ToggleSidePanelVisibilityEvent;
 import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.LowStockWatchSet;
 import seedu.inventory.model.purchaseorder.PurchaseOrder;
 import seedu.inventory.model.sale.Sale;
 import seedu.inventory.model.staff.Staff;
@@ -58,6 +68,7 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<PurchaseOrder> filteredPurchaseOrder;
     private final FilteredList<Staff> filteredStaffs;
     private UserSession session;
+    private Future<? extends ReadOnlySaleList> saleListLoading;
 
     /**
      * Initializes a ModelManager with the given inventory and userPrefs.
@@ -68,7 +79,8 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with inventory: " + inventory + " and user prefs " + userPrefs);
 
-        versionedInventory = new VersionedInventory(inventory);
+        versionedInventory = createVersionedInventory(inventory, userPrefs);
+        initLowStockThresholds(userPrefs);
         filteredItems = new FilteredList<>(versionedInventory.getItemList());
         filteredPurchaseOrder = new FilteredList<>(versionedInventory.getPurchaseOrderList());
         filteredStaffs = new FilteredList<>(versionedInventory.getStaffList());
@@ -80,6 +92,39 @@ public class ModelManager extends ComponentManager implements Model {
         this(new Inventory(), new UserPrefs(), new SaleList());
     }
 
+    /**
+     * Creates a {@code VersionedInventory} with the undo limits from {@code userPrefs}, or the default limits in place
+     * of those that are invalid.
+     */
+    private static VersionedInventory createVersionedInventory(ReadOnlyInventory inventory, UserPrefs userPrefs) {
+        int undoLimit = userPrefs.getUndoLimit();
+        if (undoLimit < 0) {
+            logger.warning("Invalid undo limit in user prefs, using the default limit: " + undoLimit);
+            undoLimit = VersionedInventory.DEFAULT_UNDO_LIMIT;
+        }
+
+        long undoMemoryLimit = userPrefs.getUndoMemoryLimit();
+        if (undoMemoryLimit < 0) {
+            logger.warning("Invalid undo memory limit in user prefs, using the default limit: " + undoMemoryLimit);
+            undoMemoryLimit = VersionedInventory.DEFAULT_UNDO_MEMORY_LIMIT;
+        }
+        return new VersionedInventory(inventory, undoLimit, undoMemoryLimit);
+    }
+
+    /**
+     * Sets the low stock thresholds from {@code userPrefs}, or keeps the default thresholds if they are invalid.
+     * Items that are low on stock at start up are not reported as crossing their threshold.
+     */
+    private void initLowStockThresholds(UserPrefs userPrefs) {
+        try {
+            versionedInventory.setLowStockThresholds(userPrefs.getLowStockThresholds());
+        } catch (IllegalArgumentException iae) {
+            logger.warning("Invalid low stock thresholds in user prefs, using the default threshold: " + iae);
+        }
+        versionedInventory.getLowStockWatchSet().takeItemsNowLow();
+        versionedInventory.getLowStockWatchSet().takeItemsNoLongerLow();
+    }
+
     @Override
     public void resetData(ReadOnlyInventory newData) {
         versionedInventory.resetData(newData);
@@ -98,6 +143,44 @@ public class ModelManager extends ComponentManager implements Model {
         indicateSaleListChanged();
     }
 
+    @Override
+    public void mergeItemList(ReadOnlyItemList newItemList) {
+        int mergedCount = versionedInventory.mergeItemList(newItemList);
+        logger.info("Merged " + mergedCount + " new or changed items into the item list");
+        indicateInventoryChanged();
+    }
+
+    @Override
+    public void mergeSaleList(ReadOnlySaleList newSaleList) {
+        int mergedCount = versionedInventory.mergeSaleList(newSaleList);
+        logger.info("Merged " + mergedCount + " new or changed sales into the sale list");
+        indicateSaleListChanged();
+    }
+
+    @Override
+    public void loadSaleList(Future<? extends ReadOnlySaleList> saleListLoading) {
+        requireNonNull(saleListLoading);
+        this.saleListLoading = saleListLoading;
+    }
+
+    @Override
+    public void awaitSaleList() {
+        if (saleListLoading == null) {
+            return;
+        }
+
+        Future<? extends ReadOnlySaleList> loading = saleListLoading;
+        saleListLoading = null;
+        try {
+            versionedInventory.loadSaleList(loading.get());
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while loading the sale list, starting with an empty sale list");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to load the sale list, starting with an empty sale list: " + ee.getCause());
+        }
+    }
+
     @Override
     public void resetStaffList(ReadOnlyStaffList newStaffList) {
         versionedInventory.resetStaffList(newStaffList);
@@ -125,6 +208,19 @@ public class ModelManager extends ComponentManager implements Model {
      */
     private void indicateInventoryChanged() {
         raise(new InventoryChangedEvent(versionedInventory));
+        indicateLowStockChanged();
+    }
+
+    /**
+     * Raises an event if any item crossed its low stock threshold since the last time this was called
+     */
+    private void indicateLowStockChanged() {
+        LowStockWatchSet lowStockWatchSet = versionedInventory.getLowStockWatchSet();
+        List<Item> itemsNowLow = lowStockWatchSet.takeItemsNowLow();
+        List<Item> itemsNoLongerLow = lowStockWatchSet.takeItemsNoLongerLow();
+        if (!itemsNowLow.isEmpty() || !itemsNoLongerLow.isEmpty()) {
+            raise(new LowStockChangedEvent(itemsNowLow, itemsNoLongerLow));
+        }
     }
 
     /**
@@ -172,9 +268,19 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void importItemList(Path filePath) {
+        importItemList(filePath, false);
+    }
+
+    @Override
+    public void importItemList(Path filePath, boolean isMerge) {
         indicateAccessItem();
         showItemTableView();
-        raise(new ItemListImportEvent(filePath));
+        raise(new ItemListImportEvent(filePath, isMerge));
+    }
+
+    @Override
+    public void validateItemImages() {
+        raise(new ItemImageValidationEvent(new ItemList(versionedInventory)));
     }
 
     @Override
@@ -186,9 +292,14 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void importSaleList(Path filePath) {
+        importSaleList(filePath, false);
+    }
+
+    @Override
+    public void importSaleList(Path filePath, boolean isMerge) {
         indicateAccessSale();
         showSaleTableView();
-        raise(new SaleListImportEvent(versionedInventory, filePath));
+        raise(new SaleListImportEvent(versionedInventory, filePath, isMerge));
     }
 
     @Override
@@ -219,6 +330,21 @@ public class ModelManager extends ComponentManager implements Model {
         raise(new PurchaseOrderListImportEvent(versionedInventory, filePath));
     }
 
+    @Override
+    public void exportInventory(Path directory) {
+        raise(new InventoryExportEvent(versionedInventory, directory));
+    }
+
+    @Override
+    public void importInventory(Path directory) {
+        raise(new InventoryImportEvent(directory));
+    }
+
+    @Override
+    public void cancelFileOperations() {
+        raise(new FileOperationCancelEvent());
+    }
+
     //=========== Item  ====================================================================================
 
     @Override
@@ -237,12 +363,18 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void viewLowQuantity() {
-        updateFilteredItemList(PREDICATE_SHOW_ALL_LOW_QUANTITY);
+        updateFilteredItemList(versionedInventory.getLowStockWatchSet()::contains);
         accessedList = filteredItems;
         indicateAccessItem();
         raise(new ClearBrowserPanelEvent());
     }
 
+    @Override
+    public boolean isLowStock(Item item) {
+        requireNonNull(item);
+        return versionedInventory.getLowStockWatchSet().contains(item);
+    }
+
     @Override
     public void deleteItem(Item target) {
         versionedInventory.removeItem(target);
@@ -566,18 +698,29 @@ public class ModelManager extends ComponentManager implements Model {
      */
     private void indicateSaleListChanged() {
         raise(new SaleListChangedEvent(versionedInventory));
+        indicateLowStockChanged();
     }
 
     @Override
     @Subscribe
     public void handleItemListUpdateEvent(ItemListUpdateEvent event) {
-        resetItemList(event.itemList);
+        if (event.isMerge) {
+            mergeItemList(event.itemList);
+        } else {
+            resetItemList(event.itemList);
+        }
+        commitInventory();
     }
 
     @Override
     @Subscribe
     public void handleSaleListUpdateEvent(SaleListUpdateEvent event) {
-        resetSaleList(event.saleList);
+        if (event.isMerge) {
+            mergeSaleList(event.saleList);
+        } else {
+            resetSaleList(event.saleList);
+        }
+        commitInventory();
     }
 
     @Override
@@ -588,12 +731,26 @@ public class ModelManager extends ComponentManager implements Model {
             staffList.addStaff(getUser());
         }
         resetStaffList(staffList);
+        commitInventory();
     }
 
     @Override
     @Subscribe
     public void handlePurchaseOrderListUpdateEvent(PurchaseOrderListUpdateEvent event) {
         resetPurchaseOrderList(event.purchaseOrderList);
+        commitInventory();
+    }
+
+    @Override
+    @Subscribe
+    public void handleInventoryUpdateEvent(InventoryUpdateEvent event) {
+        Inventory inventory = new Inventory(event.inventory);
+        if (isUserLoggedIn() && !inventory.hasStaff(getUser())) {
+            inventory.addStaff(getUser());
+        }
+        resetData(inventory);
+        indicateSaleListChanged();
+        commitInventory();
     }
 
 }
@@ -1,6 +1,9 @@
 package seedu.inventory.model;
 
 import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.ItemNameIndex;
+import seedu.inventory.model.item.ItemRangeIndex;
+import seedu.inventory.model.item.ItemSkuIndex;
 
 /**
  * Unmodifiable view of an inventory
@@ -13,4 +16,24 @@ public interface ReadOnlyInventory extends ReadOnlyItemList, ReadOnlyPurchaseOrd
      * Returns the specific item by Sku.
      */
     Item getItemBySku(String sku);
+
+    /**
+     * Returns the index of the words in the names of the items in the inventory.
+     */
+    ItemNameIndex getItemNameIndex();
+
+    /**
+     * Returns the index of the fragments of the SKUs of the items in the inventory.
+     */
+    ItemSkuIndex getItemSkuIndex();
+
+    /**
+     * Returns the index of the items in the inventory by their price in cents.
+     */
+    ItemRangeIndex getItemPriceIndex();
+
+    /**
+     * Returns the index of the items in the inventory by their quantity.
+     */
+    ItemRangeIndex getItemQuantityIndex();
 }
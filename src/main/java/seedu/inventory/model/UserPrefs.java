@@ -2,9 +2,12 @@ package seedu.inventory.model;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.inventory.commons.core.GuiSettings;
+import seedu.inventory.model.item.LowStockThresholds;
 
 /**
  * Represents User's preferences.
@@ -17,6 +20,18 @@ public class UserPrefs {
 
     private Path staffListFilePath = Paths.get("data", "staffList.xml");
 
+    private int undoLimit = VersionedInventory.DEFAULT_UNDO_LIMIT;
+
+    private long undoMemoryLimit = VersionedInventory.DEFAULT_UNDO_MEMORY_LIMIT;
+
+    private int lowStockThreshold = LowStockThresholds.DEFAULT_THRESHOLD;
+
+    private Map<String, Integer> tagLowStockThresholds = new HashMap<>();
+
+    private Map<String, Integer> skuLowStockThresholds = new HashMap<>();
+
+    private boolean binaryStorage = false;
+
     public UserPrefs() {
         setGuiSettings(750, 600, 10, 10);
     }
@@ -49,6 +64,57 @@ public class UserPrefs {
         this.staffListFilePath = staffListFilePath;
     }
 
+    /**
+     * Returns true if the data files are kept in the compact binary format rather than as xml.
+     */
+    public boolean isBinaryStorage() {
+        return binaryStorage;
+    }
+
+    public void setBinaryStorage(boolean binaryStorage) {
+        this.binaryStorage = binaryStorage;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
+    /**
+     * Returns the estimated number of bytes the undo history may take up before the oldest commands are dropped.
+     */
+    public long getUndoMemoryLimit() {
+        return undoMemoryLimit;
+    }
+
+    public void setUndoMemoryLimit(long undoMemoryLimit) {
+        this.undoMemoryLimit = undoMemoryLimit;
+    }
+
+    /**
+     * Returns the quantities at or below which items are considered low on stock.
+     *
+     * @throws IllegalArgumentException if any of the thresholds is negative.
+     */
+    public LowStockThresholds getLowStockThresholds() {
+        return new LowStockThresholds(lowStockThreshold, tagLowStockThresholds, skuLowStockThresholds);
+    }
+
+    /**
+     * Sets the default low stock threshold, and the thresholds for items with the given tag names and SKUs.
+     */
+    public void setLowStockThresholds(int lowStockThreshold, Map<String, Integer> tagLowStockThresholds,
+                                      Map<String, Integer> skuLowStockThresholds) {
+        this.lowStockThreshold = lowStockThreshold;
+        this.tagLowStockThresholds = new HashMap<>(tagLowStockThresholds);
+        this.skuLowStockThresholds = new HashMap<>(skuLowStockThresholds);
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -63,7 +129,13 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(inventoryFilePath, o.inventoryFilePath)
-                && Objects.equals(staffListFilePath, o.staffListFilePath);
+                && Objects.equals(staffListFilePath, o.staffListFilePath)
+                && undoLimit == o.undoLimit
+                && undoMemoryLimit == o.undoMemoryLimit
+                && lowStockThreshold == o.lowStockThreshold
+                && Objects.equals(tagLowStockThresholds, o.tagLowStockThresholds)
+                && Objects.equals(skuLowStockThresholds, o.skuLowStockThresholds)
+                && binaryStorage == o.binaryStorage;
     }
 
     @Override
@@ -77,6 +149,12 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + inventoryFilePath);
         sb.append("\nLocal staff data file location : " + staffListFilePath);
+        sb.append("\nUndo limit : " + undoLimit);
+        sb.append("\nUndo memory limit : " + undoMemoryLimit);
+        sb.append("\nLow stock threshold : " + lowStockThreshold);
+        sb.append("\nLow stock thresholds by tag : " + tagLowStockThresholds);
+        sb.append("\nLow stock thresholds by SKU : " + skuLowStockThresholds);
+        sb.append("\nBinary storage : " + binaryStorage);
         return sb.toString();
     }
 
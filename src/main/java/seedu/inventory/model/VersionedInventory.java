@@ -1,36 +1,122 @@
 package seedu.inventory.model;
 
+import static seedu.inventory.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.staff.Staff;
+
 /**
  * {@code Inventory} that keeps track of its own history.
+ * Instead of copies of the whole inventory, the history holds the modifications made by each committed command,
+ * which are reverted on undo and reapplied on redo. The history is bounded both in the number of commands and in
+ * its estimated memory use; the oldest commands are dropped once either limit is exceeded.
  */
 public class VersionedInventory extends Inventory {
 
-    private final List<ReadOnlyInventory> inventoryStateList;
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+    public static final long DEFAULT_UNDO_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    private final List<InventoryDelta> inventoryStateList;
     private int currentStatePointer;
 
+    private final int undoLimit;
+    private final long undoMemoryLimit;
+    private long estimatedHistorySize;
+
+    // Modifications made since the last commit, undo or redo
+    private InventoryDelta pendingDelta;
+    private boolean isRestoringState;
+
     public VersionedInventory(ReadOnlyInventory initialState) {
+        this(initialState, DEFAULT_UNDO_LIMIT, DEFAULT_UNDO_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedInventory} that remembers at most {@code undoLimit} commands, taking up at most
+     * an estimated {@code undoMemoryLimit} bytes.
+     */
+    public VersionedInventory(ReadOnlyInventory initialState, int undoLimit, long undoMemoryLimit) {
         super(initialState);
+        checkArgument(undoLimit >= 0, "Undo limit must not be negative.");
+        checkArgument(undoMemoryLimit >= 0, "Undo memory limit must not be negative.");
 
         inventoryStateList = new ArrayList<>();
-        inventoryStateList.add(new Inventory(initialState));
         currentStatePointer = 0;
+        this.undoLimit = undoLimit;
+        this.undoMemoryLimit = undoMemoryLimit;
+        pendingDelta = new InventoryDelta();
+
+        getItemList().addListener((ListChangeListener<Item>) change -> {
+            if (!isRestoringState) {
+                pendingDelta.items.record(change);
+            }
+        });
+        getPurchaseOrderList().addListener((ListChangeListener<PurchaseOrder>) change -> {
+            if (!isRestoringState) {
+                pendingDelta.purchaseOrders.record(change);
+            }
+        });
+        getStaffList().addListener((ListChangeListener<Staff>) change -> {
+            if (!isRestoringState) {
+                pendingDelta.staffs.record(change);
+            }
+        });
+        getSaleList().addListener((ListChangeListener<Sale>) change -> {
+            if (!isRestoringState) {
+                pendingDelta.sales.record(change);
+            }
+        });
     }
 
     /**
-     * Saves a copy of the current {@code Inventory} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Replaces the sale list with {@code saleList} as part of the initial state, so that the change cannot be
+     * undone. For sale lists that finish loading after the inventory, before any modification is committed.
+     */
+    public void loadSaleList(ReadOnlySaleList saleList) {
+        assert inventoryStateList.isEmpty();
+        isRestoringState = true;
+        try {
+            resetSaleList(saleList);
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    /**
+     * Saves the modifications made since the current state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are dropped if the history grows
+     * beyond its limits.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        inventoryStateList.add(new Inventory(this));
+        inventoryStateList.add(pendingDelta);
+        estimatedHistorySize += pendingDelta.getEstimatedSize();
         currentStatePointer++;
+        pendingDelta = new InventoryDelta();
+        evictOldestStates();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        inventoryStateList.subList(currentStatePointer + 1, inventoryStateList.size()).clear();
+        List<InventoryDelta> undoneStates = inventoryStateList.subList(currentStatePointer, inventoryStateList.size());
+        undoneStates.forEach(delta -> estimatedHistorySize -= delta.getEstimatedSize());
+        undoneStates.clear();
+    }
+
+    /**
+     * Drops the oldest states until the history fits within the undo limit and the undo memory limit.
+     */
+    private void evictOldestStates() {
+        while (!inventoryStateList.isEmpty()
+                && (inventoryStateList.size() > undoLimit || estimatedHistorySize > undoMemoryLimit)) {
+            estimatedHistorySize -= inventoryStateList.remove(0).getEstimatedSize();
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -40,8 +126,9 @@ public class VersionedInventory extends Inventory {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertPendingChanges();
         currentStatePointer--;
-        resetData(inventoryStateList.get(currentStatePointer));
+        restoreState(inventoryStateList.get(currentStatePointer), true);
     }
 
     /**
@@ -51,8 +138,45 @@ public class VersionedInventory extends Inventory {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertPendingChanges();
+        restoreState(inventoryStateList.get(currentStatePointer), false);
         currentStatePointer++;
-        resetData(inventoryStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Discards the modifications that were not committed.
+     */
+    private void revertPendingChanges() {
+        restoreState(pendingDelta, true);
+        pendingDelta = new InventoryDelta();
+    }
+
+    /**
+     * Reverts the modifications in {@code delta} if {@code isUndo} is true, or reapplies them otherwise.
+     * Lists that {@code delta} did not modify are left untouched.
+     */
+    private void restoreState(InventoryDelta delta, boolean isUndo) {
+        isRestoringState = true;
+        try {
+            // lists are edited in place, so that only the entries that changed are replaced and reindexed
+            restoreList(delta.items, this::setItems, isUndo);
+            restoreList(delta.purchaseOrders, this::setPurchaseOrders, isUndo);
+            restoreList(delta.staffs, this::setStaffs, isUndo);
+            restoreList(delta.sales, this::setSaleList, isUndo);
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    /**
+     * Reverts the edits in {@code delta} through {@code editor} if {@code isUndo} is true, or reapplies them otherwise.
+     */
+    private static <T> void restoreList(ListDelta<T> delta, ListDelta.RangeEditor<T> editor, boolean isUndo) {
+        if (isUndo) {
+            delta.revert(editor);
+        } else {
+            delta.apply(editor);
+        }
     }
 
     /**
@@ -66,16 +190,15 @@ public class VersionedInventory extends Inventory {
      * Returns true if {@code redo()} has inventory states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < inventoryStateList.size() - 1;
+        return currentStatePointer < inventoryStateList.size();
     }
 
     /**
-     * Resets the initial state of inventory to the current final state.
+     * Resets the initial state of inventory to the current state, discarding the undo and redo history.
      */
     public void reset() {
-        ReadOnlyInventory finalState = inventoryStateList.get(currentStatePointer);
         inventoryStateList.clear();
-        inventoryStateList.add(finalState);
+        estimatedHistorySize = 0;
         currentStatePointer = 0;
     }
 
@@ -1,36 +1,61 @@
 package seedu.inventory.model.item;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Item}'s {@code quantity} or {@code price} matches any of the keywords given.
+ * Tests that a {@code Item}'s {@code quantity} and {@code price} lie within the ranges given by the conditions.
+ * Each condition bounds a range from below ('>') or above ('<'), and both bounds are inclusive.
+ * Prices are compared in cents.
  */
 public class FilterItemPredicate implements Predicate<Item> {
-    //private final List<String> keywords;
-    private Double price;
-    private Character priceCondition;
-    private Integer quantity;
-    private Character quantityCondition;
+    private long minPrice = Long.MIN_VALUE;
+    private long maxPrice = Long.MAX_VALUE;
+    private long minQuantity = Long.MIN_VALUE;
+    private long maxQuantity = Long.MAX_VALUE;
 
     public FilterItemPredicate(FilterPrice price) {
-        this.priceCondition = this.getFilterCondition(price.value);
-        this.price = Double.parseDouble(this.removeFirst(price.value));
-        this.quantityCondition = null;
-        this.quantity = null;
+        this(Collections.singletonList(price), Collections.emptyList());
     }
 
     public FilterItemPredicate(FilterQuantity quantity) {
-        this.quantityCondition = this.getFilterCondition(quantity.value);
-        this.quantity = Integer.parseInt(this.removeFirst(quantity.value));
-        this.priceCondition = null;
-        this.price = null;
+        this(Collections.emptyList(), Collections.singletonList(quantity));
     }
 
     public FilterItemPredicate(FilterPrice price, FilterQuantity quantity) {
-        this.priceCondition = this.getFilterCondition(price.value);
-        this.price = Double.parseDouble(this.removeFirst(price.value));
-        this.quantityCondition = this.getFilterCondition(quantity.value);
-        this.quantity = Integer.parseInt(this.removeFirst(quantity.value));
+        this(Collections.singletonList(price), Collections.singletonList(quantity));
+    }
+
+    /**
+     * Creates a predicate matching the items that satisfy all of the {@code prices} and {@code quantities}
+     * conditions, such that both sides of a range can be given, eg. '>10' and '<50'.
+     */
+    public FilterItemPredicate(List<FilterPrice> prices, List<FilterQuantity> quantities) {
+        requireNonNull(prices);
+        requireNonNull(quantities);
+
+        for (FilterPrice price : prices) {
+            long cents = Price.parseCents(removeFirst(price.value));
+            if (getFilterCondition(price.value) == '>') {
+                minPrice = Math.max(minPrice, cents);
+            } else {
+                maxPrice = Math.min(maxPrice, cents);
+            }
+        }
+
+        for (FilterQuantity quantity : quantities) {
+            int value = Integer.parseInt(removeFirst(quantity.value));
+            if (getFilterCondition(quantity.value) == '>') {
+                minQuantity = Math.max(minQuantity, value);
+            } else {
+                maxQuantity = Math.min(maxQuantity, value);
+            }
+        }
     }
 
     private char getFilterCondition(String s) {
@@ -43,59 +68,95 @@ public class FilterItemPredicate implements Predicate<Item> {
 
     @Override
     public boolean test(Item item) {
-        if (this.priceCondition != null && this.quantityCondition != null) {
-            if (this.priceCondition == '>' && this.quantityCondition == '>') {
-                return (Double.parseDouble(item.getPrice().value) >= this.price
-                        && Integer.parseInt(item.getQuantity().value) >= this.quantity);
-            } else if (this.priceCondition == '>' && this.quantityCondition == '<') {
-                return (Double.parseDouble(item.getPrice().value) >= this.price
-                        && Integer.parseInt(item.getQuantity().value) <= this.quantity);
-            } else if (this.priceCondition == '<' && this.quantityCondition == '<') {
-                return (Double.parseDouble(item.getPrice().value) <= this.price
-                        && Integer.parseInt(item.getQuantity().value) <= this.quantity);
-            } else {
-                return (Double.parseDouble(item.getPrice().value) <= this.price
-                        && Integer.parseInt(item.getQuantity().value) >= this.quantity);
-            }
-        } else if (this.priceCondition != null) {
-            if (this.priceCondition == '>') {
-                return Double.parseDouble(item.getPrice().value) >= this.price;
-            } else {
-                return Double.parseDouble(item.getPrice().value) <= this.price;
-            }
-        } else {
-            if (this.quantityCondition == '>') {
-                return Integer.parseInt(item.getQuantity().value) >= this.quantity;
-            } else {
-                return Integer.parseInt(item.getQuantity().value) <= this.quantity;
-            }
+        long cents = item.getPrice().getCents();
+        long quantity = item.getQuantity().getIntValue();
+        return minPrice <= cents && cents <= maxPrice
+                && minQuantity <= quantity && quantity <= maxQuantity;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one for the items indexed by {@code priceIndex} and
+     * {@code quantityIndex}. The items in range are found by range scans over the indexes, intersected when both
+     * price and quantity are bounded, and found again only after the indexes change.
+     */
+    public Predicate<Item> usingIndex(ItemRangeIndex priceIndex, ItemRangeIndex quantityIndex) {
+        requireAllNonNull(priceIndex, quantityIndex);
+        if (!isPriceBounded() && !isQuantityBounded()) {
+            return this;
         }
+        return new IndexedPredicate(priceIndex, quantityIndex);
+    }
+
+    private boolean isPriceBounded() {
+        return minPrice != Long.MIN_VALUE || maxPrice != Long.MAX_VALUE;
+    }
+
+    private boolean isQuantityBounded() {
+        return minQuantity != Long.MIN_VALUE || maxQuantity != Long.MAX_VALUE;
     }
 
     @Override
     public boolean equals(Object other) {
-        if (price != null && quantity != null) {
-            return other == this // short circuit if same object
-                    || (other instanceof FilterItemPredicate // instanceof handles nulls
-                    && price.equals(((FilterItemPredicate) other).price) // state check
-                    && priceCondition.equals(((FilterItemPredicate) other).priceCondition)
-                    && quantity.equals(((FilterItemPredicate) other).quantity)
-                    && quantityCondition.equals(((FilterItemPredicate) other).quantityCondition));
-        } else if (price != null) {
-            return other == this // short circuit if same object
-                    || (other instanceof FilterItemPredicate // instanceof handles nulls
-                    && price.equals(((FilterItemPredicate) other).price) // state check
-                    && priceCondition.equals(((FilterItemPredicate) other).priceCondition)
-                    && (((FilterItemPredicate) other).quantity) == (quantity)
-                    && (((FilterItemPredicate) other).quantityCondition) == (quantityCondition));
-        } else {
-            return other == this // short circuit if same object
-                    || (other instanceof FilterItemPredicate // instanceof handles nulls
-                    && (((FilterItemPredicate) other).price) == (price) // state check
-                    && (((FilterItemPredicate) other).priceCondition) == (priceCondition)
-                    && quantity.equals(((FilterItemPredicate) other).quantity)
-                    && quantityCondition.equals(((FilterItemPredicate) other).quantityCondition));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof FilterItemPredicate)) { // instanceof handles nulls
+            return false;
         }
+
+        FilterItemPredicate otherPredicate = (FilterItemPredicate) other;
+        return minPrice == otherPredicate.minPrice
+                && maxPrice == otherPredicate.maxPrice
+                && minQuantity == otherPredicate.minQuantity
+                && maxQuantity == otherPredicate.maxQuantity;
     }
 
+    /**
+     * Tests items against the items found in range in the price and quantity indexes.
+     */
+    private class IndexedPredicate implements Predicate<Item> {
+        private final ItemRangeIndex priceIndex;
+        private final ItemRangeIndex quantityIndex;
+        private long priceIndexModificationCount = -1;
+        private long quantityIndexModificationCount = -1;
+        private Set<Item> matchingItems;
+
+        IndexedPredicate(ItemRangeIndex priceIndex, ItemRangeIndex quantityIndex) {
+            this.priceIndex = priceIndex;
+            this.quantityIndex = quantityIndex;
+        }
+
+        @Override
+        public boolean test(Item item) {
+            if (priceIndexModificationCount != priceIndex.getModificationCount()
+                    || quantityIndexModificationCount != quantityIndex.getModificationCount()) {
+                matchingItems = findMatchingItems();
+                priceIndexModificationCount = priceIndex.getModificationCount();
+                quantityIndexModificationCount = quantityIndex.getModificationCount();
+            }
+            return matchingItems.contains(item);
+        }
+
+        /**
+         * Returns the items in range in the indexes, scanning only the indexes of the bounded attributes.
+         */
+        private Set<Item> findMatchingItems() {
+            if (!isQuantityBounded()) {
+                return priceIndex.getItemsInRange(minPrice, maxPrice);
+            }
+            if (!isPriceBounded()) {
+                return quantityIndex.getItemsInRange(minQuantity, maxQuantity);
+            }
+
+            Set<Item> itemsInPriceRange = priceIndex.getItemsInRange(minPrice, maxPrice);
+            Set<Item> itemsInQuantityRange = quantityIndex.getItemsInRange(minQuantity, maxQuantity);
+            if (itemsInPriceRange.size() <= itemsInQuantityRange.size()) {
+                itemsInPriceRange.retainAll(itemsInQuantityRange);
+                return itemsInPriceRange;
+            }
+            itemsInQuantityRange.retainAll(itemsInPriceRange);
+            return itemsInQuantityRange;
+        }
+    }
 }
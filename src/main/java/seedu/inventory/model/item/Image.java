@@ -3,9 +3,9 @@ package seedu.inventory.model.item;
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.commons.util.AppUtil.checkArgument;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Optional;
 
 /**
  * Represents an Item's image in the inventory.
@@ -40,18 +40,10 @@ public class Image {
      */
     public static boolean isValidImage(String test) {
         if (test.matches(IMAGE_VALIDATION_REGEX)) {
-            File file = new File(test);
+            Optional<ImageMetadata> metadata = getFileMetadata(test);
 
-            if (file.exists()) {
-                try {
-                    String mimeType = Files.probeContentType(file.toPath());
-
-                    return (mimeType != null && mimeType.split("/")[0].equals("image"));
-                } catch (IOException e) {
-                    e.printStackTrace();
-
-                    return false;
-                }
+            if (metadata.isPresent()) {
+                return metadata.get().isImage();
             } else {
                 return (Image.class.getResource(test) != null && (test.endsWith("png") || test.endsWith("jpg")));
             }
@@ -60,6 +52,18 @@ public class Image {
         }
     }
 
+    /**
+     * Returns the metadata of the file at {@code path}, which is only probed if it changed since it was last
+     * probed, or an empty optional if there is no such file.
+     */
+    private static Optional<ImageMetadata> getFileMetadata(String path) {
+        try {
+            return ImageMetadataCache.getInstance().getMetadata(Paths.get(path));
+        } catch (InvalidPathException ipe) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,89 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents what is known of an image file: its size and last modified time when its content type was probed,
+ * and the content type found then.
+ * Guarantees: immutable
+ */
+public class ImageMetadata {
+
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    private final String mimeType;
+
+    /**
+     * Every field except {@code mimeType}, which is null if the content type is not known, must be present.
+     */
+    public ImageMetadata(String path, long size, long lastModified, String mimeType) {
+        requireNonNull(path);
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.mimeType = mimeType;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the last modified time of the file, in milliseconds since the epoch.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Returns true if the content type of the file is an image type.
+     */
+    public boolean isImage() {
+        return mimeType != null && mimeType.split("/")[0].equals("image");
+    }
+
+    /**
+     * Returns true if a file of the given size and last modified time is the file as it was when probed.
+     */
+    public boolean isUnchanged(long size, long lastModified) {
+        return this.size == size && this.lastModified == lastModified;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ImageMetadata)) {
+            return false;
+        }
+
+        ImageMetadata otherMetadata = (ImageMetadata) other;
+        return path.equals(otherMetadata.path)
+                && size == otherMetadata.size
+                && lastModified == otherMetadata.lastModified
+                && Objects.equals(mimeType, otherMetadata.mimeType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, size, lastModified, mimeType);
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + mimeType + ", " + size + " bytes)";
+    }
+}
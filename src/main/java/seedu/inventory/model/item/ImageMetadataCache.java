@@ -0,0 +1,140 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+
+/**
+ * Remembers the content type of image files, so that an image is only probed again once it changes.
+ * The size and last modified time of a file are read each time it is looked up, and its content type is probed
+ * again only if they differ from the ones it had when last probed.
+ */
+public class ImageMetadataCache {
+
+    private static final Logger logger = LogsCenter.getLogger(ImageMetadataCache.class);
+
+    private static ImageMetadataCache instance;
+
+    private final Map<String, ImageMetadata> entries = new ConcurrentHashMap<>();
+    private volatile boolean isChanged;
+
+    public static synchronized ImageMetadataCache getInstance() {
+        if (instance == null) {
+            instance = new ImageMetadataCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the metadata of the file at {@code file}, or an empty optional if there is no such file.
+     */
+    public Optional<ImageMetadata> getMetadata(Path file) {
+        requireNonNull(file);
+
+        String key = toKey(file);
+        return check(file, key, entries.get(key));
+    }
+
+    /**
+     * Probes every known file again, changed or not, and forgets the files that no longer exist.
+     * Returns the number of files probed.
+     */
+    public int revalidate() {
+        int probed = 0;
+        for (String key : new ArrayList<>(entries.keySet())) {
+            if (check(Paths.get(key), key, null).isPresent()) {
+                probed++;
+            }
+        }
+        logger.info("Revalidated " + probed + " image files");
+        return probed;
+    }
+
+    /**
+     * Replaces the known files with {@code metadata}, as read from the hard disk.
+     */
+    public void load(Collection<ImageMetadata> metadata) {
+        requireNonNull(metadata);
+
+        entries.clear();
+        metadata.forEach(entry -> entries.put(entry.getPath(), entry));
+        isChanged = false;
+    }
+
+    /**
+     * Returns the metadata of the known files.
+     */
+    public List<ImageMetadata> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Returns true if the known files changed since they were last loaded or saved.
+     */
+    public boolean isChanged() {
+        return isChanged;
+    }
+
+    /**
+     * Marks the known files as saved.
+     */
+    public void markSaved() {
+        isChanged = false;
+    }
+
+    /**
+     * Returns the metadata of {@code file}, probing it if it changed since {@code cached} was taken or if there is no
+     * {@code cached} metadata.
+     */
+    private Optional<ImageMetadata> check(Path file, String key, ImageMetadata cached) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException ioe) {
+            if (entries.remove(key) != null) {
+                isChanged = true;
+            }
+            return Optional.empty();
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        ImageMetadata metadata = cached;
+        if (metadata == null || !metadata.isUnchanged(size, lastModified)) {
+            metadata = new ImageMetadata(key, size, lastModified, probeContentType(file));
+            if (!metadata.equals(entries.put(key, metadata))) {
+                isChanged = true;
+            }
+        }
+        return Optional.of(metadata);
+    }
+
+    /**
+     * Returns the content type of {@code file}, or null if it cannot be determined.
+     */
+    private static String probeContentType(Path file) {
+        try {
+            return Files.probeContentType(file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to probe the content type of " + file + ": " + ioe);
+            return null;
+        }
+    }
+
+    private static String toKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+}
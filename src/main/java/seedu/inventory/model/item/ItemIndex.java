@@ -0,0 +1,39 @@
+package seedu.inventory.model.item;
+
+/**
+ * A secondary index over the items of a {@code UniqueItemList}.
+ * The list keeps its indexes in sync by notifying them of every item it adds or removes.
+ */
+abstract class ItemIndex {
+
+    private long modificationCount;
+
+    /**
+     * Returns a counter that is incremented every time the index is modified.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records that the index has been modified.
+     */
+    protected void markModified() {
+        modificationCount++;
+    }
+
+    /**
+     * Indexes {@code item}, which has just been added to the list.
+     */
+    abstract void add(Item item);
+
+    /**
+     * Removes {@code item}, which has just been removed from the list, from the index.
+     */
+    abstract void remove(Item item);
+
+    /**
+     * Removes all items from the index.
+     */
+    abstract void clear();
+}
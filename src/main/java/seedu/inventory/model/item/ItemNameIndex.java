@@ -0,0 +1,68 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased words in item names to the items whose name contains them.
+ * Items are held by identity, as an item in a {@code UniqueItemList} is never equal to another item in the list.
+ */
+public class ItemNameIndex extends ItemIndex {
+
+    private final Map<String, Set<Item>> postings = new HashMap<>();
+
+    @Override
+    void add(Item item) {
+        markModified();
+        for (String word : getWords(item)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    @Override
+    void remove(Item item) {
+        markModified();
+        for (String word : getWords(item)) {
+            Set<Item> items = postings.get(word);
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        markModified();
+        postings.clear();
+    }
+
+    /**
+     * Returns the items whose name contains {@code word} as a full word, ignoring case.
+     */
+    public Set<Item> getItemsWithWord(String word) {
+        requireNonNull(word);
+        Set<Item> items = postings.get(word.toLowerCase());
+        return items == null ? Collections.emptySet() : Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Returns true if the name of {@code item} contains {@code word} as a full word, ignoring case.
+     */
+    public boolean hasWord(Item item, String word) {
+        requireNonNull(word);
+        Set<Item> items = postings.get(word.toLowerCase());
+        return items != null && items.contains(item);
+    }
+
+    private static String[] getWords(Item item) {
+        return item.getName().fullName.toLowerCase().split("\\s+");
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sorted index of items by a numeric attribute, such as their price in cents or their quantity, so that the items
+ * whose attribute lies in a range are found by a range scan instead of testing every item.
+ */
+public class ItemRangeIndex extends ItemIndex {
+
+    private final ToLongFunction<Item> keyExtractor;
+    private final NavigableMap<Long, Set<Item>> items = new TreeMap<>();
+
+    ItemRangeIndex(ToLongFunction<Item> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    @Override
+    void add(Item item) {
+        markModified();
+        items.computeIfAbsent(keyExtractor.applyAsLong(item), unused -> newItemSet()).add(item);
+    }
+
+    @Override
+    void remove(Item item) {
+        markModified();
+        long key = keyExtractor.applyAsLong(item);
+        Set<Item> itemsWithKey = items.get(key);
+        if (itemsWithKey != null) {
+            itemsWithKey.remove(item);
+            if (itemsWithKey.isEmpty()) {
+                items.remove(key);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        markModified();
+        items.clear();
+    }
+
+    /**
+     * Returns the items whose attribute lies between {@code min} and {@code max}, both inclusive.
+     * Returns no items if {@code min} is greater than {@code max}.
+     */
+    public Set<Item> getItemsInRange(long min, long max) {
+        Set<Item> itemsInRange = newItemSet();
+        if (min <= max) {
+            items.subMap(min, true, max, true).values().forEach(itemsInRange::addAll);
+        }
+        return itemsInRange;
+    }
+
+    private static Set<Item> newItemSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
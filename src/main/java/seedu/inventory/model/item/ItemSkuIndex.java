@@ -0,0 +1,219 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Indexes items by the fragments of their lower-cased SKU, so that the items whose SKU contains a fragment can be
+ * found without testing every item.
+ *
+ * Each lower-cased SKU is kept once in a sorted map, under a small id. SKUs are indexed by their trigrams, each
+ * trigram holding the sorted ids of the SKUs containing it; the SKUs containing a fragment of at least three
+ * characters are among the SKUs holding all of its trigrams, which are found by intersecting a few id arrays.
+ * Shorter fragments are looked for by scanning the SKUs.
+ */
+public class ItemSkuIndex extends ItemIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    // SKUs that differ only in case share an entry
+    private final NavigableMap<String, SkuEntry> skus = new TreeMap<>();
+    private final List<SkuEntry> entriesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<String, Postings> trigrams = new HashMap<>();
+
+    @Override
+    void add(Item item) {
+        markModified();
+        String sku = toIndexKey(item);
+        SkuEntry entry = skus.get(sku);
+        if (entry == null) {
+            entry = new SkuEntry(allocateId(), sku);
+            entriesById.set(entry.id, entry);
+            skus.put(sku, entry);
+            // a trigram occurring more than once in the SKU is only added once to its postings
+            for (int i = 0; i + GRAM_LENGTH <= sku.length(); i++) {
+                trigrams.computeIfAbsent(sku.substring(i, i + GRAM_LENGTH), unused -> new Postings()).add(entry.id);
+            }
+        }
+        entry.items.add(item);
+    }
+
+    @Override
+    void remove(Item item) {
+        markModified();
+        String sku = toIndexKey(item);
+        SkuEntry entry = skus.get(sku);
+        if (entry == null || !entry.items.removeIf(indexedItem -> indexedItem == item) || !entry.items.isEmpty()) {
+            return;
+        }
+
+        skus.remove(sku);
+        for (String trigram : getTrigrams(sku)) {
+            Postings postings = trigrams.get(trigram);
+            postings.remove(entry.id);
+            if (postings.isEmpty()) {
+                trigrams.remove(trigram);
+            }
+        }
+        entriesById.set(entry.id, null);
+        freeIds.push(entry.id);
+    }
+
+    @Override
+    void clear() {
+        markModified();
+        skus.clear();
+        entriesById.clear();
+        freeIds.clear();
+        trigrams.clear();
+    }
+
+    /**
+     * Returns the items whose SKU contains {@code fragment}, ignoring case.
+     */
+    public Set<Item> getItemsContaining(String fragment) {
+        requireNonNull(fragment);
+        String key = fragment.toLowerCase();
+        Set<Item> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (key.length() < GRAM_LENGTH) {
+            for (SkuEntry entry : skus.values()) {
+                if (entry.sku.contains(key)) {
+                    items.addAll(entry.items);
+                }
+            }
+            return items;
+        }
+
+        List<Postings> postings = new ArrayList<>();
+        for (String trigram : getTrigrams(key)) {
+            Postings trigramPostings = trigrams.get(trigram);
+            if (trigramPostings == null) {
+                return items;
+            }
+            postings.add(trigramPostings);
+        }
+        postings.sort(Comparator.comparingInt(Postings::size));
+
+        // the smallest postings bound the candidates, which must still be checked for the whole fragment
+        Postings candidates = postings.get(0);
+        for (int i = 0; i < candidates.size(); i++) {
+            int id = candidates.get(i);
+            SkuEntry entry = entriesById.get(id);
+            if (postings.stream().allMatch(posting -> posting.contains(id)) && entry.sku.contains(key)) {
+                items.addAll(entry.items);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Returns an id that is not held by any SKU, reusing the ids of removed SKUs first.
+     */
+    private int allocateId() {
+        if (!freeIds.isEmpty()) {
+            return freeIds.pop();
+        }
+        entriesById.add(null);
+        return entriesById.size() - 1;
+    }
+
+    private static List<String> getTrigrams(String key) {
+        return IntStream.rangeClosed(0, key.length() - GRAM_LENGTH)
+                .mapToObj(i -> key.substring(i, i + GRAM_LENGTH))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static String toIndexKey(Item item) {
+        return item.getSku().value.toLowerCase();
+    }
+
+    /**
+     * A lower-cased SKU, with the id it is indexed under and the items holding it.
+     */
+    private static class SkuEntry {
+        private final int id;
+        private final String sku;
+        private final List<Item> items = new ArrayList<>(1);
+
+        SkuEntry(int id, String sku) {
+            this.id = id;
+            this.sku = sku;
+        }
+    }
+
+    /**
+     * The ids of the SKUs holding a trigram, in ascending order.
+     */
+    private static class Postings {
+        private int[] ids = new int[1];
+        private int size;
+
+        /**
+         * Adds {@code id} in order, if it is not already held.
+         */
+        void add(int id) {
+            // ids are mostly added in ascending order, when the index is built
+            int insertionPoint = size;
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insertionPoint = -index - 1;
+            }
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+            ids[insertionPoint] = id;
+            size++;
+        }
+
+        /**
+         * Removes {@code id}, if it is held.
+         */
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        int get(int index) {
+            return ids[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.inventory.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.inventory.model.tag.Tag;
+
+/**
+ * The quantities at or below which items are considered low on stock.
+ * A threshold set for an item's SKU takes precedence over the thresholds set for its tags, and the highest of the
+ * thresholds set for its tags takes precedence over the default threshold.
+ * Guarantees: immutable; thresholds are non-negative.
+ */
+public class LowStockThresholds {
+
+    public static final int DEFAULT_THRESHOLD = 10;
+
+    public static final String MESSAGE_THRESHOLD_CONSTRAINTS = "Low stock thresholds should not be negative.";
+
+    private final int defaultThreshold;
+    private final Map<String, Integer> tagThresholds;
+    private final Map<String, Integer> skuThresholds;
+
+    public LowStockThresholds() {
+        this(DEFAULT_THRESHOLD, new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Every field must be present and not null, and every threshold must be non-negative.
+     *
+     * @param tagThresholds thresholds keyed by tag name.
+     * @param skuThresholds thresholds keyed by SKU.
+     */
+    public LowStockThresholds(int defaultThreshold, Map<String, Integer> tagThresholds,
+                              Map<String, Integer> skuThresholds) {
+        requireNonNull(tagThresholds);
+        requireNonNull(skuThresholds);
+        checkArgument(defaultThreshold >= 0, MESSAGE_THRESHOLD_CONSTRAINTS);
+        checkArgument(tagThresholds.values().stream().allMatch(threshold -> threshold >= 0),
+                MESSAGE_THRESHOLD_CONSTRAINTS);
+        checkArgument(skuThresholds.values().stream().allMatch(threshold -> threshold >= 0),
+                MESSAGE_THRESHOLD_CONSTRAINTS);
+
+        this.defaultThreshold = defaultThreshold;
+        this.tagThresholds = new HashMap<>(tagThresholds);
+        this.skuThresholds = new HashMap<>(skuThresholds);
+    }
+
+    /**
+     * Returns the quantity at or below which {@code item} is considered low on stock.
+     */
+    public int getThreshold(Item item) {
+        Integer skuThreshold = skuThresholds.get(item.getSku().value);
+        if (skuThreshold != null) {
+            return skuThreshold;
+        }
+
+        int threshold = -1;
+        for (Tag tag : item.getTags()) {
+            threshold = Math.max(threshold, tagThresholds.getOrDefault(tag.tagName, -1));
+        }
+        return threshold == -1 ? defaultThreshold : threshold;
+    }
+
+    /**
+     * Returns true if {@code item} is low on stock.
+     */
+    public boolean isLowStock(Item item) {
+        return item.getQuantity().getIntValue() <= getThreshold(item);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LowStockThresholds)) {
+            return false;
+        }
+
+        LowStockThresholds otherThresholds = (LowStockThresholds) other;
+        return defaultThreshold == otherThresholds.defaultThreshold
+                && tagThresholds.equals(otherThresholds.tagThresholds)
+                && skuThresholds.equals(otherThresholds.skuThresholds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(defaultThreshold, tagThresholds, skuThresholds);
+    }
+}
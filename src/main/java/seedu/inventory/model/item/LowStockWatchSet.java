@@ -0,0 +1,110 @@
+package seedu.inventory.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The items that are low on stock according to a set of {@code LowStockThresholds}.
+ *
+ * As the set is updated item by item, it also records which items crossed their threshold since the crossings were
+ * last taken. An item that is replaced by another with the same SKU only crosses its threshold if exactly one of
+ * them is low on stock, so re-adding an item, or editing a low item without restocking it, is not a crossing.
+ */
+public class LowStockWatchSet extends ItemIndex {
+
+    private LowStockThresholds thresholds = new LowStockThresholds();
+    private final Set<Item> lowStockItems = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Items that became low on stock, keyed by SKU. */
+    private final Map<String, Item> itemsNowLow = new LinkedHashMap<>();
+
+    /** Items that are no longer low on stock, either restocked or removed, keyed by SKU. */
+    private final Map<String, Item> itemsNoLongerLow = new LinkedHashMap<>();
+
+    @Override
+    void add(Item item) {
+        markModified();
+        String sku = item.getSku().value;
+        if (thresholds.isLowStock(item)) {
+            lowStockItems.add(item);
+            if (itemsNoLongerLow.remove(sku) == null) {
+                itemsNowLow.put(sku, item);
+            }
+        } else {
+            itemsNoLongerLow.replace(sku, item);
+        }
+    }
+
+    @Override
+    void remove(Item item) {
+        markModified();
+        if (lowStockItems.remove(item)) {
+            recordNoLongerLow(item);
+        }
+    }
+
+    @Override
+    void clear() {
+        markModified();
+        lowStockItems.forEach(this::recordNoLongerLow);
+        lowStockItems.clear();
+    }
+
+    /**
+     * Records that {@code item}, which was low on stock, has left the set.
+     */
+    private void recordNoLongerLow(Item item) {
+        String sku = item.getSku().value;
+        if (itemsNowLow.remove(sku) == null) {
+            itemsNoLongerLow.put(sku, item);
+        }
+    }
+
+    /**
+     * Replaces the thresholds with {@code thresholds}, and re-evaluates {@code items} against them.
+     * {@code items} must be the items held by the list this set watches.
+     */
+    void setThresholds(LowStockThresholds thresholds, List<Item> items) {
+        requireNonNull(thresholds);
+        this.thresholds = thresholds;
+        clear();
+        items.forEach(this::add);
+    }
+
+    public LowStockThresholds getThresholds() {
+        return thresholds;
+    }
+
+    /**
+     * Returns true if {@code item} is in the list and low on stock.
+     */
+    public boolean contains(Item item) {
+        return lowStockItems.contains(item);
+    }
+
+    /**
+     * Returns the items that became low on stock since the last call, and forgets them.
+     */
+    public List<Item> takeItemsNowLow() {
+        List<Item> items = new ArrayList<>(itemsNowLow.values());
+        itemsNowLow.clear();
+        return items;
+    }
+
+    /**
+     * Returns the items that are no longer low on stock since the last call, and forgets them.
+     * Items that were removed from the list are returned as they were before their removal.
+     */
+    public List<Item> takeItemsNoLongerLow() {
+        List<Item> items = new ArrayList<>(itemsNoLongerLow.values());
+        itemsNoLongerLow.clear();
+        return items;
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.inventory.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents an Item's price in the inventory.
+ * The price is held as a whole number of cents, so that comparisons and arithmetic on prices are exact.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
  */
 public class Price {
@@ -22,6 +23,8 @@ public class Price {
     public static final String PRICE_VALIDATION_REGEX = "^\\d{1,8}(\\.\\d{1,2})?$";
     public final String value;
 
+    private final long cents;
+
     /**
      * Constructs a {@code Price}.
      *
@@ -30,7 +33,38 @@ public class Price {
     public Price(String price) {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_PRICE_CONSTRAINTS);
-        value = String.format("%.2f", Double.parseDouble(price));
+        cents = parseCents(price);
+        value = formatCents(cents);
+    }
+
+    /**
+     * Returns the price in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the number of cents in {@code price}, which must be a number with at most 2 decimal places.
+     */
+    public static long parseCents(String price) {
+        int decimalPoint = price.indexOf('.');
+        if (decimalPoint == -1) {
+            return Long.parseLong(price) * 100;
+        }
+
+        String fraction = price.substring(decimalPoint + 1);
+        long fractionCents = Long.parseLong(fraction) * (fraction.length() == 1 ? 10 : 1);
+        return Long.parseLong(price.substring(0, decimalPoint)) * 100 + fractionCents;
+    }
+
+    /**
+     * Returns {@code cents} formatted as an amount with 2 decimal places, e.g. {@code 1250} as "12.50".
+     */
+    public static String formatCents(long cents) {
+        long fractionCents = Math.abs(cents % 100);
+        return (cents < 0 && cents > -100 ? "-" : "") + (cents / 100) + (fractionCents < 10 ? ".0" : ".")
+                + fractionCents;
     }
 
     /**
@@ -49,12 +83,12 @@ public class Price {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Price // instanceof handles nulls
-                && value.equals(((Price) other).value)); // state check
+                && cents == ((Price) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
@@ -5,6 +5,7 @@ import static seedu.inventory.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents an Item's quantity in the inventory.
+ * The quantity is parsed once on construction and held as an {@code int}.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuantity(String)}
  */
 public class Quantity {
@@ -16,6 +17,8 @@ public class Quantity {
     public static final String QUANTITY_VALIDATION_REGEX = "\\d{1,}";
     public final String value;
 
+    private final int intValue;
+
     /**
      * Constructs a {@code Quantity}.
      *
@@ -25,7 +28,23 @@ public class Quantity {
         requireNonNull(quantity);
         checkArgument(isValidQuantity(quantity), MESSAGE_QUANTITY_CONSTRAINTS);
         checkArgument(isNotOverflowInteger(quantity), MESSAGE_QUANTITY_CONSTRAINTS);
-        value = quantity.replaceFirst("^0+(?!$)", "");
+        intValue = Integer.parseInt(quantity);
+        value = Integer.toString(intValue);
+    }
+
+    /**
+     * Constructs a {@code Quantity}.
+     *
+     * @param quantity A quantity that is not negative.
+     */
+    public Quantity(int quantity) {
+        checkArgument(quantity >= 0, MESSAGE_QUANTITY_CONSTRAINTS);
+        intValue = quantity;
+        value = Integer.toString(quantity);
+    }
+
+    public int getIntValue() {
+        return intValue;
     }
 
     /**
@@ -57,12 +76,12 @@ public class Quantity {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Quantity // instanceof handles nulls
-                && value.equals(((Quantity) other).value)); // state check
+                && intValue == ((Quantity) other).intValue); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(intValue);
     }
 
 }
@@ -1,6 +1,11 @@
 package seedu.inventory.model.item;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.inventory.commons.util.StringUtil;
@@ -21,6 +26,15 @@ public class SkuContainsKeywordsPredicate implements Predicate<Item> {
                 .anyMatch(keyword -> StringUtil.containsAnyWordIgnoreCase(item.getSku().toString(), keyword));
     }
 
+    /**
+     * Returns a predicate equivalent to this one for the items indexed by {@code index}.
+     * The items matching the keywords are looked up in the index, and looked up again only after the index changes.
+     */
+    public Predicate<Item> usingIndex(ItemSkuIndex index) {
+        requireNonNull(index);
+        return new IndexedPredicate(index);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -28,4 +42,26 @@ public class SkuContainsKeywordsPredicate implements Predicate<Item> {
                 && keywords.equals(((SkuContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    /**
+     * Tests items against the union of the items found in an {@code ItemSkuIndex} for each keyword.
+     */
+    private class IndexedPredicate implements Predicate<Item> {
+        private final ItemSkuIndex index;
+        private long indexModificationCount = -1;
+        private Set<Item> matchingItems;
+
+        IndexedPredicate(ItemSkuIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Item item) {
+            if (indexModificationCount != index.getModificationCount()) {
+                matchingItems = Collections.newSetFromMap(new IdentityHashMap<>());
+                keywords.forEach(keyword -> matchingItems.addAll(index.getItemsContaining(keyword.trim())));
+                indexModificationCount = index.getModificationCount();
+            }
+            return matchingItems.contains(item);
+        }
+    }
 }
@@ -3,9 +3,16 @@ package seedu.inventory.model.item;
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +26,11 @@ import seedu.inventory.model.item.exceptions.ItemNotFoundException;
  * unique in terms of identity in the UniqueItemList. However, the removal of a item uses Item#equals(Object) so
  * as to ensure that the item with exactly the same fields will be removed.
  *
+ * Items are also indexed by their case-normalised SKU, so that identity checks and SKU lookups do not need
+ * to scan the whole list. Secondary indexes, such as the {@code ItemNameIndex}, are notified of every item added
+ * to or removed from the list. All indexes are updated before the backing list on every mutation, so that
+ * listeners of the list, such as filtered views, see indexes that are consistent with the change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Item#isSameItem(Item)
@@ -27,24 +39,56 @@ public class UniqueItemList implements Iterable<Item> {
 
     private final ObservableList<Item> internalList = FXCollections.observableArrayList();
 
+    /**
+     * Maps a lower-cased SKU to the items whose SKU matches it case-insensitively.
+     * As SKUs are case-sensitive, a bucket may hold more than one item, but it usually holds exactly one.
+     */
+    private Map<String, List<Item>> skuIndex = new HashMap<>();
+
+    private final ItemNameIndex nameIndex = new ItemNameIndex();
+    private final ItemSkuIndex skuFragmentIndex = new ItemSkuIndex();
+    private final ItemRangeIndex priceIndex = new ItemRangeIndex(item -> item.getPrice().getCents());
+    private final ItemRangeIndex quantityIndex = new ItemRangeIndex(item -> item.getQuantity().getIntValue());
+    private final LowStockWatchSet lowStockWatchSet = new LowStockWatchSet();
+    private final List<ItemIndex> secondaryIndexes =
+            Arrays.asList(nameIndex, skuFragmentIndex, priceIndex, quantityIndex, lowStockWatchSet);
+
+    public UniqueItemList() {}
+
+    /**
+     * Creates a list holding {@code items}, building its SKU index in the same pass that checks for duplicates.
+     * {@code items} must not contain duplicate items.
+     */
+    public UniqueItemList(List<Item> items) {
+        setItems(items);
+    }
+
     /**
      * Returns true if the list contains an equivalent item as the given argument.
      */
     public boolean contains(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameItem);
+        return findSameItem(toCheck) != null;
     }
 
     /**
      * Returns the item if Sku matches.
+     * An item with exactly the same SKU is preferred over one that only matches case-insensitively.
      */
     public Item getItemBySku(String sku) {
         requireNonNull(sku);
 
-        Optional<Item> searchItem = internalList.stream().filter(item -> item.getSku().toString().equalsIgnoreCase(sku))
-                .findFirst();
+        List<Item> bucket = skuIndex.get(toIndexKey(sku));
+        if (bucket == null) {
+            return null;
+        }
 
-        return searchItem.orElse(null);
+        for (Item item : bucket) {
+            if (item.getSku().value.equals(sku)) {
+                return item;
+            }
+        }
+        return bucket.get(0);
     }
 
     /**
@@ -56,6 +100,7 @@ public class UniqueItemList implements Iterable<Item> {
         if (contains(toAdd)) {
             throw new DuplicateItemException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -76,6 +121,8 @@ public class UniqueItemList implements Iterable<Item> {
             throw new DuplicateItemException();
         }
 
+        removeFromIndex(internalList.get(index));
+        addToIndex(editedItem);
         internalList.set(index, editedItem);
     }
 
@@ -85,13 +132,17 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public void remove(Item toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ItemNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setItems(UniqueItemList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -101,13 +152,120 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public void setItems(List<Item> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
-            throw new DuplicateItemException();
+        Map<String, List<Item>> newIndex = new HashMap<>();
+        Set<String> duplicateSkus = indexUniqueItems(items, newIndex);
+        if (!duplicateSkus.isEmpty()) {
+            throw new DuplicateItemException(duplicateSkus);
         }
 
+        skuIndex = newIndex;
+        rebuildSecondaryIndexes(items);
         internalList.setAll(items);
     }
 
+    /**
+     * Replaces the items from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code items}. Only the replaced items and {@code items} are removed from and added to the indexes.
+     * {@code items} must not contain duplicate items, or items with the same identity as an item outside the range.
+     */
+    public void setItems(int fromIndex, int toIndex, List<Item> items) {
+        requireAllNonNull(items);
+        List<Item> replacedItems = internalList.subList(fromIndex, toIndex);
+        Set<Item> replacedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        replacedSet.addAll(replacedItems);
+
+        Set<String> duplicateSkus = indexUniqueItems(items, new HashMap<>());
+        for (Item item : items) {
+            Item sameItem = findSameItem(item);
+            if (sameItem != null && !replacedSet.contains(sameItem)) {
+                duplicateSkus.add(item.getSku().value);
+            }
+        }
+        if (!duplicateSkus.isEmpty()) {
+            throw new DuplicateItemException(duplicateSkus);
+        }
+
+        replacedSet.forEach(this::removeFromIndex);
+        items.forEach(this::addToIndex);
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, items);
+    }
+
+    /**
+     * Merges {@code items} into this list, joining them against the items in the list by SKU.
+     * Items with a SKU that is not in the list are added at the end, and items that differ from the item in the list
+     * with the same SKU replace it in place. Items that are already in the list are left as they are, so that views
+     * of the list are only notified of the items that changed.
+     * {@code items} must not contain duplicate items.
+     *
+     * @return the number of items that were added or replaced.
+     */
+    public int mergeItems(List<Item> items) {
+        requireAllNonNull(items);
+        Set<String> duplicateSkus = indexUniqueItems(items, new HashMap<>());
+        if (!duplicateSkus.isEmpty()) {
+            throw new DuplicateItemException(duplicateSkus);
+        }
+
+        List<Item> addedItems = new ArrayList<>();
+        Map<Item, Item> changedItems = new IdentityHashMap<>();
+        for (Item item : items) {
+            Item sameItem = findSameItem(item);
+            if (sameItem == null) {
+                addedItems.add(item);
+            } else if (!sameItem.equals(item)) {
+                changedItems.put(sameItem, item);
+            }
+        }
+
+        replaceItems(changedItems);
+        addedItems.forEach(this::addToIndex);
+        internalList.addAll(addedItems);
+        return addedItems.size() + changedItems.size();
+    }
+
+    /**
+     * Returns the index of the words in the names of the items in this list.
+     */
+    public ItemNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns the index of the fragments of the SKUs of the items in this list.
+     */
+    public ItemSkuIndex getSkuFragmentIndex() {
+        return skuFragmentIndex;
+    }
+
+    /**
+     * Returns the index of the items in this list by their price in cents.
+     */
+    public ItemRangeIndex getPriceIndex() {
+        return priceIndex;
+    }
+
+    /**
+     * Returns the index of the items in this list by their quantity.
+     */
+    public ItemRangeIndex getQuantityIndex() {
+        return quantityIndex;
+    }
+
+    /**
+     * Returns the set of the items in this list that are low on stock.
+     */
+    public LowStockWatchSet getLowStockWatchSet() {
+        return lowStockWatchSet;
+    }
+
+    /**
+     * Replaces the thresholds at which items in this list are considered low on stock.
+     */
+    public void setLowStockThresholds(LowStockThresholds thresholds) {
+        lowStockWatchSet.setThresholds(thresholds, internalList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -133,16 +291,105 @@ public class UniqueItemList implements Iterable<Item> {
     }
 
     /**
-     * Returns true if {@code items} contains only unique items.
+     * Returns the item in the list with the same identity as {@code toCheck}, or null if there is none.
+     */
+    private Item findSameItem(Item toCheck) {
+        List<Item> bucket = skuIndex.get(toIndexKey(toCheck.getSku().value));
+        if (bucket == null) {
+            return null;
+        }
+
+        for (Item item : bucket) {
+            if (toCheck.isSameItem(item)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds {@code item} to the SKU index and the secondary indexes.
+     */
+    private void addToIndex(Item item) {
+        skuIndex.computeIfAbsent(toIndexKey(item.getSku().value), key -> new ArrayList<>(1)).add(item);
+        secondaryIndexes.forEach(index -> index.add(item));
+    }
+
+    /**
+     * Removes the item with the same identity as {@code item} from the SKU index, and {@code item} itself from the
+     * secondary indexes. {@code item} must be the instance that was held by the list.
+     */
+    private void removeFromIndex(Item item) {
+        secondaryIndexes.forEach(index -> index.remove(item));
+
+        String key = toIndexKey(item.getSku().value);
+        List<Item> bucket = skuIndex.get(key);
+        if (bucket == null) {
+            return;
+        }
+
+        bucket.removeIf(item::isSameItem);
+        if (bucket.isEmpty()) {
+            skuIndex.remove(key);
+        }
+    }
+
+    /**
+     * Replaces each item in the list that is a key of {@code replacements} with the item it maps to, in a single pass
+     * over the list. Each key must be the instance that is held by the list.
+     */
+    private void replaceItems(Map<Item, Item> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            Item replacement = replacements.get(internalList.get(i));
+            if (replacement != null) {
+                removeFromIndex(internalList.get(i));
+                addToIndex(replacement);
+                internalList.set(i, replacement);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the SKU index and the secondary indexes to hold {@code items}.
+     */
+    private void rebuildIndex(List<Item> items) {
+        skuIndex.clear();
+        indexUniqueItems(items, skuIndex);
+        rebuildSecondaryIndexes(items);
+    }
+
+    /**
+     * Rebuilds the secondary indexes to hold {@code items}.
+     */
+    private void rebuildSecondaryIndexes(List<Item> items) {
+        for (ItemIndex index : secondaryIndexes) {
+            index.clear();
+            items.forEach(index::add);
+        }
+    }
+
+    private static String toIndexKey(String sku) {
+        return sku.toLowerCase();
+    }
+
+    /**
+     * Adds {@code items} to {@code index} in a single pass and returns the SKUs of the items that have the same
+     * identity as an earlier item. Duplicates are left out of {@code index}.
      */
-    private boolean itemsAreUnique(List<Item> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSameItem(items.get(j))) {
-                    return false;
-                }
+    private static Set<String> indexUniqueItems(List<Item> items, Map<String, List<Item>> index) {
+        Set<String> duplicateSkus = new LinkedHashSet<>();
+        for (Item item : items) {
+            List<Item> bucket = index.computeIfAbsent(toIndexKey(item.getSku().value), key -> new ArrayList<>(1));
+            if (bucket.stream().anyMatch(item::isSameItem)) {
+                duplicateSkus.add(item.getSku().value);
+            } else {
+                bucket.add(item);
             }
         }
-        return true;
+        return duplicateSkus;
     }
 }
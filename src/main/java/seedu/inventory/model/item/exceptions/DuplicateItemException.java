@@ -1,11 +1,34 @@
 package seedu.inventory.model.item.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Items (Items are considered duplicates if they have the same
  * SKUs).
  */
 public class DuplicateItemException extends RuntimeException {
+    private final List<String> duplicateSkus;
+
     public DuplicateItemException() {
         super("Operation would result in duplicate items");
+        duplicateSkus = Collections.emptyList();
+    }
+
+    /**
+     * Creates the exception with the {@code duplicateSkus} that occur more than once.
+     */
+    public DuplicateItemException(Collection<String> duplicateSkus) {
+        super("Operation would result in duplicate items: " + String.join(", ", duplicateSkus));
+        this.duplicateSkus = new ArrayList<>(duplicateSkus);
+    }
+
+    /**
+     * Returns the SKUs that occur more than once, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateSkus() {
+        return Collections.unmodifiableList(duplicateSkus);
     }
 }
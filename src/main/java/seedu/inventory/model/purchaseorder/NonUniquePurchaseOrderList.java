@@ -111,6 +111,16 @@ public class NonUniquePurchaseOrderList implements Iterable<PurchaseOrder> {
         internalList.setAll(po);
     }
 
+    /**
+     * Replaces the purchase orders from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code po}.
+     */
+    public void setPurchaseOrders(int fromIndex, int toIndex, List<PurchaseOrder> po) {
+        requireAllNonNull(po);
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, po);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -3,10 +3,15 @@ package seedu.inventory.model.sale;
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,13 +26,27 @@ public class UniqueSaleList implements Iterable<Sale> {
 
     private final ObservableList<Sale> internalList = FXCollections.observableArrayList();
 
+    /**
+     * The sale IDs of all sales in the list, kept in sync with {@code internalList}.
+     */
+    private Set<SaleId> saleIds = new HashSet<>();
+
+    public UniqueSaleList() {}
+
+    /**
+     * Creates a list holding {@code sales}, building its sale ID index in the same pass that checks for duplicates.
+     * {@code sales} must not contain sales with the same sale ID.
+     */
+    public UniqueSaleList(List<Sale> sales) {
+        setSales(sales);
+    }
+
     /**
      * Returns true if the list contains this sale ID
      */
     public boolean contains(Sale toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().map(sales -> sales.getSaleId()).collect(Collectors.toList())
-                .contains(toCheck.getSaleId());
+        return saleIds.contains(toCheck.getSaleId());
     }
 
     /**
@@ -41,6 +60,7 @@ public class UniqueSaleList implements Iterable<Sale> {
         }
 
         internalList.add(toAdd);
+        saleIds.add(toAdd.getSaleId());
     }
 
     /**
@@ -53,6 +73,7 @@ public class UniqueSaleList implements Iterable<Sale> {
         if (!internalList.remove(toRemove)) {
             throw new SaleNotFoundException();
         }
+        saleIds.remove(toRemove.getSaleId());
     }
 
     /**
@@ -62,6 +83,7 @@ public class UniqueSaleList implements Iterable<Sale> {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        saleIds = new HashSet<>(replacement.saleIds);
     }
 
     /**
@@ -71,11 +93,78 @@ public class UniqueSaleList implements Iterable<Sale> {
     public void setSales(List<Sale> sales) {
         requireAllNonNull(sales);
 
-        if (!salesAreUnique(sales)) {
-            throw new DuplicateSaleException();
+        Set<SaleId> newSaleIds = new HashSet<>();
+        Set<String> duplicateSaleIds = indexUniqueSales(sales, newSaleIds);
+        if (!duplicateSaleIds.isEmpty()) {
+            throw new DuplicateSaleException(duplicateSaleIds);
         }
 
         internalList.setAll(sales);
+        saleIds = newSaleIds;
+    }
+
+    /**
+     * Replaces the sales from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code sales}. Only the sale IDs of the replaced sales and of {@code sales} are updated in the index.
+     * {@code sales} must not contain sales with the same sale ID, or with the sale ID of a sale outside the range.
+     */
+    public void setSales(int fromIndex, int toIndex, List<Sale> sales) {
+        requireAllNonNull(sales);
+        List<Sale> replacedSales = internalList.subList(fromIndex, toIndex);
+        Set<SaleId> replacedSaleIds = new HashSet<>();
+        replacedSales.forEach(sale -> replacedSaleIds.add(sale.getSaleId()));
+
+        Set<String> duplicateSaleIds = indexUniqueSales(sales, new HashSet<>());
+        for (Sale sale : sales) {
+            if (saleIds.contains(sale.getSaleId()) && !replacedSaleIds.contains(sale.getSaleId())) {
+                duplicateSaleIds.add(sale.getSaleId().toString());
+            }
+        }
+        if (!duplicateSaleIds.isEmpty()) {
+            throw new DuplicateSaleException(duplicateSaleIds);
+        }
+
+        saleIds.removeAll(replacedSaleIds);
+        sales.forEach(sale -> saleIds.add(sale.getSaleId()));
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, sales);
+    }
+
+    /**
+     * Merges {@code sales} into this list, joining them against the sales in the list by sale ID.
+     * Sales with a sale ID that is not in the list are added at the end, and sales that differ from the sale in the
+     * list with the same sale ID replace it in place. Sales that are already in the list are left as they are.
+     * {@code sales} must not contain sales with the same sale ID.
+     *
+     * @return the number of sales that were added or replaced.
+     */
+    public int mergeSales(List<Sale> sales) {
+        requireAllNonNull(sales);
+        Set<String> duplicateSaleIds = indexUniqueSales(sales, new HashSet<>());
+        if (!duplicateSaleIds.isEmpty()) {
+            throw new DuplicateSaleException(duplicateSaleIds);
+        }
+
+        Map<SaleId, Integer> positions = new HashMap<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getSaleId(), i);
+        }
+
+        List<Sale> addedSales = new ArrayList<>();
+        int changedCount = 0;
+        for (Sale sale : sales) {
+            Integer position = positions.get(sale.getSaleId());
+            if (position == null) {
+                addedSales.add(sale);
+            } else if (!internalList.get(position).equals(sale)) {
+                internalList.set(position, sale);
+                changedCount++;
+            }
+        }
+
+        addedSales.forEach(sale -> saleIds.add(sale.getSaleId()));
+        internalList.addAll(addedSales);
+        return addedSales.size() + changedCount;
     }
 
     /**
@@ -119,17 +208,16 @@ public class UniqueSaleList implements Iterable<Sale> {
     }
 
     /**
-     * Returns true if {@code sales} contains only unique sales.
+     * Adds the sale IDs of {@code sales} to {@code index} in a single pass and returns the sale IDs that occur
+     * more than once.
      */
-    private boolean salesAreUnique(List<Sale> sales) {
-        for (int i = 0; i < sales.size() - 1; i++) {
-            for (int j = i + 1; j < sales.size(); j++) {
-                if (sales.get(i).getSaleId().toString().equals(sales.get(j).getSaleId().toString())) {
-                    return false;
-                }
+    private static Set<String> indexUniqueSales(List<Sale> sales, Set<SaleId> index) {
+        Set<String> duplicateSaleIds = new LinkedHashSet<>();
+        for (Sale sale : sales) {
+            if (!index.add(sale.getSaleId())) {
+                duplicateSaleIds.add(sale.getSaleId().toString());
             }
         }
-
-        return true;
+        return duplicateSaleIds;
     }
 }
@@ -1,11 +1,34 @@
 package seedu.inventory.model.sale.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Sales (Sales are considered duplicates if they have the same
  * Sale ID).
  */
 public class DuplicateSaleException extends RuntimeException {
+    private final List<String> duplicateSaleIds;
+
     public DuplicateSaleException() {
         super("Operation would result in duplicate sales.");
+        duplicateSaleIds = Collections.emptyList();
+    }
+
+    /**
+     * Creates the exception with the {@code duplicateSaleIds} that occur more than once.
+     */
+    public DuplicateSaleException(Collection<String> duplicateSaleIds) {
+        super("Operation would result in duplicate sales: " + String.join(", ", duplicateSaleIds));
+        this.duplicateSaleIds = new ArrayList<>(duplicateSaleIds);
+    }
+
+    /**
+     * Returns the sale IDs that occur more than once, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateSaleIds() {
+        return Collections.unmodifiableList(duplicateSaleIds);
     }
 }
@@ -3,8 +3,14 @@ package seedu.inventory.model.staff;
 import static java.util.Objects.requireNonNull;
 import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Iterables;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,6 +32,16 @@ public class UniqueStaffList implements Iterable<Staff> {
 
     private final ObservableList<Staff> internalList = FXCollections.observableArrayList();
 
+    public UniqueStaffList() {}
+
+    /**
+     * Creates a list holding {@code staffs}.
+     * {@code staffs} must not contain duplicate staffs.
+     */
+    public UniqueStaffList(List<Staff> staffs) {
+        setStaffs(staffs);
+    }
+
     /**
      * Returns true if the list contains an equivalent staff as the given argument.
      */
@@ -106,13 +122,31 @@ public class UniqueStaffList implements Iterable<Staff> {
      */
     public void setStaffs(List<Staff> staffs) {
         requireAllNonNull(staffs);
-        if (!staffsAreUnique(staffs)) {
-            throw new DuplicateStaffException();
+        Set<String> duplicateUsernames = findDuplicateStaffs(staffs);
+        if (!duplicateUsernames.isEmpty()) {
+            throw new DuplicateStaffException(duplicateUsernames);
         }
 
         internalList.setAll(staffs);
     }
 
+    /**
+     * Replaces the staffs from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive, with
+     * {@code staffs}.
+     * {@code staffs} must not contain duplicate staffs, or staffs that are the same as a staff outside the range.
+     */
+    public void setStaffs(int fromIndex, int toIndex, List<Staff> staffs) {
+        requireAllNonNull(staffs);
+        Set<String> duplicateUsernames = findDuplicateStaffs(Iterables.concat(internalList.subList(0, fromIndex),
+                staffs, internalList.subList(toIndex, internalList.size())));
+        if (!duplicateUsernames.isEmpty()) {
+            throw new DuplicateStaffException(duplicateUsernames);
+        }
+
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, staffs);
+    }
+
     /**
      * Returns the backing list as an umodifiable {@code ObservableList}.
      * @return the ObservableList of staffs.
@@ -134,21 +168,22 @@ public class UniqueStaffList implements Iterable<Staff> {
     }
 
     /**
-     * Returns true if {@code staffs} contains only unique staffs.
+     * Returns the usernames of the staffs in {@code staffs} that have the same identity as an earlier staff.
+     * The staffs are hashed on their identity fields, so this runs in a single pass.
      *
      * @param staffs the list of staffs to be verified.
      *
-     * @return true if the list of staffs are unique else false
+     * @return the usernames of the duplicated staffs, empty if the staffs are unique.
      */
-    private boolean staffsAreUnique(List<Staff> staffs) {
-        for (int i = 0; i < staffs.size() - 1; i++) {
-            for (int j = i + 1; j < staffs.size(); j++) {
-                if (staffs.get(i).isSameStaff(staffs.get(j))) {
-                    return false;
-                }
+    private static Set<String> findDuplicateStaffs(Iterable<Staff> staffs) {
+        Set<List<Object>> identities = new HashSet<>();
+        Set<String> duplicateUsernames = new LinkedHashSet<>();
+        for (Staff staff : staffs) {
+            if (!identities.add(Arrays.asList(staff.getUsername(), staff.getPassword()))) {
+                duplicateUsernames.add(staff.getUsername().toString());
             }
         }
-        return true;
+        return duplicateUsernames;
     }
 
 }
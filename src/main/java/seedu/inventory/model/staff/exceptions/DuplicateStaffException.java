@@ -1,11 +1,34 @@
 package seedu.inventory.model.staff.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Staff (Staffs are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateStaffException extends RuntimeException {
+    private final List<String> duplicateUsernames;
+
     public DuplicateStaffException() {
         super("Operation would result in duplicate staffs");
+        duplicateUsernames = Collections.emptyList();
+    }
+
+    /**
+     * Creates the exception with the {@code duplicateUsernames} that occur more than once.
+     */
+    public DuplicateStaffException(Collection<String> duplicateUsernames) {
+        super("Operation would result in duplicate staffs: " + String.join(", ", duplicateUsernames));
+        this.duplicateUsernames = new ArrayList<>(duplicateUsernames);
+    }
+
+    /**
+     * Returns the usernames of the staffs that occur more than once, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateUsernames() {
+        return Collections.unmodifiableList(duplicateUsernames);
     }
 }
@@ -0,0 +1,200 @@
+package seedu.inventory.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.commons.events.storage.FileOperationProgressEvent;
+import seedu.inventory.commons.events.storage.FileOperationProgressEvent.State;
+import seedu.inventory.commons.util.ProgressListener;
+
+/**
+ * Runs the imports and exports of files on a worker thread, so that large files are read and written without
+ * blocking the caller.
+ * The progress of a running operation is raised as a {@code FileOperationProgressEvent} at most once every
+ * {@code PROGRESS_EVENT_INTERVAL_MILLIS}. Cancelling the operations interrupts the worker thread, which the reading
+ * and writing of csv files stop on.
+ * What is to be done once an operation is done, such as applying the imported data to the model, is run on the
+ * completion executor, which should be the thread that owns the model.
+ */
+class FileOperationRunner {
+
+    static final long PROGRESS_EVENT_INTERVAL_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(FileOperationRunner.class);
+
+    private final Executor worker;
+    private final Consumer<BaseEvent> raiser;
+    private final List<Job> jobs = new ArrayList<>();
+    private volatile Executor completionExecutor = Runnable::run;
+
+    /**
+     * Creates a runner that runs operations on {@code worker} and raises their progress with {@code raiser}.
+     * {@code worker} should run one task at a time, so that operations are run in the order they are submitted.
+     */
+    FileOperationRunner(Executor worker, Consumer<BaseEvent> raiser) {
+        requireNonNull(worker);
+        requireNonNull(raiser);
+        this.worker = worker;
+        this.raiser = raiser;
+    }
+
+    /**
+     * Sets the executor that what is to be done once an operation is done is run on.
+     * By default, it is run on the worker thread.
+     */
+    void setCompletionExecutor(Executor completionExecutor) {
+        requireNonNull(completionExecutor);
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Runs {@code operation} on the worker thread, after the operations submitted before it.
+     */
+    void submit(String description, FileOperation operation) {
+        submit(description, operation, () -> { });
+    }
+
+    /**
+     * Runs {@code operation} on the worker thread, after the operations submitted before it.
+     * If the operation is cancelled, what it returns is dropped, and {@code onCancel} is run on the worker thread
+     * instead.
+     */
+    void submit(String description, FileOperation operation, Runnable onCancel) {
+        requireNonNull(description);
+        requireNonNull(operation);
+        requireNonNull(onCancel);
+        Job job = new Job(description, operation, onCancel);
+        synchronized (this) {
+            jobs.add(job);
+        }
+        worker.execute(job::run);
+    }
+
+    /**
+     * Cancels the operations that are running or waiting to run, and returns the number of operations cancelled.
+     */
+    synchronized int cancel() {
+        int cancelledCount = 0;
+        for (Job job : jobs) {
+            if (job.isCancelled) {
+                continue;
+            }
+            job.isCancelled = true;
+            if (job.thread != null) {
+                job.thread.interrupt();
+            }
+            cancelledCount++;
+        }
+        return cancelledCount;
+    }
+
+    /**
+     * Returns the number of operations that are running or waiting to run.
+     */
+    synchronized int getPendingCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Marks {@code job} as running on the current thread, and returns false if it has already been cancelled.
+     */
+    private synchronized boolean start(Job job) {
+        if (job.isCancelled) {
+            jobs.remove(job);
+            return false;
+        }
+        job.thread = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Marks {@code job} as done, so that it is no longer interrupted when operations are cancelled.
+     */
+    private synchronized void finish(Job job) {
+        job.thread = null;
+        jobs.remove(job);
+        // Clears an interrupt that came after the operation stopped looking for it.
+        Thread.interrupted();
+    }
+
+    /**
+     * An import or export of a file.
+     */
+    @FunctionalInterface
+    interface FileOperation {
+        /**
+         * Reads or writes the file, reporting its progress to {@code progressListener}, and returns what is to be
+         * done once the operation is done.
+         */
+        Runnable run(ProgressListener progressListener);
+    }
+
+    /**
+     * An operation submitted to the runner.
+     */
+    private class Job implements ProgressListener {
+        private final String description;
+        private final FileOperation operation;
+        private final Runnable onCancel;
+        private volatile boolean isCancelled;
+        private Thread thread;
+        private long lastEventMillis;
+        private long done;
+        private long total;
+
+        Job(String description, FileOperation operation, Runnable onCancel) {
+            this.description = description;
+            this.operation = operation;
+            this.onCancel = onCancel;
+        }
+
+        /**
+         * Runs the operation, and hands what is to be done once it is done to the completion executor, unless the
+         * operation has been cancelled.
+         */
+        void run() {
+            if (!start(this)) {
+                logger.info(description + " cancelled before it started");
+                raiser.accept(new FileOperationProgressEvent(description, 0, 0, State.CANCELLED));
+                return;
+            }
+
+            Runnable completion;
+            try {
+                raiser.accept(new FileOperationProgressEvent(description, 0, 0, State.RUNNING));
+                lastEventMillis = System.currentTimeMillis();
+                completion = operation.run(this);
+            } finally {
+                finish(this);
+            }
+
+            if (isCancelled) {
+                logger.info(description + " cancelled");
+                onCancel.run();
+                raiser.accept(new FileOperationProgressEvent(description, done, total, State.CANCELLED));
+                return;
+            }
+            raiser.accept(new FileOperationProgressEvent(description, done, total, State.FINISHED));
+            completionExecutor.execute(completion);
+        }
+
+        @Override
+        public void update(long done, long total) {
+            this.done = done;
+            this.total = total;
+            long now = System.currentTimeMillis();
+            if (now - lastEventMillis < PROGRESS_EVENT_INTERVAL_MILLIS) {
+                return;
+            }
+            lastEventMillis = now;
+            raiser.accept(new FileOperationProgressEvent(description, done, total, State.RUNNING));
+        }
+    }
+}
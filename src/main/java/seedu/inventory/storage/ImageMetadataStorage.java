@@ -0,0 +1,38 @@
+package seedu.inventory.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.item.ImageMetadata;
+
+/**
+ * Represents a storage for the metadata of item images.
+ */
+public interface ImageMetadataStorage {
+
+    /**
+     * Returns the file path of the image metadata file.
+     */
+    Path getImageMetadataFilePath();
+
+    /**
+     * Returns the image metadata from storage.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException             if there was any problem when reading from the storage.
+     */
+    Optional<List<ImageMetadata>> readImageMetadata() throws DataConversionException, IOException;
+
+    /**
+     * Saves the given image metadata to the storage.
+     *
+     * @param metadata cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveImageMetadata(List<ImageMetadata> metadata) throws IOException;
+
+}
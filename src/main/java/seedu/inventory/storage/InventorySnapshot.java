@@ -0,0 +1,162 @@
+package seedu.inventory.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.ItemNameIndex;
+import seedu.inventory.model.item.ItemRangeIndex;
+import seedu.inventory.model.item.ItemSkuIndex;
+import seedu.inventory.model.item.UniqueItemList;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.staff.Staff;
+import seedu.inventory.storage.StorageManager.DataCollection;
+
+/**
+ * An immutable copy of the lists of an inventory, which can be saved on another thread while the inventory it was
+ * taken from keeps changing.
+ * As the entries of the lists are immutable, taking a snapshot only copies references, and only of the lists that
+ * are asked for. Items are looked up by SKU from maps built the first time an item is looked up, which imports can
+ * then share between several threads. The other item indexes are also only built if they are asked for.
+ */
+class InventorySnapshot implements ReadOnlyInventory {
+
+    private final ObservableList<Item> items;
+    private final ObservableList<PurchaseOrder> purchaseOrders;
+    private final ObservableList<Staff> staffs;
+    private final ObservableList<Sale> sales;
+    private final String nextSaleId;
+    private volatile SkuLookup skuLookup;
+    private UniqueItemList indexedItems;
+
+    InventorySnapshot(ReadOnlyInventory inventory) {
+        this(inventory, EnumSet.allOf(DataCollection.class));
+    }
+
+    /**
+     * Creates a snapshot of the lists of {@code inventory} in {@code collections}. The other lists of the snapshot
+     * are empty.
+     */
+    InventorySnapshot(ReadOnlyInventory inventory, Set<DataCollection> collections) {
+        requireNonNull(inventory);
+        requireNonNull(collections);
+        items = copyOf(inventory.getItemList(), collections.contains(DataCollection.ITEMS));
+        purchaseOrders = copyOf(inventory.getPurchaseOrderList(),
+                collections.contains(DataCollection.PURCHASE_ORDERS));
+        staffs = copyOf(inventory.getStaffList(), collections.contains(DataCollection.STAFFS));
+        sales = copyOf(inventory.getSaleList(), collections.contains(DataCollection.SALES));
+        nextSaleId = inventory.getNextSaleId();
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code list} if {@code isCopied}, or an empty list otherwise.
+     */
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list, boolean isCopied) {
+        if (!isCopied) {
+            return FXCollections.emptyObservableList();
+        }
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return items;
+    }
+
+    @Override
+    public ObservableList<PurchaseOrder> getPurchaseOrderList() {
+        return purchaseOrders;
+    }
+
+    @Override
+    public ObservableList<Staff> getStaffList() {
+        return staffs;
+    }
+
+    @Override
+    public ObservableList<Sale> getSaleList() {
+        return sales;
+    }
+
+    @Override
+    public String getNextSaleId() {
+        return nextSaleId;
+    }
+
+    @Override
+    public Item getItemBySku(String sku) {
+        requireNonNull(sku);
+        SkuLookup lookup = getSkuLookup();
+        // an item with exactly the same SKU is preferred, as in UniqueItemList
+        Item item = lookup.itemsBySku.get(sku);
+        return item != null ? item : lookup.itemsByLowerCaseSku.get(sku.toLowerCase());
+    }
+
+    /**
+     * Returns the maps to look items up by SKU, building them if this is the first lookup.
+     */
+    private SkuLookup getSkuLookup() {
+        SkuLookup lookup = skuLookup;
+        if (lookup == null) {
+            synchronized (this) {
+                lookup = skuLookup;
+                if (lookup == null) {
+                    lookup = new SkuLookup(items);
+                    skuLookup = lookup;
+                }
+            }
+        }
+        return lookup;
+    }
+
+    @Override
+    public ItemNameIndex getItemNameIndex() {
+        return getIndexedItems().getNameIndex();
+    }
+
+    @Override
+    public ItemSkuIndex getItemSkuIndex() {
+        return getIndexedItems().getSkuFragmentIndex();
+    }
+
+    @Override
+    public ItemRangeIndex getItemPriceIndex() {
+        return getIndexedItems().getPriceIndex();
+    }
+
+    @Override
+    public ItemRangeIndex getItemQuantityIndex() {
+        return getIndexedItems().getQuantityIndex();
+    }
+
+    private synchronized UniqueItemList getIndexedItems() {
+        if (indexedItems == null) {
+            indexedItems = new UniqueItemList(items);
+        }
+        return indexedItems;
+    }
+
+    /**
+     * Maps from the SKUs of items, as they are and lower-cased, to the items.
+     */
+    private static class SkuLookup {
+        private final Map<String, Item> itemsBySku = new HashMap<>();
+        private final Map<String, Item> itemsByLowerCaseSku = new HashMap<>();
+
+        SkuLookup(Iterable<Item> items) {
+            for (Item item : items) {
+                String sku = item.getSku().value;
+                itemsBySku.put(sku, item);
+                itemsByLowerCaseSku.putIfAbsent(sku.toLowerCase(), item);
+            }
+        }
+    }
+}
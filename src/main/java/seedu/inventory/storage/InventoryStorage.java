@@ -7,9 +7,13 @@ import java.util.Optional;
 import seedu.inventory.commons.exceptions.DataConversionException;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
 
 /**
  * Represents a storage for {@link Inventory}.
+ * The items and the purchase orders of an inventory are kept in data files of their own, so that either can be
+ * saved without the other.
  */
 public interface InventoryStorage extends StaffListStorage {
 
@@ -19,7 +23,12 @@ public interface InventoryStorage extends StaffListStorage {
     Path getInventoryFilePath();
 
     /**
-     * Returns Inventory data as a {@link ReadOnlyInventory}.
+     * Returns the file path of the purchase order data file.
+     */
+    Path getPurchaseOrderListFilePath();
+
+    /**
+     * Returns Inventory data, read from the inventory and purchase order data files, as a {@link ReadOnlyInventory}.
      *   Returns {@code Optional.empty()} if storage file is not found.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
@@ -32,7 +41,7 @@ public interface InventoryStorage extends StaffListStorage {
     Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException;
 
     /**
-     * Saves the given {@link ReadOnlyInventory} to the storage.
+     * Saves the given {@link ReadOnlyInventory} to the storage, both its items and its purchase orders.
      * @param inventory cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
@@ -43,4 +52,29 @@ public interface InventoryStorage extends StaffListStorage {
      */
     void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyItemList} to the inventory data file, leaving the purchase orders as they are.
+     * @param itemList cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveItemList(ReadOnlyItemList itemList) throws IOException;
+
+    /**
+     * @see #saveItemList(ReadOnlyItemList)
+     */
+    void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyPurchaseOrderList} to the purchase order data file, leaving the items as they
+     * are.
+     * @param purchaseOrderList cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) throws IOException;
+
+    /**
+     * @see #savePurchaseOrderList(ReadOnlyPurchaseOrderList)
+     */
+    void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath) throws IOException;
+
 }
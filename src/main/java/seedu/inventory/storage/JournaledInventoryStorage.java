@@ -0,0 +1,473 @@
+package seedu.inventory.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
+import seedu.inventory.model.ReadOnlyStaffList;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.exceptions.DuplicateItemException;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.staff.Staff;
+import seedu.inventory.model.staff.exceptions.DuplicateStaffException;
+
+/**
+ * A storage of Inventory data that records the changes made to the data as records appended to a journal next to
+ * each data file, rather than rewriting the data file on every save.
+ * Once the journal holds too many records or bytes, the data is compacted by writing a full snapshot to the data
+ * file, through another storage, and starting a new journal. Reading a data file replays its journal onto the snapshot.
+ * Different data files can be read at the same time, while saves are made one at a time.
+ */
+public class JournaledInventoryStorage implements InventoryStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private static final String MESSAGE_INVALID_RECORD = "Journal record does not fit the data: %s at %d";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledInventoryStorage.class);
+
+    private final InventoryStorage snapshotStorage;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+    private final Map<Path, PersistedData> persistedData = new ConcurrentHashMap<>();
+
+    public JournaledInventoryStorage(InventoryStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    public JournaledInventoryStorage(InventoryStorage snapshotStorage, int maxJournalRecords,
+                                     long maxJournalBytes) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    /**
+     * Returns the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getInventoryFilePath() {
+        return snapshotStorage.getInventoryFilePath();
+    }
+
+    @Override
+    public Path getPurchaseOrderListFilePath() {
+        return snapshotStorage.getPurchaseOrderListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(getInventoryFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyInventory> snapshot = snapshotStorage.readInventory(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path purchaseOrderFilePath = XmlInventoryStorage.getPurchaseOrderListFilePath(filePath);
+        boolean hasPurchaseOrderFile = Files.exists(purchaseOrderFilePath);
+
+        PersistedData itemData = new PersistedData(filePath);
+        itemData.items = new ArrayList<>(snapshot.get().getItemList());
+        // until the purchase order file is written, the purchase orders and their changes are kept with the items
+        itemData.purchaseOrders = hasPurchaseOrderFile ? null : new ArrayList<>(snapshot.get().getPurchaseOrderList());
+        replayJournal(itemData, filePath);
+
+        PersistedData purchaseOrderData = new PersistedData(purchaseOrderFilePath);
+        if (hasPurchaseOrderFile) {
+            purchaseOrderData.purchaseOrders = new ArrayList<>(snapshot.get().getPurchaseOrderList());
+            replayJournal(purchaseOrderData, purchaseOrderFilePath);
+        } else {
+            purchaseOrderData.purchaseOrders = itemData.purchaseOrders;
+        }
+
+        Inventory inventory = new Inventory();
+        try {
+            inventory.setItems(itemData.items);
+            inventory.setPurchaseOrders(purchaseOrderData.purchaseOrders);
+        } catch (DuplicateItemException die) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + die.getMessage());
+            throw new DataConversionException(die);
+        }
+        persistedData.put(filePath, itemData);
+        persistedData.put(purchaseOrderFilePath, purchaseOrderData);
+        return Optional.of(inventory);
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, getInventoryFilePath());
+    }
+
+    @Override
+    public synchronized void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(filePath);
+
+        savePurchaseOrderList(inventory, XmlInventoryStorage.getPurchaseOrderListFilePath(filePath));
+        saveItemList(inventory, filePath);
+    }
+
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList) throws IOException {
+        saveItemList(itemList, getInventoryFilePath());
+    }
+
+    @Override
+    public synchronized void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        requireNonNull(itemList);
+        requireNonNull(filePath);
+
+        List<Item> items = new ArrayList<>(itemList.getItemList());
+        PersistedData data = persistedData.get(filePath);
+        if (data == null || !data.journal.isIntact()) {
+            PersistedData snapshot = new PersistedData(filePath);
+            snapshot.items = items;
+            compactItemList(snapshot);
+            return;
+        }
+
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+        recordChange(XmlAdaptedJournalRecord.ITEMS, data.items, items, records, (item, record) ->
+                record.getItems().add(new XmlAdaptedItem(item)));
+        data.items = items;
+        appendOrCompact(data, records, () -> compactItemList(data));
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) throws IOException {
+        savePurchaseOrderList(purchaseOrderList, getPurchaseOrderListFilePath());
+    }
+
+    @Override
+    public synchronized void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+            throws IOException {
+        requireNonNull(purchaseOrderList);
+        requireNonNull(filePath);
+
+        List<PurchaseOrder> purchaseOrders = new ArrayList<>(purchaseOrderList.getPurchaseOrderList());
+        PersistedData data = persistedData.get(filePath);
+        if (data == null || !data.journal.isIntact()) {
+            PersistedData snapshot = new PersistedData(filePath);
+            snapshot.purchaseOrders = purchaseOrders;
+            compactPurchaseOrderList(snapshot);
+            return;
+        }
+
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+        recordChange(XmlAdaptedJournalRecord.PURCHASE_ORDERS, data.purchaseOrders, purchaseOrders, records, (po,
+                record) -> record.getPurchaseOrders().add(new XmlAdaptedPurchaseOrder(po)));
+        data.purchaseOrders = purchaseOrders;
+        appendOrCompact(data, records, () -> compactPurchaseOrderList(data));
+    }
+
+    // Staff List
+
+    @Override
+    public Path getStaffListFilePath() {
+        return snapshotStorage.getStaffListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStaffList> readStaffList() throws DataConversionException, IOException {
+        return readStaffList(getStaffListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyStaffList> readStaffList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyStaffList> snapshot = snapshotStorage.readStaffList(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        PersistedData data = new PersistedData(filePath);
+        data.staffs = new ArrayList<>(snapshot.get().getStaffList());
+        replayJournal(data, filePath);
+
+        Inventory staffList = new Inventory();
+        try {
+            staffList.setStaffs(data.staffs);
+        } catch (DuplicateStaffException dse) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + dse.getMessage());
+            throw new DataConversionException(dse);
+        }
+        persistedData.put(filePath, data);
+        return Optional.of(staffList);
+    }
+
+    @Override
+    public void saveStaffList(ReadOnlyStaffList staffList) throws IOException {
+        saveStaffList(staffList, getStaffListFilePath());
+    }
+
+    @Override
+    public synchronized void saveStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException {
+        requireNonNull(staffList);
+        requireNonNull(filePath);
+
+        List<Staff> staffs = new ArrayList<>(staffList.getStaffList());
+        PersistedData data = persistedData.get(filePath);
+        if (data == null || !data.journal.isIntact()) {
+            PersistedData snapshot = new PersistedData(filePath);
+            snapshot.staffs = staffs;
+            compactStaffList(snapshot);
+            return;
+        }
+
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+        recordChange(XmlAdaptedJournalRecord.STAFFS, data.staffs, staffs, records, (staff, record) ->
+                record.getStaffs().add(new XmlAdaptedStaff(staff)));
+        data.staffs = staffs;
+        appendOrCompact(data, records, () -> compactStaffList(data));
+    }
+
+    // Journal
+
+    /**
+     * Appends {@code records} to the journal of {@code data}, or runs {@code compaction} instead once the journal
+     * has grown past its limits.
+     */
+    private void appendOrCompact(PersistedData data, List<XmlAdaptedJournalRecord> records, Compaction compaction)
+            throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        MutationJournal journal = data.journal;
+        if (journal.getRecordCount() + records.size() > maxJournalRecords
+                || journal.getByteCount() >= maxJournalBytes) {
+            compaction.compact();
+            return;
+        }
+        journal.append(records);
+    }
+
+    /**
+     * Writes the items of {@code data} as a snapshot, and starts a new journal for it.
+     * Purchase orders still kept in the old snapshot are first moved to their own file, so that they are not lost.
+     */
+    private void compactItemList(PersistedData data) throws IOException {
+        Path purchaseOrderFilePath = XmlInventoryStorage.getPurchaseOrderListFilePath(data.filePath);
+        PersistedData purchaseOrderData = persistedData.get(purchaseOrderFilePath);
+        if (purchaseOrderData != null && !Files.exists(purchaseOrderFilePath)) {
+            compactPurchaseOrderList(purchaseOrderData);
+        }
+
+        Path temporaryFile = getTemporaryFilePath(data.filePath);
+        Inventory itemList = new Inventory();
+        itemList.setItems(data.items);
+        snapshotStorage.saveItemList(itemList, temporaryFile);
+        commitSnapshot(data, temporaryFile);
+    }
+
+    /**
+     * Writes the purchase orders of {@code data} as a snapshot, and starts a new journal for it.
+     */
+    private void compactPurchaseOrderList(PersistedData data) throws IOException {
+        Path temporaryFile = getTemporaryFilePath(data.filePath);
+        Inventory purchaseOrderList = new Inventory();
+        purchaseOrderList.setPurchaseOrders(data.purchaseOrders);
+        snapshotStorage.savePurchaseOrderList(purchaseOrderList, temporaryFile);
+        commitSnapshot(data, temporaryFile);
+    }
+
+    /**
+     * Writes the staffs of {@code data} as a snapshot, and starts a new journal for it.
+     */
+    private void compactStaffList(PersistedData data) throws IOException {
+        Path temporaryFile = getTemporaryFilePath(data.filePath);
+        Inventory staffList = new Inventory();
+        staffList.setStaffs(data.staffs);
+        snapshotStorage.saveStaffList(staffList, temporaryFile);
+        commitSnapshot(data, temporaryFile);
+    }
+
+    /**
+     * Replaces the data file of {@code data} with the snapshot written to {@code temporaryFile}, then resets the
+     * journal for the new snapshot.
+     * A crash in between leaves a journal whose checksum does not match the snapshot, so it is not replayed.
+     */
+    private void commitSnapshot(PersistedData data, Path temporaryFile) throws IOException {
+        Files.move(temporaryFile, data.filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        data.journal.reset(FileUtil.checksum(data.filePath));
+        persistedData.put(data.filePath, data);
+        logger.fine("Compacted " + data.filePath + " into a snapshot");
+    }
+
+    /**
+     * Returns the file that a snapshot of {@code filePath} is written to before it replaces it, removing any left
+     * over from an earlier compaction.
+     * The file keeps the extension of a compressed file, so that the snapshot is compressed as the file it replaces.
+     */
+    private static Path getTemporaryFilePath(Path filePath) throws IOException {
+        String fileName = filePath.getFileName().toString();
+        String temporaryFileName = fileName + ".tmp";
+        if (FileUtil.isCompressedFile(filePath)) {
+            temporaryFileName = fileName.substring(0, fileName.length() - FileUtil.COMPRESSED_FILE_EXTENSION.length())
+                    + ".tmp" + FileUtil.COMPRESSED_FILE_EXTENSION;
+        }
+        Path temporaryFile = filePath.resolveSibling(temporaryFileName);
+        Files.deleteIfExists(temporaryFile);
+        return temporaryFile;
+    }
+
+    /**
+     * Applies the records in the journal of the data file at {@code filePath} to the lists of {@code data}.
+     */
+    private static void replayJournal(PersistedData data, Path filePath) throws DataConversionException,
+            IOException {
+        List<XmlAdaptedJournalRecord> records = data.journal.replay(FileUtil.checksum(filePath));
+        try {
+            for (XmlAdaptedJournalRecord record : records) {
+                switch (record.getList()) {
+                case XmlAdaptedJournalRecord.ITEMS:
+                    List<Item> items = new ArrayList<>();
+                    for (XmlAdaptedItem item : record.getItems()) {
+                        items.add(item.toModelType());
+                    }
+                    applyRecord(data.items, record, items);
+                    break;
+                case XmlAdaptedJournalRecord.PURCHASE_ORDERS:
+                    if (data.purchaseOrders == null) {
+                        // already part of the purchase order file, which was written after this record
+                        break;
+                    }
+                    List<PurchaseOrder> purchaseOrders = new ArrayList<>();
+                    for (XmlAdaptedPurchaseOrder purchaseOrder : record.getPurchaseOrders()) {
+                        purchaseOrders.add(purchaseOrder.toModelType());
+                    }
+                    applyRecord(data.purchaseOrders, record, purchaseOrders);
+                    break;
+                case XmlAdaptedJournalRecord.STAFFS:
+                    List<Staff> staffs = new ArrayList<>();
+                    for (XmlAdaptedStaff staff : record.getStaffs()) {
+                        staffs.add(staff.toModelType());
+                    }
+                    applyRecord(data.staffs, record, staffs);
+                    break;
+                default:
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getList(),
+                            record.getFrom()));
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.fine("Replayed " + records.size() + " journal records onto " + filePath);
+    }
+
+    /**
+     * Replaces the entries of {@code list} removed by {@code record} with {@code added}.
+     */
+    private static <T> void applyRecord(List<T> list, XmlAdaptedJournalRecord record, List<T> added)
+            throws IllegalValueException {
+        int from = record.getFrom();
+        int to = from + record.getRemoved();
+        if (list == null || from < 0 || record.getRemoved() < 0 || to > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getList(), from));
+        }
+        list.subList(from, to).clear();
+        list.addAll(from, added);
+    }
+
+    /**
+     * Adds to {@code records} a record of the change from {@code persisted} to {@code current}, if any.
+     * The change is the range of entries between the longest common prefix and suffix of the two lists, which
+     * covers the single add, edit or removal that most commands make.
+     */
+    private static <T> void recordChange(String listName, List<T> persisted, List<T> current,
+                                         List<XmlAdaptedJournalRecord> records, EntryAdder<T> adder) {
+        int start = 0;
+        int commonLength = Math.min(persisted.size(), current.size());
+        while (start < commonLength && isSameEntry(persisted.get(start), current.get(start))) {
+            start++;
+        }
+        int persistedEnd = persisted.size();
+        int currentEnd = current.size();
+        while (persistedEnd > start && currentEnd > start
+                && isSameEntry(persisted.get(persistedEnd - 1), current.get(currentEnd - 1))) {
+            persistedEnd--;
+            currentEnd--;
+        }
+        if (start == persistedEnd && start == currentEnd) {
+            return;
+        }
+
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(listName, start, persistedEnd - start);
+        for (T entry : current.subList(start, currentEnd)) {
+            adder.add(entry, record);
+        }
+        records.add(record);
+    }
+
+    private static boolean isSameEntry(Object persisted, Object current) {
+        return persisted == current || persisted.equals(current);
+    }
+
+    /**
+     * Adds an entry of a list to a record, in its JAXB-friendly form.
+     */
+    @FunctionalInterface
+    private interface EntryAdder<T> {
+        void add(T entry, XmlAdaptedJournalRecord record);
+    }
+
+    /**
+     * Writes a full snapshot of some persisted data.
+     */
+    @FunctionalInterface
+    private interface Compaction {
+        void compact() throws IOException;
+    }
+
+    /**
+     * The lists last written to a data file, through its snapshot and journal.
+     */
+    private static class PersistedData {
+        private final Path filePath;
+        private final MutationJournal journal;
+        private List<Item> items = new ArrayList<>();
+        private List<PurchaseOrder> purchaseOrders = new ArrayList<>();
+        private List<Staff> staffs = new ArrayList<>();
+
+        PersistedData(Path filePath) {
+            this.filePath = filePath;
+            this.journal = new MutationJournal(getJournalFilePath(filePath));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.inventory.storage;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.model.item.ImageMetadata;
+
+/**
+ * Json-friendly version of {@link ImageMetadata}.
+ */
+public class JsonAdaptedImageMetadata {
+
+    public static final String MISSING_PATH_MESSAGE = "Image metadata's path field is missing!";
+
+    private String path;
+    private long size;
+    private long lastModified;
+    private String mimeType;
+
+    /**
+     * Constructs a JsonAdaptedImageMetadata.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    public JsonAdaptedImageMetadata() {}
+
+    /**
+     * Converts a given ImageMetadata into this class for Jackson use.
+     */
+    public JsonAdaptedImageMetadata(ImageMetadata source) {
+        path = source.getPath();
+        size = source.getSize();
+        lastModified = source.getLastModified();
+        mimeType = source.getMimeType();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted image metadata object into the model's ImageMetadata object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted image metadata
+     */
+    public ImageMetadata toModelType() throws IllegalValueException {
+        if (path == null) {
+            throw new IllegalValueException(MISSING_PATH_MESSAGE);
+        }
+        return new ImageMetadata(path, size, lastModified, mimeType);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.inventory.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.commons.util.JsonUtil;
+import seedu.inventory.model.item.ImageMetadata;
+
+/**
+ * A class to access the metadata of item images stored in the hard disk as a json file.
+ */
+public class JsonImageMetadataStorage implements ImageMetadataStorage {
+
+    public static final String IMAGE_METADATA_FILE_NAME = "imageMetadata.json";
+
+    private final Path filePath;
+
+    public JsonImageMetadataStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the image metadata file kept beside the data file at {@code dataFilePath}.
+     */
+    public static Path getImageMetadataFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(IMAGE_METADATA_FILE_NAME);
+    }
+
+    @Override
+    public Path getImageMetadataFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<List<ImageMetadata>> readImageMetadata() throws DataConversionException {
+        Optional<JsonSerializableImageMetadata> metadata =
+                JsonUtil.readJsonFile(filePath, JsonSerializableImageMetadata.class);
+        if (!metadata.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(metadata.get().toModelType());
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveImageMetadata(List<ImageMetadata> metadata) throws IOException {
+        requireNonNull(metadata);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableImageMetadata(metadata), filePath);
+    }
+
+}
@@ -0,0 +1,41 @@
+package seedu.inventory.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.model.item.ImageMetadata;
+
+/**
+ * The metadata of image files, in a form that is serializable as json.
+ */
+public class JsonSerializableImageMetadata {
+
+    private List<JsonAdaptedImageMetadata> images = new ArrayList<>();
+
+    /**
+     * Creates an empty JsonSerializableImageMetadata.
+     * This empty constructor is required for unmarshalling.
+     */
+    public JsonSerializableImageMetadata() {}
+
+    /**
+     * Conversion
+     */
+    public JsonSerializableImageMetadata(List<ImageMetadata> src) {
+        src.forEach(metadata -> images.add(new JsonAdaptedImageMetadata(metadata)));
+    }
+
+    /**
+     * Converts this metadata into the model's {@code ImageMetadata} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<ImageMetadata> toModelType() throws IllegalValueException {
+        List<ImageMetadata> metadata = new ArrayList<>();
+        for (JsonAdaptedImageMetadata image : images) {
+            metadata.add(image.toModelType());
+        }
+        return metadata;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.inventory.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.util.XmlUtil;
+
+/**
+ * An append-only file of {@code XmlAdaptedJournalRecord}s, one per line, recording the mutations made since a
+ * snapshot was written. The first line holds the checksum of the snapshot the records apply to, so that the records
+ * are not applied to another snapshot, eg. one written by a compaction that did not get to reset the journal.
+ */
+class MutationJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(MutationJournal.class);
+    private static final String HEADER_PREFIX = "snapshot-crc32=";
+
+    private final Path file;
+    private int recordCount;
+    private long byteCount;
+    private boolean isIntact;
+
+    MutationJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the records in the journal that apply to the snapshot with the given checksum.
+     * No records are returned if the journal is missing or was written for another snapshot, and reading stops at
+     * the first record that cannot be read, such as one cut short by a crash. The journal is then no longer
+     * {@link #isIntact() intact}.
+     */
+    List<XmlAdaptedJournalRecord> replay(long snapshotChecksum) throws IOException {
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+        recordCount = 0;
+        byteCount = 0;
+        isIntact = false;
+        if (!Files.exists(file)) {
+            return records;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !header.equals(HEADER_PREFIX + Long.toHexString(snapshotChecksum))) {
+                logger.info("Journal " + file + " does not match its snapshot, ignoring it");
+                return records;
+            }
+
+            Unmarshaller unmarshaller = XmlUtil.getContext(XmlAdaptedJournalRecord.class).createUnmarshaller();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    records.add((XmlAdaptedJournalRecord) unmarshaller.unmarshal(new StringReader(line)));
+                } catch (JAXBException | ClassCastException e) {
+                    logger.warning("Unreadable record in journal " + file + ", ignoring the rest of it");
+                    return records;
+                }
+                recordCount++;
+                byteCount += line.length() + 1;
+            }
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        isIntact = true;
+        return records;
+    }
+
+    /**
+     * Replaces the journal with an empty one for the snapshot with the given checksum.
+     */
+    void reset(long snapshotChecksum) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporaryFile, (HEADER_PREFIX + Long.toHexString(snapshotChecksum) + "\n").getBytes(UTF_8));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordCount = 0;
+        byteCount = 0;
+        isIntact = true;
+    }
+
+    /**
+     * Appends {@code records} to the journal and forces them to the disk with a single sync.
+     * The journal is no longer intact if the records could not be written in full.
+     */
+    void append(List<XmlAdaptedJournalRecord> records) throws IOException {
+        assert isIntact;
+        isIntact = false;
+        StringBuilder lines = new StringBuilder();
+        try {
+            Marshaller marshaller = XmlUtil.getContext(XmlAdaptedJournalRecord.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            for (XmlAdaptedJournalRecord record : records) {
+                StringWriter writer = new StringWriter();
+                marshaller.marshal(record, writer);
+                // keeps each record on its own line, line breaks in values being restored when it is read
+                lines.append(writer.toString().replace("\r", "&#13;").replace("\n", "&#10;")).append('\n');
+            }
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+        recordCount += records.size();
+        byteCount += bytes.capacity();
+        isIntact = true;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Returns true if records can be appended to the journal, that is, if it was last reset or replayed in full.
+     */
+    boolean isIntact() {
+        return isIntact;
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlyItemList;
 import seedu.inventory.model.ReadOnlyPurchaseOrderList;
@@ -24,6 +25,12 @@ public interface ReportingStorage {
      */
     Optional<ReadOnlyItemList> importItemList(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Import the item list as above, reporting the progress to {@code progressListener}.
+     */
+    Optional<ReadOnlyItemList> importItemList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException;
+
     /**
      * Export the given item list to the file.
      * @param itemList cannot be null.
@@ -32,6 +39,12 @@ public interface ReportingStorage {
      */
     void exportItemList(ReadOnlyItemList itemList, Path filePath) throws IOException;
 
+    /**
+     * Export the item list as above, reporting the progress to {@code progressListener}.
+     */
+    void exportItemList(ReadOnlyItemList itemList, Path filePath, ProgressListener progressListener)
+            throws IOException;
+
     /**
      * Import the sale list from storage.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -41,6 +54,13 @@ public interface ReportingStorage {
     Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException;
 
+    /**
+     * Import the sale list as above, reporting the progress to {@code progressListener}.
+     */
+    Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener)
+            throws DataConversionException, IOException;
+
     /**
      * Export the given sale list to the file.
      * @param saleList cannot be null.
@@ -49,6 +69,12 @@ public interface ReportingStorage {
      */
     void exportSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException;
 
+    /**
+     * Export the sale list as above, reporting the progress to {@code progressListener}.
+     */
+    void exportSaleList(ReadOnlySaleList saleList, Path filePath, ProgressListener progressListener)
+            throws IOException;
+
     /**
      * Import the staff list from storage.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -58,6 +84,12 @@ public interface ReportingStorage {
     Optional<ReadOnlyStaffList> importStaffList(Path filePath)
             throws DataConversionException, IOException;
 
+    /**
+     * Import the staff list as above, reporting the progress to {@code progressListener}.
+     */
+    Optional<ReadOnlyStaffList> importStaffList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException;
+
     /**
      * Export the given staff list to the file.
      * @param staffList cannot be null.
@@ -66,6 +98,12 @@ public interface ReportingStorage {
      */
     void exportStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException;
 
+    /**
+     * Export the staff list as above, reporting the progress to {@code progressListener}.
+     */
+    void exportStaffList(ReadOnlyStaffList staffList, Path filePath, ProgressListener progressListener)
+            throws IOException;
+
     /**
      * Import the purchase order list from storage.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -75,6 +113,13 @@ public interface ReportingStorage {
     Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException;
 
+    /**
+     * Import the purchase order list as above, reporting the progress to {@code progressListener}.
+     */
+    Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener)
+            throws DataConversionException, IOException;
+
     /**
      * Export the given purchase order list to the file.
      * @param purchaseOrderList cannot be null.
@@ -83,4 +128,39 @@ public interface ReportingStorage {
      */
     void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath) throws IOException;
 
+    /**
+     * Export the purchase order list as above, reporting the progress to {@code progressListener}.
+     */
+    void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath,
+            ProgressListener progressListener) throws IOException;
+
+    /**
+     * Import all lists of the inventory from their files in the directory.
+     *   Returns {@code Optional.empty()} if the manifest of the directory is not found.
+     * @throws DataConversionException if the data in the files is not in the expected format, or does not match
+     *                                 the manifest.
+     * @throws IOException if there was any problem when reading from the files.
+     */
+    Optional<ReadOnlyInventory> importInventory(Path directory) throws DataConversionException, IOException;
+
+    /**
+     * Import all lists as above, reporting the progress to {@code progressListener}.
+     */
+    Optional<ReadOnlyInventory> importInventory(Path directory, ProgressListener progressListener)
+            throws DataConversionException, IOException;
+
+    /**
+     * Export all lists of the given inventory to their files in the directory, together with a manifest of them.
+     * @param inventory cannot be null.
+     * @param directory cannot be null.
+     * @throws IOException if there was any problem when writing to the files.
+     */
+    void exportInventory(ReadOnlyInventory inventory, Path directory) throws IOException;
+
+    /**
+     * Export all lists as above, reporting the progress to {@code progressListener}.
+     */
+    void exportInventory(ReadOnlyInventory inventory, Path directory, ProgressListener progressListener)
+            throws IOException;
+
 }
@@ -4,7 +4,11 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.inventory.commons.events.model.FileOperationCancelEvent;
 import seedu.inventory.commons.events.model.InventoryChangedEvent;
+import seedu.inventory.commons.events.model.InventoryExportEvent;
+import seedu.inventory.commons.events.model.InventoryImportEvent;
+import seedu.inventory.commons.events.model.ItemImageValidationEvent;
 import seedu.inventory.commons.events.model.ItemListExportEvent;
 import seedu.inventory.commons.events.model.ItemListImportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListExportEvent;
@@ -25,7 +29,8 @@ import seedu.inventory.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends InventoryStorage, SaleListStorage, UserPrefsStorage, ReportingStorage {
+public interface Storage extends InventoryStorage, SaleListStorage, UserPrefsStorage, ReportingStorage,
+        ImageMetadataStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -61,23 +66,31 @@ public interface Storage extends InventoryStorage, SaleListStorage, UserPrefsSto
     void saveSaleList(ReadOnlySaleList saleList) throws IOException;
 
     /**
-     * Saves the current version of the Inventory List to the hard disk.
+     * Writes the changes that are waiting to be saved in the background, and waits until they are written.
+     */
+    void flush();
+
+    /**
+     * Saves the current version of the Inventory List to the hard disk in the background, coalescing it with other
+     * changes made shortly after.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavingExceptionEvent}, on the background thread, if there was an error during saving.
      */
     void handleInventoryChangedEvent(InventoryChangedEvent abce);
 
     /**
-     * Saves the current version of the Sale List to the hard disk.
+     * Saves the current version of the Sale List to the hard disk in the background, coalescing it with other
+     * changes made shortly after.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavingExceptionEvent}, on the background thread, if there was an error during saving.
      */
     void handleSaleListChangedEvent(SaleListChangedEvent abce);
 
     /**
-     * Saves the current version of the Staff List to the hard disk.
+     * Saves the current version of the Staff List to the hard disk in the background, coalescing it with other
+     * changes made shortly after.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavingExceptionEvent}, on the background thread, if there was an error during saving.
      */
     void handleStaffListChangedEvent(StaffListChangedEvent abce);
 
@@ -88,6 +101,12 @@ public interface Storage extends InventoryStorage, SaleListStorage, UserPrefsSto
      */
     void handleItemListExportEvent(ItemListExportEvent ilee);
 
+    /**
+     * Validates the images of the items in the background, and saves what is known of the image files.
+     * Raises NewResultAvailableEvent with the items whose images are no longer valid.
+     */
+    void handleItemImageValidationEvent(ItemImageValidationEvent iive);
+
     /**
      * Import the Item List from the hard disk.
      * Raises DataImportingExceptionEvent if there was an error during importing.
@@ -132,4 +151,22 @@ public interface Storage extends InventoryStorage, SaleListStorage, UserPrefsSto
      * Raises DataImportingExceptionEvent if there was an error during importing.
      */
     void handlePurchaseOrderListImportEvent(PurchaseOrderListImportEvent plie);
+
+    /**
+     * Export all lists to their files in a directory in the hard disk.
+     * Raises DataExportingExceptionEvent if there was an error during exporting.
+     */
+    void handleInventoryExportEvent(InventoryExportEvent iee);
+
+    /**
+     * Import all lists from their files in a directory in the hard disk.
+     * Raises DataImportingExceptionEvent if there was an error during importing.
+     */
+    void handleInventoryImportEvent(InventoryImportEvent iie);
+
+    /**
+     * Cancels the imports and exports that are still running.
+     * A cancelled import leaves the model as it is, and the file of a cancelled export is deleted.
+     */
+    void handleFileOperationCancelEvent(FileOperationCancelEvent foce);
 }
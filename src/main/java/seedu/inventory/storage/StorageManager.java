@@ -2,15 +2,32 @@ package seedu.inventory.storage;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.inventory.commons.core.ComponentManager;
 import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.commons.events.model.FileOperationCancelEvent;
 import seedu.inventory.commons.events.model.InventoryChangedEvent;
+import seedu.inventory.commons.events.model.InventoryExportEvent;
+import seedu.inventory.commons.events.model.InventoryImportEvent;
+import seedu.inventory.commons.events.model.ItemImageValidationEvent;
 import seedu.inventory.commons.events.model.ItemListExportEvent;
 import seedu.inventory.commons.events.model.ItemListImportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListExportEvent;
@@ -26,20 +43,32 @@ import seedu.inventory.commons.events.storage.DataExportingSuccessEvent;
 import seedu.inventory.commons.events.storage.DataImportingExceptionEvent;
 import seedu.inventory.commons.events.storage.DataImportingSuccessEvent;
 import seedu.inventory.commons.events.storage.DataSavingExceptionEvent;
+import seedu.inventory.commons.events.storage.InventoryUpdateEvent;
 import seedu.inventory.commons.events.storage.ItemListUpdateEvent;
 import seedu.inventory.commons.events.storage.PurchaseOrderListUpdateEvent;
 import seedu.inventory.commons.events.storage.SaleListUpdateEvent;
 import seedu.inventory.commons.events.storage.StaffListUpdateEvent;
 import seedu.inventory.commons.events.ui.NewResultAvailableEvent;
 import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.logic.commands.csv.ExportCsvCommand;
 import seedu.inventory.logic.commands.csv.ImportCsvCommand;
+import seedu.inventory.logic.commands.item.ValidateImagesCommand;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ItemList;
+import seedu.inventory.model.PurchaseOrderList;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlyItemList;
 import seedu.inventory.model.ReadOnlyPurchaseOrderList;
 import seedu.inventory.model.ReadOnlySaleList;
 import seedu.inventory.model.ReadOnlyStaffList;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.StaffList;
 import seedu.inventory.model.UserPrefs;
+import seedu.inventory.model.item.Image;
+import seedu.inventory.model.item.ImageMetadata;
+import seedu.inventory.model.item.ImageMetadataCache;
+import seedu.inventory.storage.csv.CsvSerializableInventory;
 
 /**
  * Manages storage of Inventory data in local storage.
@@ -47,10 +76,30 @@ import seedu.inventory.model.UserPrefs;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+
+    /**
+     * The collections of data that are saved to data files of their own.
+     */
+    enum DataCollection {
+        ITEMS, PURCHASE_ORDERS, STAFFS, SALES
+    }
+
     private InventoryStorage inventoryStorage;
     private UserPrefsStorage userPrefsStorage;
     private SaleListStorage saleListStorage;
     private ReportingStorage reportingStorage;
+    private ImageMetadataStorage imageMetadataStorage;
+    private final WriteBehindPersister persister =
+            new WriteBehindPersister(WriteBehindPersister.DEFAULT_FLUSH_INTERVAL_MILLIS,
+                ioe -> raise(new DataSavingExceptionEvent(ioe)));
+    private final ExecutorService backgroundJobs = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-jobs");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final FileOperationRunner fileOperations = new FileOperationRunner(backgroundJobs, this::raise);
+    private Inventory savedInventory;
+    private final Map<DataCollection, Long> savedVersions = new EnumMap<>(DataCollection.class);
 
     public StorageManager(InventoryStorage inventoryStorage, UserPrefsStorage userPrefsStorage,
                           SaleListStorage saleListStorage, ReportingStorage reportingStorage) {
@@ -59,6 +108,16 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
         this.saleListStorage = saleListStorage;
         this.reportingStorage = reportingStorage;
+        this.imageMetadataStorage = new JsonImageMetadataStorage(
+                JsonImageMetadataStorage.getImageMetadataFilePath(inventoryStorage.getInventoryFilePath()));
+    }
+
+    /**
+     * Sets the executor that imported data and the outcomes of imports and exports are raised on.
+     * The imported data is applied to the model as it is raised, so this should be the thread that owns the model.
+     */
+    public void setCompletionExecutor(Executor completionExecutor) {
+        fileOperations.setCompletionExecutor(completionExecutor);
     }
 
     // ================ UserPrefs methods ==============================
@@ -79,6 +138,25 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    // ================ Image metadata methods ==============================
+
+    @Override
+    public Path getImageMetadataFilePath() {
+        return imageMetadataStorage.getImageMetadataFilePath();
+    }
+
+    @Override
+    public Optional<List<ImageMetadata>> readImageMetadata() throws DataConversionException, IOException {
+        logger.fine("Attempting to read image metadata from file: " + getImageMetadataFilePath());
+        return imageMetadataStorage.readImageMetadata();
+    }
+
+    @Override
+    public void saveImageMetadata(List<ImageMetadata> metadata) throws IOException {
+        logger.fine("Attempting to write to image metadata file: " + getImageMetadataFilePath());
+        imageMetadataStorage.saveImageMetadata(metadata);
+    }
+
     // ================ Inventory methods ==============================
 
     @Override
@@ -86,6 +164,11 @@ public class StorageManager extends ComponentManager implements Storage {
         return inventoryStorage.getInventoryFilePath();
     }
 
+    @Override
+    public Path getPurchaseOrderListFilePath() {
+        return inventoryStorage.getPurchaseOrderListFilePath();
+    }
+
     @Override
     public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
         return readInventory(inventoryStorage.getInventoryFilePath());
@@ -108,6 +191,29 @@ public class StorageManager extends ComponentManager implements Storage {
         inventoryStorage.saveInventory(inventory, filePath);
     }
 
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList) throws IOException {
+        saveItemList(itemList, inventoryStorage.getInventoryFilePath());
+    }
+
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        logger.fine("Attempting to write to data file: " + filePath);
+        inventoryStorage.saveItemList(itemList, filePath);
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) throws IOException {
+        savePurchaseOrderList(purchaseOrderList, inventoryStorage.getPurchaseOrderListFilePath());
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+            throws IOException {
+        logger.fine("Attempting to write to data file: " + filePath);
+        inventoryStorage.savePurchaseOrderList(purchaseOrderList, filePath);
+    }
+
     // ================ Sale List methods ==============================
 
     @Override
@@ -146,12 +252,26 @@ public class StorageManager extends ComponentManager implements Storage {
         return reportingStorage.importItemList(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyItemList> importItemList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to import item list from file: " + filePath);
+        return reportingStorage.importItemList(filePath, progressListener);
+    }
+
     @Override
     public void exportItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
         logger.fine("Attempting to export item list to file: " + filePath);
         reportingStorage.exportItemList(itemList, filePath);
     }
 
+    @Override
+    public void exportItemList(ReadOnlyItemList itemList, Path filePath, ProgressListener progressListener)
+            throws IOException {
+        logger.fine("Attempting to export item list to file: " + filePath);
+        reportingStorage.exportItemList(itemList, filePath, progressListener);
+    }
+
     @Override
     public Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException {
@@ -159,24 +279,52 @@ public class StorageManager extends ComponentManager implements Storage {
         return reportingStorage.importSaleList(inventory, filePath);
     }
 
+    @Override
+    public Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener) throws DataConversionException, IOException {
+        logger.fine("Attempting to import sale list from file: " + filePath);
+        return reportingStorage.importSaleList(inventory, filePath, progressListener);
+    }
+
     @Override
     public void exportSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException {
         logger.fine("Attempting to export sale list to file: " + filePath);
         reportingStorage.exportSaleList(saleList, filePath);
     }
 
+    @Override
+    public void exportSaleList(ReadOnlySaleList saleList, Path filePath, ProgressListener progressListener)
+            throws IOException {
+        logger.fine("Attempting to export sale list to file: " + filePath);
+        reportingStorage.exportSaleList(saleList, filePath, progressListener);
+    }
+
     @Override
     public Optional<ReadOnlyStaffList> importStaffList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to import staff list from file: " + filePath);
         return reportingStorage.importStaffList(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyStaffList> importStaffList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to import staff list from file: " + filePath);
+        return reportingStorage.importStaffList(filePath, progressListener);
+    }
+
     @Override
     public void exportStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException {
         logger.fine("Attempting to export staff list to file: " + filePath);
         reportingStorage.exportStaffList(staffList, filePath);
     }
 
+    @Override
+    public void exportStaffList(ReadOnlyStaffList staffList, Path filePath, ProgressListener progressListener)
+            throws IOException {
+        logger.fine("Attempting to export staff list to file: " + filePath);
+        reportingStorage.exportStaffList(staffList, filePath, progressListener);
+    }
+
     @Override
     public Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException {
@@ -184,22 +332,67 @@ public class StorageManager extends ComponentManager implements Storage {
         return reportingStorage.importPurchaseOrderList(inventory, filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener) throws DataConversionException, IOException {
+        logger.fine("Attempting to import purchase order list from file: " + filePath);
+        return reportingStorage.importPurchaseOrderList(inventory, filePath, progressListener);
+    }
+
     @Override
     public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath) throws IOException {
         logger.fine("Attempting to export purchase order list to file: " + filePath);
         reportingStorage.exportPurchaseOrderList(purchaseOrderList, filePath);
     }
 
+    @Override
+    public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath,
+            ProgressListener progressListener) throws IOException {
+        logger.fine("Attempting to export purchase order list to file: " + filePath);
+        reportingStorage.exportPurchaseOrderList(purchaseOrderList, filePath, progressListener);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> importInventory(Path directory) throws DataConversionException, IOException {
+        logger.fine("Attempting to import inventory from directory: " + directory);
+        return reportingStorage.importInventory(directory);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> importInventory(Path directory, ProgressListener progressListener)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to import inventory from directory: " + directory);
+        return reportingStorage.importInventory(directory, progressListener);
+    }
+
+    @Override
+    public void exportInventory(ReadOnlyInventory inventory, Path directory) throws IOException {
+        logger.fine("Attempting to export inventory to directory: " + directory);
+        reportingStorage.exportInventory(inventory, directory);
+    }
+
+    @Override
+    public void exportInventory(ReadOnlyInventory inventory, Path directory, ProgressListener progressListener)
+            throws IOException {
+        logger.fine("Attempting to export inventory to directory: " + directory);
+        reportingStorage.exportInventory(inventory, directory, progressListener);
+    }
+
+    @Override
+    public void flush() {
+        persister.flush();
+    }
+
     // ================ Event handler ==================================
 
     @Override
     @Subscribe
     public void handleSaleListChangedEvent(SaleListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveSaleList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.data instanceof ReadOnlyInventory) {
+            saveChangedCollections((ReadOnlyInventory) event.data, EnumSet.of(DataCollection.SALES));
+        } else {
+            submitSaleList(event.data);
         }
     }
 
@@ -207,10 +400,10 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleStaffListChangedEvent(StaffListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Staff data changed, saving to file"));
-        try {
-            saveStaffList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        if (event.data instanceof ReadOnlyInventory) {
+            saveChangedCollections((ReadOnlyInventory) event.data, EnumSet.of(DataCollection.STAFFS));
+        } else {
+            submitStaffList(event.data);
         }
     }
 
@@ -218,146 +411,303 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleInventoryChangedEvent(InventoryChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveInventory(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        saveChangedCollections(event.data, EnumSet.of(DataCollection.ITEMS, DataCollection.PURCHASE_ORDERS));
+    }
+
+    /**
+     * Saves, in the background, the collections of {@code data} that changed since they were last saved, each to
+     * its own data file.
+     * The changes are found from the versions that an {@link Inventory} keeps of its collections. The first time
+     * an inventory is seen, the {@code raisedCollections} of the event that carried it are saved and the versions
+     * of its other collections are taken as saved. Data that does not keep versions has its
+     * {@code raisedCollections} saved.
+     */
+    private void saveChangedCollections(ReadOnlyInventory data, Set<DataCollection> raisedCollections) {
+        Set<DataCollection> changedCollections = EnumSet.copyOf(raisedCollections);
+        if (data instanceof Inventory) {
+            Inventory inventory = (Inventory) data;
+            Map<DataCollection, Long> versions = new EnumMap<>(DataCollection.class);
+            versions.put(DataCollection.ITEMS, inventory.getItemListVersion());
+            versions.put(DataCollection.PURCHASE_ORDERS, inventory.getPurchaseOrderListVersion());
+            versions.put(DataCollection.STAFFS, inventory.getStaffListVersion());
+            versions.put(DataCollection.SALES, inventory.getSaleListVersion());
+
+            if (inventory == savedInventory) {
+                changedCollections.clear();
+                for (DataCollection collection : DataCollection.values()) {
+                    if (!versions.get(collection).equals(savedVersions.get(collection))) {
+                        changedCollections.add(collection);
+                    }
+                }
+            }
+            savedInventory = inventory;
+            savedVersions.putAll(versions);
+        }
+
+        if (changedCollections.isEmpty()) {
+            logger.fine("No collection changed since it was last saved");
+            return;
+        }
+        // only the collections to be saved are copied, on the thread that raised the event
+        ReadOnlyInventory snapshot = new InventorySnapshot(data, changedCollections);
+        for (DataCollection collection : changedCollections) {
+            switch (collection) {
+            case ITEMS:
+                Path filePath = inventoryStorage.getInventoryFilePath();
+                persister.submit(filePath, () -> saveItemList(snapshot, filePath));
+                break;
+            case PURCHASE_ORDERS:
+                Path purchaseOrderFilePath = inventoryStorage.getPurchaseOrderListFilePath();
+                persister.submit(purchaseOrderFilePath, () ->
+                        savePurchaseOrderList(snapshot, purchaseOrderFilePath));
+                break;
+            case STAFFS:
+                Path staffFilePath = inventoryStorage.getStaffListFilePath();
+                persister.submit(staffFilePath, () -> saveStaffList(snapshot, staffFilePath));
+                break;
+            case SALES:
+                Path saleFilePath = saleListStorage.getSaleListFilePath();
+                persister.submit(saleFilePath, () -> saveSaleList(snapshot, saleFilePath));
+                break;
+            default:
+                throw new AssertionError("Unknown collection " + collection);
+            }
         }
     }
 
+    /**
+     * Saves a copy of {@code saleList} in the background.
+     */
+    private void submitSaleList(ReadOnlySaleList saleList) {
+        ReadOnlySaleList snapshot = new SaleList(saleList);
+        Path filePath = saleListStorage.getSaleListFilePath();
+        persister.submit(filePath, () -> saveSaleList(snapshot, filePath));
+    }
+
+    /**
+     * Saves a copy of {@code staffList} in the background.
+     */
+    private void submitStaffList(ReadOnlyStaffList staffList) {
+        ReadOnlyStaffList snapshot = new StaffList(staffList);
+        Path filePath = inventoryStorage.getStaffListFilePath();
+        persister.submit(filePath, () -> saveStaffList(snapshot, filePath));
+    }
+
     @Override
     @Subscribe
     public void handleItemListExportEvent(ItemListExportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export item list to file"));
-        try {
-            raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
-            exportItemList(event.data, event.filePath);
-            raise(new DataExportingSuccessEvent());
-        } catch (IOException e) {
-            raise(new DataExportingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export item list to file in the background"));
+        raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
+        ReadOnlyItemList snapshot = new ItemList(event.data);
+        submitExport("Exporting item list to " + event.filePath, event.filePath,
+            progressListener -> exportItemList(snapshot, event.filePath, progressListener));
+    }
+
+    /**
+     * Waits for the background jobs submitted so far to finish.
+     */
+    void awaitBackgroundJobs() throws InterruptedException, ExecutionException {
+        backgroundJobs.submit(() -> { }).get();
     }
 
     @Override
     @Subscribe
-    public void handleItemListImportEvent(ItemListImportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import item list from file"));
-        try {
-            raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
-            Optional<ReadOnlyItemList> itemList = importItemList(event.filePath);
-            if (itemList.isPresent()) {
-                raise(new ItemListUpdateEvent(itemList.get()));
-                raise(new DataImportingSuccessEvent());
-            } else {
-                raise(new DataImportingExceptionEvent(new FileNotFoundException()));
+    public void handleItemImageValidationEvent(ItemImageValidationEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Validating item images in the background"));
+        backgroundJobs.execute(() -> {
+            ImageMetadataCache imageMetadataCache = ImageMetadataCache.getInstance();
+            int validatedCount = imageMetadataCache.revalidate();
+            String invalidSkus = event.data.getItemList().stream()
+                    .filter(item -> !Image.isValidImage(item.getImage().value))
+                    .map(item -> item.getSku().value)
+                    .collect(Collectors.joining(", "));
+            try {
+                saveImageMetadata(imageMetadataCache.getEntries());
+                imageMetadataCache.markSaved();
+            } catch (IOException e) {
+                raise(new DataSavingExceptionEvent(e));
             }
-        } catch (IOException ioe) {
-            raise(new DataImportingExceptionEvent(ioe));
-        } catch (DataConversionException dce) {
-            raise(new DataImportingExceptionEvent(dce));
-        }
+            raise(new NewResultAvailableEvent(invalidSkus.isEmpty()
+                    ? String.format(ValidateImagesCommand.MESSAGE_ALL_VALID, validatedCount)
+                    : String.format(ValidateImagesCommand.MESSAGE_INVALID_IMAGES, validatedCount, invalidSkus)));
+        });
+    }
+
+    @Override
+    @Subscribe
+    public void handleItemListImportEvent(ItemListImportEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import item list from file in the background"));
+        raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
+        submitImport("Importing item list from " + event.filePath,
+            progressListener -> importItemList(event.filePath, progressListener),
+            itemList -> new ItemListUpdateEvent(itemList, event.isMerge));
     }
 
     @Override
     @Subscribe
     public void handleSaleListExportEvent(SaleListExportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export sale list to file"));
-        try {
-            raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
-            exportSaleList(event.data, event.filePath);
-            raise(new DataExportingSuccessEvent());
-        } catch (IOException e) {
-            raise(new DataExportingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export sale list to file in the background"));
+        raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
+        ReadOnlySaleList snapshot = new SaleList(event.data);
+        submitExport("Exporting sale list to " + event.filePath, event.filePath,
+            progressListener -> exportSaleList(snapshot, event.filePath, progressListener));
     }
 
     @Override
     @Subscribe
     public void handleSaleListImportEvent(SaleListImportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import sale list from file"));
-        try {
-            raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
-            Optional<ReadOnlySaleList> saleList = importSaleList(event.inventory, event.filePath);
-            if (saleList.isPresent()) {
-                raise(new SaleListUpdateEvent(saleList.get()));
-                raise(new DataImportingSuccessEvent());
-            } else {
-                raise(new DataImportingExceptionEvent(new FileNotFoundException()));
-            }
-        } catch (IOException ioe) {
-            raise(new DataImportingExceptionEvent(ioe));
-        } catch (DataConversionException dce) {
-            raise(new DataImportingExceptionEvent(dce));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import sale list from file in the background"));
+        raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
+        ReadOnlyInventory inventory = new InventorySnapshot(event.inventory);
+        submitImport("Importing sale list from " + event.filePath,
+            progressListener -> importSaleList(inventory, event.filePath, progressListener),
+            saleList -> new SaleListUpdateEvent(saleList, event.isMerge));
     }
 
     @Override
     @Subscribe
     public void handleStaffListExportEvent(StaffListExportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export staff list to file"));
-        try {
-            raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
-            exportStaffList(event.data, event.filePath);
-            raise(new DataExportingSuccessEvent());
-        } catch (IOException e) {
-            raise(new DataExportingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export staff list to file in the background"));
+        raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
+        ReadOnlyStaffList snapshot = new StaffList(event.data);
+        submitExport("Exporting staff list to " + event.filePath, event.filePath,
+            progressListener -> exportStaffList(snapshot, event.filePath, progressListener));
     }
 
     @Override
     @Subscribe
     public void handleStaffListImportEvent(StaffListImportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import staff list from file"));
-        try {
-            raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
-            Optional<ReadOnlyStaffList> staffList = importStaffList(event.filePath);
-            if (staffList.isPresent()) {
-                raise(new StaffListUpdateEvent(staffList.get()));
-                raise(new DataImportingSuccessEvent());
-            } else {
-                raise(new DataImportingExceptionEvent(new FileNotFoundException()));
-            }
-        } catch (IOException ioe) {
-            raise(new DataImportingExceptionEvent(ioe));
-        } catch (DataConversionException dce) {
-            raise(new DataImportingExceptionEvent(dce));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import staff list from file in the background"));
+        raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
+        submitImport("Importing staff list from " + event.filePath,
+            progressListener -> importStaffList(event.filePath, progressListener), StaffListUpdateEvent::new);
     }
 
     @Override
     @Subscribe
     public void handlePurchaseOrderListExportEvent(PurchaseOrderListExportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export purchase order list to file"));
-        try {
-            raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
-            exportPurchaseOrderList(event.data, event.filePath);
-            raise(new DataExportingSuccessEvent());
-        } catch (IOException e) {
-            raise(new DataExportingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event,
+                "Export purchase order list to file in the background"));
+        raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
+        ReadOnlyPurchaseOrderList snapshot = new PurchaseOrderList(event.data);
+        submitExport("Exporting purchase order list to " + event.filePath, event.filePath,
+            progressListener -> exportPurchaseOrderList(snapshot, event.filePath, progressListener));
     }
 
     @Override
     @Subscribe
     public void handlePurchaseOrderListImportEvent(PurchaseOrderListImportEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import purchase order list from file"));
-        try {
-            raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
-            Optional<ReadOnlyPurchaseOrderList> purchaseOrderList =
-                    importPurchaseOrderList(event.inventory, event.filePath);
-            if (purchaseOrderList.isPresent()) {
-                raise(new PurchaseOrderListUpdateEvent(purchaseOrderList.get()));
-                raise(new DataImportingSuccessEvent());
-            } else {
-                raise(new DataImportingExceptionEvent(new FileNotFoundException()));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event,
+                "Import purchase order list from file in the background"));
+        raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
+        ReadOnlyInventory inventory = new InventorySnapshot(event.inventory);
+        submitImport("Importing purchase order list from " + event.filePath,
+            progressListener -> importPurchaseOrderList(inventory, event.filePath, progressListener),
+            PurchaseOrderListUpdateEvent::new);
+    }
+
+    @Override
+    @Subscribe
+    public void handleInventoryExportEvent(InventoryExportEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Export all lists to directory in the background"));
+        raise(new NewResultAvailableEvent(ExportCsvCommand.MESSAGE_EXPORT));
+        ReadOnlyInventory snapshot = new InventorySnapshot(event.data);
+        submitExport("Exporting all lists to " + event.directory,
+            progressListener -> exportInventory(snapshot, event.directory, progressListener), () -> {
+                for (String fileName : CsvSerializableInventory.FILES) {
+                    deletePartialExport(event.directory.resolve(fileName));
+                }
+            });
+    }
+
+    @Override
+    @Subscribe
+    public void handleInventoryImportEvent(InventoryImportEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Import all lists from directory in the background"));
+        raise(new NewResultAvailableEvent(ImportCsvCommand.MESSAGE_IMPORT));
+        submitImport("Importing all lists from " + event.directory,
+            progressListener -> importInventory(event.directory, progressListener), InventoryUpdateEvent::new);
+    }
+
+    @Override
+    @Subscribe
+    public void handleFileOperationCancelEvent(FileOperationCancelEvent event) {
+        int cancelledCount = fileOperations.cancel();
+        logger.info(LogsCenter.getEventHandlingLogMessage(event,
+                "Cancelled " + cancelledCount + " running imports and exports"));
+    }
+
+    /**
+     * Runs {@code export} in the background, and raises whether it succeeded once it is done.
+     * The file is deleted if the export is cancelled, so a partly written file is not left behind.
+     */
+    private void submitExport(String description, Path filePath, Export export) {
+        submitExport(description, export, () -> deletePartialExport(filePath));
+    }
+
+    /**
+     * Runs {@code export} in the background, and raises whether it succeeded once it is done.
+     * {@code onCancel} is run if the export is cancelled, to remove what has been written.
+     */
+    private void submitExport(String description, Export export, Runnable onCancel) {
+        fileOperations.submit(description, progressListener -> {
+            try {
+                export.run(progressListener);
+                return () -> raise(new DataExportingSuccessEvent());
+            } catch (IOException ioe) {
+                return () -> raise(new DataExportingExceptionEvent(ioe));
             }
+        }, onCancel);
+    }
+
+    /**
+     * Runs {@code dataImport} in the background, and once it is done, raises the event made by
+     * {@code toUpdateEvent} from the imported data, followed by whether the import succeeded.
+     */
+    private <T> void submitImport(String description, Import<T> dataImport, Function<T, BaseEvent> toUpdateEvent) {
+        fileOperations.submit(description, progressListener -> {
+            try {
+                Optional<T> data = dataImport.run(progressListener);
+                if (!data.isPresent()) {
+                    return () -> raise(new DataImportingExceptionEvent(new FileNotFoundException()));
+                }
+                return () -> {
+                    raise(toUpdateEvent.apply(data.get()));
+                    raise(new DataImportingSuccessEvent());
+                };
+            } catch (IOException | DataConversionException e) {
+                return () -> raise(new DataImportingExceptionEvent(e));
+            }
+        });
+    }
+
+    /**
+     * Deletes the file of a cancelled export.
+     */
+    private static void deletePartialExport(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
         } catch (IOException ioe) {
-            raise(new DataImportingExceptionEvent(ioe));
-        } catch (DataConversionException dce) {
-            raise(new DataImportingExceptionEvent(dce));
+            logger.warning("Failed to delete cancelled export " + filePath + ": " + ioe.getMessage());
         }
     }
 
+    /**
+     * Writes data to a file, reporting its progress.
+     */
+    @FunctionalInterface
+    private interface Export {
+        void run(ProgressListener progressListener) throws IOException;
+    }
+
+    /**
+     * Reads data from a file, reporting its progress.
+     */
+    @FunctionalInterface
+    private interface Import<T> {
+        Optional<T> run(ProgressListener progressListener) throws DataConversionException, IOException;
+    }
+
     // ================ Staffs methods ==============================
 
     @Override
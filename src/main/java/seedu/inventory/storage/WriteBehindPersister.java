@@ -0,0 +1,130 @@
+package seedu.inventory.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+
+/**
+ * Saves data on a single background thread, so that saving does not block the thread that changed the data.
+ *
+ * A save is written at most one flush interval after it is submitted. Saves submitted for the same file before
+ * then are coalesced, so only the latest state is written: a burst of changes results in a single write per file.
+ */
+class WriteBehindPersister {
+
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindPersister.class);
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long flushIntervalMillis;
+    private final Consumer<IOException> errorHandler;
+
+    /** The latest save submitted for each file, in the order the files were first submitted. */
+    private final Map<Path, Save> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    /**
+     * Writes saves on a background thread at most {@code flushIntervalMillis} after they are submitted, and passes
+     * the exceptions thrown by saves to {@code errorHandler} on that thread.
+     */
+    WriteBehindPersister(long flushIntervalMillis, Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Submits {@code save} to be written to {@code filePath}, replacing any save to the same file that has not
+     * been written yet. {@code save} must not depend on data that may change after it is submitted.
+     */
+    synchronized void submit(Path filePath, Save save) {
+        requireNonNull(filePath);
+        requireNonNull(save);
+        if (writer.isShutdown()) {
+            write(save);
+            return;
+        }
+
+        pendingSaves.put(filePath, save);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingSaves, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all submitted saves that have not been written yet, and waits until they are written.
+     */
+    void flush() {
+        if (writer.isShutdown()) {
+            return;
+        }
+
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (ExecutionException ee) {
+            logger.severe("Failed to write pending saves: " + ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes all submitted saves that have not been written yet, and stops the background thread.
+     */
+    void shutdown() {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Writes the saves submitted since the last write, in the order their files were first submitted.
+     */
+    private void writePendingSaves() {
+        List<Save> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        saves.forEach(this::write);
+    }
+
+    /**
+     * Writes {@code save}, passing any exception it throws to the error handler.
+     */
+    private void write(Save save) {
+        try {
+            save.write();
+        } catch (IOException ioe) {
+            errorHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes data to a file.
+     */
+    @FunctionalInterface
+    interface Save {
+        void write() throws IOException;
+    }
+}
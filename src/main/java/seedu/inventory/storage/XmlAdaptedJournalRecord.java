@@ -0,0 +1,75 @@
+package seedu.inventory.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB-friendly record of a mutation of a list in a journal, replacing the {@code removed} entries of the list
+ * starting at index {@code from} with the entries held by the record.
+ */
+@XmlRootElement(name = "record")
+public class XmlAdaptedJournalRecord {
+
+    public static final String ITEMS = "items";
+    public static final String PURCHASE_ORDERS = "purchaseOrders";
+    public static final String STAFFS = "staffs";
+
+    @XmlAttribute(required = true)
+    private String list;
+    @XmlAttribute(required = true)
+    private int from;
+    @XmlAttribute(required = true)
+    private int removed;
+
+    @XmlElement(name = "item")
+    private List<XmlAdaptedItem> items = new ArrayList<>();
+    @XmlElement(name = "purchaseOrder")
+    private List<XmlAdaptedPurchaseOrder> purchaseOrders = new ArrayList<>();
+    @XmlElement(name = "staff")
+    private List<XmlAdaptedStaff> staffs = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedJournalRecord.
+     * This is the default constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalRecord() {}
+
+    /**
+     * Constructs a record of the replacement of {@code removed} entries of {@code list} starting at {@code from}.
+     * The added entries are given through {@link #getItems()}, {@link #getPurchaseOrders()} or
+     * {@link #getStaffs()}, according to {@code list}.
+     */
+    public XmlAdaptedJournalRecord(String list, int from, int removed) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+    }
+
+    public String getList() {
+        return list;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public List<XmlAdaptedItem> getItems() {
+        return items;
+    }
+
+    public List<XmlAdaptedPurchaseOrder> getPurchaseOrders() {
+        return purchaseOrders;
+    }
+
+    public List<XmlAdaptedStaff> getStaffs() {
+        return staffs;
+    }
+}
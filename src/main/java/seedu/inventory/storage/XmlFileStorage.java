@@ -6,7 +6,17 @@ import java.nio.file.Path;
 import javax.xml.bind.JAXBException;
 
 import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.XmlElementReader;
+import seedu.inventory.commons.util.XmlElementWriter;
 import seedu.inventory.commons.util.XmlUtil;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
+import seedu.inventory.model.ReadOnlySaleList;
+import seedu.inventory.model.ReadOnlyStaffList;
+import seedu.inventory.model.SaleList;
 
 /**
  * Stores inventory data in an XML file
@@ -60,6 +70,21 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the sale list in the file, read element by element rather than through a
+     * {@code XmlSerializableSaleList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static SaleList loadSaleListFromSaveFile(Path file, ReadOnlyInventory inventory)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        try (XmlElementReader reader = new XmlElementReader(file, XmlSerializableSaleList.ROOT_ELEMENT)) {
+            return XmlSerializableSaleList.readSaleList(reader, inventory);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * @author darren96
      */
@@ -100,4 +125,110 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the inventory in the file, read element by element rather than through a
+     * {@code XmlSerializableInventory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static Inventory loadInventoryFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        try (XmlElementReader reader = new XmlElementReader(file, XmlSerializableInventory.ROOT_ELEMENT)) {
+            return XmlSerializableInventory.readInventory(reader);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Adds the items and purchase orders in the file to {@code inventory}, such as the purchase orders kept in a
+     * file of their own.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static void loadInventoryFromSaveFile(Path file, Inventory inventory) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        try (XmlElementReader reader = new XmlElementReader(file, XmlSerializableInventory.ROOT_ELEMENT)) {
+            XmlSerializableInventory.readInventory(reader, inventory);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves the given inventory to the specified file, element by element, in the format of
+     * {@code XmlSerializableInventory}.
+     */
+    public static void saveInventoryToFile(Path file, ReadOnlyInventory inventory) throws FileNotFoundException {
+        try (XmlElementWriter writer = new XmlElementWriter(file, XmlSerializableInventory.ROOT_ELEMENT)) {
+            XmlSerializableInventory.writeInventory(inventory, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the items of the given item list to the specified file, element by element, in the format of
+     * {@code XmlSerializableInventory}.
+     */
+    public static void saveItemListToFile(Path file, ReadOnlyItemList itemList) throws FileNotFoundException {
+        try (XmlElementWriter writer = new XmlElementWriter(file, XmlSerializableInventory.ROOT_ELEMENT)) {
+            XmlSerializableInventory.writeItemList(itemList, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the given purchase order list to the specified file, element by element, in the format of
+     * {@code XmlSerializableInventory}.
+     */
+    public static void savePurchaseOrderListToFile(Path file, ReadOnlyPurchaseOrderList purchaseOrderList)
+            throws FileNotFoundException {
+        try (XmlElementWriter writer = new XmlElementWriter(file, XmlSerializableInventory.ROOT_ELEMENT)) {
+            XmlSerializableInventory.writePurchaseOrderList(purchaseOrderList, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the given sale list to the specified file, element by element, in the format of
+     * {@code XmlSerializableSaleList}.
+     */
+    public static void saveSaleListToFile(Path file, ReadOnlySaleList saleList) throws FileNotFoundException {
+        try (XmlElementWriter writer = new XmlElementWriter(file, XmlSerializableSaleList.ROOT_ELEMENT)) {
+            XmlSerializableSaleList.writeSaleList(saleList, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the staff list in the file, read element by element rather than through a
+     * {@code XmlSerializableStaffList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static ReadOnlyStaffList loadStaffListFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        try (XmlElementReader reader = new XmlElementReader(file, XmlSerializableStaffList.ROOT_ELEMENT)) {
+            return XmlSerializableStaffList.readStaffList(reader);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves the given staff list to the specified file, element by element, in the format of
+     * {@code XmlSerializableStaffList}.
+     */
+    public static void saveStaffListToFile(Path file, ReadOnlyStaffList staffList) throws FileNotFoundException {
+        try (XmlElementWriter writer = new XmlElementWriter(file, XmlSerializableStaffList.ROOT_ELEMENT)) {
+            XmlSerializableStaffList.writeStaffList(staffList, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
 }
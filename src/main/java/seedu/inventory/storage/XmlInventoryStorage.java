@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,14 +14,20 @@ import seedu.inventory.commons.core.LogsCenter;
 import seedu.inventory.commons.exceptions.DataConversionException;
 import seedu.inventory.commons.exceptions.IllegalValueException;
 import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
 import seedu.inventory.model.ReadOnlyStaffList;
 
 /**
- * A class to access Inventory data stored as an xml file on the hard disk.
+ * A class to access Inventory data stored as xml files on the hard disk, one for the items and one for the purchase
+ * orders.
  */
 public class XmlInventoryStorage implements InventoryStorage {
 
+    public static final String PURCHASE_ORDER_FILE_INFIX = ".purchaseOrders";
+
     private static final Logger logger = LogsCenter.getLogger(XmlInventoryStorage.class);
 
     private Path filePath;
@@ -35,6 +42,25 @@ public class XmlInventoryStorage implements InventoryStorage {
         return filePath;
     }
 
+    @Override
+    public Path getPurchaseOrderListFilePath() {
+        return getPurchaseOrderListFilePath(filePath);
+    }
+
+    /**
+     * Returns the purchase order data file that belongs to the inventory data file at {@code inventoryFilePath}.
+     * eg. {@code data/inventory.xml} keeps its purchase orders in {@code data/inventory.purchaseOrders.xml}.
+     */
+    public static Path getPurchaseOrderListFilePath(Path inventoryFilePath) {
+        String fileName = inventoryFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        if (extensionIndex <= 0) {
+            return inventoryFilePath.resolveSibling(fileName + PURCHASE_ORDER_FILE_INFIX);
+        }
+        return inventoryFilePath.resolveSibling(fileName.substring(0, extensionIndex) + PURCHASE_ORDER_FILE_INFIX
+                + fileName.substring(extensionIndex));
+    }
+
     @Override
     public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
         return readInventory(filePath);
@@ -42,6 +68,8 @@ public class XmlInventoryStorage implements InventoryStorage {
 
     /**
      * Similar to {@link #readInventory()}
+     * Inventory data files written before purchase orders had a file of their own still hold the purchase orders,
+     * which are read from there until the purchase order data file is written.
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
@@ -54,9 +82,14 @@ public class XmlInventoryStorage implements InventoryStorage {
             return Optional.empty();
         }
 
-        XmlSerializableInventory xmlInventory = XmlFileStorage.loadDataFromSaveFile(filePath);
+        Path purchaseOrderFilePath = getPurchaseOrderListFilePath(filePath);
         try {
-            return Optional.of(xmlInventory.toModelType());
+            Inventory inventory = XmlFileStorage.loadInventoryFromSaveFile(filePath);
+            if (Files.exists(purchaseOrderFilePath)) {
+                inventory.setPurchaseOrders(new ArrayList<>());
+                XmlFileStorage.loadInventoryFromSaveFile(purchaseOrderFilePath, inventory);
+            }
+            return Optional.of(inventory);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -76,8 +109,69 @@ public class XmlInventoryStorage implements InventoryStorage {
         requireNonNull(inventory);
         requireNonNull(filePath);
 
+        savePurchaseOrderList(inventory, getPurchaseOrderListFilePath(filePath));
+        saveItemList(inventory, filePath);
+    }
+
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList) throws IOException {
+        saveItemList(itemList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveItemList(ReadOnlyItemList)}
+     * The purchase orders still held by an inventory data file of the old format are first moved to their own file.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        requireNonNull(itemList);
+        requireNonNull(filePath);
+
+        Path purchaseOrderFilePath = getPurchaseOrderListFilePath(filePath);
+        if (Files.exists(filePath) && !Files.exists(purchaseOrderFilePath)) {
+            movePurchaseOrderList(filePath, purchaseOrderFilePath);
+        }
+
+        FileUtil.createIfMissing(filePath);
+        XmlFileStorage.saveItemListToFile(filePath, itemList);
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) throws IOException {
+        savePurchaseOrderList(purchaseOrderList, getPurchaseOrderListFilePath());
+    }
+
+    /**
+     * Similar to {@link #savePurchaseOrderList(ReadOnlyPurchaseOrderList)}
+     * @param filePath location of the purchase order data. Cannot be null
+     */
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+            throws IOException {
+        requireNonNull(purchaseOrderList);
+        requireNonNull(filePath);
+
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableInventory(inventory));
+        XmlFileStorage.savePurchaseOrderListToFile(filePath, purchaseOrderList);
+    }
+
+    /**
+     * Writes the purchase orders held by the inventory data file at {@code filePath} to
+     * {@code purchaseOrderFilePath}. Purchase orders that cannot be read are dropped, as the data file is about to
+     * be replaced.
+     */
+    private void movePurchaseOrderList(Path filePath, Path purchaseOrderFilePath) throws IOException {
+        Optional<ReadOnlyInventory> oldInventory;
+        try {
+            oldInventory = readInventory(filePath);
+        } catch (DataConversionException dce) {
+            logger.warning("Purchase orders in " + filePath + " could not be read: " + dce.getMessage());
+            return;
+        }
+        if (oldInventory.isPresent()) {
+            savePurchaseOrderList(oldInventory.get(), purchaseOrderFilePath);
+        }
     }
 
     // Staff List
@@ -121,9 +215,8 @@ public class XmlInventoryStorage implements InventoryStorage {
             return Optional.empty();
         }
 
-        XmlSerializableStaffList xmlStaffList = XmlFileStorage.loadStaffsDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlStaffList.toModelType());
+            return Optional.of(XmlFileStorage.loadStaffListFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -155,7 +248,7 @@ public class XmlInventoryStorage implements InventoryStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveStaffsDataToFile(filePath, new XmlSerializableStaffList(staffList));
+        XmlFileStorage.saveStaffListToFile(filePath, staffList);
     }
 
 }
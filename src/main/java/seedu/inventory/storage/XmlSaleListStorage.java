@@ -50,10 +50,8 @@ public class XmlSaleListStorage implements SaleListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableSaleList xmlSaleList = XmlFileStorage.loadSaleListFromSaveFile(filePath);
-
         try {
-            return Optional.of(xmlSaleList.toModelType(inventory));
+            return Optional.of(XmlFileStorage.loadSaleListFromSaveFile(filePath, inventory));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +72,7 @@ public class XmlSaleListStorage implements SaleListStorage {
 
         FileUtil.createIfMissing(filePath);
 
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaleList(saleList));
+        XmlFileStorage.saveSaleListToFile(filePath, saleList);
     }
 
 }
@@ -4,12 +4,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.XmlElementReader;
+import seedu.inventory.commons.util.XmlElementWriter;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
 import seedu.inventory.model.item.Item;
 import seedu.inventory.model.purchaseorder.PurchaseOrder;
 
@@ -21,6 +26,10 @@ public class XmlSerializableInventory {
 
     public static final String MESSAGE_DUPLICATE_ITEM = "Inventory list contains duplicate item(s).";
 
+    static final String ROOT_ELEMENT = "inventory";
+    private static final String ITEM_ELEMENT = "items";
+    private static final String PURCHASE_ORDER_ELEMENT = "purchaseOrders";
+
     @XmlElement
     private List<XmlAdaptedItem> items;
     @XmlElement
@@ -70,6 +79,79 @@ public class XmlSerializableInventory {
         return inventory;
     }
 
+    /**
+     * Reads an inventory from {@code reader}, converting each item and purchase order into the model's object as
+     * it is read, in the format of this class.
+     *
+     * @throws JAXBException if the elements are not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the items.
+     */
+    public static Inventory readInventory(XmlElementReader reader) throws JAXBException, IllegalValueException {
+        Inventory inventory = new Inventory();
+        readInventory(reader, inventory);
+        return inventory;
+    }
+
+    /**
+     * Adds the items and purchase orders read from {@code reader} to {@code inventory}, as
+     * {@link #readInventory(XmlElementReader)} does.
+     * Purchase orders of items that are not in {@code inventory} are left out.
+     */
+    public static void readInventory(XmlElementReader reader, Inventory inventory) throws JAXBException,
+            IllegalValueException {
+        while (reader.nextElement()) {
+            switch (reader.getElementName()) {
+            case ITEM_ELEMENT:
+                Item item = reader.readElement(XmlAdaptedItem.class).toModelType();
+                if (inventory.hasItem(item)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+                }
+                inventory.addItem(item);
+                break;
+            case PURCHASE_ORDER_ELEMENT:
+                inventory.addPurchaseOrder(reader.readElement(XmlAdaptedPurchaseOrder.class).toModelType());
+                break;
+            default:
+                // unknown elements are skipped, as when unmarshalling this class
+            }
+        }
+    }
+
+    /**
+     * Writes {@code src} to {@code writer} item by item and purchase order by purchase order, in the format of
+     * this class.
+     *
+     * @throws JAXBException if there was any problem writing the elements.
+     */
+    public static void writeInventory(ReadOnlyInventory src, XmlElementWriter writer) throws JAXBException {
+        writeItemList(src, writer);
+        writePurchaseOrderList(src, writer);
+    }
+
+    /**
+     * Writes the items of {@code src} to {@code writer}, in the format of this class.
+     *
+     * @throws JAXBException if there was any problem writing the elements.
+     */
+    public static void writeItemList(ReadOnlyItemList src, XmlElementWriter writer) throws JAXBException {
+        for (Item item : src.getItemList()) {
+            writer.writeElement(ITEM_ELEMENT, XmlAdaptedItem.class, new XmlAdaptedItem(item));
+        }
+    }
+
+    /**
+     * Writes the purchase orders of {@code src} to {@code writer}, in the format of this class.
+     *
+     * @throws JAXBException if there was any problem writing the elements.
+     */
+    public static void writePurchaseOrderList(ReadOnlyPurchaseOrderList src, XmlElementWriter writer)
+            throws JAXBException {
+        for (PurchaseOrder po : src.getPurchaseOrderList()) {
+            writer.writeElement(PURCHASE_ORDER_ELEMENT, XmlAdaptedPurchaseOrder.class,
+                    new XmlAdaptedPurchaseOrder(po));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
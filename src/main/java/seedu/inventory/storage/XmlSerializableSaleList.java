@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.XmlElementReader;
+import seedu.inventory.commons.util.XmlElementWriter;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlySaleList;
 import seedu.inventory.model.SaleList;
@@ -21,6 +24,9 @@ public class XmlSerializableSaleList {
 
     public static final String MESSAGE_DUPLICATE_SALE = "Sale list contains duplicate sale(s).";
 
+    static final String ROOT_ELEMENT = "sales";
+    private static final String SALE_ELEMENT = "sale";
+
     @XmlElement(name = "sale")
     private List<XmlAdaptedSale> saleList;
 
@@ -59,6 +65,40 @@ public class XmlSerializableSaleList {
         return saleList;
     }
 
+    /**
+     * Reads a sale list from {@code reader}, converting each sale into the model's object as it is read, in the
+     * format of this class.
+     *
+     * @throws JAXBException if the elements are not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the sales.
+     */
+    public static SaleList readSaleList(XmlElementReader reader, ReadOnlyInventory inventory)
+            throws JAXBException, IllegalValueException {
+        SaleList saleList = new SaleList();
+        while (reader.nextElement()) {
+            if (!reader.getElementName().equals(SALE_ELEMENT)) {
+                continue;
+            }
+            Sale sale = reader.readElement(XmlAdaptedSale.class).toModelType(inventory);
+            if (saleList.hasSale(sale)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SALE);
+            }
+            saleList.addSale(sale);
+        }
+        return saleList;
+    }
+
+    /**
+     * Writes {@code src} to {@code writer} sale by sale, in the format of this class.
+     *
+     * @throws JAXBException if there was any problem writing the elements.
+     */
+    public static void writeSaleList(ReadOnlySaleList src, XmlElementWriter writer) throws JAXBException {
+        for (Sale sale : src.getSaleList()) {
+            writer.writeElement(SALE_ELEMENT, XmlAdaptedSale.class, new XmlAdaptedSale(sale));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
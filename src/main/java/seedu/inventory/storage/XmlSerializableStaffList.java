@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.XmlElementReader;
+import seedu.inventory.commons.util.XmlElementWriter;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ReadOnlyStaffList;
 import seedu.inventory.model.staff.Staff;
@@ -21,6 +24,9 @@ public class XmlSerializableStaffList {
 
     public static final String MESSAGE_DUPLICATE_STAFF = "Staff list contains duplicate staff(s).";
 
+    static final String ROOT_ELEMENT = "staffList";
+    private static final String STAFF_ELEMENT = "staffs";
+
     @XmlElement
     private List<XmlAdaptedStaff> staffs;
 
@@ -60,6 +66,40 @@ public class XmlSerializableStaffList {
         return staffList;
     }
 
+    /**
+     * Reads a staff list from {@code reader}, converting each staff into the model's object as it is read, in the
+     * format of this class.
+     *
+     * @throws JAXBException if the elements are not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the staffs.
+     */
+    public static ReadOnlyStaffList readStaffList(XmlElementReader reader)
+            throws JAXBException, IllegalValueException {
+        Inventory staffList = new Inventory();
+        while (reader.nextElement()) {
+            if (!reader.getElementName().equals(STAFF_ELEMENT)) {
+                continue;
+            }
+            Staff staff = reader.readElement(XmlAdaptedStaff.class).toModelType();
+            if (staffList.hasStaff(staff)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STAFF);
+            }
+            staffList.addStaff(staff);
+        }
+        return staffList;
+    }
+
+    /**
+     * Writes {@code src} to {@code writer} staff by staff, in the format of this class.
+     *
+     * @throws JAXBException if there was any problem writing the elements.
+     */
+    public static void writeStaffList(ReadOnlyStaffList src, XmlElementWriter writer) throws JAXBException {
+        for (Staff staff : src.getStaffList()) {
+            writer.writeElement(STAFF_ELEMENT, XmlAdaptedStaff.class, new XmlAdaptedStaff(staff));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (!(other instanceof XmlSerializableStaffList)) {
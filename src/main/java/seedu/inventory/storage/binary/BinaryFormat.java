@@ -0,0 +1,52 @@
+package seedu.inventory.storage.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Describes the binary format of the data files.
+ * A file starts with a header holding the {@link #MAGIC} bytes, the format version, the kind of data in the file,
+ * and the length and CRC32 checksum of the payload. The payload holds a dictionary of the strings that repeat across
+ * records, such as SKUs, tags and suppliers, followed by the records, each prefixed by its length.
+ * Numbers are written as unsigned LEB128 varints.
+ */
+public class BinaryFormat {
+
+    public static final int VERSION = 1;
+
+    static final byte[] MAGIC = {'I', 'M', 'S', 'B'};
+
+    static final byte KIND_INVENTORY = 'I';
+    static final byte KIND_STAFF_LIST = 'S';
+    static final byte KIND_SALE_LIST = 'L';
+
+    static final int RECORD_ITEM = 1;
+    static final int RECORD_PURCHASE_ORDER = 2;
+    static final int RECORD_STAFF = 3;
+    static final int RECORD_SALE = 4;
+
+    /**
+     * Returns true if {@code file} starts with the header of a binary data file.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        byte[] magic = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read = 0;
+            while (read < magic.length) {
+                int count = in.read(magic, read, magic.length - read);
+                if (count == -1) {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals(magic, MAGIC);
+    }
+}
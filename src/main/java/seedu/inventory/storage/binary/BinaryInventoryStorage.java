@@ -0,0 +1,339 @@
+package seedu.inventory.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlyItemList;
+import seedu.inventory.model.ReadOnlyPurchaseOrderList;
+import seedu.inventory.model.ReadOnlyStaffList;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.Price;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.staff.Staff;
+import seedu.inventory.model.tag.Tag;
+import seedu.inventory.storage.InventoryStorage;
+import seedu.inventory.storage.XmlAdaptedItem;
+import seedu.inventory.storage.XmlAdaptedPurchaseOrder;
+import seedu.inventory.storage.XmlAdaptedStaff;
+import seedu.inventory.storage.XmlAdaptedTag;
+import seedu.inventory.storage.XmlFileStorage;
+import seedu.inventory.storage.XmlInventoryStorage;
+import seedu.inventory.storage.XmlSerializableInventory;
+import seedu.inventory.storage.XmlSerializableStaffList;
+
+/**
+ * A class to access Inventory data stored in the {@link BinaryFormat} on the hard disk, with the items and the
+ * purchase orders in files of their own.
+ * Data files that are not in the binary format are read as xml files, so that existing xml files can still be read
+ * and are written in the binary format on the next save.
+ */
+public class BinaryInventoryStorage implements InventoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInventoryStorage.class);
+
+    private final Path filePath;
+    private final Path staffFilePath;
+    private final XmlInventoryStorage xmlStorage;
+
+    public BinaryInventoryStorage(Path filePath, Path staffFilePath) {
+        this.filePath = filePath;
+        this.staffFilePath = staffFilePath;
+        this.xmlStorage = new XmlInventoryStorage(filePath, staffFilePath);
+    }
+
+    @Override
+    public Path getInventoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getPurchaseOrderListFilePath() {
+        return XmlInventoryStorage.getPurchaseOrderListFilePath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Inventory file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Path purchaseOrderFilePath = XmlInventoryStorage.getPurchaseOrderListFilePath(filePath);
+        try {
+            Inventory inventory = new Inventory();
+            readInventoryFile(filePath, inventory);
+            if (Files.exists(purchaseOrderFilePath)) {
+                inventory.setPurchaseOrders(new ArrayList<>());
+                readInventoryFile(purchaseOrderFilePath, inventory);
+            }
+            return Optional.of(inventory);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, filePath);
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(filePath);
+
+        savePurchaseOrderList(inventory, XmlInventoryStorage.getPurchaseOrderListFilePath(filePath));
+        saveItemList(inventory, filePath);
+    }
+
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList) throws IOException {
+        saveItemList(itemList, filePath);
+    }
+
+    @Override
+    public void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        requireNonNull(itemList);
+        requireNonNull(filePath);
+
+        Path purchaseOrderFilePath = XmlInventoryStorage.getPurchaseOrderListFilePath(filePath);
+        if (Files.exists(filePath) && !Files.exists(purchaseOrderFilePath)) {
+            movePurchaseOrderList(filePath, purchaseOrderFilePath);
+        }
+
+        FileUtil.createIfMissing(filePath);
+        encodeItemList(itemList).writeTo(filePath);
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) throws IOException {
+        savePurchaseOrderList(purchaseOrderList, getPurchaseOrderListFilePath());
+    }
+
+    @Override
+    public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+            throws IOException {
+        requireNonNull(purchaseOrderList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        encodePurchaseOrderList(purchaseOrderList).writeTo(filePath);
+    }
+
+    /**
+     * Adds the items and purchase orders in the inventory data file at {@code file}, binary or xml, to
+     * {@code inventory}.
+     */
+    private static void readInventoryFile(Path file, Inventory inventory) throws DataConversionException,
+            IOException, IllegalValueException {
+        if (BinaryFormat.isBinaryFile(file)) {
+            decodeInventory(new BinaryRecordReader(file, BinaryFormat.KIND_INVENTORY), inventory);
+        } else {
+            logger.info("Inventory file " + file + " is not in the binary format, reading it as xml");
+            XmlFileStorage.loadInventoryFromSaveFile(file, inventory);
+        }
+    }
+
+    /**
+     * Writes the purchase orders held by the inventory data file at {@code filePath}, which was written before
+     * purchase orders had a file of their own, to {@code purchaseOrderFilePath}.
+     * Purchase orders that cannot be read are dropped, as the data file is about to be replaced.
+     */
+    private void movePurchaseOrderList(Path filePath, Path purchaseOrderFilePath) throws IOException {
+        Inventory oldInventory = new Inventory();
+        try {
+            readInventoryFile(filePath, oldInventory);
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Purchase orders in " + filePath + " could not be read: " + e.getMessage());
+            return;
+        }
+        savePurchaseOrderList(oldInventory, purchaseOrderFilePath);
+    }
+
+    // Staff List
+
+    @Override
+    public Path getStaffListFilePath() {
+        return staffFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStaffList> readStaffList() throws DataConversionException, IOException {
+        return readStaffList(staffFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStaffList> readStaffList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Staff file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!BinaryFormat.isBinaryFile(filePath)) {
+            logger.info("Staff file " + filePath + " is not in the binary format, reading it as xml");
+            return xmlStorage.readStaffList(filePath);
+        }
+
+        try {
+            return Optional.of(decodeStaffList(new BinaryRecordReader(filePath, BinaryFormat.KIND_STAFF_LIST)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveStaffList(ReadOnlyStaffList staffList) throws IOException {
+        saveStaffList(staffList, staffFilePath);
+    }
+
+    @Override
+    public void saveStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException {
+        requireNonNull(staffList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        encodeStaffList(staffList).writeTo(filePath);
+    }
+
+    // Conversion
+
+    /**
+     * Returns the records of the items in {@code itemList}.
+     */
+    private static BinaryRecordWriter encodeItemList(ReadOnlyItemList itemList) {
+        BinaryRecordWriter writer = new BinaryRecordWriter(BinaryFormat.KIND_INVENTORY);
+        for (Item item : itemList.getItemList()) {
+            writer.beginRecord(BinaryFormat.RECORD_ITEM);
+            writer.writeString(item.getName().fullName);
+            writer.writeNumber(item.getPrice().getCents());
+            writer.writeNumber(item.getQuantity().getIntValue());
+            writer.writeDictionaryString(item.getSku().value);
+            writer.writeString(item.getImage().value);
+            writer.writeNumber(item.getTags().size());
+            for (Tag tag : item.getTags()) {
+                writer.writeDictionaryString(tag.tagName);
+            }
+            writer.endRecord();
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the records of the purchase orders in {@code purchaseOrderList}.
+     */
+    private static BinaryRecordWriter encodePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList) {
+        BinaryRecordWriter writer = new BinaryRecordWriter(BinaryFormat.KIND_INVENTORY);
+        for (PurchaseOrder po : purchaseOrderList.getPurchaseOrderList()) {
+            writer.beginRecord(BinaryFormat.RECORD_PURCHASE_ORDER);
+            writer.writeDictionaryString(po.getSku().value);
+            writer.writeNumber(po.getQuantity().getIntValue());
+            writer.writeString(po.getReqDate().requiredDate);
+            writer.writeDictionaryString(po.getSupplier().supplierName);
+            writer.writeDictionaryString(po.getStatus().name());
+            writer.endRecord();
+        }
+        return writer;
+    }
+
+    /**
+     * Adds the items and purchase orders held by the records in {@code reader} to {@code inventory}, validated as
+     * when read from an xml file.
+     */
+    private static void decodeInventory(BinaryRecordReader reader, Inventory inventory)
+            throws IllegalValueException {
+        for (int type = reader.nextRecord(); type != -1; type = reader.nextRecord()) {
+            if (type == BinaryFormat.RECORD_ITEM) {
+                String name = reader.readString();
+                String price = Price.formatCents(reader.readNumber());
+                String quantity = Long.toString(reader.readNumber());
+                String sku = reader.readDictionaryString();
+                String image = reader.readString();
+                List<XmlAdaptedTag> tags = new ArrayList<>();
+                for (long i = reader.readNumber(); i > 0; i--) {
+                    tags.add(new XmlAdaptedTag(reader.readDictionaryString()));
+                }
+
+                Item item = new XmlAdaptedItem(name, price, quantity, sku, image, tags).toModelType();
+                if (inventory.hasItem(item)) {
+                    throw new IllegalValueException(XmlSerializableInventory.MESSAGE_DUPLICATE_ITEM);
+                }
+                inventory.addItem(item);
+            } else if (type == BinaryFormat.RECORD_PURCHASE_ORDER) {
+                String sku = reader.readDictionaryString();
+                String quantity = Long.toString(reader.readNumber());
+                String reqDate = reader.readString();
+                String supplier = reader.readDictionaryString();
+                String status = reader.readDictionaryString();
+                inventory.addPurchaseOrder(
+                        new XmlAdaptedPurchaseOrder(sku, quantity, reqDate, supplier, status).toModelType());
+            }
+        }
+    }
+
+    /**
+     * Returns the records of the staffs in {@code staffList}.
+     */
+    private static BinaryRecordWriter encodeStaffList(ReadOnlyStaffList staffList) {
+        BinaryRecordWriter writer = new BinaryRecordWriter(BinaryFormat.KIND_STAFF_LIST);
+        for (Staff staff : staffList.getStaffList()) {
+            writer.beginRecord(BinaryFormat.RECORD_STAFF);
+            writer.writeString(staff.getUsername().username);
+            writer.writeString(staff.getPassword().password);
+            writer.writeString(staff.getStaffName().fullName);
+            writer.writeDictionaryString(staff.getRole().name());
+            writer.endRecord();
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the staff list held by the records in {@code reader}, validated as when read from an xml file.
+     */
+    private static ReadOnlyStaffList decodeStaffList(BinaryRecordReader reader) throws IllegalValueException {
+        Inventory staffList = new Inventory();
+        for (int type = reader.nextRecord(); type != -1; type = reader.nextRecord()) {
+            if (type != BinaryFormat.RECORD_STAFF) {
+                continue;
+            }
+            String username = reader.readString();
+            String password = reader.readString();
+            String name = reader.readString();
+            Staff.Role role;
+            try {
+                role = Staff.Role.valueOf(reader.readDictionaryString());
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(Staff.Role.MESSAGE_ROLE_CONSTRAINTS);
+            }
+
+            Staff staff = new XmlAdaptedStaff(username, password, name, role).toModelType();
+            if (staffList.hasStaff(staff)) {
+                throw new IllegalValueException(XmlSerializableStaffList.MESSAGE_DUPLICATE_STAFF);
+            }
+            staffList.addStaff(staff);
+        }
+        return staffList;
+    }
+}
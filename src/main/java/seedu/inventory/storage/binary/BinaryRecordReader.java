@@ -0,0 +1,153 @@
+package seedu.inventory.storage.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the records of a data file in the {@link BinaryFormat}, one at a time.
+ * Fields that a record holds beyond those read, such as fields added by a later version of the format, are skipped.
+ */
+class BinaryRecordReader {
+
+    static final String MESSAGE_CORRUPTED_FILE = "Binary data file is corrupted";
+    static final String MESSAGE_UNSUPPORTED_FILE = "Binary data file is of an unsupported version or kind";
+
+    private final ByteBuffer buffer;
+    private final String[] dictionary;
+    private int remainingRecords;
+    private int recordEnd = -1;
+
+    /**
+     * Reads the header and dictionary of {@code file}, which must hold data of the given kind.
+     *
+     * @throws IllegalValueException if the file is not a valid binary data file of the given kind.
+     */
+    BinaryRecordReader(Path file, byte kind) throws IOException, IllegalValueException {
+        buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            byte[] magic = new byte[BinaryFormat.MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, BinaryFormat.MAGIC)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (readVarint() > BinaryFormat.VERSION || buffer.get() != kind) {
+                throw new IllegalValueException(MESSAGE_UNSUPPORTED_FILE);
+            }
+
+            int payloadLength = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (payloadLength != buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), buffer.position(), payloadLength);
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            dictionary = new String[readLength()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString();
+            }
+            remainingRecords = readLength();
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Moves to the next record, skipping the rest of the current one, and returns its type.
+     * Returns -1 if there are no more records.
+     */
+    int nextRecord() throws IllegalValueException {
+        try {
+            if (recordEnd != -1) {
+                buffer.position(recordEnd);
+            }
+            if (remainingRecords == 0) {
+                return -1;
+            }
+            remainingRecords--;
+            int length = readLength();
+            recordEnd = buffer.position() + length;
+            return (int) readNumber();
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Reads a number of the current record.
+     */
+    long readNumber() throws IllegalValueException {
+        checkInRecord();
+        return readVarint();
+    }
+
+    /**
+     * Reads a string of the current record.
+     */
+    String readString() throws IllegalValueException {
+        int length = readLength();
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        String value = new String(buffer.array(), buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads a string of the current record that was written as an index into the dictionary.
+     */
+    String readDictionaryString() throws IllegalValueException {
+        long index = readNumber();
+        if (index >= dictionary.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return dictionary[(int) index];
+    }
+
+    private void checkInRecord() throws IllegalValueException {
+        if (recordEnd != -1 && buffer.position() >= recordEnd) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Reads a length, which must fit in an int.
+     */
+    private int readLength() throws IllegalValueException {
+        long length = readVarint();
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     */
+    private long readVarint() throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.inventory.storage.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Writes records to a data file in the {@link BinaryFormat}.
+ * The fields of a record are written between {@link #beginRecord(int)} and {@link #endRecord()}, and the file is
+ * written by {@link #writeTo(Path)} once all the records are written.
+ */
+class BinaryRecordWriter {
+
+    private final byte kind;
+    private final Map<String, Integer> dictionaryIndexes = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private int recordCount;
+
+    BinaryRecordWriter(byte kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Starts a record of the given type.
+     */
+    void beginRecord(int type) {
+        assert record.size() == 0;
+        writeVarint(record, type);
+    }
+
+    /**
+     * Ends the record started by {@link #beginRecord(int)}.
+     */
+    void endRecord() {
+        byte[] bytes = record.toByteArray();
+        writeVarint(records, bytes.length);
+        records.write(bytes, 0, bytes.length);
+        record.reset();
+        recordCount++;
+    }
+
+    void writeNumber(long value) {
+        writeVarint(record, value);
+    }
+
+    void writeString(String value) {
+        writeBytes(record, value);
+    }
+
+    /**
+     * Writes {@code value} as an index into the dictionary, for strings that repeat across records.
+     */
+    void writeDictionaryString(String value) {
+        Integer index = dictionaryIndexes.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndexes.put(value, index);
+        }
+        writeVarint(record, index);
+    }
+
+    /**
+     * Writes the header, dictionary and records to {@code file}, replacing its contents.
+     */
+    void writeTo(Path file) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(records.size() + dictionary.size() * 16 + 16);
+        writeVarint(payload, dictionary.size());
+        for (String value : dictionary) {
+            writeBytes(payload, value);
+        }
+        writeVarint(payload, recordCount);
+        records.writeTo(payload);
+
+        CRC32 crc = new CRC32();
+        byte[] payloadBytes = payload.toByteArray();
+        crc.update(payloadBytes);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(BinaryFormat.MAGIC);
+        writeVarint(header, BinaryFormat.VERSION);
+        header.write(kind);
+        header.write(ByteBuffer.allocate(Integer.BYTES * 2).putInt(payloadBytes.length).putInt((int) crc.getValue())
+                .array());
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            header.writeTo(out);
+            out.write(payloadBytes);
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length followed by its UTF-8 bytes.
+     */
+    private static void writeBytes(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes {@code value}, which cannot be negative, as an unsigned LEB128 varint.
+     */
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
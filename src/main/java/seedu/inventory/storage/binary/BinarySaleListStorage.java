@@ -0,0 +1,120 @@
+package seedu.inventory.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlySaleList;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.storage.SaleListStorage;
+import seedu.inventory.storage.XmlAdaptedSale;
+import seedu.inventory.storage.XmlSaleListStorage;
+import seedu.inventory.storage.XmlSerializableSaleList;
+
+/**
+ * A class to access Sale List data stored in the {@link BinaryFormat} on the hard disk.
+ * Data files that are not in the binary format are read as xml files.
+ */
+public class BinarySaleListStorage implements SaleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySaleListStorage.class);
+
+    private final Path filePath;
+    private final XmlSaleListStorage xmlStorage = new XmlSaleListStorage();
+
+    public BinarySaleListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSaleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySaleList> readSaleList(ReadOnlyInventory inventory) throws DataConversionException,
+            IOException {
+        return readSaleList(filePath, inventory);
+    }
+
+    @Override
+    public Optional<ReadOnlySaleList> readSaleList(Path filePath, ReadOnlyInventory inventory)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, inventory);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Sale List file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!BinaryFormat.isBinaryFile(filePath)) {
+            logger.info("Sale List file " + filePath + " is not in the binary format, reading it as xml");
+            return xmlStorage.readSaleList(filePath, inventory);
+        }
+
+        try {
+            return Optional.of(decodeSaleList(new BinaryRecordReader(filePath, BinaryFormat.KIND_SALE_LIST),
+                    inventory));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSaleList(ReadOnlySaleList saleList) throws IOException {
+        saveSaleList(saleList, filePath);
+    }
+
+    @Override
+    public void saveSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException {
+        requireNonNull(saleList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryRecordWriter writer = new BinaryRecordWriter(BinaryFormat.KIND_SALE_LIST);
+        for (Sale sale : saleList.getSaleList()) {
+            writer.beginRecord(BinaryFormat.RECORD_SALE);
+            writer.writeString(sale.getSaleId().toString());
+            writer.writeDictionaryString(sale.getItem().getSku().toString());
+            writer.writeNumber(sale.getSaleQuantity().getIntValue());
+            writer.writeString(sale.getSaleDate().toString());
+            writer.endRecord();
+        }
+        writer.writeTo(filePath);
+    }
+
+    /**
+     * Returns the sale list held by the records in {@code reader}, validated as when read from an xml file.
+     */
+    private static SaleList decodeSaleList(BinaryRecordReader reader, ReadOnlyInventory inventory)
+            throws IllegalValueException {
+        SaleList saleList = new SaleList();
+        for (int type = reader.nextRecord(); type != -1; type = reader.nextRecord()) {
+            if (type != BinaryFormat.RECORD_SALE) {
+                continue;
+            }
+            String saleId = reader.readString();
+            String sku = reader.readDictionaryString();
+            String quantity = Long.toString(reader.readNumber());
+            String saleDate = reader.readString();
+
+            Sale sale = new XmlAdaptedSale(saleId, sku, quantity, saleDate).toModelType(inventory);
+            if (saleList.hasSale(sale)) {
+                throw new IllegalValueException(XmlSerializableSaleList.MESSAGE_DUPLICATE_SALE);
+            }
+            saleList.addSale(sale);
+        }
+        return saleList;
+    }
+}
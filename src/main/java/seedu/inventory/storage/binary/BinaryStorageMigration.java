@@ -0,0 +1,83 @@
+package seedu.inventory.storage.binary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlySaleList;
+import seedu.inventory.model.ReadOnlyStaffList;
+import seedu.inventory.storage.JournaledInventoryStorage;
+
+/**
+ * Rewrites xml data files in the {@link BinaryFormat}, and the sale list as sale records, in one go.
+ */
+public class BinaryStorageMigration {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStorageMigration.class);
+
+    /**
+     * Rewrites each of the given data files that is not in the binary format, together with the changes in its
+     * journal, in the binary format, and the sale list as sale records. Missing files are left missing.
+     *
+     * @throws DataConversionException if a file is not in the expected format, in which case it is left as is.
+     */
+    public static void migrate(Path inventoryFile, Path staffFile, Path saleFile)
+            throws DataConversionException, IOException {
+        BinaryInventoryStorage binaryStorage = new BinaryInventoryStorage(inventoryFile, staffFile);
+        JournaledInventoryStorage journaledStorage = new JournaledInventoryStorage(binaryStorage);
+
+        Path purchaseOrderFile = binaryStorage.getPurchaseOrderListFilePath();
+        boolean isInventoryBinary = BinaryFormat.isBinaryFile(inventoryFile);
+        boolean isPurchaseOrderListBinary = BinaryFormat.isBinaryFile(purchaseOrderFile);
+        Optional<ReadOnlyInventory> inventory = journaledStorage.readInventory();
+        if (inventory.isPresent() && !isPurchaseOrderListBinary) {
+            replace(purchaseOrderFile, file -> binaryStorage.savePurchaseOrderList(inventory.get(), file));
+        }
+        // an inventory file without a purchase order file of its own may still hold the purchase orders
+        if (inventory.isPresent() && (!isInventoryBinary || !isPurchaseOrderListBinary)) {
+            replace(inventoryFile, file -> binaryStorage.saveItemList(inventory.get(), file));
+        }
+
+        if (!BinaryFormat.isBinaryFile(staffFile)) {
+            Optional<ReadOnlyStaffList> staffList = journaledStorage.readStaffList();
+            if (staffList.isPresent()) {
+                replace(staffFile, file -> binaryStorage.saveStaffList(staffList.get(), file));
+            }
+        }
+
+        if (inventory.isPresent() && !MappedSaleListStorage.isSaleRecordFile(saleFile)) {
+            MappedSaleListStorage saleListStorage = new MappedSaleListStorage(saleFile);
+            Optional<ReadOnlySaleList> saleList = saleListStorage.readSaleList(inventory.get());
+            if (saleList.isPresent()) {
+                // sale record files are already written beside the old file and moved over it
+                saleListStorage.saveSaleList(saleList.get());
+                logger.info("Migrated " + saleFile + " to sale records");
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code file} with the file written by {@code save}, and removes the journal of the old file.
+     */
+    private static void replace(Path file, Save save) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        save.write(temporaryFile);
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(JournaledInventoryStorage.getJournalFilePath(file));
+        logger.info("Migrated " + file + " to the binary format");
+    }
+
+    /**
+     * Writes some data to a file.
+     */
+    @FunctionalInterface
+    private interface Save {
+        void write(Path file) throws IOException;
+    }
+}
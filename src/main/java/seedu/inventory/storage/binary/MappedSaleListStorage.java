@@ -0,0 +1,255 @@
+package seedu.inventory.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.inventory.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.ReadOnlySaleList;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.storage.SaleListStorage;
+import seedu.inventory.storage.XmlAdaptedSale;
+import seedu.inventory.storage.XmlSerializableSaleList;
+
+/**
+ * A class to access Sale List data stored as a memory-mapped file of fixed-width sale records on the hard disk.
+ * Saving a sale list that only adds sales to the one last read or saved appends the new records in place; any other
+ * change rewrites the file, as does any save to a file in an older version. Data files in another format are read
+ * with {@link BinarySaleListStorage}.
+ */
+public class MappedSaleListStorage implements SaleListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedSaleListStorage.class);
+
+    private final Path filePath;
+    private final BinarySaleListStorage fallbackStorage;
+    private final Map<Path, PersistedSales> persisted = new HashMap<>();
+
+    public MappedSaleListStorage(Path filePath) {
+        this.filePath = filePath;
+        this.fallbackStorage = new BinarySaleListStorage(filePath);
+    }
+
+    /**
+     * Returns true if {@code file} is a sale record file.
+     */
+    public static boolean isSaleRecordFile(Path file) throws IOException {
+        return SaleRecordFile.isSaleRecordFile(file);
+    }
+
+    @Override
+    public Path getSaleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySaleList> readSaleList(ReadOnlyInventory inventory) throws DataConversionException,
+            IOException {
+        return readSaleList(filePath, inventory);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlySaleList> readSaleList(Path filePath, ReadOnlyInventory inventory)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, inventory);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Sale List file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!SaleRecordFile.isSaleRecordFile(filePath)) {
+            logger.info("Sale List file " + filePath + " is not a sale record file, reading it as a binary or xml"
+                    + " file");
+            return fallbackStorage.readSaleList(filePath, inventory);
+        }
+
+        SaleRecordFile records = null;
+        try {
+            records = getRecords(filePath);
+            SaleList saleList = decodeSaleList(records, inventory);
+            persisted.put(filePath, new PersistedSales(records, new ArrayList<>(saleList.getSaleList())));
+            return Optional.of(saleList);
+        } catch (IllegalValueException ive) {
+            if (records != null && !persisted.containsKey(filePath)) {
+                records.close();
+            }
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSaleList(ReadOnlySaleList saleList) throws IOException {
+        saveSaleList(saleList, filePath);
+    }
+
+    @Override
+    public synchronized void saveSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException {
+        requireNonNull(saleList);
+        requireNonNull(filePath);
+
+        List<Sale> sales = new ArrayList<>(saleList.getSaleList());
+        PersistedSales last = persisted.get(filePath);
+        if (last != null && last.records.isCurrentVersion() && isAppendOf(sales, last.sales)) {
+            last.records.append(sales.subList(last.sales.size(), sales.size()));
+            last.sales = sales;
+            return;
+        }
+
+        if (last != null) {
+            try {
+                last.records.rewrite(sales);
+            } catch (IOException ioe) {
+                // the rewrite is finished from the redo file when the file is opened again
+                persisted.remove(filePath);
+                last.records.close();
+                throw ioe;
+            }
+            last.sales = sales;
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        persisted.put(filePath, new PersistedSales(writeRecords(filePath, sales), sales));
+    }
+
+    /**
+     * Returns the records of {@code filePath}, written to hold {@code sales}.
+     * A sale record file may still be mapped by an earlier read, so it is rewritten in place; any other file is
+     * replaced.
+     */
+    private static SaleRecordFile writeRecords(Path filePath, List<Sale> sales) throws IOException {
+        if (SaleRecordFile.isSaleRecordFile(filePath)) {
+            SaleRecordFile records;
+            try {
+                records = SaleRecordFile.open(filePath);
+            } catch (IllegalValueException ive) {
+                logger.warning("Replacing corrupted sale record file " + filePath + ": " + ive.getMessage());
+                return SaleRecordFile.write(filePath, sales);
+            }
+
+            try {
+                records.rewrite(sales);
+            } catch (IOException ioe) {
+                records.close();
+                throw ioe;
+            }
+            return records;
+        }
+        return SaleRecordFile.write(filePath, sales);
+    }
+
+    /**
+     * Returns the revenue, in cents, of the sales in the file from {@code from} to {@code to} inclusive.
+     * The records are read straight from the mapped file, at the unit price of the item when it was sold.
+     * This is for reports that cover more sales than are worth loading into the model; no command uses it yet.
+     */
+    public synchronized long getRevenueCents(LocalDate from, LocalDate to) throws DataConversionException,
+            IOException {
+        requireAllNonNull(from, to);
+
+        PersistedSales last = persisted.get(filePath);
+        if (last != null) {
+            return getRevenueCents(last.records, from, to);
+        }
+        if (!SaleRecordFile.isSaleRecordFile(filePath)) {
+            throw new DataConversionException(new IllegalValueException(SaleRecordFile.MESSAGE_CORRUPTED_FILE));
+        }
+        try (SaleRecordFile records = SaleRecordFile.open(filePath)) {
+            return getRevenueCents(records, from, to);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the revenue, in cents, of the sales in {@code records} from {@code from} to {@code to} inclusive.
+     */
+    private static long getRevenueCents(SaleRecordFile records, LocalDate from, LocalDate to) {
+        int fromDate = SaleRecordFile.toSaleDate(from);
+        int toDate = SaleRecordFile.toSaleDate(to);
+        long revenue = 0;
+        for (int i = 0; i < records.getRecordCount(); i++) {
+            int saleDate = records.getSaleDate(i);
+            if (saleDate >= fromDate && saleDate <= toDate) {
+                revenue += records.getQuantity(i) * records.getUnitPriceCents(i);
+            }
+        }
+        return revenue;
+    }
+
+    /**
+     * Returns the mapped records of {@code filePath}, mapping the file if it is not mapped yet.
+     */
+    private SaleRecordFile getRecords(Path filePath) throws IOException, IllegalValueException {
+        PersistedSales last = persisted.get(filePath);
+        if (last != null) {
+            return last.records;
+        }
+        return SaleRecordFile.open(filePath);
+    }
+
+    /**
+     * Returns true if {@code sales} starts with {@code persistedSales}.
+     */
+    private static boolean isAppendOf(List<Sale> sales, List<Sale> persistedSales) {
+        if (sales.size() < persistedSales.size()) {
+            return false;
+        }
+        for (int i = 0; i < persistedSales.size(); i++) {
+            if (!sales.get(i).equals(persistedSales.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sale list held by {@code records}, validated as when read from an xml file.
+     */
+    private static SaleList decodeSaleList(SaleRecordFile records, ReadOnlyInventory inventory)
+            throws IllegalValueException {
+        SaleList saleList = new SaleList();
+        for (int i = 0; i < records.getRecordCount(); i++) {
+            String saleId = records.getSaleId(i);
+            String sku = records.getSku(i);
+            String quantity = Integer.toString(records.getQuantity(i));
+            String saleDate = SaleRecordFile.formatSaleDate(records.getSaleDate(i));
+
+            Sale sale = new XmlAdaptedSale(saleId, sku, quantity, saleDate).toModelType(inventory);
+            if (saleList.hasSale(sale)) {
+                throw new IllegalValueException(XmlSerializableSaleList.MESSAGE_DUPLICATE_SALE);
+            }
+            saleList.addSale(sale);
+        }
+        return saleList;
+    }
+
+    /**
+     * The sale record file of a path and the sales last written to it.
+     */
+    private static class PersistedSales {
+        private final SaleRecordFile records;
+        private List<Sale> sales;
+
+        PersistedSales(SaleRecordFile records, List<Sale> sales) {
+            this.records = records;
+            this.sales = sales;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.inventory.storage.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.model.sale.Sale;
+
+/**
+ * A file of fixed-width sale records, accessed through a memory-mapped buffer.
+ * Each record holds the id of the sale id, the id of the SKU sold, the quantity, the sale date and the unit price in
+ * cents. Sale ids and SKUs are interned in a sidecar file that is only ever appended to, so the string ids of a record
+ * never change. Sale ids are kept as strings, as {@code SaleId} allows leading zeros and any number of digits.
+ * Sale dates are kept as the number {@code yyyymmdd}, which holds every date that {@code SaleDate} accepts, in the
+ * same order as the dates.
+ * Files of older versions are only read: the first version holds the sale id itself as a number, and the first two
+ * versions hold the sale date as an epoch day.
+ * Records are appended in place, and a record only counts once the record count in the header covers it.
+ * As a mapped file cannot be replaced on every platform, other changes rewrite the records in place: the new contents
+ * are first written to a redo file beside the records, which is replayed when the file is next opened if the rewrite
+ * did not finish.
+ */
+class SaleRecordFile implements Closeable {
+
+    // the sidecar only held SKUs in the first version
+    static final String STRING_FILE_SUFFIX = ".skus";
+    static final String REDO_FILE_SUFFIX = ".redo";
+
+    static final String MESSAGE_CORRUPTED_FILE = "Sale record file is corrupted";
+
+    private static final byte[] MAGIC = {'I', 'M', 'S', 'R'};
+    private static final int VERSION = 3;
+    private static final int NUMERIC_SALE_ID_VERSION = 1;
+    private static final int EPOCH_DAY_VERSION = 2;
+
+    private static final int VERSION_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int SALE_ID_OFFSET = 0;
+    private static final int UNIT_PRICE_OFFSET = 8;
+    private static final int SKU_OFFSET = 16;
+    private static final int QUANTITY_OFFSET = 20;
+    private static final int DATE_OFFSET = 24;
+    private static final int RECORD_SIZE = 32;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Path file;
+    private final Path stringFile;
+    private final List<String> strings;
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int version;
+    private int recordCount;
+
+    private SaleRecordFile(Path file, List<String> strings) {
+        this.file = file;
+        this.stringFile = getStringFilePath(file);
+        this.strings = strings;
+        for (int i = 0; i < strings.size(); i++) {
+            stringIds.putIfAbsent(strings.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the path of the file that holds the interned strings of {@code file}.
+     */
+    static Path getStringFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + STRING_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file that holds the contents of an unfinished rewrite of {@code file}.
+     */
+    static Path getRedoFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + REDO_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the header of a sale record file.
+     */
+    static boolean isSaleRecordFile(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        byte[] magic = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read(magic) == magic.length && Arrays.equals(magic, MAGIC);
+        }
+    }
+
+    /**
+     * Maps the sale record file at {@code file}, which is created if missing, finishing any unfinished rewrite.
+     *
+     * @throws IllegalValueException if the file is not a valid sale record file.
+     */
+    static SaleRecordFile open(Path file) throws IOException, IllegalValueException {
+        SaleRecordFile records = new SaleRecordFile(file, readStrings(getStringFilePath(file)));
+        records.map();
+        try {
+            records.replayRedoFile();
+        } catch (IOException | IllegalValueException e) {
+            records.close();
+            throw e;
+        }
+        return records;
+    }
+
+    /**
+     * Replaces {@code file} with a sale record file holding {@code sales}, and maps it.
+     * The new file is written beside {@code file} and then moved over it, so a failed write leaves it as it was.
+     * {@code file} must not be a sale record file that may still be mapped; such files are changed with
+     * {@link #rewrite(List)} instead.
+     */
+    static SaleRecordFile write(Path file, List<Sale> sales) throws IOException {
+        SaleRecordFile records = new SaleRecordFile(file, readStrings(getStringFilePath(file)));
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        writeFile(temporaryFile, records.encode(sales));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        try {
+            records.map();
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("A newly written sale record file should be valid", ive);
+        }
+        return records;
+    }
+
+    /**
+     * Replaces the records in the file with {@code sales}, in place.
+     * The new contents are written to the redo file first, so a failed rewrite is finished when the file is next
+     * opened.
+     */
+    void rewrite(List<Sale> sales) throws IOException {
+        ByteBuffer contents = encode(sales);
+        Path redoFile = getRedoFilePath(file);
+        Path temporaryFile = redoFile.resolveSibling(redoFile.getFileName() + ".tmp");
+        writeFile(temporaryFile, contents);
+        Files.move(temporaryFile, redoFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        replay(contents);
+        Files.delete(redoFile);
+    }
+
+    /**
+     * Appends {@code sales} to the end of the file.
+     */
+    void append(List<Sale> sales) throws IOException {
+        if (sales.isEmpty()) {
+            return;
+        }
+        int newCount = recordCount + sales.size();
+        ensureCapacity(newCount);
+        writeRecords(buffer, HEADER_SIZE + recordCount * RECORD_SIZE, sales);
+        buffer.force();
+        buffer.putInt(COUNT_OFFSET, newCount);
+        buffer.force();
+        recordCount = newCount;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns true if the file is in the current version, which sales can be appended to.
+     */
+    boolean isCurrentVersion() {
+        return version == VERSION;
+    }
+
+    /**
+     * Returns the sale id of the record at {@code index}.
+     *
+     * @throws IllegalValueException if the sale id of the record is not interned.
+     */
+    String getSaleId(int index) throws IllegalValueException {
+        long saleId = buffer.getLong(recordOffset(index) + SALE_ID_OFFSET);
+        if (version == NUMERIC_SALE_ID_VERSION) {
+            return Long.toString(saleId);
+        }
+        return getString(saleId);
+    }
+
+    long getUnitPriceCents(int index) {
+        return buffer.getLong(recordOffset(index) + UNIT_PRICE_OFFSET);
+    }
+
+    int getQuantity(int index) {
+        return buffer.getInt(recordOffset(index) + QUANTITY_OFFSET);
+    }
+
+    /**
+     * Returns the sale date of the record at {@code index} as the number {@code yyyymmdd}.
+     */
+    int getSaleDate(int index) {
+        int saleDate = buffer.getInt(recordOffset(index) + DATE_OFFSET);
+        if (version <= EPOCH_DAY_VERSION) {
+            return toSaleDate(LocalDate.ofEpochDay(saleDate));
+        }
+        return saleDate;
+    }
+
+    /**
+     * Returns the SKU sold in the record at {@code index}.
+     *
+     * @throws IllegalValueException if the SKU id of the record is not interned.
+     */
+    String getSku(int index) throws IllegalValueException {
+        return getString(buffer.getInt(recordOffset(index) + SKU_OFFSET));
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    /**
+     * Opens the file and maps it, checking its header.
+     */
+    private void map() throws IOException, IllegalValueException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + INITIAL_CAPACITY * RECORD_SIZE);
+                writeHeader(buffer, 0);
+                buffer.force();
+                version = VERSION;
+                recordCount = 0;
+                return;
+            }
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            version = buffer.getInt(VERSION_OFFSET);
+            if (!Arrays.equals(magic, MAGIC) || version < NUMERIC_SALE_ID_VERSION || version > VERSION) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            recordCount = buffer.getInt(COUNT_OFFSET);
+            if (recordCount < 0 || HEADER_SIZE + (long) recordCount * RECORD_SIZE > buffer.capacity()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+        } catch (IOException | IllegalValueException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the contents of the redo file, if there is one, into the file and deletes the redo file.
+     *
+     * @throws IllegalValueException if the redo file is not a valid sale record file.
+     */
+    private void replayRedoFile() throws IOException, IllegalValueException {
+        Path redoFile = getRedoFilePath(file);
+        if (!Files.exists(redoFile)) {
+            return;
+        }
+
+        ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(redoFile));
+        if (contents.capacity() < HEADER_SIZE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        contents.get(magic);
+        int count = contents.getInt(COUNT_OFFSET);
+        if (!Arrays.equals(magic, MAGIC) || contents.getInt(VERSION_OFFSET) != VERSION || count < 0
+                || contents.capacity() != HEADER_SIZE + (long) count * RECORD_SIZE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        replay(contents);
+        Files.delete(redoFile);
+    }
+
+    /**
+     * Copies the records in {@code contents}, a whole sale record file in the current version, into the file.
+     * The records are copied before the header, so the file is left as it was until the copy is complete.
+     */
+    private void replay(ByteBuffer contents) throws IOException {
+        int count = contents.getInt(COUNT_OFFSET);
+        ensureCapacity(count);
+        ByteBuffer records = contents.duplicate();
+        records.limit(HEADER_SIZE + count * RECORD_SIZE);
+        records.position(HEADER_SIZE);
+        buffer.position(HEADER_SIZE);
+        buffer.put(records);
+        buffer.force();
+
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(COUNT_OFFSET, count);
+        buffer.force();
+        version = VERSION;
+        recordCount = count;
+    }
+
+    /**
+     * Grows the mapping, and with it the file, so that it can hold {@code count} records.
+     */
+    private void ensureCapacity(int count) throws IOException {
+        long required = HEADER_SIZE + (long) count * RECORD_SIZE;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long capacity = Math.max(required, HEADER_SIZE + 2L * (buffer.capacity() - HEADER_SIZE));
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Returns the contents of a sale record file holding {@code sales}.
+     */
+    private ByteBuffer encode(List<Sale> sales) throws IOException {
+        ByteBuffer contents = ByteBuffer.allocate(HEADER_SIZE + sales.size() * RECORD_SIZE);
+        writeHeader(contents, sales.size());
+        writeRecords(contents, HEADER_SIZE, sales);
+        contents.clear();
+        return contents;
+    }
+
+    /**
+     * Writes {@code contents} to {@code target}, replacing it, and forces them to the storage device.
+     */
+    private static void writeFile(Path target, ByteBuffer contents) throws IOException {
+        ByteBuffer bytes = contents.duplicate();
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(true);
+        }
+    }
+
+    /**
+     * Writes the header of a file of {@code count} records at the start of {@code target}.
+     */
+    private static void writeHeader(ByteBuffer target, int count) {
+        target.put(MAGIC);
+        target.putInt(VERSION_OFFSET, VERSION);
+        target.putInt(COUNT_OFFSET, count);
+        target.position(HEADER_SIZE);
+    }
+
+    /**
+     * Writes {@code sales} as records into {@code target}, starting at {@code offset}.
+     * Sale ids and SKUs that are not interned yet are appended to the string file first, so records never refer to
+     * a missing string.
+     */
+    private void writeRecords(ByteBuffer target, int offset, List<Sale> sales) throws IOException {
+        int[] saleIdIds = new int[sales.size()];
+        int[] skuIds = new int[sales.size()];
+        StringBuilder newStrings = new StringBuilder();
+        for (int i = 0; i < sales.size(); i++) {
+            saleIdIds[i] = intern(sales.get(i).getSaleId().saleId, newStrings);
+            skuIds[i] = intern(sales.get(i).getItem().getSku().value, newStrings);
+        }
+        appendStrings(newStrings);
+
+        for (int i = 0; i < sales.size(); i++) {
+            Sale sale = sales.get(i);
+            int recordOffset = offset + i * RECORD_SIZE;
+            target.putLong(recordOffset + SALE_ID_OFFSET, saleIdIds[i]);
+            target.putLong(recordOffset + UNIT_PRICE_OFFSET, sale.getItem().getPrice().getCents());
+            target.putInt(recordOffset + SKU_OFFSET, skuIds[i]);
+            target.putInt(recordOffset + QUANTITY_OFFSET, sale.getSaleQuantity().getIntValue());
+            target.putInt(recordOffset + DATE_OFFSET, toSaleDate(sale));
+        }
+    }
+
+    /**
+     * Returns the id of {@code string}, interning it and adding it to {@code newStrings} if it is new.
+     */
+    private int intern(String string, StringBuilder newStrings) {
+        Integer stringId = stringIds.get(string);
+        if (stringId == null) {
+            stringId = strings.size();
+            strings.add(string);
+            stringIds.put(string, stringId);
+            newStrings.append(string).append('\n');
+        }
+        return stringId;
+    }
+
+    /**
+     * Appends {@code newStrings}, one per line, to the string file.
+     */
+    private void appendStrings(CharSequence newStrings) throws IOException {
+        if (newStrings.length() == 0) {
+            return;
+        }
+        try (FileChannel out = FileChannel.open(stringFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(newStrings.toString().getBytes(UTF_8));
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(true);
+        }
+    }
+
+    /**
+     * Returns the interned string with id {@code stringId}.
+     *
+     * @throws IllegalValueException if no string has that id.
+     */
+    private String getString(long stringId) throws IllegalValueException {
+        if (stringId < 0 || stringId >= strings.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return strings.get((int) stringId);
+    }
+
+    private int recordOffset(int index) {
+        assert index >= 0 && index < recordCount;
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Returns the strings interned in {@code stringFile}, in the order of their ids.
+     */
+    private static List<String> readStrings(Path stringFile) throws IOException {
+        if (!Files.exists(stringFile)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Files.readAllLines(stringFile, UTF_8));
+    }
+
+    /**
+     * Returns {@code date} as the number {@code yyyymmdd}.
+     */
+    static int toSaleDate(LocalDate date) {
+        return toSaleDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Returns the sale date of {@code sale} as the number {@code yyyymmdd}.
+     * The date is taken from its text, as {@code SaleDate} accepts dates such as February 29 of any year, which
+     * {@code LocalDate} does not.
+     */
+    private static int toSaleDate(Sale sale) {
+        String[] parts = sale.getSaleDate().saleDate.split("-");
+        return toSaleDate(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    private static int toSaleDate(int year, int month, int day) {
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Returns the sale date number {@code saleDate} in the {@code yyyy-mm-dd} format of {@code SaleDate}.
+     */
+    static String formatSaleDate(int saleDate) {
+        return String.format("%04d-%02d-%02d", saleDate / 10000, saleDate / 100 % 100, saleDate % 100);
+    }
+}
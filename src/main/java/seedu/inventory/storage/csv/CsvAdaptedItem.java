@@ -1,5 +1,6 @@
 package seedu.inventory.storage.csv;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.CsvWriter;
 import seedu.inventory.model.item.Image;
 import seedu.inventory.model.item.Item;
 import seedu.inventory.model.item.Name;
@@ -156,6 +158,26 @@ public class CsvAdaptedItem {
         return content;
     }
 
+    /**
+     * Writes the content of {@code item} as a row, straight from the model's Item object.
+     */
+    public static void writeContentOfItem(Item item, CsvWriter writer) throws IOException {
+        writer.writeField(item.getName().fullName);
+        writer.writeField(item.getPrice().value);
+        writer.writeField(item.getQuantity().value);
+        writer.writeField(item.getSku().value);
+        writer.writeField(item.getImage().value);
+        StringBuilder combinedTags = new StringBuilder();
+        for (Tag tag : item.getTags()) {
+            if (combinedTags.length() > 0) {
+                combinedTags.append(',');
+            }
+            combinedTags.append(tag.tagName);
+        }
+        writer.writeField(combinedTags.toString());
+        writer.endRow();
+    }
+
     /**
      * Split a list of string representing the content of item into the Csv-friendly adapted item
      *
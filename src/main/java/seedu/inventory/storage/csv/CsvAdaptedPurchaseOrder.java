@@ -2,11 +2,13 @@ package seedu.inventory.storage.csv;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.CsvWriter;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.item.Item;
 import seedu.inventory.model.item.Quantity;
@@ -147,6 +149,19 @@ public class CsvAdaptedPurchaseOrder {
         return content;
     }
 
+    /**
+     * Writes the content of {@code purchaseOrder} as a row, straight from the model's PurchaseOrder object.
+     */
+    public static void writeContentOfPurchaseOrder(PurchaseOrder purchaseOrder, CsvWriter writer)
+            throws IOException {
+        writer.writeField(purchaseOrder.getSku().value);
+        writer.writeField(purchaseOrder.getQuantity().value);
+        writer.writeField(purchaseOrder.getReqDate().requiredDate);
+        writer.writeField(purchaseOrder.getSupplier().supplierName);
+        writer.writeField(purchaseOrder.getStatus().name());
+        writer.endRow();
+    }
+
     /**
      * Split a list of string representing the content of staff into the Csv-friendly adapted purchase order
      *
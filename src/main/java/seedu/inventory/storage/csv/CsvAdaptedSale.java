@@ -2,11 +2,13 @@ package seedu.inventory.storage.csv;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.CsvWriter;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.item.Item;
 import seedu.inventory.model.item.Quantity;
@@ -127,6 +129,17 @@ public class CsvAdaptedSale {
         return content;
     }
 
+    /**
+     * Writes the content of {@code sale} as a row, straight from the model's Sale object.
+     */
+    public static void writeContentOfSale(Sale sale, CsvWriter writer) throws IOException {
+        writer.writeField(sale.getSaleId().toString());
+        writer.writeField(sale.getItem().getSku().toString());
+        writer.writeField(sale.getSaleQuantity().toString());
+        writer.writeField(sale.getSaleDate().toString());
+        writer.endRow();
+    }
+
     /**
      * Split a list of string representing the content of sale into the Csv-friendly adapted sale
      *
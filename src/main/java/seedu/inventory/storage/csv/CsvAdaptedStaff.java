@@ -1,10 +1,12 @@
 package seedu.inventory.storage.csv;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.CsvWriter;
 import seedu.inventory.model.staff.Password;
 import seedu.inventory.model.staff.Staff;
 import seedu.inventory.model.staff.StaffName;
@@ -115,6 +117,17 @@ public class CsvAdaptedStaff {
         return content;
     }
 
+    /**
+     * Writes the content of {@code staff} as a row, straight from the model's Staff object.
+     */
+    public static void writeContentOfStaff(Staff staff, CsvWriter writer) throws IOException {
+        writer.writeField(staff.getUsername().username);
+        writer.writeField(staff.getPassword().password);
+        writer.writeField(staff.getStaffName().fullName);
+        writer.writeField(staff.getRole().name());
+        writer.endRow();
+    }
+
     /**
      * Split a list of string representing the content of staff into the Csv-friendly adapted staff
      *
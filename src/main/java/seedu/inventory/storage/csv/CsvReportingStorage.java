@@ -12,8 +12,8 @@ import seedu.inventory.commons.core.LogsCenter;
 import seedu.inventory.commons.exceptions.DataConversionException;
 import seedu.inventory.commons.exceptions.IllegalValueException;
 import seedu.inventory.commons.exceptions.UnrecognizableDataException;
-import seedu.inventory.commons.util.CsvUtil;
 import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlyItemList;
 import seedu.inventory.model.ReadOnlyPurchaseOrderList;
@@ -32,16 +32,21 @@ public class CsvReportingStorage implements ReportingStorage {
 
     @Override
     public Optional<ReadOnlyItemList> importItemList(Path filePath) throws DataConversionException, IOException {
+        return importItemList(filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyItemList> importItemList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
+        requireNonNull(progressListener);
 
         if (!Files.exists(filePath)) {
             logger.info("Item list file " + filePath + " not found");
             return Optional.empty();
         }
         try {
-            CsvSerializableItemList items = new CsvSerializableItemList(CsvUtil.getDataFromFile(filePath,
-                    new CsvSerializableItemList()));
-            return Optional.of(items.toModelType());
+            return Optional.of(CsvSerializableItemList.readItemList(filePath, progressListener));
         } catch (UnrecognizableDataException ude) {
             logger.info("Data in " + filePath + " can not be recognized");
             throw new DataConversionException(ude);
@@ -53,16 +58,28 @@ public class CsvReportingStorage implements ReportingStorage {
 
     @Override
     public void exportItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        exportItemList(itemList, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public void exportItemList(ReadOnlyItemList itemList, Path filePath, ProgressListener progressListener)
+            throws IOException {
         requireNonNull(itemList);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        CsvUtil.saveDataToFile(filePath, new CsvSerializableItemList(itemList));
+        CsvSerializableItemList.writeItemList(itemList, filePath, progressListener);
     }
 
     @Override
     public Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException {
+        return importSaleList(inventory, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlySaleList> importSaleList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener) throws DataConversionException, IOException {
         requireNonNull(inventory);
         requireNonNull(filePath);
 
@@ -71,10 +88,7 @@ public class CsvReportingStorage implements ReportingStorage {
             return Optional.empty();
         }
         try {
-            CsvSerializableSaleList sales = new CsvSerializableSaleList(CsvUtil.getDataFromFile(filePath,
-                    new CsvSerializableSaleList()));
-            sales.setInventory(inventory);
-            return Optional.of(sales.toModelType());
+            return Optional.of(CsvSerializableSaleList.readSaleList(filePath, inventory, progressListener));
         } catch (UnrecognizableDataException ude) {
             logger.info("Data in " + filePath + " can not be recognized");
             throw new DataConversionException(ude);
@@ -86,15 +100,27 @@ public class CsvReportingStorage implements ReportingStorage {
 
     @Override
     public void exportSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException {
+        exportSaleList(saleList, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public void exportSaleList(ReadOnlySaleList saleList, Path filePath, ProgressListener progressListener)
+            throws IOException {
         requireNonNull(saleList);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        CsvUtil.saveDataToFile(filePath, new CsvSerializableSaleList(saleList));
+        CsvSerializableSaleList.writeSaleList(saleList, filePath, progressListener);
     }
 
     @Override
     public Optional<ReadOnlyStaffList> importStaffList(Path filePath) throws DataConversionException, IOException {
+        return importStaffList(filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyStaffList> importStaffList(Path filePath, ProgressListener progressListener)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -102,9 +128,7 @@ public class CsvReportingStorage implements ReportingStorage {
             return Optional.empty();
         }
         try {
-            CsvSerializableStaffList staffs = new CsvSerializableStaffList(CsvUtil.getDataFromFile(filePath,
-                    new CsvSerializableStaffList()));
-            return Optional.of(staffs.toModelType());
+            return Optional.of(CsvSerializableStaffList.readStaffList(filePath, progressListener));
         } catch (UnrecognizableDataException ude) {
             logger.info("Data in " + filePath + " can not be recognized");
             throw new DataConversionException(ude);
@@ -116,16 +140,28 @@ public class CsvReportingStorage implements ReportingStorage {
 
     @Override
     public void exportStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException {
+        exportStaffList(staffList, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public void exportStaffList(ReadOnlyStaffList staffList, Path filePath, ProgressListener progressListener)
+            throws IOException {
         requireNonNull(staffList);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        CsvUtil.saveDataToFile(filePath, new CsvSerializableStaffList(staffList));
+        CsvSerializableStaffList.writeStaffList(staffList, filePath, progressListener);
     }
 
     @Override
     public Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath)
             throws DataConversionException, IOException {
+        return importPurchaseOrderList(inventory, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyPurchaseOrderList> importPurchaseOrderList(ReadOnlyInventory inventory, Path filePath,
+            ProgressListener progressListener) throws DataConversionException, IOException {
         requireNonNull(inventory);
         requireNonNull(filePath);
 
@@ -134,10 +170,8 @@ public class CsvReportingStorage implements ReportingStorage {
             return Optional.empty();
         }
         try {
-            CsvSerializablePurchaseOrderList purchaseOrders = new CsvSerializablePurchaseOrderList(CsvUtil
-                    .getDataFromFile(filePath, new CsvSerializablePurchaseOrderList()));
-            purchaseOrders.setInventory(inventory);
-            return Optional.of(purchaseOrders.toModelType());
+            return Optional.of(CsvSerializablePurchaseOrderList.readPurchaseOrderList(filePath, inventory,
+                    progressListener));
         } catch (UnrecognizableDataException ude) {
             logger.info("Data in " + filePath + " can not be recognized");
             throw new DataConversionException(ude);
@@ -149,11 +183,58 @@ public class CsvReportingStorage implements ReportingStorage {
 
     @Override
     public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath) throws IOException {
+        exportPurchaseOrderList(purchaseOrderList, filePath, ProgressListener.NONE);
+    }
+
+    @Override
+    public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath,
+            ProgressListener progressListener) throws IOException {
         requireNonNull(purchaseOrderList);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        CsvUtil.saveDataToFile(filePath, new CsvSerializablePurchaseOrderList(purchaseOrderList));
+        CsvSerializablePurchaseOrderList.writePurchaseOrderList(purchaseOrderList, filePath,
+                progressListener);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> importInventory(Path directory) throws DataConversionException, IOException {
+        return importInventory(directory, ProgressListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> importInventory(Path directory, ProgressListener progressListener)
+            throws DataConversionException, IOException {
+        requireNonNull(directory);
+        requireNonNull(progressListener);
+
+        if (!Files.exists(directory.resolve(CsvSerializableInventory.MANIFEST_FILE))) {
+            logger.info("Manifest of " + directory + " not found");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CsvSerializableInventory.readInventory(directory, progressListener));
+        } catch (UnrecognizableDataException ude) {
+            logger.info("Data in " + directory + " can not be recognized: " + ude.getMessage());
+            throw new DataConversionException(ude);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void exportInventory(ReadOnlyInventory inventory, Path directory) throws IOException {
+        exportInventory(inventory, directory, ProgressListener.NONE);
+    }
+
+    @Override
+    public void exportInventory(ReadOnlyInventory inventory, Path directory, ProgressListener progressListener)
+            throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(directory);
+
+        CsvSerializableInventory.writeInventory(inventory, directory, progressListener);
     }
 
 }
@@ -0,0 +1,366 @@
+package seedu.inventory.storage.csv;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.FileUtil;
+import seedu.inventory.commons.util.ProgressListener;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.ItemList;
+import seedu.inventory.model.PurchaseOrderList;
+import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.StaffList;
+
+/**
+ * The manifest of an inventory exported to a directory of csv files, one file per list.
+ * The manifest holds the number of rows and the checksum of each file, so that an import can tell that the files
+ * are the ones that were exported together, and that none of them has been cut short or changed.
+ * The lists are written concurrently, each on a thread of its own, and are read back concurrently as far as they can
+ * be: sales and purchase orders name the items they are for, so they are read once the items are.
+ */
+public class CsvSerializableInventory implements CsvSerializableData {
+    public static final String DATA_TYPE = "Manifest";
+    public static final String[] FIELDS = {"file", "rows", "checksum"};
+
+    public static final String ITEMS_FILE = "items.csv";
+    public static final String SALES_FILE = "sales.csv";
+    public static final String STAFFS_FILE = "staffs.csv";
+    public static final String PURCHASE_ORDERS_FILE = "orders.csv";
+    public static final String MANIFEST_FILE = "manifest.csv";
+
+    public static final String MESSAGE_MISSING_ENTRY = "Manifest does not have an entry for %s";
+    public static final String MESSAGE_INVALID_ENTRY = "Manifest entry for %s can not be recognized";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "%s has been changed since it was exported";
+    public static final String MESSAGE_ROW_COUNT_MISMATCH = "%s has %d rows, but the manifest says it has %d";
+
+    public static final List<String> FILES = Collections.unmodifiableList(Arrays.asList(ITEMS_FILE, SALES_FILE,
+            STAFFS_FILE, PURCHASE_ORDERS_FILE, MANIFEST_FILE));
+
+    private static final List<String> LIST_FILES = FILES.subList(0, 4);
+
+    private List<List<String>> contents;
+
+    /**
+     * Creates an empty CsvSerializableInventory.
+     */
+    public CsvSerializableInventory() {
+        contents = new ArrayList<>();
+    }
+
+    /**
+     * Creates CsvSerializableInventory from a list of content.
+     */
+    public CsvSerializableInventory(List<List<String>> contents) {
+        this.contents = contents;
+    }
+
+    /**
+     * Writes the lists of {@code inventory} to their files in {@code directory} concurrently, followed by the
+     * manifest, reporting the rows written to {@code progressListener} as they are written.
+     * The directory is created if it is missing.
+     *
+     * @throws IOException if there is an error during writing data to the files.
+     */
+    public static void writeInventory(ReadOnlyInventory inventory, Path directory, ProgressListener progressListener)
+            throws IOException {
+        Files.createDirectories(directory);
+        CombinedProgress progress = new CombinedProgress(progressListener, LIST_FILES.size());
+        ExecutorService pool = newPool();
+        try {
+            Future<Void> itemListTask = pool.submit(() -> {
+                Path file = createFile(directory, ITEMS_FILE);
+                CsvSerializableItemList.writeItemList(inventory, file, progress.forPart(0));
+                return null;
+            });
+            Future<Void> saleListTask = pool.submit(() -> {
+                Path file = createFile(directory, SALES_FILE);
+                CsvSerializableSaleList.writeSaleList(inventory, file, progress.forPart(1));
+                return null;
+            });
+            Future<Void> staffListTask = pool.submit(() -> {
+                Path file = createFile(directory, STAFFS_FILE);
+                CsvSerializableStaffList.writeStaffList(inventory, file, progress.forPart(2));
+                return null;
+            });
+            Future<Void> purchaseOrderListTask = pool.submit(() -> {
+                Path file = createFile(directory, PURCHASE_ORDERS_FILE);
+                CsvSerializablePurchaseOrderList.writePurchaseOrderList(inventory, file, progress.forPart(3));
+                return null;
+            });
+            for (Future<Void> task : Arrays.asList(itemListTask, saleListTask, staffListTask, purchaseOrderListTask)) {
+                await(task);
+            }
+        } catch (UnrecognizableDataException | IllegalValueException e) {
+            throw new AssertionError("Writing files should not fail on their data", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int[] rowCounts = {inventory.getItemList().size(), inventory.getSaleList().size(),
+            inventory.getStaffList().size(), inventory.getPurchaseOrderList().size()};
+        List<List<String>> manifest = new ArrayList<>();
+        for (int i = 0; i < LIST_FILES.size(); i++) {
+            String fileName = LIST_FILES.get(i);
+            manifest.add(Arrays.asList(fileName, String.valueOf(rowCounts[i]),
+                    Long.toHexString(FileUtil.checksum(directory.resolve(fileName)))));
+        }
+        CsvUtil.writeContentsToFile(createFile(directory, MANIFEST_FILE), new CsvSerializableInventory(), writer -> {
+            for (List<String> content : manifest) {
+                writer.writeRow(content);
+            }
+        });
+    }
+
+    /**
+     * Reads the lists in the files of {@code directory}, checking each file against the manifest, and reporting the
+     * bytes read out of the size of the files to {@code progressListener} as they are read.
+     *
+     * @throws FileNotFoundException if the manifest or any of the files is missing.
+     * @throws UnrecognizableDataException if a file does not have the correct format, or does not match the
+     *                                     manifest.
+     * @throws IllegalValueException if there were any data constraints violated in the files.
+     */
+    public static Inventory readInventory(Path directory, ProgressListener progressListener)
+            throws IOException, UnrecognizableDataException, IllegalValueException {
+        CsvSerializableData manifestData = CsvUtil.getDataFromFile(directory.resolve(MANIFEST_FILE),
+                new CsvSerializableInventory());
+        Map<String, ManifestEntry> manifest = toManifest(manifestData.getContents());
+        long[] fileSizes = new long[LIST_FILES.size()];
+        for (int i = 0; i < LIST_FILES.size(); i++) {
+            Path file = directory.resolve(LIST_FILES.get(i));
+            if (!Files.exists(file)) {
+                throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+            }
+            fileSizes[i] = Files.size(file);
+        }
+        CombinedProgress progress = new CombinedProgress(progressListener, LIST_FILES.size());
+        for (int i = 0; i < fileSizes.length; i++) {
+            progress.update(i, 0, fileSizes[i]);
+        }
+
+        ExecutorService pool = newPool();
+        try {
+            Future<ItemList> itemListTask = pool.submit(() -> {
+                Path file = checkFile(directory, ITEMS_FILE, manifest);
+                return CsvSerializableItemList.readItemList(file, progress.forPart(0));
+            });
+            Future<StaffList> staffListTask = pool.submit(() -> {
+                Path file = checkFile(directory, STAFFS_FILE, manifest);
+                return CsvSerializableStaffList.readStaffList(file, progress.forPart(2));
+            });
+
+            Inventory inventory = new Inventory();
+            inventory.resetItemList(await(itemListTask));
+            Future<SaleList> saleListTask = pool.submit(() -> {
+                Path file = checkFile(directory, SALES_FILE, manifest);
+                return CsvSerializableSaleList.readSaleList(file, inventory, progress.forPart(1));
+            });
+            Future<PurchaseOrderList> purchaseOrderListTask = pool.submit(() -> {
+                Path file = checkFile(directory, PURCHASE_ORDERS_FILE, manifest);
+                return CsvSerializablePurchaseOrderList.readPurchaseOrderList(file, inventory, progress.forPart(3));
+            });
+            StaffList staffList = await(staffListTask);
+            SaleList saleList = await(saleListTask);
+            PurchaseOrderList purchaseOrderList = await(purchaseOrderListTask);
+
+            checkRowCount(ITEMS_FILE, inventory.getItemList().size(), manifest);
+            checkRowCount(SALES_FILE, saleList.getSaleList().size(), manifest);
+            checkRowCount(STAFFS_FILE, staffList.getStaffList().size(), manifest);
+            checkRowCount(PURCHASE_ORDERS_FILE, purchaseOrderList.getPurchaseOrderList().size(), manifest);
+            inventory.resetSaleList(saleList);
+            inventory.resetStaffList(staffList);
+            inventory.resetPurchaseOrderList(purchaseOrderList);
+            return inventory;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the entries of the manifest in {@code contents}, by the name of their file.
+     *
+     * @throws UnrecognizableDataException if an entry can not be recognized, or a file has no entry.
+     */
+    private static Map<String, ManifestEntry> toManifest(List<List<String>> contents)
+            throws UnrecognizableDataException {
+        Map<String, ManifestEntry> manifest = new HashMap<>();
+        for (List<String> content : contents) {
+            String fileName = content.get(0);
+            try {
+                manifest.put(fileName, new ManifestEntry(Long.parseLong(content.get(1)),
+                        Long.parseUnsignedLong(content.get(2), 16)));
+            } catch (NumberFormatException nfe) {
+                throw new UnrecognizableDataException(String.format(MESSAGE_INVALID_ENTRY, fileName));
+            }
+        }
+        for (String fileName : LIST_FILES) {
+            if (!manifest.containsKey(fileName)) {
+                throw new UnrecognizableDataException(String.format(MESSAGE_MISSING_ENTRY, fileName));
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the file named {@code fileName} in {@code directory}, once its checksum is found to match the one in
+     * {@code manifest}.
+     */
+    private static Path checkFile(Path directory, String fileName, Map<String, ManifestEntry> manifest)
+            throws IOException, UnrecognizableDataException {
+        Path file = directory.resolve(fileName);
+        if (FileUtil.checksum(file) != manifest.get(fileName).checksum) {
+            throw new UnrecognizableDataException(String.format(MESSAGE_CHECKSUM_MISMATCH, fileName));
+        }
+        return file;
+    }
+
+    /**
+     * Checks that {@code rowCount} rows read from the file named {@code fileName} is what {@code manifest} says.
+     */
+    private static void checkRowCount(String fileName, long rowCount, Map<String, ManifestEntry> manifest)
+            throws UnrecognizableDataException {
+        long expectedRowCount = manifest.get(fileName).rowCount;
+        if (rowCount != expectedRowCount) {
+            throw new UnrecognizableDataException(String.format(MESSAGE_ROW_COUNT_MISMATCH, fileName, rowCount,
+                    expectedRowCount));
+        }
+    }
+
+    /**
+     * Creates the file named {@code fileName} in {@code directory} if it is missing, and returns it.
+     */
+    private static Path createFile(Path directory, String fileName) throws IOException {
+        Path file = directory.resolve(fileName);
+        FileUtil.createIfMissing(file);
+        return file;
+    }
+
+    /**
+     * Returns a pool with a thread for each list, so that every list is read or written at the same time.
+     */
+    private static ExecutorService newPool() {
+        return Executors.newFixedThreadPool(LIST_FILES.size(), runnable -> {
+            Thread thread = new Thread(runnable, "csv-files");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the result of {@code task} once it is done, throwing what the task threw.
+     * If the waiting thread is interrupted, it stops waiting with an {@code InterruptedIOException}, and the task is
+     * interrupted as the pool is shut down.
+     */
+    private static <T> T await(Future<T> task) throws IOException, UnrecognizableDataException, IllegalValueException {
+        try {
+            return task.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Waiting for the files was interrupted");
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof UnrecognizableDataException) {
+                throw (UnrecognizableDataException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CsvSerializableInventory)) {
+            return false;
+        }
+        return contents.equals(((CsvSerializableInventory) other).contents);
+    }
+
+    @Override
+    public int hashCode() {
+        return contents.hashCode();
+    }
+
+    @Override
+    public List<List<String>> getContents() {
+        return contents;
+    }
+
+    @Override
+    public String getDataType() {
+        return DATA_TYPE;
+    }
+
+    @Override
+    public String[] getDataFields() {
+        return FIELDS;
+    }
+
+    @Override
+    public CsvSerializableData createInstance(List<List<String>> contents) {
+        return new CsvSerializableInventory(contents);
+    }
+
+    /**
+     * The number of rows and the checksum of a file, as written in the manifest.
+     */
+    private static class ManifestEntry {
+        private final long rowCount;
+        private final long checksum;
+
+        ManifestEntry(long rowCount, long checksum) {
+            this.rowCount = rowCount;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * Combines the progress of the files read or written at the same time into the progress of all of them.
+     */
+    private static class CombinedProgress {
+        private final ProgressListener progressListener;
+        private final long[] done;
+        private final long[] totals;
+
+        CombinedProgress(ProgressListener progressListener, int partCount) {
+            this.progressListener = progressListener;
+            this.done = new long[partCount];
+            this.totals = new long[partCount];
+        }
+
+        ProgressListener forPart(int part) {
+            return (partDone, partTotal) -> update(part, partDone, partTotal);
+        }
+
+        synchronized void update(int part, long partDone, long partTotal) {
+            done[part] = partDone;
+            totals[part] = partTotal;
+            progressListener.update(Arrays.stream(done).sum(), Arrays.stream(totals).sum());
+        }
+    }
+}
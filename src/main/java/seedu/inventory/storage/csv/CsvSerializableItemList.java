@@ -1,10 +1,16 @@
 package seedu.inventory.storage.csv;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.ItemList;
 import seedu.inventory.model.ReadOnlyItemList;
 import seedu.inventory.model.item.Item;
@@ -61,15 +67,74 @@ public class CsvSerializableItemList implements CsvSerializableData {
         ItemList itemlist = new ItemList();
 
         for (CsvAdaptedItem p : items) {
-            Item item = p.toModelType();
-            if (itemlist.hasItem(item)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
-            }
-            itemlist.addItem(item);
+            addItem(itemlist, p);
         }
         return itemlist;
     }
 
+    /**
+     * Reads the item list in the csv file, converting its contents into items in parallel as they are read.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws UnrecognizableDataException if the file does not have the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file, naming
+     *                               the line of each.
+     */
+    public static ItemList readItemList(Path file)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        return readItemList(file, ProgressListener.NONE);
+    }
+
+    /**
+     * Reads the item list in the csv file as above, reporting the bytes read out of the size of the file to
+     * {@code progressListener} as they are read.
+     */
+    public static ItemList readItemList(Path file, ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        List<Item> items = new ParallelCsvImport<>(new CsvSerializableItemList(),
+            content -> CsvAdaptedItem.splitContentToItem(content).toModelType(), Item::getSku, MESSAGE_DUPLICATE_ITEM)
+                .importFrom(file, progressListener);
+        ItemList itemList = new ItemList();
+        itemList.setItems(items);
+        return itemList;
+    }
+
+    /**
+     * Writes {@code itemList} to the csv file, straight from the model, one row at a time.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there is an error during writing data to the file.
+     */
+    public static void writeItemList(ReadOnlyItemList itemList, Path file) throws FileNotFoundException, IOException {
+        writeItemList(itemList, file, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes {@code itemList} to the csv file as above, reporting the rows written to {@code progressListener}
+     * as they are written.
+     */
+    public static void writeItemList(ReadOnlyItemList itemList, Path file, ProgressListener progressListener)
+            throws FileNotFoundException, IOException {
+        CsvUtil.writeContentsToFile(file, new CsvSerializableItemList(), writer -> {
+            for (Item item : itemList.getItemList()) {
+                CsvAdaptedItem.writeContentOfItem(item, writer);
+            }
+        }, itemList.getItemList().size(), progressListener);
+    }
+
+    /**
+     * Converts {@code adaptedItem} and adds it to {@code itemList}.
+     *
+     * @throws IllegalValueException if the item is invalid or already in {@code itemList}.
+     */
+    private static void addItem(ItemList itemList, CsvAdaptedItem adaptedItem) throws IllegalValueException {
+        Item item = adaptedItem.toModelType();
+        if (itemList.hasItem(item)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+        }
+        itemList.addItem(item);
+    }
+
     /**
      * Combine a list of Csv-friendly adapted item into a list of list of string representing the contents.
      *
@@ -2,11 +2,17 @@ package seedu.inventory.storage.csv;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.PurchaseOrderList;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlyPurchaseOrderList;
@@ -80,6 +86,62 @@ public class CsvSerializablePurchaseOrderList implements CsvSerializableData {
         return purchaseOrderList;
     }
 
+    /**
+     * Reads the purchase order list in the csv file, converting its contents into purchase orders of items in
+     * {@code inventory} in parallel as they are read.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws UnrecognizableDataException if the file does not have the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the file, naming the line of
+     *                               each.
+     */
+    public static PurchaseOrderList readPurchaseOrderList(Path file, ReadOnlyInventory inventory)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        return readPurchaseOrderList(file, inventory, ProgressListener.NONE);
+    }
+
+    /**
+     * Reads the purchase order list in the csv file as above, reporting the bytes read out of the size of the file to
+     * {@code progressListener} as they are read.
+     */
+    public static PurchaseOrderList readPurchaseOrderList(Path file, ReadOnlyInventory inventory,
+            ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        requireNonNull(inventory);
+
+        List<PurchaseOrder> purchaseOrders = new ParallelCsvImport<>(new CsvSerializablePurchaseOrderList(),
+            content -> CsvAdaptedPurchaseOrder.splitContentToPurchaseOrder(content).toModelType(inventory), null,
+                null).importFrom(file, progressListener);
+        PurchaseOrderList purchaseOrderList = new PurchaseOrderList();
+        purchaseOrderList.setPurchaseOrders(purchaseOrders);
+        return purchaseOrderList;
+    }
+
+    /**
+     * Writes {@code purchaseOrderList} to the csv file, straight from the model, one row at a time.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there is an error during writing data to the file.
+     */
+    public static void writePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path file)
+            throws FileNotFoundException, IOException {
+        writePurchaseOrderList(purchaseOrderList, file, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes {@code purchaseOrderList} to the csv file as above, reporting the rows written to {@code progressListener}
+     * as they are written.
+     */
+    public static void writePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path file,
+            ProgressListener progressListener)
+            throws FileNotFoundException, IOException {
+        CsvUtil.writeContentsToFile(file, new CsvSerializablePurchaseOrderList(), writer -> {
+            for (PurchaseOrder purchaseOrder : purchaseOrderList.getPurchaseOrderList()) {
+                CsvAdaptedPurchaseOrder.writeContentOfPurchaseOrder(purchaseOrder, writer);
+            }
+        }, purchaseOrderList.getPurchaseOrderList().size(), progressListener);
+    }
+
     /**
      * Combine a list of Csv-friendly adapted purchase order into a list of list of string representing the contents.
      *
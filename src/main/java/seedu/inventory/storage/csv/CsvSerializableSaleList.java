@@ -2,11 +2,17 @@ package seedu.inventory.storage.csv;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.ReadOnlyInventory;
 import seedu.inventory.model.ReadOnlySaleList;
 import seedu.inventory.model.SaleList;
@@ -74,15 +80,79 @@ public class CsvSerializableSaleList implements CsvSerializableData {
         SaleList saleList = new SaleList();
 
         for (CsvAdaptedSale p : sales) {
-            Sale sale = p.toModelType(inventory);
-            if (saleList.hasSale(sale)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SALE);
-            }
-            saleList.addSale(sale);
+            addSale(saleList, p, inventory);
         }
         return saleList;
     }
 
+    /**
+     * Reads the sale list in the csv file, converting its contents into sales of items in {@code inventory} in
+     * parallel as they are read.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws UnrecognizableDataException if the file does not have the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file, naming
+     *                               the line of each.
+     */
+    public static SaleList readSaleList(Path file, ReadOnlyInventory inventory)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        return readSaleList(file, inventory, ProgressListener.NONE);
+    }
+
+    /**
+     * Reads the sale list in the csv file as above, reporting the bytes read out of the size of the file to
+     * {@code progressListener} as they are read.
+     */
+    public static SaleList readSaleList(Path file, ReadOnlyInventory inventory,
+            ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        requireNonNull(inventory);
+
+        List<Sale> sales = new ParallelCsvImport<>(new CsvSerializableSaleList(),
+            content -> CsvAdaptedSale.splitContentToSale(content).toModelType(inventory), Sale::getSaleId,
+                MESSAGE_DUPLICATE_SALE).importFrom(file, progressListener);
+        SaleList saleList = new SaleList();
+        saleList.setSales(sales);
+        return saleList;
+    }
+
+    /**
+     * Writes {@code saleList} to the csv file, straight from the model, one row at a time.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there is an error during writing data to the file.
+     */
+    public static void writeSaleList(ReadOnlySaleList saleList, Path file) throws FileNotFoundException, IOException {
+        writeSaleList(saleList, file, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes {@code saleList} to the csv file as above, reporting the rows written to {@code progressListener}
+     * as they are written.
+     */
+    public static void writeSaleList(ReadOnlySaleList saleList, Path file, ProgressListener progressListener)
+            throws FileNotFoundException, IOException {
+        CsvUtil.writeContentsToFile(file, new CsvSerializableSaleList(), writer -> {
+            for (Sale sale : saleList.getSaleList()) {
+                CsvAdaptedSale.writeContentOfSale(sale, writer);
+            }
+        }, saleList.getSaleList().size(), progressListener);
+    }
+
+    /**
+     * Converts {@code adaptedSale} and adds it to {@code saleList}.
+     *
+     * @throws IllegalValueException if the sale is invalid or already in {@code saleList}.
+     */
+    private static void addSale(SaleList saleList, CsvAdaptedSale adaptedSale, ReadOnlyInventory inventory)
+            throws IllegalValueException {
+        Sale sale = adaptedSale.toModelType(inventory);
+        if (saleList.hasSale(sale)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SALE);
+        }
+        saleList.addSale(sale);
+    }
+
     /**
      * Combine a list of Csv-friendly adapted sale into a list of list of string representing the contents.
      *
@@ -1,10 +1,16 @@
 package seedu.inventory.storage.csv;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.ReadOnlyStaffList;
 import seedu.inventory.model.StaffList;
 import seedu.inventory.model.staff.Staff;
@@ -61,15 +67,76 @@ public class CsvSerializableStaffList implements CsvSerializableData {
         StaffList staffList = new StaffList();
 
         for (CsvAdaptedStaff p : staffs) {
-            Staff staff = p.toModelType();
-            if (staffList.hasStaff(staff)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STAFF);
-            }
-            staffList.addStaff(staff);
+            addStaff(staffList, p);
         }
         return staffList;
     }
 
+    /**
+     * Reads the staff list in the csv file, converting its contents into staffs in parallel as they are read.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws UnrecognizableDataException if the file does not have the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file, naming
+     *                               the line of each.
+     */
+    public static StaffList readStaffList(Path file)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        return readStaffList(file, ProgressListener.NONE);
+    }
+
+    /**
+     * Reads the staff list in the csv file as above, reporting the bytes read out of the size of the file to
+     * {@code progressListener} as they are read.
+     */
+    public static StaffList readStaffList(Path file, ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        List<Staff> staffs = new ParallelCsvImport<>(new CsvSerializableStaffList(),
+            content -> CsvAdaptedStaff.splitContentToStaff(content).toModelType(), Staff::getUsername,
+                MESSAGE_DUPLICATE_STAFF).importFrom(file, progressListener);
+        StaffList staffList = new StaffList();
+        staffList.setStaffs(staffs);
+        return staffList;
+    }
+
+    /**
+     * Writes {@code staffList} to the csv file, straight from the model, one row at a time.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there is an error during writing data to the file.
+     */
+    public static void writeStaffList(ReadOnlyStaffList staffList, Path file)
+            throws FileNotFoundException, IOException {
+        writeStaffList(staffList, file, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes {@code staffList} to the csv file as above, reporting the rows written to {@code progressListener}
+     * as they are written.
+     */
+    public static void writeStaffList(ReadOnlyStaffList staffList, Path file,
+            ProgressListener progressListener)
+            throws FileNotFoundException, IOException {
+        CsvUtil.writeContentsToFile(file, new CsvSerializableStaffList(), writer -> {
+            for (Staff staff : staffList.getStaffList()) {
+                CsvAdaptedStaff.writeContentOfStaff(staff, writer);
+            }
+        }, staffList.getStaffList().size(), progressListener);
+    }
+
+    /**
+     * Converts {@code adaptedStaff} and adds it to {@code staffList}.
+     *
+     * @throws IllegalValueException if the staff is invalid or already in {@code staffList}.
+     */
+    private static void addStaff(StaffList staffList, CsvAdaptedStaff adaptedStaff) throws IllegalValueException {
+        Staff staff = adaptedStaff.toModelType();
+        if (staffList.hasStaff(staff)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STAFF);
+        }
+        staffList.addStaff(staff);
+    }
+
     /**
      * Combine a list of Csv-friendly adapted staff into a list of list of string representing the contents.
      *
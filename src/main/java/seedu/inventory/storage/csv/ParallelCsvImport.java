@@ -0,0 +1,220 @@
+package seedu.inventory.storage.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
+
+/**
+ * Converts the contents of a csv file into model objects on a fork-join pool.
+ * Contents are read in chunks, and each chunk is validated and converted on the pool while the file is still being
+ * read. The converted chunks are merged in file order, which is where duplicates are found.
+ * Every invalid content is reported together with the line it starts on, instead of only the first, up to
+ * {@link #MAX_REPORTED_ERRORS} contents.
+ *
+ * @param <T> the type of model object that a content is converted into.
+ */
+class ParallelCsvImport<T> {
+
+    static final int CHUNK_SIZE = 1024;
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    static final String MESSAGE_INVALID_LINE = "Line %d: %s";
+    static final String MESSAGE_MORE_INVALID_LINES = "... and %d more invalid lines";
+
+    private final CsvSerializableData dataType;
+    private final ContentConverter<T> converter;
+    private final Function<T, ?> keyMapper;
+    private final String duplicateMessage;
+    private final ForkJoinPool pool;
+    private final int maxPendingChunks;
+
+    private final Deque<ForkJoinTask<List<Converted<T>>>> pendingChunks = new ArrayDeque<>();
+    private final List<T> converted = new ArrayList<>();
+    private final Set<Object> keys = new HashSet<>();
+    private final List<String> errors = new ArrayList<>();
+    private int errorCount;
+    private Chunk chunk = new Chunk();
+
+    /**
+     * Creates an import of contents of {@code dataType}, converted by {@code converter}.
+     * Model objects with the same key given by {@code keyMapper} are reported as duplicates with
+     * {@code duplicateMessage}; if {@code keyMapper} is null, no duplicates are looked for.
+     */
+    ParallelCsvImport(CsvSerializableData dataType, ContentConverter<T> converter, Function<T, ?> keyMapper,
+            String duplicateMessage) {
+        this(dataType, converter, keyMapper, duplicateMessage, ForkJoinPool.commonPool());
+    }
+
+    ParallelCsvImport(CsvSerializableData dataType, ContentConverter<T> converter, Function<T, ?> keyMapper,
+            String duplicateMessage, ForkJoinPool pool) {
+        requireNonNull(dataType);
+        requireNonNull(converter);
+        requireNonNull(pool);
+        this.dataType = dataType;
+        this.converter = converter;
+        this.keyMapper = keyMapper;
+        this.duplicateMessage = duplicateMessage;
+        this.pool = pool;
+        this.maxPendingChunks = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Returns the model objects converted from the contents of the csv file, in file order, reporting the bytes
+     * read to {@code progressListener} as they are read.
+     * An import can only be run once. The chunks still waiting for conversion when the import fails are cancelled.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws UnrecognizableDataException if the file does not have the correct format.
+     * @throws IllegalValueException if any content is invalid or a duplicate, with a line for each such content.
+     */
+    List<T> importFrom(Path file, ProgressListener progressListener)
+            throws FileNotFoundException, UnrecognizableDataException, IllegalValueException {
+        try {
+            CsvUtil.readContentsFromFile(file, dataType, this::addContent, progressListener);
+            submitChunk();
+            while (!pendingChunks.isEmpty()) {
+                merge(pendingChunks.poll().join());
+            }
+        } finally {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.cancel(true));
+            pendingChunks.clear();
+        }
+
+        if (errorCount > errors.size()) {
+            errors.add(String.format(MESSAGE_MORE_INVALID_LINES, errorCount - errors.size()));
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return converted;
+    }
+
+    /**
+     * Adds {@code content} to the chunk being read, submitting the chunk once it is full.
+     * Converted chunks are merged as they come, so only a bounded number of chunks wait for conversion at a time.
+     */
+    private void addContent(List<String> content, long lineNumber) {
+        chunk.add(content, lineNumber);
+        if (chunk.size() < CHUNK_SIZE) {
+            return;
+        }
+        submitChunk();
+        if (pendingChunks.size() > maxPendingChunks) {
+            merge(pendingChunks.poll().join());
+        }
+    }
+
+    /**
+     * Submits the chunk being read for conversion, and starts a new one.
+     */
+    private void submitChunk() {
+        if (chunk.size() == 0) {
+            return;
+        }
+        Chunk toConvert = chunk;
+        pendingChunks.add(pool.submit(() -> toConvert.convert(converter)));
+        chunk = new Chunk();
+    }
+
+    /**
+     * Adds the model objects in {@code chunk} to the result, in order, noting the invalid and duplicate contents.
+     */
+    private void merge(List<Converted<T>> chunk) {
+        for (Converted<T> content : chunk) {
+            if (content.error != null) {
+                addError(content.lineNumber, content.error);
+                continue;
+            }
+            if (keyMapper != null && !keys.add(keyMapper.apply(content.value))) {
+                addError(content.lineNumber, duplicateMessage);
+                continue;
+            }
+            if (errorCount == 0) {
+                converted.add(content.value);
+            }
+        }
+    }
+
+    /**
+     * Notes that the content starting on {@code lineNumber} is invalid, keeping the message of only the first
+     * {@link #MAX_REPORTED_ERRORS} such contents.
+     */
+    private void addError(long lineNumber, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(String.format(MESSAGE_INVALID_LINE, lineNumber, message));
+        }
+        converted.clear();
+    }
+
+    /**
+     * Converts a content into a model object.
+     */
+    @FunctionalInterface
+    interface ContentConverter<T> {
+        T convert(List<String> content) throws IllegalValueException;
+    }
+
+    /**
+     * Contents read from the file, with the lines they start on.
+     */
+    private static class Chunk {
+        private final List<List<String>> contents = new ArrayList<>(CHUNK_SIZE);
+        private final long[] lineNumbers = new long[CHUNK_SIZE];
+
+        void add(List<String> content, long lineNumber) {
+            lineNumbers[contents.size()] = lineNumber;
+            contents.add(content);
+        }
+
+        int size() {
+            return contents.size();
+        }
+
+        /**
+         * Converts each content in this chunk, keeping the error of each content that is invalid.
+         */
+        <T> List<Converted<T>> convert(ContentConverter<T> converter) {
+            List<Converted<T>> convertedContents = new ArrayList<>(contents.size());
+            for (int i = 0; i < contents.size(); i++) {
+                try {
+                    convertedContents.add(new Converted<>(lineNumbers[i], converter.convert(contents.get(i)), null));
+                } catch (IllegalValueException ive) {
+                    convertedContents.add(new Converted<>(lineNumbers[i], null, ive.getMessage()));
+                }
+            }
+            return convertedContents;
+        }
+    }
+
+    /**
+     * The model object converted from a content, or the reason the content is invalid.
+     */
+    private static class Converted<T> {
+        private final long lineNumber;
+        private final T value;
+        private final String error;
+
+        Converted(long lineNumber, T value, String error) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+            this.error = error;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.inventory.ui;
 
-import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -21,6 +26,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.inventory.MainApp;
 import seedu.inventory.commons.core.LogsCenter;
+import seedu.inventory.commons.events.model.LowStockChangedEvent;
 import seedu.inventory.commons.events.ui.ClearBrowserPanelEvent;
 import seedu.inventory.commons.events.ui.ItemPanelSelectionChangedEvent;
 import seedu.inventory.commons.events.ui.PurchaseOrderSelectionChangedEvent;
@@ -41,6 +47,8 @@ public class BrowserPanel extends UiPart<Region> {
 
     private static final String FXML = "BrowserPanel.fxml";
 
+    private static final int PREFETCH_DISTANCE = 2;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
@@ -61,26 +69,67 @@ public class BrowserPanel extends UiPart<Region> {
     @FXML
     private Label sku;
 
-    public BrowserPanel() {
+    private final Predicate<Item> lowStockCheck;
+
+    private final ObservableList<Item> itemList;
+
+    private final ThumbnailCache thumbnailCache;
+
+    private String displayedSku;
+
+    private String displayedImageUrl;
+
+    public BrowserPanel(Predicate<Item> lowStockCheck, ObservableList<Item> itemList, ThumbnailCache thumbnailCache) {
         super(FXML);
+        this.lowStockCheck = lowStockCheck;
+        this.itemList = itemList;
+        this.thumbnailCache = thumbnailCache;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
 
         loadDefaultPage();
         registerAsAnEventHandler(this);
+
+        // the item list is not filtered yet, so it holds the images of all items
+        thumbnailCache.evictStaleThumbnails(itemList.stream()
+                .map(item -> item.getImage().toString())
+                .collect(Collectors.toList()));
     }
 
     /**
      * Load the item details and display it in the browser panel
      *
      * @param item
+     * @param index the index of {@code item} in the item list.
      */
-    private void loadItemPage(Item item) {
+    private void loadItemPage(Item item, int index) {
         itemDetailPane.setBackground(null);
         setItemVisibility(true);
+        displayedSku = item.getSku().value;
         loadPage(item.getImage().toString(), item.getName().fullName, item.getPrice().toString(),
-                item.getQuantity().toString(), item.getSku().toString());
+                item.getQuantity().getIntValue(), item.getSku().toString(), lowStockCheck.test(item));
+        prefetchNeighbours(item, index);
+    }
+
+    /**
+     * Loads the thumbnails of the items next to {@code item}, at {@code index} in the item list, so that they show
+     * at once when the selection moves to them.
+     */
+    private void prefetchNeighbours(Item item, int index) {
+        if (index < 0 || index >= itemList.size() || itemList.get(index) != item) {
+            return;
+        }
+        List<String> imagePaths = new ArrayList<>();
+        for (int distance = 1; distance <= PREFETCH_DISTANCE; distance++) {
+            if (index + distance < itemList.size()) {
+                imagePaths.add(itemList.get(index + distance).getImage().toString());
+            }
+            if (index - distance >= 0) {
+                imagePaths.add(itemList.get(index - distance).getImage().toString());
+            }
+        }
+        thumbnailCache.prefetch(imagePaths);
     }
 
     /**
@@ -110,26 +159,48 @@ public class BrowserPanel extends UiPart<Region> {
      * @param price    the price of the item
      * @param quantity the quantity of the item
      * @param sku      the SKU of the item
+     * @param isLowStock whether the item is low on stock
      */
-    public void loadPage(String url, String name, String price, String quantity, String sku) {
-        File file = new File(url);
+    public void loadPage(String url, String name, String price, int quantity, String sku, boolean isLowStock) {
+        String imageUrl = ThumbnailCache.getSourceUrl(url);
+        displayedImageUrl = imageUrl;
 
-        if (file.exists()) {
-            Platform.runLater(() -> photo.setImage(
-                    new Image("file:" + url, 300, 300, false, true))
-            );
-        } else {
-            Platform.runLater(() -> photo.setImage(
-                    new Image(url, 300, 300, false, true))
-            );
+        CompletableFuture<Image> thumbnail = thumbnailCache.getThumbnail(url);
+        if (!thumbnail.isDone()) {
+            Platform.runLater(() -> photo.setImage(null));
         }
+        thumbnail.whenComplete((image, error) -> Platform.runLater(() -> {
+            if (error != null || image == null || image.isError()) {
+                logger.warning("Failed to load the thumbnail of " + imageUrl + ", loading the image instead");
+                showPhoto(imageUrl, new Image(imageUrl, ThumbnailCache.THUMBNAIL_SIZE, ThumbnailCache.THUMBNAIL_SIZE,
+                        false, true));
+            } else {
+                showPhoto(imageUrl, image);
+            }
+        }));
 
         Platform.runLater(() -> this.name.setText(name));
         Platform.runLater(() -> this.price.setText("Price: $" + price));
         Platform.runLater(() -> this.quantity.setText("Quantity: " + quantity));
         Platform.runLater(() -> this.sku.setText("SKU: " + sku));
 
-        if (Integer.parseInt(quantity) <= 10) {
+        setLowStockWarning(isLowStock);
+    }
+
+    /**
+     * Shows {@code image}, the thumbnail of the image at {@code imageUrl}, unless another image has been displayed
+     * since it was asked for.
+     */
+    private void showPhoto(String imageUrl, Image image) {
+        if (photo == null || !imageUrl.equals(displayedImageUrl)) {
+            return;
+        }
+        photo.setUserData(imageUrl);
+        photo.setImage(image);
+    }
+
+    private void setLowStockWarning(boolean isLowStock) {
+        if (isLowStock) {
             this.quantity.setStyle("-fx-graphic: url(\"/images/warning_icon.png\");"
                     + "-fx-graphic-text-gap: 10; -fx-text-fill: #ff1900;");
         } else {
@@ -141,6 +212,8 @@ public class BrowserPanel extends UiPart<Region> {
      * Loads the default image file to set as the StackPane's background image that matches the general theme.
      */
     private void loadDefaultPage() {
+        displayedSku = null;
+        displayedImageUrl = null;
         URL defaultPage = MainApp.class.getResource("/images/UI.png");
         itemDetailPane.setBackground(
                 new Background(
@@ -157,6 +230,8 @@ public class BrowserPanel extends UiPart<Region> {
      * Clears the browser panel to show up as empty.
      */
     private void clearBrowserPanel() {
+        displayedSku = null;
+        displayedImageUrl = null;
         setItemVisibility(false);
     }
 
@@ -166,13 +241,14 @@ public class BrowserPanel extends UiPart<Region> {
     public void freeResources() {
         itemDetailPane = null;
         photo = null;
+        thumbnailCache.shutdown();
     }
 
     @Subscribe
     private void handleItemPanelSelectionChangedEvent(ItemPanelSelectionChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         raise(new ShowBrowserPanelEvent());
-        loadItemPage(event.getNewSelection());
+        loadItemPage(event.getNewSelection(), event.getNewSelectionIndex());
     }
 
     @Subscribe
@@ -182,6 +258,21 @@ public class BrowserPanel extends UiPart<Region> {
         loadPurchaseOrderPage(event.getNewSelection());
     }
 
+    @Subscribe
+    private void handleLowStockChangedEvent(LowStockChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        for (Item item : event.itemsNowLow) {
+            if (item.getSku().value.equals(displayedSku)) {
+                setLowStockWarning(true);
+            }
+        }
+        for (Item item : event.itemsNoLongerLow) {
+            if (item.getSku().value.equals(displayedSku)) {
+                setLowStockWarning(false);
+            }
+        }
+    }
+
     @Subscribe
     private void handleShowDefaultPageEvent(ShowDefaultPageEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
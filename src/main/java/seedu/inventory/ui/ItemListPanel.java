@@ -42,7 +42,8 @@ public class ItemListPanel extends UiPart<Region> {
                 .addListener((observable, oldValue, newValue) -> {
                     if (newValue != null) {
                         logger.fine("Selection in item list panel changed to : '" + newValue + "'");
-                        raise(new ItemPanelSelectionChangedEvent(newValue));
+                        raise(new ItemPanelSelectionChangedEvent(newValue,
+                                itemListView.getSelectionModel().getSelectedIndex()));
                     }
                 });
     }
@@ -41,6 +41,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private static final String THUMBNAIL_DIRECTORY = "thumbnails";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -127,7 +129,8 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        browserPanel = new BrowserPanel();
+        browserPanel = new BrowserPanel(logic::isLowStock, logic.getFilteredItemList(),
+                new ThumbnailCache(prefs.getInventoryFilePath().resolveSibling(THUMBNAIL_DIRECTORY)));
         itemTableView = new ItemTableView(logic.getFilteredItemList());
         saleTableView = new SaleTableView(logic.getObservableSaleList());
         staffTableView = new StaffTableView(logic.getFilteredStaffList());
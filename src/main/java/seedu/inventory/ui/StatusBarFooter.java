@@ -15,6 +15,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.inventory.commons.core.LogsCenter;
 import seedu.inventory.commons.events.model.InventoryChangedEvent;
+import seedu.inventory.commons.events.storage.FileOperationProgressEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -24,6 +25,9 @@ public class StatusBarFooter extends UiPart<Region> {
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
 
+    public static final String FILE_OPERATION_STATUS_FINISHED = "Done: %s";
+    public static final String FILE_OPERATION_STATUS_CANCELLED = "Cancelled: %s";
+
     /**
      * Used to generate time stamps.
      *
@@ -41,6 +45,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar fileOperationStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
 
@@ -73,6 +79,13 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setFileOperationStatus(String status, double progress) {
+        Platform.runLater(() -> {
+            fileOperationStatus.setText(status);
+            fileOperationStatus.setProgress(progress);
+        });
+    }
+
     @Subscribe
     public void handleAddressBookChangedEvent(InventoryChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +93,18 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleFileOperationProgressEvent(FileOperationProgressEvent event) {
+        switch (event.state) {
+        case RUNNING:
+            setFileOperationStatus(event.description, Math.max(event.getProgress(), 0));
+            break;
+        case FINISHED:
+            setFileOperationStatus(String.format(FILE_OPERATION_STATUS_FINISHED, event.description), 0);
+            break;
+        default:
+            setFileOperationStatus(String.format(FILE_OPERATION_STATUS_CANCELLED, event.description), 0);
+        }
+    }
 }
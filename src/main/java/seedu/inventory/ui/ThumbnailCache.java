@@ -0,0 +1,275 @@
+package seedu.inventory.ui;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import seedu.inventory.commons.core.LogsCenter;
+
+/**
+ * Caches the thumbnails of item images shown in the {@code BrowserPanel}.
+ * The most recently used thumbnails are kept in memory, and the thumbnails of image files are also kept on disk,
+ * keyed by the path and last modified time of the image, so an image is only decoded again once it changes.
+ * Thumbnails on disk that no longer match the current version of an item image are deleted with
+ * {@link #evictStaleThumbnails(List)}. Thumbnails are decoded on background threads, until {@link #shutdown()}.
+ */
+public class ThumbnailCache {
+
+    public static final int THUMBNAIL_SIZE = 300;
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final String THUMBNAIL_FORMAT = "png";
+    private static final String TEMPORARY_FILE_PREFIX = "thumbnail";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailCache.class);
+
+    private final Path thumbnailDirectory;
+    private final Map<String, Image> thumbnails;
+    private final Map<String, CompletableFuture<Image>> loading = new HashMap<>();
+    private final ExecutorService decoder = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "thumbnail-decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ThumbnailCache(Path thumbnailDirectory) {
+        this(thumbnailDirectory, DEFAULT_CAPACITY);
+    }
+
+    public ThumbnailCache(Path thumbnailDirectory, int capacity) {
+        assert capacity > 0;
+        this.thumbnailDirectory = thumbnailDirectory;
+        this.thumbnails = new LinkedHashMap<String, Image>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the url that the image at {@code imagePath} is loaded from.
+     * Image files are loaded from the file system, and other paths are loaded as they are.
+     */
+    public static String getSourceUrl(String imagePath) {
+        return new File(imagePath).exists() ? "file:" + imagePath : imagePath;
+    }
+
+    /**
+     * Returns the thumbnail of the image at {@code imagePath}.
+     * The returned future is already completed if the thumbnail is in memory, and is otherwise completed once the
+     * thumbnail is read from disk or decoded.
+     */
+    public synchronized CompletableFuture<Image> getThumbnail(String imagePath) {
+        String key = toKey(imagePath);
+        Image thumbnail = thumbnails.get(key);
+        if (thumbnail != null) {
+            return CompletableFuture.completedFuture(thumbnail);
+        }
+
+        CompletableFuture<Image> pending = loading.get(key);
+        if (pending == null) {
+            CompletableFuture<Image> loadingThumbnail = new CompletableFuture<>();
+            loading.put(key, loadingThumbnail);
+            decoder.execute(() -> {
+                try {
+                    Image image = loadThumbnail(imagePath, key);
+                    finishLoading(key, image);
+                    loadingThumbnail.complete(image);
+                } catch (RuntimeException re) {
+                    finishLoading(key, null);
+                    loadingThumbnail.completeExceptionally(re);
+                }
+            });
+            pending = loadingThumbnail;
+        }
+        return pending;
+    }
+
+    /**
+     * Loads the thumbnails of {@code imagePaths} in the background, so they are in memory when next asked for.
+     */
+    public void prefetch(List<String> imagePaths) {
+        for (String imagePath : imagePaths) {
+            getThumbnail(imagePath);
+        }
+    }
+
+    /**
+     * Deletes the thumbnails on disk that are not of the current version of an image at {@code imagePaths}, in the
+     * background.
+     *
+     * @return a future that is completed once the stale thumbnails are deleted.
+     */
+    public CompletableFuture<Void> evictStaleThumbnails(List<String> imagePaths) {
+        if (thumbnailDirectory == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<String> currentImagePaths = new ArrayList<>(imagePaths);
+        return CompletableFuture.runAsync(() -> deleteStaleThumbnails(currentImagePaths), decoder);
+    }
+
+    /**
+     * Stops the background threads. Thumbnails that are still loading are never completed.
+     */
+    public void shutdown() {
+        decoder.shutdownNow();
+    }
+
+    /**
+     * Returns the number of thumbnails in memory.
+     */
+    public synchronized int size() {
+        return thumbnails.size();
+    }
+
+    /**
+     * Records that the thumbnail with {@code key} is done loading, keeping {@code image} in memory if it loaded.
+     */
+    private synchronized void finishLoading(String key, Image image) {
+        loading.remove(key);
+        if (image != null && !image.isError()) {
+            thumbnails.put(key, image);
+        }
+    }
+
+    /**
+     * Returns the thumbnail of the image at {@code imagePath}, reading it from disk if it is there, and decoding the
+     * image and saving its thumbnail to disk otherwise.
+     * The image is decoded on the calling thread, so the thumbnail has loaded by the time it is returned.
+     */
+    private Image loadThumbnail(String imagePath, String key) {
+        Path thumbnailFile = getThumbnailFile(imagePath, key);
+        if (thumbnailFile != null && Files.isRegularFile(thumbnailFile)) {
+            Image thumbnail = new Image(thumbnailFile.toUri().toString());
+            if (!thumbnail.isError()) {
+                return thumbnail;
+            }
+            logger.warning("Thumbnail " + thumbnailFile + " could not be read, decoding " + imagePath + " again");
+        }
+
+        Image thumbnail = new Image(getSourceUrl(imagePath), THUMBNAIL_SIZE, THUMBNAIL_SIZE, false, false);
+        if (thumbnailFile != null && !thumbnail.isError()) {
+            saveThumbnail(thumbnail, thumbnailFile);
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Deletes the thumbnails in the thumbnail directory other than those of the current versions of the images at
+     * {@code imagePaths}, along with the temporary files of thumbnails that were never saved.
+     */
+    private void deleteStaleThumbnails(List<String> imagePaths) {
+        if (!Files.isDirectory(thumbnailDirectory)) {
+            return;
+        }
+
+        Set<Path> currentThumbnailFiles = new HashSet<>();
+        for (String imagePath : imagePaths) {
+            Path thumbnailFile = getThumbnailFile(imagePath, toKey(imagePath));
+            if (thumbnailFile != null) {
+                currentThumbnailFiles.add(thumbnailFile);
+            }
+        }
+
+        int deletedCount = 0;
+        try (DirectoryStream<Path> thumbnailFiles = Files.newDirectoryStream(thumbnailDirectory,
+                "{*." + THUMBNAIL_FORMAT + "," + TEMPORARY_FILE_PREFIX + "*" + TEMPORARY_FILE_SUFFIX + "}")) {
+            for (Path thumbnailFile : thumbnailFiles) {
+                if (!currentThumbnailFiles.contains(thumbnailFile) && Files.deleteIfExists(thumbnailFile)) {
+                    deletedCount++;
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete stale thumbnails in " + thumbnailDirectory + ": " + ioe.getMessage());
+        }
+        logger.fine("Deleted " + deletedCount + " stale thumbnails from " + thumbnailDirectory);
+    }
+
+    /**
+     * Writes {@code thumbnail}, which must have loaded, to {@code thumbnailFile}.
+     * The thumbnail is written beside the file and then moved over it, so a partly written thumbnail is never read.
+     * The thumbnail is only kept in memory if it cannot be written.
+     */
+    private static void saveThumbnail(Image thumbnail, Path thumbnailFile) {
+        BufferedImage image = SwingFXUtils.fromFXImage(thumbnail, null);
+        if (image == null) {
+            logger.warning("Thumbnail for " + thumbnailFile + " has no pixels to save");
+            return;
+        }
+
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(thumbnailFile.getParent());
+            temporaryFile = Files.createTempFile(thumbnailFile.getParent(), TEMPORARY_FILE_PREFIX,
+                    TEMPORARY_FILE_SUFFIX);
+            ImageIO.write(image, THUMBNAIL_FORMAT, temporaryFile.toFile());
+            Files.move(temporaryFile, thumbnailFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Failed to save thumbnail to " + thumbnailFile + ": " + e.getMessage());
+        } finally {
+            deleteTemporaryFile(temporaryFile);
+        }
+    }
+
+    /**
+     * Deletes {@code temporaryFile} if it is still there, as when a thumbnail could not be saved.
+     */
+    private static void deleteTemporaryFile(Path temporaryFile) {
+        if (temporaryFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete " + temporaryFile + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns the file that holds the thumbnail of the image file at {@code imagePath} on disk, or null if the image
+     * is not an image file.
+     */
+    private Path getThumbnailFile(String imagePath, String key) {
+        if (thumbnailDirectory == null || key.equals(imagePath)) {
+            return null;
+        }
+        String fileName = UUID.nameUUIDFromBytes(key.getBytes(UTF_8)) + "." + THUMBNAIL_FORMAT;
+        return thumbnailDirectory.resolve(fileName);
+    }
+
+    /**
+     * Returns the key of the thumbnail of the image at {@code imagePath}.
+     * Image files are keyed by their path and last modified time, so a changed image gets a new thumbnail.
+     */
+    private static String toKey(String imagePath) {
+        File file = new File(imagePath);
+        if (!file.isFile()) {
+            return imagePath;
+        }
+        return file.getAbsoluteFile().toPath().normalize() + "@" + file.lastModified();
+    }
+}
@@ -4,6 +4,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.inventory.model.item.Price;
 import seedu.inventory.model.sale.Sale;
 import seedu.inventory.ui.UiPart;
 
@@ -42,11 +43,9 @@ public class SaleCard extends UiPart<Region> {
         saleDate.setText(sale.getSaleDate().toString());
         item.setText(sale.getSaleQuantity().toString() + "x " + sale.getItem().getName().toString());
 
-        Double price = Double.parseDouble((sale.getItem().getPrice().toString()));
-        Integer quantity = Integer.parseInt(sale.getSaleQuantity().toString());
-        Double totalPrice = price * quantity;
+        long totalCents = sale.getItem().getPrice().getCents() * sale.getSaleQuantity().getIntValue();
 
-        itemPrice.setText("$" + String.format("%.2f", totalPrice));
+        itemPrice.setText("$" + Price.formatCents(totalCents));
     }
 
     @Override
@@ -1,6 +1,8 @@
 package guitests.guihandles;
 
 import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 
 /**
  * A handler for the {@code BrowserPanel} of the UI.
@@ -22,6 +24,14 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
         return ImageViewUtil.getLoadedImage(getChildNode(BROWSER_ID));
     }
 
+    /**
+     * Returns the currently displayed image, or null if there is none.
+     */
+    public Image getLoadedImage() {
+        ImageView photo = getChildNode(BROWSER_ID);
+        return photo.getImage();
+    }
+
     /**
      * Remembers the {@code URL} of the currently loaded image.
      */
@@ -39,9 +49,10 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
     }
 
     /**
-     * Returns true if the browser is done loading a page, or if this browser has yet to load any page.
+     * Returns true if the browser is done loading an image, or if this browser is not showing any image.
      */
     public boolean isLoaded() {
-        return true;
+        ImageView photo = getChildNode(BROWSER_ID);
+        return !photo.isVisible() || photo.getImage() != null;
     }
 }
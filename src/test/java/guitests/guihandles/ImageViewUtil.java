@@ -9,11 +9,14 @@ import javafx.scene.image.ImageView;
 public class ImageViewUtil {
 
     /**
-     * Returns the {@code Image} of the currently loaded page in the {@code imageView}.
+     * Returns the url of the image currently loaded in the {@code imageView}.
+     * Thumbnails are loaded from the thumbnail cache, so the url of the source image is used when it is known.
      */
     public static String getLoadedImage(ImageView imageView) {
         if (imageView.getImage() == null) {
             return "";
+        } else if (imageView.getUserData() instanceof String) {
+            return (String) imageView.getUserData();
         } else {
             return imageView.getImage().getUrl();
         }
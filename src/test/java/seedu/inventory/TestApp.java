@@ -87,6 +87,7 @@ public class TestApp extends MainApp {
      */
     public Inventory readStorageInventory() {
         try {
+            storage.flush();
             Inventory inventory = new Inventory(storage.readInventory().get());
             inventory.resetStaffList(readStorageStaffList());
             return inventory;
@@ -110,6 +111,7 @@ public class TestApp extends MainApp {
      */
     public ReadOnlyStaffList readStorageStaffList() {
         try {
+            storage.flush();
             return storage.readStaffList().get();
         } catch (DataConversionException dce) {
             throw new AssertionError("Data is not in the StaffList format.", dce);
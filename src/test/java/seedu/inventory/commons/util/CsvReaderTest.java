@@ -0,0 +1,69 @@
+package seedu.inventory.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+
+public class CsvReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CsvReader(null);
+    }
+
+    @Test
+    public void readRow_plainFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("one,two,three\n,,\n"));
+        assertEquals(Arrays.asList("one", "two", "three"), reader.readRow());
+        assertEquals(Arrays.asList("", "", ""), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"one, one\",\"say \"\"two\"\"\",\"three\nthree\"\r\n"
+                + "four,five,six"));
+        assertEquals(Arrays.asList("one, one", "say \"two\"", "three\nthree"), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(Arrays.asList("four", "five", "six"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_rowsLongerThanBuffer_success() throws Exception {
+        StringBuilder data = new StringBuilder();
+        StringBuilder longField = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            longField.append('x');
+        }
+        for (int i = 0; i < 3; i++) {
+            data.append(i).append(",\"").append(longField).append("\"\n");
+        }
+
+        CsvReader reader = new CsvReader(new StringReader(data.toString()));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Arrays.asList(Integer.toString(i), longField.toString()), reader.readRow());
+        }
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_unclosedQuote_throwsUnrecognizableDataException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("one,\"two\nthree"));
+        thrown.expect(UnrecognizableDataException.class);
+        reader.readRow();
+    }
+}
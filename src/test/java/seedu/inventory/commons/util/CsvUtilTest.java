@@ -5,8 +5,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,6 +33,7 @@ public class CsvUtilTest {
     private static final Path INVALID_CONTENT_FILE = TEST_DATA_FOLDER.resolve("invalidContent.csv");
     private static final Path VALID_TEST_FILE = TEST_DATA_FOLDER.resolve("validTest.csv");
     private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempData.csv");
+    private static final Path TEMP_COMPRESSED_FILE = TestUtil.getFilePathInSandboxFolder("tempData.csv.gz");
     private static final CsvSerializableData DATA_TYPE_TO_TRANSFER = new CsvSerializableDataStub();
 
     @Rule
@@ -96,6 +99,39 @@ public class CsvUtilTest {
         assertEquals(5, data.getContents().size());
     }
 
+    @Test
+    public void readContentsFromFile_validFile_contentsReadInOrder() throws Exception {
+        List<List<String>> contents = new LinkedList<>();
+        CsvUtil.readContentsFromFile(VALID_TEST_FILE, DATA_TYPE_TO_TRANSFER, (content, lineNumber) ->
+                contents.add(content));
+        assertEquals(CsvUtil.getDataContentFromFile(VALID_TEST_FILE, DATA_TYPE_TO_TRANSFER), contents);
+    }
+
+    @Test
+    public void readContentsFromFile_progressListener_wholeFileReported() throws Exception {
+        List<Long> reportedBytes = new ArrayList<>();
+        long fileSize = Files.size(VALID_TEST_FILE);
+        ProgressListener progressListener = (done, total) -> {
+            assertEquals(fileSize, total);
+            reportedBytes.add(done);
+        };
+        CsvUtil.readContentsFromFile(VALID_TEST_FILE, DATA_TYPE_TO_TRANSFER, (content, lineNumber) -> { },
+                progressListener);
+        assertEquals(Arrays.asList(fileSize), reportedBytes);
+    }
+
+    @Test
+    public void readContentsFromFile_invalidDataTypeFile_unrecognizableDataException() throws Exception {
+        thrown.expect(UnrecognizableDataException.class);
+        CsvUtil.readContentsFromFile(INVALID_DATA_TYPE_FILE, DATA_TYPE_TO_TRANSFER, (content, lineNumber) -> { });
+    }
+
+    @Test
+    public void readContentsFromFile_invalidContentFile_unrecognizableDataException() throws Exception {
+        thrown.expect(UnrecognizableDataException.class);
+        CsvUtil.readContentsFromFile(INVALID_CONTENT_FILE, DATA_TYPE_TO_TRANSFER, (content, lineNumber) -> { });
+    }
+
     @Test
     public void isDataTypeEqual() {
         assertTrue(CsvUtil.isDataTypeEqual(Arrays.asList("Test"), DATA_TYPE_TO_TRANSFER));
@@ -204,6 +240,21 @@ public class CsvUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_compressedFile_dataSavedCompressed() throws Exception {
+        FileUtil.createFile(TEMP_COMPRESSED_FILE);
+        CsvSerializableData dataToWrite = CsvUtil.getDataFromFile(VALID_TEST_FILE, DATA_TYPE_TO_TRANSFER);
+        CsvUtil.saveDataToFile(TEMP_COMPRESSED_FILE, dataToWrite);
+        assertEquals((byte) 0x1f, Files.readAllBytes(TEMP_COMPRESSED_FILE)[0]);
+
+        CsvSerializableData dataFromFile = CsvUtil.getDataFromFile(TEMP_COMPRESSED_FILE, DATA_TYPE_TO_TRANSFER);
+        assertEquals(dataToWrite, dataFromFile);
+        List<List<String>> contents = new ArrayList<>();
+        CsvUtil.ContentHandler handler = (content, lineNumber) -> contents.add(content);
+        CsvUtil.readContentsFromFile(TEMP_COMPRESSED_FILE, DATA_TYPE_TO_TRANSFER, handler);
+        assertEquals(dataToWrite.getContents(), contents);
+    }
+
     @Test
     public void saveDataToFile_nullFile_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
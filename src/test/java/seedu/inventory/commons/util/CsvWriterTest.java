@@ -0,0 +1,90 @@
+package seedu.inventory.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.InterruptedIOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvWriterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CsvWriter(null);
+    }
+
+    @Test
+    public void writeField_null_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new CsvWriter(new StringWriter()).writeField(null);
+    }
+
+    @Test
+    public void writeRow_plainFields_writtenAsIs() throws Exception {
+        StringWriter output = new StringWriter();
+        CsvWriter writer = new CsvWriter(output);
+        writer.writeRow(Arrays.asList("one", "two", ""));
+        writer.writeField("three");
+        writer.endRow();
+        assertEquals("one,two,\nthree\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_specialCharacters_quoted() throws Exception {
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRow(Arrays.asList("one, one", "say \"two\"", "three\nthree", "\""));
+        assertEquals("\"one, one\",\"say \"\"two\"\"\",\"three\nthree\",\"\"\"\"\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_readBack_sameFields() throws Exception {
+        List<String> fields = Arrays.asList("a,b", "\"quoted\"", "line\r\nbreak", "", "plain");
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRow(fields);
+
+        CsvReader reader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(fields, reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void endRow_progressInterval_progressReported() throws Exception {
+        List<Long> reportedRows = new ArrayList<>();
+        CsvWriter writer = new CsvWriter(new StringWriter(), 3 * CsvWriter.PROGRESS_INTERVAL, (done, total) -> {
+            assertEquals(3 * CsvWriter.PROGRESS_INTERVAL, total);
+            reportedRows.add(done);
+        });
+        for (int i = 0; i < 2 * CsvWriter.PROGRESS_INTERVAL + 1; i++) {
+            writer.writeRow(Arrays.asList("row"));
+        }
+        assertEquals(Arrays.asList((long) CsvWriter.PROGRESS_INTERVAL, 2L * CsvWriter.PROGRESS_INTERVAL),
+                reportedRows);
+        assertEquals(2 * CsvWriter.PROGRESS_INTERVAL + 1, writer.getRowCount());
+    }
+
+    @Test
+    public void endRow_interrupted_throwsInterruptedIoException() throws Exception {
+        CsvWriter writer = new CsvWriter(new StringWriter());
+        Thread.currentThread().interrupt();
+        try {
+            thrown.expect(InterruptedIOException.class);
+            for (int i = 0; i < CsvWriter.PROGRESS_INTERVAL; i++) {
+                writer.writeRow(Arrays.asList("row"));
+            }
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package seedu.inventory.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.inventory.testutil.Assert;
 
@@ -14,6 +24,9 @@ public class FileUtilTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "FileUtilTest");
     private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("missing.file");
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -46,15 +59,70 @@ public class FileUtilTest {
         assertTrue(FileUtil.isValidCsvFile(Paths.get("/a.csv")));
         assertTrue(FileUtil.isValidCsvFile(Paths.get("a/a.csv")));
         assertTrue(FileUtil.isValidCsvFile(Paths.get("a/a.csv.csv")));
+        assertTrue(FileUtil.isValidCsvFile(Paths.get("a/a.csv.gz")));
 
         // invalid csv file
         assertFalse(FileUtil.isValidCsvFile(Paths.get("/a")));
         assertFalse(FileUtil.isValidCsvFile(Paths.get("a.jpg")));
         assertFalse(FileUtil.isValidCsvFile(Paths.get("/a.cs")));
         assertFalse(FileUtil.isValidCsvFile(Paths.get("a.v")));
+        assertFalse(FileUtil.isValidCsvFile(Paths.get("a.gz")));
+        assertFalse(FileUtil.isValidCsvFile(Paths.get("a.xml.gz")));
 
         // null path -> throws NullPointerException
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidCsvFile(null));
     }
 
+    @Test
+    public void isCompressedFile() {
+        assertTrue(FileUtil.isCompressedFile(Paths.get("a/a.csv.gz")));
+        assertTrue(FileUtil.isCompressedFile(Paths.get("a.xml.gz")));
+
+        assertFalse(FileUtil.isCompressedFile(Paths.get("a.csv")));
+        assertFalse(FileUtil.isCompressedFile(Paths.get("a.gz/a.xml")));
+    }
+
+    @Test
+    public void openOutputStream_compressedFile_readBackDecompressed() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("compressed.txt.gz");
+        byte[] contents = new byte[64 * 1024];
+        try (OutputStream out = FileUtil.openOutputStream(file)) {
+            out.write(contents);
+        }
+
+        byte[] stored = Files.readAllBytes(file);
+        assertTrue(stored.length < contents.length);
+        // the magic number that gzip streams start with
+        assertEquals((byte) 0x1f, stored[0]);
+        assertEquals((byte) 0x8b, stored[1]);
+        try (InputStream in = FileUtil.openInputStream(file)) {
+            ByteArrayOutputStream readBack = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                readBack.write(buffer, 0, read);
+            }
+            assertArrayEquals(contents, readBack.toByteArray());
+        }
+    }
+
+    @Test
+    public void openOutputStream_uncompressedFile_writtenAsIs() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("plain.txt");
+        try (OutputStream out = FileUtil.openOutputStream(file)) {
+            out.write("plain".getBytes(StandardCharsets.US_ASCII));
+        }
+        assertEquals("plain", new String(Files.readAllBytes(file), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void checksum() throws Exception {
+        Path file = testFolder.newFile("checksum.txt").toPath();
+        Files.write(file, "123456789".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(0xCBF43926L, FileUtil.checksum(file));
+
+        Files.write(file, "123456780".getBytes(StandardCharsets.US_ASCII));
+        assertNotEquals(0xCBF43926L, FileUtil.checksum(file));
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.inventory.commons.util;
 import static org.junit.Assert.assertEquals;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -33,6 +34,7 @@ public class XmlUtilTest {
     private static final Path INVALID_ITEM_FIELD_FILE = TEST_DATA_FOLDER.resolve("invalidItemField.xml");
     private static final Path VALID_ITEM_FILE = TEST_DATA_FOLDER.resolve("validItem.xml");
     private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempInventory.xml");
+    private static final Path TEMP_COMPRESSED_FILE = TestUtil.getFilePathInSandboxFolder("tempInventory.xml.gz");
 
     private static final String INVALID_QUANTITY = "9482asf424";
 
@@ -138,6 +140,19 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_compressedFile_dataSavedCompressed() throws Exception {
+        FileUtil.createFile(TEMP_COMPRESSED_FILE);
+        XmlSerializableInventory dataToWrite = new XmlSerializableInventory(
+                new InventoryBuilder(new Inventory()).withItem(new ItemBuilder().build()).build());
+        XmlUtil.saveDataToFile(TEMP_COMPRESSED_FILE, dataToWrite);
+        assertEquals((byte) 0x1f, Files.readAllBytes(TEMP_COMPRESSED_FILE)[0]);
+
+        XmlSerializableInventory dataFromFile = XmlUtil.getDataFromFile(TEMP_COMPRESSED_FILE,
+                XmlSerializableInventory.class);
+        assertEquals(dataToWrite, dataFromFile);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedItem}
      * objects.
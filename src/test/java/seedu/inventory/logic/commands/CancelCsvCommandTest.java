@@ -0,0 +1,31 @@
+package seedu.inventory.logic.commands;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.inventory.commons.events.model.FileOperationCancelEvent;
+import seedu.inventory.logic.CommandHistory;
+import seedu.inventory.logic.commands.csv.CancelCsvCommand;
+import seedu.inventory.model.Model;
+import seedu.inventory.model.ModelManager;
+import seedu.inventory.ui.testutil.EventsCollectorRule;
+
+public class CancelCsvCommandTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_cancel_success() {
+        assertCommandSuccess(new CancelCsvCommand(), model, commandHistory, CancelCsvCommand.MESSAGE_SUCCESS,
+                expectedModel);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof FileOperationCancelEvent);
+    }
+}
@@ -61,6 +61,23 @@ public class ExportCsvCommandTest {
         assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
     }
 
+    @Test
+    public void execute_directory_success() {
+        Path directory = Paths.get(getTempFilePath("inventory"));
+        ExportCsvCommand command = new ExportCsvCommand(directory).setCommandWord(ExportCsvCommand.COMMAND_WORD_ALL);
+        String expectedMessage = String.format(ExportCsvCommand.MESSAGE_SUCCESS_ALL, directory);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_fileAsDirectory_throwsCommandException() throws Exception {
+        Path filePath = testFolder.newFile("inventory.csv").toPath();
+        ExportCsvCommand command = new ExportCsvCommand(filePath).setCommandWord(ExportCsvCommand.COMMAND_WORD_ALL);
+        String expectedMessage = String.format(ExportCsvCommand.MESSAGE_INVALID_DIRECTORY, filePath);
+
+        assertCommandFailure(command, model, commandHistory, expectedMessage);
+    }
+
     @Test
     public void execute_invalidFileExtension_throwsCommandException() {
         Path filePath = Paths.get(getTempFilePath("invalidExport.notcsv"));
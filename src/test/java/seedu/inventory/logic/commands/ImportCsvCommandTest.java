@@ -61,6 +61,54 @@ public class ImportCsvCommandTest {
         assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
     }
 
+    @Test
+    public void execute_mergeMode_success() {
+        Path filePath = Paths.get(getTempFilePath("validImport.csv"));
+        ImportCsvCommand command = new ImportCsvCommand(filePath, true)
+                .setCommandWord(ImportCsvCommand.COMMAND_WORD_ITEMS);
+        String expectedMessage = String.format(ImportCsvCommand.MESSAGE_MERGE_ITEMS, filePath);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+
+        command = new ImportCsvCommand(filePath, true).setCommandWord(ImportCsvCommand.COMMAND_WORD_SALES);
+        expectedMessage = String.format(ImportCsvCommand.MESSAGE_MERGE_SALES, filePath);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_mergeModeForStaffs_throwsCommandException() {
+        Path filePath = Paths.get(getTempFilePath("validImport.csv"));
+        ImportCsvCommand command = new ImportCsvCommand(filePath, true)
+                .setCommandWord(ImportCsvCommand.COMMAND_WORD_STAFFS);
+
+        assertCommandFailure(command, model, commandHistory, ImportCsvCommand.MESSAGE_MERGE_NOT_SUPPORTED);
+    }
+
+    @Test
+    public void execute_directory_success() {
+        Path directory = testFolder.getRoot().toPath();
+        ImportCsvCommand command = new ImportCsvCommand(directory).setCommandWord(ImportCsvCommand.COMMAND_WORD_ALL);
+        String expectedMessage = String.format(ImportCsvCommand.MESSAGE_SUCCESS_ALL, directory);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_missingDirectory_throwsCommandException() {
+        Path directory = Paths.get(getTempFilePath("missing"));
+        ImportCsvCommand command = new ImportCsvCommand(directory).setCommandWord(ImportCsvCommand.COMMAND_WORD_ALL);
+        String expectedMessage = String.format(ImportCsvCommand.MESSAGE_INVALID_DIRECTORY, directory);
+
+        assertCommandFailure(command, model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void execute_mergeModeForAll_throwsCommandException() {
+        Path directory = testFolder.getRoot().toPath();
+        ImportCsvCommand command = new ImportCsvCommand(directory, true)
+                .setCommandWord(ImportCsvCommand.COMMAND_WORD_ALL);
+
+        assertCommandFailure(command, model, commandHistory, ImportCsvCommand.MESSAGE_MERGE_NOT_SUPPORTED);
+    }
+
     @Test
     public void execute_invalidFileExtension_throwsCommandException() {
         Path filePath = Paths.get(getTempFilePath("invalidImport.notcsv"));
@@ -106,6 +154,10 @@ public class ImportCsvCommandTest {
         Path differentPath = Paths.get(getTempFilePath("invalidImport.csv"));
         assertFalse(standardCommand.equals(new ImportCsvCommand(differentPath)));
 
+        // different import mode -> returns false
+        assertFalse(standardCommand.equals(new ImportCsvCommand(tempPath, true)
+                .setCommandWord(ImportCsvCommand.COMMAND_WORD_ITEMS)));
+
         // different commandWord -> returns false
         assertFalse(standardCommand.setCommandWord(ImportCsvCommand.COMMAND_WORD_ITEMS)
                 .equals(commandWithSameValues.setCommandWord(ImportCsvCommand.COMMAND_WORD_PURCHASE_ORDERS)));
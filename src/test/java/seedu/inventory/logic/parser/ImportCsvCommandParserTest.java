@@ -27,6 +27,19 @@ public class ImportCsvCommandParserTest {
         assertParseSuccess(parser, " f/valid/valid.jpg", new ImportCsvCommand(expectedPath));
     }
 
+    @Test
+    public void parse_importMode_success() {
+        Path expectedPath = Paths.get("valid.csv");
+        assertParseSuccess(parser, " f/valid.csv m/merge", new ImportCsvCommand(expectedPath, true));
+        assertParseSuccess(parser, " f/valid.csv m/ MERGE ", new ImportCsvCommand(expectedPath, true));
+        assertParseSuccess(parser, " f/valid.csv m/replace", new ImportCsvCommand(expectedPath));
+    }
+
+    @Test
+    public void parse_invalidImportMode_failure() {
+        assertParseFailure(parser, " f/valid.csv m/upsert", ImportCsvCommandParser.MESSAGE_INVALID_IMPORT_MODE);
+    }
+
     @Ignore
     @Test
     public void parse_invalidPath_failure() {
@@ -31,6 +31,7 @@ import seedu.inventory.logic.commands.SelectCommand;
 import seedu.inventory.logic.commands.UndoCommand;
 import seedu.inventory.logic.commands.authentication.ChangePasswordCommand;
 import seedu.inventory.logic.commands.authentication.LoginCommand;
+import seedu.inventory.logic.commands.csv.CancelCsvCommand;
 import seedu.inventory.logic.commands.csv.ExportCsvCommand;
 import seedu.inventory.logic.commands.csv.ImportCsvCommand;
 import seedu.inventory.logic.commands.item.AddItemCommand;
@@ -41,6 +42,7 @@ import seedu.inventory.logic.commands.item.FindItemCommand;
 import seedu.inventory.logic.commands.item.FindItemSkuCommand;
 import seedu.inventory.logic.commands.item.ListItemCommand;
 import seedu.inventory.logic.commands.item.ListLowQuantityCommand;
+import seedu.inventory.logic.commands.item.ValidateImagesCommand;
 import seedu.inventory.logic.commands.purchaseorder.AddPurchaseOrderCommand;
 import seedu.inventory.logic.commands.purchaseorder.ApprovePurchaseOrderCommand;
 import seedu.inventory.logic.commands.purchaseorder.DeletePurchaseOrderCommand;
@@ -235,6 +237,12 @@ public class InventoryParserTest {
         assertTrue(parser.parseCommand(ListLowQuantityCommand.COMMAND_WORD + " 3") instanceof ListLowQuantityCommand);
     }
 
+    @Test
+    public void parseCommand_validateImages() throws Exception {
+        assertTrue(parser.parseCommand(ValidateImagesCommand.COMMAND_WORD) instanceof ValidateImagesCommand);
+        assertTrue(parser.parseCommand(ValidateImagesCommand.COMMAND_WORD + " 3") instanceof ValidateImagesCommand);
+    }
+
     @Test
     public void parseCommand_list_po() throws Exception {
         assertTrue(parser.parseCommand(ListPurchaseOrderCommand.COMMAND_WORD) instanceof ListPurchaseOrderCommand);
@@ -252,6 +260,8 @@ public class InventoryParserTest {
                 instanceof ExportCsvCommand);
         assertTrue(parser.parseCommand(ExportCsvCommand.COMMAND_WORD_PURCHASE_ORDERS + " f/.csv")
                 instanceof ExportCsvCommand);
+        assertTrue(parser.parseCommand(ExportCsvCommand.COMMAND_WORD_ALL + " f/out")
+                instanceof ExportCsvCommand);
 
     }
 
@@ -265,7 +275,15 @@ public class InventoryParserTest {
                 instanceof ImportCsvCommand);
         assertTrue(parser.parseCommand(ImportCsvCommand.COMMAND_WORD_PURCHASE_ORDERS + " f/.csv")
                 instanceof ImportCsvCommand);
+        assertTrue(parser.parseCommand(ImportCsvCommand.COMMAND_WORD_ALL + " f/in")
+                instanceof ImportCsvCommand);
+
+    }
 
+    @Test
+    public void parseCommand_cancelCsv() throws Exception {
+        assertTrue(parser.parseCommand(CancelCsvCommand.COMMAND_WORD) instanceof CancelCsvCommand);
+        assertTrue(parser.parseCommand(CancelCsvCommand.COMMAND_WORD + " 3") instanceof CancelCsvCommand);
     }
 
     @Test
@@ -4,6 +4,9 @@ import static seedu.inventory.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORM
 import static seedu.inventory.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.inventory.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 
 import seedu.inventory.logic.commands.item.FilterItemCommand;
@@ -46,6 +49,18 @@ public class FilterItemCommandParserTest {
 
         // multiple whitespaces between keywords with only quantity as condition
         assertParseSuccess(parser, " \n q/>100 \n \t  \t", expectedFilterItemCommand);
+
+        // both sides of a price range and a quantity condition
+        expectedFilterItemCommand = new FilterItemCommand(new FilterItemPredicate(
+                Arrays.asList(new FilterPrice(">10"), new FilterPrice("<50")),
+                Collections.singletonList(new FilterQuantity("<100"))));
+        assertParseSuccess(parser, " p/>10 p/<50 q/<100", expectedFilterItemCommand);
+        assertParseSuccess(parser, " p/<50 q/<100 p/>10", expectedFilterItemCommand);
+    }
+
+    @Test
+    public void parse_invalidRepeatedArg_throwsParseException() {
+        assertParseFailure(parser, " p/>10 p/50", FilterPrice.MESSAGE_PRICE_CONSTRAINTS);
     }
 
 }
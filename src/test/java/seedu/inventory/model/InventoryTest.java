@@ -25,6 +25,10 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.ItemNameIndex;
+import seedu.inventory.model.item.ItemRangeIndex;
+import seedu.inventory.model.item.ItemSkuIndex;
+import seedu.inventory.model.item.UniqueItemList;
 import seedu.inventory.model.item.exceptions.DuplicateItemException;
 import seedu.inventory.model.purchaseorder.PurchaseOrder;
 import seedu.inventory.model.sale.Sale;
@@ -299,6 +303,26 @@ public class InventoryTest {
         public Item getItemBySku(String sku) {
             return null;
         }
+
+        @Override
+        public ItemNameIndex getItemNameIndex() {
+            return new ItemNameIndex();
+        }
+
+        @Override
+        public ItemSkuIndex getItemSkuIndex() {
+            return new ItemSkuIndex();
+        }
+
+        @Override
+        public ItemRangeIndex getItemPriceIndex() {
+            return new UniqueItemList().getPriceIndex();
+        }
+
+        @Override
+        public ItemRangeIndex getItemQuantityIndex() {
+            return new UniqueItemList().getQuantityIndex();
+        }
     }
 
 }
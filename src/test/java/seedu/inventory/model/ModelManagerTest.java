@@ -1,5 +1,6 @@
 package seedu.inventory.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.inventory.model.Model.PREDICATE_SHOW_ALL_ITEMS;
@@ -12,22 +13,37 @@ import static seedu.inventory.testutil.staff.TypicalStaffs.ZUL;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.inventory.commons.events.model.FileOperationCancelEvent;
+import seedu.inventory.commons.events.model.InventoryExportEvent;
+import seedu.inventory.commons.events.model.InventoryImportEvent;
+import seedu.inventory.commons.events.model.ItemImageValidationEvent;
 import seedu.inventory.commons.events.model.ItemListExportEvent;
 import seedu.inventory.commons.events.model.ItemListImportEvent;
+import seedu.inventory.commons.events.model.LowStockChangedEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListExportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListImportEvent;
 import seedu.inventory.commons.events.model.SaleListExportEvent;
 import seedu.inventory.commons.events.model.SaleListImportEvent;
 import seedu.inventory.commons.events.model.StaffListExportEvent;
 import seedu.inventory.commons.events.model.StaffListImportEvent;
+import seedu.inventory.commons.events.storage.InventoryUpdateEvent;
+import seedu.inventory.commons.events.storage.ItemListUpdateEvent;
+import seedu.inventory.model.item.Item;
 import seedu.inventory.model.item.NameContainsKeywordsPredicate;
+import seedu.inventory.model.item.Quantity;
 import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.sale.SaleDate;
+import seedu.inventory.model.sale.SaleId;
 import seedu.inventory.testutil.InventoryBuilder;
+import seedu.inventory.testutil.ItemBuilder;
 import seedu.inventory.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
@@ -193,6 +209,70 @@ public class ModelManagerTest {
         assertTrue(modelManager.equals(new ModelManager(inventory, differentUserPrefs, saleList)));
     }
 
+    @Test
+    public void updateItem_crossingLowStockThreshold_raisesLowStockChangedEvent() {
+        modelManager.addItem(IPHONE);
+        assertFalse(modelManager.isLowStock(IPHONE));
+
+        Item soldOutIphone = new ItemBuilder(IPHONE).withQuantity("1").build();
+        modelManager.updateItem(IPHONE, soldOutIphone);
+        assertTrue(modelManager.isLowStock(soldOutIphone));
+        LowStockChangedEvent event = (LowStockChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonList(soldOutIphone), event.itemsNowLow);
+
+        // no crossing -> no event
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.updateItem(soldOutIphone, new ItemBuilder(IPHONE).withQuantity("2").build());
+        assertFalse(eventsCollectorRule.eventsCollector.getMostRecent() instanceof LowStockChangedEvent);
+    }
+
+    @Test
+    public void viewLowQuantity_usesThresholdsFromUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setLowStockThresholds(10, Collections.singletonMap("apple", 30), Collections.emptyMap());
+        ModelManager model = new ModelManager(new InventoryBuilder().withItem(IPHONE).withItem(SAMSUNG).build(),
+                userPrefs, new SaleList());
+        model.viewLowQuantity();
+        assertEquals(Collections.singletonList(IPHONE), model.getFilteredItemList());
+    }
+
+    @Test
+    public void constructor_negativeUndoLimits_defaultLimitsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(-1);
+        userPrefs.setUndoMemoryLimit(-1);
+        ModelManager model = new ModelManager(new Inventory(), userPrefs, new SaleList());
+
+        model.addItem(IPHONE);
+        model.commitInventory();
+        assertTrue(model.canUndoInventory());
+    }
+
+    @Test
+    public void awaitSaleList_saleListLoaded_partOfInitialState() {
+        ModelManager model = new ModelManager(new InventoryBuilder().withItem(IPHONE).build(), new UserPrefs(),
+                new SaleList());
+        SaleList saleList = new SaleList();
+        saleList.addSale(new Sale(new SaleId("1"), IPHONE, new Quantity("1"), new SaleDate("2018-10-10")));
+        model.loadSaleList(CompletableFuture.completedFuture(saleList));
+        assertTrue(model.getObservableSaleList().isEmpty());
+
+        model.awaitSaleList();
+        assertEquals(saleList.getSaleList(), model.getObservableSaleList());
+        assertFalse(model.canUndoInventory());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void awaitSaleList_loadingFailed_emptySaleList() {
+        CompletableFuture<SaleList> saleListLoading = new CompletableFuture<>();
+        saleListLoading.completeExceptionally(new IllegalStateException());
+        modelManager.loadSaleList(saleListLoading);
+
+        modelManager.awaitSaleList();
+        assertTrue(modelManager.getObservableSaleList().isEmpty());
+    }
+
     //=========== Reporting  ===============================================================================
     @Test
     public void exportItemList() {
@@ -200,12 +280,76 @@ public class ModelManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ItemListExportEvent);
     }
 
+    @Test
+    public void validateItemImages() {
+        modelManager.validateItemImages();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ItemImageValidationEvent);
+    }
+
     @Test
     public void importItemList() {
         modelManager.importItemList(Paths.get("dummy"));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ItemListImportEvent);
     }
 
+    @Test
+    public void importItemList_mergeMode_mergeEventRaised() {
+        modelManager.importItemList(Paths.get("dummy"), true);
+        assertTrue(((ItemListImportEvent) eventsCollectorRule.eventsCollector.getMostRecent()).isMerge);
+    }
+
+    @Test
+    public void handleItemListUpdateEvent_mergeMode_itemsMerged() {
+        modelManager.resetItemList(new InventoryBuilder().withItem(IPHONE).withItem(SAMSUNG).build());
+        Item editedSamsung = new ItemBuilder(SAMSUNG).withQuantity("1").build();
+        ItemList importedItemList = new ItemList();
+        importedItemList.addItem(editedSamsung);
+
+        modelManager.handleItemListUpdateEvent(new ItemListUpdateEvent(importedItemList, true));
+        assertEquals(Arrays.asList(IPHONE, editedSamsung), modelManager.getFilteredItemList());
+    }
+
+    @Test
+    public void handleItemListUpdateEvent_importedItems_committed() {
+        ItemList importedItemList = new ItemList();
+        importedItemList.addItem(IPHONE);
+
+        modelManager.handleItemListUpdateEvent(new ItemListUpdateEvent(importedItemList));
+        assertTrue(modelManager.canUndoInventory());
+        modelManager.undoInventory();
+        assertEquals(Arrays.asList(), modelManager.getFilteredItemList());
+    }
+
+    @Test
+    public void exportInventory_eventRaised() {
+        modelManager.exportInventory(Paths.get("dummy"));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof InventoryExportEvent);
+    }
+
+    @Test
+    public void importInventory_eventRaised() {
+        modelManager.importInventory(Paths.get("dummy"));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof InventoryImportEvent);
+    }
+
+    @Test
+    public void handleInventoryUpdateEvent_allListsReplacedKeepingUser() {
+        modelManager.authenticateUser(ZUL);
+        Inventory importedInventory = new InventoryBuilder().withItem(IPHONE).withPurchaseOrder(IPHONEPO).build();
+
+        modelManager.handleInventoryUpdateEvent(new InventoryUpdateEvent(importedInventory));
+        assertEquals(Arrays.asList(IPHONE), modelManager.getFilteredItemList());
+        assertEquals(Arrays.asList(IPHONEPO), modelManager.getFilteredPurchaseOrderList());
+        assertEquals(Arrays.asList(ZUL), modelManager.getFilteredStaffList());
+        assertTrue(modelManager.canUndoInventory());
+    }
+
+    @Test
+    public void cancelFileOperations_eventRaised() {
+        modelManager.cancelFileOperations();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof FileOperationCancelEvent);
+    }
+
     @Test
     public void exportSaleList() {
         modelManager.exportSaleList(Paths.get("dummy"));
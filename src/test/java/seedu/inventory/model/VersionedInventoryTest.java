@@ -2,19 +2,38 @@ package seedu.inventory.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.inventory.logic.commands.CommandTestUtil.VALID_SKU_SONY;
 import static seedu.inventory.testutil.TypicalItems.GOOGLE;
 import static seedu.inventory.testutil.TypicalItems.OPPO;
 import static seedu.inventory.testutil.TypicalItems.SONY;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.OPPOPO;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.SONYPO;
+import static seedu.inventory.testutil.staff.TypicalStaffs.ESMOND;
+import static seedu.inventory.testutil.staff.TypicalStaffs.TENGXIONG;
+import static seedu.inventory.testutil.staff.TypicalStaffs.ZUL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.Quantity;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.sale.SaleDate;
+import seedu.inventory.model.sale.SaleId;
+import seedu.inventory.model.sale.exceptions.DuplicateSaleException;
+import seedu.inventory.model.staff.Staff;
 import seedu.inventory.testutil.InventoryBuilder;
+import seedu.inventory.testutil.ItemBuilder;
+import seedu.inventory.testutil.staff.StaffBuilder;
 
 public class VersionedInventoryTest {
 
@@ -207,6 +226,172 @@ public class VersionedInventoryTest {
         assertThrows(VersionedInventory.NoRedoableStateException.class, versionedInventory::redo);
     }
 
+    @Test
+    public void undo_onlyItemListChanged_otherListsNotReset() {
+        VersionedInventory versionedInventory = prepareInventoryList(inventoryWithOppo);
+        versionedInventory.addStaff(ZUL);
+        versionedInventory.commit();
+        versionedInventory.addItem(SONY);
+        versionedInventory.commit();
+
+        long staffListVersion = versionedInventory.getStaffListVersion();
+        long saleListVersion = versionedInventory.getSaleListVersion();
+        versionedInventory.undo();
+
+        assertEquals(Collections.singletonList(OPPO), versionedInventory.getItemList());
+        assertEquals(Collections.singletonList(ZUL), versionedInventory.getStaffList());
+        assertEquals(staffListVersion, versionedInventory.getStaffListVersion());
+        assertEquals(saleListVersion, versionedInventory.getSaleListVersion());
+
+        versionedInventory.redo();
+        assertEquals(Arrays.asList(OPPO, SONY), versionedInventory.getItemList());
+        assertEquals(staffListVersion, versionedInventory.getStaffListVersion());
+    }
+
+    @Test
+    public void undo_editedItem_itemIndexesRestored() {
+        VersionedInventory versionedInventory = prepareInventoryList(inventoryWithOppo);
+        Item editedOppo = new ItemBuilder(OPPO).withSku(VALID_SKU_SONY).build();
+        versionedInventory.updateItem(OPPO, editedOppo);
+        versionedInventory.commit();
+
+        versionedInventory.undo();
+        assertSame(OPPO, versionedInventory.getItemBySku(OPPO.getSku().value));
+        assertNull(versionedInventory.getItemBySku(VALID_SKU_SONY));
+
+        versionedInventory.redo();
+        assertSame(editedOppo, versionedInventory.getItemBySku(VALID_SKU_SONY));
+        assertNull(versionedInventory.getItemBySku(OPPO.getSku().value));
+    }
+
+    @Test
+    public void undo_editedStaff_onlyEditedStaffReplaced() {
+        VersionedInventory versionedInventory = prepareInventoryList(emptyInventory);
+        versionedInventory.addStaff(ZUL);
+        versionedInventory.addStaff(ESMOND);
+        versionedInventory.addStaff(TENGXIONG);
+        versionedInventory.commit();
+        Staff editedEsmond = new StaffBuilder(ESMOND).withName("Esmond Lim").build();
+        versionedInventory.updateStaff(ESMOND, editedEsmond);
+        versionedInventory.commit();
+
+        List<Staff> replacedStaffs = new ArrayList<>();
+        versionedInventory.getStaffList().addListener((ListChangeListener<Staff>) change -> {
+            while (change.next()) {
+                replacedStaffs.addAll(change.getRemoved());
+            }
+        });
+        versionedInventory.undo();
+
+        assertEquals(Arrays.asList(ZUL, ESMOND, TENGXIONG), versionedInventory.getStaffList());
+        assertEquals(Collections.singletonList(editedEsmond), replacedStaffs);
+    }
+
+    @Test
+    public void undo_removedSale_saleIdIndexRestored() {
+        Sale firstSale = new Sale(new SaleId("1"), OPPO, new Quantity("1"), new SaleDate("2018-08-01"));
+        Sale secondSale = new Sale(new SaleId("2"), SONY, new Quantity("2"), new SaleDate("2018-08-02"));
+        VersionedInventory versionedInventory = prepareInventoryList(emptyInventory);
+        versionedInventory.addSale(firstSale);
+        versionedInventory.addSale(secondSale);
+        versionedInventory.commit();
+        versionedInventory.removeSale(firstSale);
+        versionedInventory.commit();
+
+        versionedInventory.undo();
+        assertEquals(Arrays.asList(firstSale, secondSale), versionedInventory.getSaleList());
+        assertThrows(DuplicateSaleException.class, () -> versionedInventory.addSale(firstSale));
+
+        versionedInventory.redo();
+        assertEquals(Collections.singletonList(secondSale), versionedInventory.getSaleList());
+        versionedInventory.addSale(firstSale);
+        assertEquals(Arrays.asList(secondSale, firstSale), versionedInventory.getSaleList());
+    }
+
+    @Test
+    public void undo_uncommittedChangeToUnchangedList_restoresList() {
+        VersionedInventory versionedInventory = prepareInventoryList(inventoryWithOppo, inventoryWithSony);
+        versionedInventory.addStaff(ZUL);
+
+        versionedInventory.undo();
+        assertEquals(inventoryWithOppo, new Inventory(versionedInventory));
+    }
+
+    @Test
+    public void undo_multipleRemovalsInOneChange_restoresList() {
+        VersionedInventory versionedInventory = prepareInventoryList(new InventoryBuilder().withItem(OPPO)
+                .withItem(SONY).withPurchaseOrder(OPPOPO).withPurchaseOrder(SONYPO).withPurchaseOrder(OPPOPO)
+                .build());
+        versionedInventory.removePurchaseOrder(OPPO);
+        versionedInventory.commit();
+        assertEquals(Collections.singletonList(SONYPO), versionedInventory.getPurchaseOrderList());
+
+        versionedInventory.undo();
+        assertEquals(Arrays.asList(OPPOPO, SONYPO, OPPOPO), versionedInventory.getPurchaseOrderList());
+
+        versionedInventory.redo();
+        assertEquals(Collections.singletonList(SONYPO), versionedInventory.getPurchaseOrderList());
+    }
+
+    @Test
+    public void commit_undoLimitExceeded_oldestStatesDropped() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory, 2,
+                VersionedInventory.DEFAULT_UNDO_MEMORY_LIMIT);
+        versionedInventory.addItem(OPPO);
+        versionedInventory.commit();
+        versionedInventory.addItem(SONY);
+        versionedInventory.commit();
+        versionedInventory.addItem(GOOGLE);
+        versionedInventory.commit();
+
+        versionedInventory.undo();
+        versionedInventory.undo();
+        assertFalse(versionedInventory.canUndo());
+        assertEquals(Collections.singletonList(OPPO), versionedInventory.getItemList());
+
+        versionedInventory.redo();
+        versionedInventory.redo();
+        assertEquals(Arrays.asList(OPPO, SONY, GOOGLE), versionedInventory.getItemList());
+    }
+
+    @Test
+    public void commit_undoMemoryLimitExceeded_oldestStatesDropped() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                VersionedInventory.DEFAULT_UNDO_LIMIT, 2 * InventoryDelta.ESTIMATED_BYTES_PER_ENTRY);
+        versionedInventory.addItem(OPPO);
+        versionedInventory.commit();
+        versionedInventory.addItem(SONY);
+        versionedInventory.commit();
+        versionedInventory.addItem(GOOGLE);
+        versionedInventory.commit();
+
+        versionedInventory.undo();
+        versionedInventory.undo();
+        assertFalse(versionedInventory.canUndo());
+        assertEquals(Collections.singletonList(OPPO), versionedInventory.getItemList());
+    }
+
+    @Test
+    public void commit_zeroUndoLimit_cannotUndo() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory, 0,
+                VersionedInventory.DEFAULT_UNDO_MEMORY_LIMIT);
+        versionedInventory.addItem(OPPO);
+        versionedInventory.commit();
+        assertFalse(versionedInventory.canUndo());
+    }
+
+    @Test
+    public void reset_afterCommits_cannotUndoOrRedo() {
+        VersionedInventory versionedInventory = prepareInventoryList(emptyInventory, inventoryWithOppo,
+                inventoryWithSony);
+        versionedInventory.undo();
+        versionedInventory.reset();
+
+        assertFalse(versionedInventory.canUndo());
+        assertFalse(versionedInventory.canRedo());
+        assertEquals(inventoryWithOppo, new Inventory(versionedInventory));
+    }
+
     @Test
     public void equals() {
         VersionedInventory versionedInventory = prepareInventoryList(inventoryWithOppo, inventoryWithSony);
@@ -1,13 +1,24 @@
 package seedu.inventory.model.filter;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNG;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNGNOTE;
+import static seedu.inventory.testutil.TypicalItems.getTypicalItems;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.inventory.model.item.FilterItemPredicate;
 import seedu.inventory.model.item.FilterPrice;
 import seedu.inventory.model.item.FilterQuantity;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.UniqueItemList;
 import seedu.inventory.testutil.ItemBuilder;
 
 public class FilterItemPredicateTest {
@@ -113,4 +124,52 @@ public class FilterItemPredicateTest {
         predicate = new FilterItemPredicate(new FilterPrice("<1500"), new FilterQuantity(">30"));
         assertFalse(predicate.test(new ItemBuilder().withPrice("1800").withQuantity("25").build()));
     }
+
+    @Test
+    public void test_bothSidedRange() {
+        FilterItemPredicate predicate = new FilterItemPredicate(
+                Arrays.asList(new FilterPrice(">10"), new FilterPrice("<50")), Collections.emptyList());
+        assertTrue(predicate.test(new ItemBuilder().withPrice("10").build()));
+        assertTrue(predicate.test(new ItemBuilder().withPrice("50.00").build()));
+        assertFalse(predicate.test(new ItemBuilder().withPrice("9.99").build()));
+        assertFalse(predicate.test(new ItemBuilder().withPrice("50.01").build()));
+
+        // disjoint conditions -> matches nothing
+        predicate = new FilterItemPredicate(Collections.emptyList(),
+                Arrays.asList(new FilterQuantity("<10"), new FilterQuantity(">20")));
+        assertFalse(predicate.test(new ItemBuilder().withQuantity("15").build()));
+    }
+
+    @Test
+    public void usingIndex_matchesSameItemsAsTest() {
+        UniqueItemList items = new UniqueItemList(getTypicalItems());
+        FilteredList<Item> filteredList = new FilteredList<>(items.asUnmodifiableObservableList());
+        List<FilterItemPredicate> predicates = Arrays.asList(
+                new FilterItemPredicate(new FilterPrice(">1299.99")),
+                new FilterItemPredicate(new FilterQuantity("<20")),
+                new FilterItemPredicate(new FilterPrice("<1500"), new FilterQuantity(">20")),
+                new FilterItemPredicate(Arrays.asList(new FilterPrice(">1000"), new FilterPrice("<1300")),
+                        Collections.singletonList(new FilterQuantity(">10"))),
+                new FilterItemPredicate(Arrays.asList(new FilterPrice(">1300"), new FilterPrice("<1000")),
+                        Collections.emptyList()));
+
+        for (FilterItemPredicate predicate : predicates) {
+            filteredList.setPredicate(predicate.usingIndex(items.getPriceIndex(), items.getQuantityIndex()));
+            assertEquals(items.asUnmodifiableObservableList().filtered(predicate), filteredList);
+        }
+    }
+
+    @Test
+    public void usingIndex_filteredList_tracksEdits() {
+        UniqueItemList items = new UniqueItemList(getTypicalItems());
+        FilteredList<Item> filteredList = new FilteredList<>(items.asUnmodifiableObservableList());
+        FilterItemPredicate predicate = new FilterItemPredicate(new FilterQuantity(">1000"));
+        filteredList.setPredicate(predicate.usingIndex(items.getPriceIndex(), items.getQuantityIndex()));
+        assertEquals(Arrays.asList(SAMSUNGNOTE), filteredList);
+
+        Item editedSamsung = new ItemBuilder(SAMSUNG).withQuantity("1001").build();
+        items.setItem(SAMSUNG, editedSamsung);
+        items.setItem(SAMSUNGNOTE, new ItemBuilder(SAMSUNGNOTE).withQuantity("999").build());
+        assertEquals(Arrays.asList(editedSamsung), filteredList);
+    }
 }
@@ -0,0 +1,120 @@
+package seedu.inventory.model.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageMetadataCacheTest {
+
+    private static final Path IMAGE_FILE = Paths.get("docs", "images", "yao-tx.png");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private ImageMetadataCache cache = new ImageMetadataCache();
+    private Path imageFile;
+
+    @Before
+    public void setUp() throws Exception {
+        imageFile = testFolder.getRoot().toPath().resolve("image.png");
+        Files.copy(IMAGE_FILE, imageFile);
+    }
+
+    @Test
+    public void getMetadata_missingFile_emptyResult() {
+        assertFalse(cache.getMetadata(testFolder.getRoot().toPath().resolve("missing.png")).isPresent());
+    }
+
+    @Test
+    public void getMetadata_newFile_probed() {
+        ImageMetadata metadata = cache.getMetadata(imageFile).get();
+        assertTrue(metadata.isImage());
+        assertEquals(imageFile.toAbsolutePath().toString(), metadata.getPath());
+        assertTrue(cache.isChanged());
+    }
+
+    @Test
+    public void getMetadata_unchangedFile_notProbedAgain() throws Exception {
+        cache.load(Collections.singletonList(getMetadataWithMimeType("text/plain")));
+
+        // the file is trusted as it was when last probed
+        assertFalse(cache.getMetadata(imageFile).get().isImage());
+        assertFalse(cache.isChanged());
+    }
+
+    @Test
+    public void getMetadata_changedFile_probedAgain() throws Exception {
+        cache.load(Collections.singletonList(getMetadataWithMimeType("text/plain")));
+        Files.setLastModifiedTime(imageFile, FileTime.fromMillis(0));
+
+        assertTrue(cache.getMetadata(imageFile).get().isImage());
+        assertTrue(cache.isChanged());
+    }
+
+    @Test
+    public void getMetadata_fileChangedAfterLookup_probedAgain() throws Exception {
+        cache.load(Collections.singletonList(getMetadataWithMimeType("text/plain")));
+        cache.getMetadata(imageFile);
+        Files.setLastModifiedTime(imageFile, FileTime.fromMillis(0));
+
+        assertTrue(cache.getMetadata(imageFile).get().isImage());
+    }
+
+    @Test
+    public void getMetadata_fileDeletedAfterLookup_emptyResult() throws Exception {
+        cache.getMetadata(imageFile);
+        Files.delete(imageFile);
+
+        assertFalse(cache.getMetadata(imageFile).isPresent());
+        assertTrue(cache.getEntries().isEmpty());
+    }
+
+    @Test
+    public void getMetadata_missingFileCreatedAfterLookup_probed() throws Exception {
+        Path missingFile = testFolder.getRoot().toPath().resolve("missing.png");
+        assertFalse(cache.getMetadata(missingFile).isPresent());
+        Files.copy(IMAGE_FILE, missingFile);
+
+        assertTrue(cache.getMetadata(missingFile).get().isImage());
+    }
+
+    @Test
+    public void revalidate_unchangedFile_probedAgain() throws Exception {
+        cache.load(Collections.singletonList(getMetadataWithMimeType("text/plain")));
+        cache.getMetadata(imageFile);
+
+        assertEquals(1, cache.revalidate());
+        assertTrue(cache.getMetadata(imageFile).get().isImage());
+    }
+
+    @Test
+    public void revalidate_deletedFile_forgotten() throws Exception {
+        cache.getMetadata(imageFile);
+        Files.delete(imageFile);
+        cache.markSaved();
+
+        assertEquals(0, cache.revalidate());
+        assertFalse(cache.getMetadata(imageFile).isPresent());
+        assertTrue(cache.getEntries().isEmpty());
+        assertTrue(cache.isChanged());
+    }
+
+    /**
+     * Returns the metadata of the image file as it is now, but with the given content type.
+     */
+    private ImageMetadata getMetadataWithMimeType(String mimeType) throws Exception {
+        return new ImageMetadata(imageFile.toAbsolutePath().toString(), Files.size(imageFile),
+                Files.getLastModifiedTime(imageFile).toMillis(), mimeType);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.inventory.model.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.GOOGLE;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNG;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNGNOTE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.inventory.testutil.ItemBuilder;
+
+public class ItemNameIndexTest {
+
+    private final UniqueItemList uniqueItemList = new UniqueItemList();
+    private final ItemNameIndex index = uniqueItemList.getNameIndex();
+
+    @Test
+    public void getItemsWithWord_matchesFullWordsIgnoringCase() {
+        uniqueItemList.add(SAMSUNG);
+        uniqueItemList.add(SAMSUNGNOTE);
+        uniqueItemList.add(GOOGLE);
+
+        assertEquals(new HashSet<>(Arrays.asList(SAMSUNG, SAMSUNGNOTE)), index.getItemsWithWord("sAMSUNG"));
+        assertEquals(Collections.singleton(GOOGLE), index.getItemsWithWord("pixel"));
+        assertTrue(index.getItemsWithWord("Sams").isEmpty());
+        assertTrue(index.getItemsWithWord("").isEmpty());
+    }
+
+    @Test
+    public void hasWord() {
+        uniqueItemList.add(IPHONE);
+        assertTrue(index.hasWord(IPHONE, "xr"));
+        assertFalse(index.hasWord(IPHONE, "iPhone XR"));
+        assertFalse(index.hasWord(GOOGLE, "xr"));
+    }
+
+    @Test
+    public void setItem_reindexesEditedItem() {
+        uniqueItemList.add(IPHONE);
+        Item editedIphone = new ItemBuilder(IPHONE).withName("iPhone XS").build();
+        uniqueItemList.setItem(IPHONE, editedIphone);
+
+        assertTrue(index.getItemsWithWord("xr").isEmpty());
+        assertEquals(Collections.singleton(editedIphone), index.getItemsWithWord("xs"));
+        assertEquals(Collections.singleton(editedIphone), index.getItemsWithWord("iphone"));
+    }
+
+    @Test
+    public void remove_equalItem_removesHeldItemFromIndex() {
+        uniqueItemList.add(IPHONE);
+        uniqueItemList.remove(new ItemBuilder(IPHONE).build());
+        assertTrue(index.getItemsWithWord("iphone").isEmpty());
+    }
+
+    @Test
+    public void setItems_replacesIndexedItems() {
+        uniqueItemList.add(IPHONE);
+        uniqueItemList.setItems(Arrays.asList(GOOGLE, SAMSUNG));
+        assertTrue(index.getItemsWithWord("iphone").isEmpty());
+        assertEquals(Collections.singleton(SAMSUNG), index.getItemsWithWord("samsung"));
+
+        UniqueItemList replacement = new UniqueItemList();
+        replacement.add(IPHONE);
+        uniqueItemList.setItems(replacement);
+        assertTrue(index.getItemsWithWord("samsung").isEmpty());
+        assertEquals(Collections.singleton(IPHONE), index.getItemsWithWord("iphone"));
+    }
+
+    @Test
+    public void usingIndex_filteredList_tracksEdits() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE));
+        FilteredList<Item> filteredList = new FilteredList<>(uniqueItemList.asUnmodifiableObservableList());
+        filteredList.setPredicate(new NameContainsKeywordsPredicate(Collections.singletonList("iphone"))
+                .usingIndex(index));
+        assertEquals(Collections.singletonList(IPHONE), filteredList);
+
+        Item editedGoogle = new ItemBuilder(GOOGLE).withName("Google iPhone").build();
+        uniqueItemList.setItem(GOOGLE, editedGoogle);
+        assertEquals(Arrays.asList(IPHONE, editedGoogle), filteredList);
+    }
+
+    @Test
+    public void usingIndex_severalKeywords_matchesUnionAndTracksRemovals() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE, SAMSUNG));
+        FilteredList<Item> filteredList = new FilteredList<>(uniqueItemList.asUnmodifiableObservableList());
+        filteredList.setPredicate(new NameContainsKeywordsPredicate(Arrays.asList("IPHONE", "pixel"))
+                .usingIndex(index));
+        assertEquals(Arrays.asList(IPHONE, GOOGLE), filteredList);
+
+        uniqueItemList.remove(IPHONE);
+        assertEquals(Collections.singletonList(GOOGLE), filteredList);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.inventory.model.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.GOOGLE;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNG;
+import static seedu.inventory.testutil.TypicalItems.SAMSUNGNOTE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.inventory.testutil.ItemBuilder;
+
+public class ItemSkuIndexTest {
+
+    private final UniqueItemList uniqueItemList = new UniqueItemList();
+    private final ItemSkuIndex index = uniqueItemList.getSkuFragmentIndex();
+
+    @Before
+    public void setUp() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE, SAMSUNG, SAMSUNGNOTE));
+    }
+
+    @Test
+    public void getItemsContaining_shortFragment_scansSkus() {
+        assertEquals(Collections.singleton(SAMSUNG), index.getItemsContaining("S9"));
+        assertEquals(new HashSet<>(Arrays.asList(IPHONE, GOOGLE)), index.getItemsContaining("x"));
+        assertEquals(new HashSet<>(Arrays.asList(IPHONE, GOOGLE, SAMSUNG, SAMSUNGNOTE)),
+                index.getItemsContaining(""));
+        assertTrue(index.getItemsContaining("zz").isEmpty());
+    }
+
+    @Test
+    public void getItemsContaining_longFragment_usesTrigrams() {
+        assertEquals(new HashSet<>(Arrays.asList(SAMSUNG, SAMSUNGNOTE)), index.getItemsContaining("SAMSUNG-"));
+        assertEquals(Collections.singleton(IPHONE), index.getItemsContaining("phone-x"));
+        assertEquals(Collections.singleton(SAMSUNGNOTE), index.getItemsContaining("note"));
+
+        // all trigrams present, but not in sequence
+        assertTrue(index.getItemsContaining("samsungnote").isEmpty());
+    }
+
+    @Test
+    public void remove_itemRemovedFromIndex() {
+        uniqueItemList.remove(SAMSUNG);
+        assertEquals(Collections.singleton(SAMSUNGNOTE), index.getItemsContaining("sams"));
+        assertTrue(index.getItemsContaining("s9").isEmpty());
+    }
+
+    @Test
+    public void remove_skusDifferOnlyInCase_otherItemKept() {
+        Item upperCaseSku = new ItemBuilder(IPHONE).withSku(IPHONE.getSku().value.toUpperCase()).build();
+        uniqueItemList.add(upperCaseSku);
+        assertEquals(new HashSet<>(Arrays.asList(IPHONE, upperCaseSku)), index.getItemsContaining("iphone"));
+
+        uniqueItemList.remove(IPHONE);
+        assertEquals(Collections.singleton(upperCaseSku), index.getItemsContaining("iphone"));
+        assertEquals(Collections.singleton(upperCaseSku), index.getItemsContaining("xr"));
+    }
+
+    @Test
+    public void add_afterRemove_reusedIdIndexed() {
+        uniqueItemList.remove(GOOGLE);
+        Item newItem = new ItemBuilder(GOOGLE).withSku("nokia-3310").build();
+        uniqueItemList.add(newItem);
+
+        assertEquals(Collections.singleton(newItem), index.getItemsContaining("3310"));
+        assertTrue(index.getItemsContaining("pixel").isEmpty());
+        assertEquals(Collections.singleton(SAMSUNGNOTE), index.getItemsContaining("note"));
+    }
+
+    @Test
+    public void usingIndex_filteredList_tracksEdits() {
+        FilteredList<Item> filteredList = new FilteredList<>(uniqueItemList.asUnmodifiableObservableList());
+        filteredList.setPredicate(new SkuContainsKeywordsPredicate(Arrays.asList("samsung", "pixel"))
+                .usingIndex(index));
+        assertEquals(Arrays.asList(GOOGLE, SAMSUNG, SAMSUNGNOTE), filteredList);
+
+        Item editedIphone = new ItemBuilder(IPHONE).withSku("samsung-x").build();
+        uniqueItemList.setItem(IPHONE, editedIphone);
+        uniqueItemList.remove(GOOGLE);
+        assertEquals(Arrays.asList(editedIphone, SAMSUNG, SAMSUNGNOTE), filteredList);
+    }
+}
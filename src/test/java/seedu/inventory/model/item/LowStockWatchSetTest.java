@@ -0,0 +1,117 @@
+package seedu.inventory.model.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.GOOGLE;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.LG;
+import static seedu.inventory.testutil.TypicalItems.ONEPLUS;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.inventory.testutil.ItemBuilder;
+
+public class LowStockWatchSetTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueItemList uniqueItemList = new UniqueItemList();
+    private final LowStockWatchSet watchSet = uniqueItemList.getLowStockWatchSet();
+
+    @Test
+    public void thresholds_skuOverridesTagsOverrideDefault() {
+        Map<String, Integer> tagThresholds = new HashMap<>();
+        tagThresholds.put("apple", 40);
+        Map<String, Integer> skuThresholds = Collections.singletonMap(LG.getSku().value, 20);
+        LowStockThresholds thresholds = new LowStockThresholds(5, tagThresholds, skuThresholds);
+
+        assertEquals(40, thresholds.getThreshold(IPHONE)); // tagged apple, quantity 30
+        assertEquals(20, thresholds.getThreshold(LG));
+        assertEquals(5, thresholds.getThreshold(ONEPLUS));
+        assertTrue(thresholds.isLowStock(IPHONE));
+        assertTrue(thresholds.isLowStock(LG));
+        assertFalse(thresholds.isLowStock(ONEPLUS));
+    }
+
+    @Test
+    public void thresholds_negativeThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new LowStockThresholds(0, Collections.singletonMap("apple", -1), Collections.emptyMap());
+    }
+
+    @Test
+    public void add_defaultThreshold_watchesLowItems() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE, ONEPLUS));
+        assertFalse(watchSet.contains(IPHONE));
+        assertTrue(watchSet.contains(GOOGLE));
+        assertTrue(watchSet.contains(ONEPLUS));
+        assertEquals(Arrays.asList(GOOGLE, ONEPLUS), watchSet.takeItemsNowLow());
+
+        // crossings are only returned once
+        assertTrue(watchSet.takeItemsNowLow().isEmpty());
+    }
+
+    @Test
+    public void setItem_crossingThreshold_recordsCrossing() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE));
+        watchSet.takeItemsNowLow();
+
+        Item soldOutIphone = new ItemBuilder(IPHONE).withQuantity("2").build();
+        Item restockedGoogle = new ItemBuilder(GOOGLE).withQuantity("50").build();
+        uniqueItemList.setItem(IPHONE, soldOutIphone);
+        uniqueItemList.setItem(GOOGLE, restockedGoogle);
+
+        assertTrue(watchSet.contains(soldOutIphone));
+        assertFalse(watchSet.contains(restockedGoogle));
+        assertEquals(Collections.singletonList(soldOutIphone), watchSet.takeItemsNowLow());
+        assertEquals(Collections.singletonList(restockedGoogle), watchSet.takeItemsNoLongerLow());
+    }
+
+    @Test
+    public void setItem_notCrossingThreshold_recordsNothing() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE));
+        watchSet.takeItemsNowLow();
+
+        // low item stays low, stocked item stays stocked
+        uniqueItemList.setItem(GOOGLE, new ItemBuilder(GOOGLE).withQuantity("1").build());
+        uniqueItemList.setItem(IPHONE, new ItemBuilder(IPHONE).withQuantity("20").build());
+
+        // replacing the whole list with the same items
+        uniqueItemList.setItems(Arrays.asList(uniqueItemList.asUnmodifiableObservableList().get(0),
+                uniqueItemList.asUnmodifiableObservableList().get(1)));
+
+        assertTrue(watchSet.takeItemsNowLow().isEmpty());
+        assertTrue(watchSet.takeItemsNoLongerLow().isEmpty());
+    }
+
+    @Test
+    public void remove_lowItem_noLongerLow() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE));
+        watchSet.takeItemsNowLow();
+        uniqueItemList.remove(GOOGLE);
+        assertFalse(watchSet.contains(GOOGLE));
+        assertEquals(Collections.singletonList(GOOGLE), watchSet.takeItemsNoLongerLow());
+    }
+
+    @Test
+    public void setLowStockThresholds_reevaluatesItems() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, GOOGLE));
+        watchSet.takeItemsNowLow();
+
+        uniqueItemList.setLowStockThresholds(new LowStockThresholds(30, Collections.emptyMap(),
+                Collections.singletonMap(GOOGLE.getSku().value, 0)));
+        assertTrue(watchSet.contains(IPHONE));
+        assertFalse(watchSet.contains(GOOGLE));
+        assertEquals(Collections.singletonList(IPHONE), watchSet.takeItemsNowLow());
+        assertEquals(Collections.singletonList(GOOGLE), watchSet.takeItemsNoLongerLow());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.inventory.model.item;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -52,4 +53,36 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("123.56")); // two decimal points
         assertTrue(Price.isValidPrice("0.50")); // 0 before decimal point
     }
+
+    @Test
+    public void constructor_validPrice_storesCents() {
+        assertEquals(12350, new Price("123.5").getCents());
+        assertEquals(12356, new Price("123.56").getCents());
+        assertEquals(50, new Price("0.50").getCents());
+        assertEquals(9312153400L, new Price("93121534").getCents());
+        assertEquals(9999999999L, new Price("99999999.99").getCents());
+    }
+
+    @Test
+    public void constructor_validPrice_formatsValueWithTwoDecimals() {
+        assertEquals("123.50", new Price("123.5").value);
+        assertEquals("12.00", new Price("00012").value);
+        assertEquals("0.05", new Price("0.05").value);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new Price("12.5").equals(new Price("12.50")));
+        assertFalse(new Price("12.5").equals(new Price("12.05")));
+        assertFalse(new Price("12.5").equals(null));
+        assertEquals(new Price("12.5").hashCode(), new Price("12.50").hashCode());
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Price.formatCents(0));
+        assertEquals("0.07", Price.formatCents(7));
+        assertEquals("1234.50", Price.formatCents(123450));
+        assertEquals("-0.50", Price.formatCents(-50));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.inventory.model.item;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -60,4 +61,19 @@ public class QuantityTest {
         assertTrue(Quantity.isValidQuantity("93121534"));
         assertTrue(Quantity.isValidQuantity("124293842033123")); // long quantities
     }
+
+    @Test
+    public void constructor_validQuantity_storesIntValue() {
+        assertEquals(0, new Quantity("0").getIntValue());
+        assertEquals(42, new Quantity("0042").getIntValue());
+        assertEquals("42", new Quantity("0042").value);
+        assertEquals(Integer.MAX_VALUE, new Quantity(Integer.toString(Integer.MAX_VALUE)).getIntValue());
+    }
+
+    @Test
+    public void constructor_int() {
+        assertEquals(new Quantity("15"), new Quantity(15));
+        assertEquals("15", new Quantity(15).value);
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Quantity(-1));
+    }
 }
@@ -2,10 +2,15 @@ package seedu.inventory.model.item;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.inventory.logic.commands.CommandTestUtil.VALID_IMAGE_SONY;
+import static seedu.inventory.logic.commands.CommandTestUtil.VALID_SKU_SONY;
 import static seedu.inventory.logic.commands.CommandTestUtil.VALID_TAG_SMARTPHONE;
 import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.LG;
 import static seedu.inventory.testutil.TypicalItems.SONY;
 
 import java.util.Arrays;
@@ -16,6 +21,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.inventory.model.item.exceptions.DuplicateItemException;
 import seedu.inventory.model.item.exceptions.ItemNotFoundException;
 import seedu.inventory.testutil.ItemBuilder;
@@ -51,6 +57,58 @@ public class UniqueItemListTest {
         assertTrue(uniqueItemList.contains(editedAlice));
     }
 
+    @Test
+    public void getItemBySku_nullSku_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueItemList.getItemBySku(null);
+    }
+
+    @Test
+    public void getItemBySku_skuNotInList_returnsNull() {
+        uniqueItemList.add(IPHONE);
+        assertNull(uniqueItemList.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void getItemBySku_differentCase_returnsItem() {
+        uniqueItemList.add(IPHONE);
+        assertSame(IPHONE, uniqueItemList.getItemBySku(IPHONE.getSku().value.toUpperCase()));
+    }
+
+    @Test
+    public void getItemBySku_skusDifferOnlyInCase_prefersExactMatch() {
+        Item upperCaseSku = new ItemBuilder(IPHONE).withSku(IPHONE.getSku().value.toUpperCase()).build();
+        uniqueItemList.add(upperCaseSku);
+        uniqueItemList.add(IPHONE);
+        assertSame(IPHONE, uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertSame(upperCaseSku, uniqueItemList.getItemBySku(upperCaseSku.getSku().value));
+    }
+
+    @Test
+    public void getItemBySku_afterSetItemWithDifferentSku_returnsEditedItem() {
+        uniqueItemList.add(IPHONE);
+        Item editedIphone = new ItemBuilder(IPHONE).withSku(VALID_SKU_SONY).build();
+        uniqueItemList.setItem(IPHONE, editedIphone);
+        assertNull(uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertSame(editedIphone, uniqueItemList.getItemBySku(VALID_SKU_SONY));
+    }
+
+    @Test
+    public void getItemBySku_afterRemove_returnsNull() {
+        uniqueItemList.add(IPHONE);
+        uniqueItemList.remove(IPHONE);
+        assertNull(uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertFalse(uniqueItemList.contains(IPHONE));
+    }
+
+    @Test
+    public void getItemBySku_afterSetItems_usesNewItems() {
+        uniqueItemList.add(IPHONE);
+        uniqueItemList.setItems(Collections.singletonList(SONY));
+        assertNull(uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertSame(SONY, uniqueItemList.getItemBySku(SONY.getSku().value));
+    }
+
     @Test
     public void add_nullItem_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +235,103 @@ public class UniqueItemListTest {
         uniqueItemList.setItems(listWithDuplicateItems);
     }
 
+    @Test
+    public void setItems_listWithDuplicateItems_reportsDuplicateSkus() {
+        uniqueItemList.add(IPHONE);
+        try {
+            uniqueItemList.setItems(Arrays.asList(SONY, IPHONE, SONY, IPHONE, SONY));
+            fail("Expected DuplicateItemException to be thrown");
+        } catch (DuplicateItemException e) {
+            assertEquals(Arrays.asList(SONY.getSku().value, IPHONE.getSku().value), e.getDuplicateSkus());
+        }
+
+        // the list and its index are left untouched
+        assertSame(IPHONE, uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertNull(uniqueItemList.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void setItems_range_replacesItemsInRange() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, SONY));
+        Item editedSony = new ItemBuilder(SONY).withQuantity("1").build();
+
+        uniqueItemList.setItems(1, 2, Arrays.asList(editedSony, LG));
+        assertEquals(Arrays.asList(IPHONE, editedSony, LG), uniqueItemList.asUnmodifiableObservableList());
+        assertSame(editedSony, uniqueItemList.getItemBySku(SONY.getSku().value));
+        assertSame(LG, uniqueItemList.getItemBySku(LG.getSku().value));
+        assertEquals(Collections.singleton(editedSony), uniqueItemList.getQuantityIndex().getItemsInRange(1, 1));
+
+        uniqueItemList.setItems(0, 2, Collections.emptyList());
+        assertEquals(Collections.singletonList(LG), uniqueItemList.asUnmodifiableObservableList());
+        assertNull(uniqueItemList.getItemBySku(IPHONE.getSku().value));
+    }
+
+    @Test
+    public void setItems_rangeWithItemOutsideRange_throwsDuplicateItemException() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, SONY));
+        try {
+            uniqueItemList.setItems(1, 2, Collections.singletonList(IPHONE));
+            fail("Expected DuplicateItemException to be thrown");
+        } catch (DuplicateItemException e) {
+            assertEquals(Collections.singletonList(IPHONE.getSku().value), e.getDuplicateSkus());
+        }
+        assertEquals(Arrays.asList(IPHONE, SONY), uniqueItemList.asUnmodifiableObservableList());
+        assertSame(SONY, uniqueItemList.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void mergeItems_newAndChangedItems_addedAndReplacedInPlace() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, SONY));
+        Item editedIphone = new ItemBuilder(IPHONE).withQuantity("1").build();
+
+        assertEquals(2, uniqueItemList.mergeItems(Arrays.asList(LG, new ItemBuilder(SONY).build(), editedIphone)));
+        assertEquals(Arrays.asList(editedIphone, SONY, LG), uniqueItemList.asUnmodifiableObservableList());
+        assertSame(editedIphone, uniqueItemList.getItemBySku(IPHONE.getSku().value));
+        assertSame(LG, uniqueItemList.getItemBySku(LG.getSku().value));
+        assertEquals(Collections.singleton(editedIphone),
+                uniqueItemList.getQuantityIndex().getItemsInRange(1, 1));
+    }
+
+    @Test
+    public void mergeItems_unchangedItems_listNotModified() {
+        uniqueItemList.setItems(Arrays.asList(IPHONE, SONY));
+        int[] changeCount = {0};
+        uniqueItemList.asUnmodifiableObservableList().addListener((ListChangeListener<Item>) change ->
+                changeCount[0]++);
+
+        assertEquals(0, uniqueItemList.mergeItems(Arrays.asList(new ItemBuilder(SONY).build(), IPHONE)));
+        assertEquals(0, changeCount[0]);
+        assertSame(SONY, uniqueItemList.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void mergeItems_listWithDuplicateItems_throwsDuplicateItemException() {
+        uniqueItemList.add(IPHONE);
+        try {
+            uniqueItemList.mergeItems(Arrays.asList(SONY, SONY));
+            fail("Expected DuplicateItemException to be thrown");
+        } catch (DuplicateItemException e) {
+            assertEquals(Collections.singletonList(SONY.getSku().value), e.getDuplicateSkus());
+        }
+        assertEquals(Collections.singletonList(IPHONE), uniqueItemList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void constructor_list_containsProvidedItems() {
+        UniqueItemList bulkLoadedItemList = new UniqueItemList(Arrays.asList(IPHONE, SONY));
+        UniqueItemList expectedUniqueItemList = new UniqueItemList();
+        expectedUniqueItemList.add(IPHONE);
+        expectedUniqueItemList.add(SONY);
+        assertEquals(expectedUniqueItemList, bulkLoadedItemList);
+        assertSame(SONY, bulkLoadedItemList.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void constructor_listWithDuplicateItems_throwsDuplicateItemException() {
+        thrown.expect(DuplicateItemException.class);
+        new UniqueItemList(Arrays.asList(IPHONE, IPHONE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -3,6 +3,7 @@ package seedu.inventory.model.sale;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -143,6 +144,98 @@ public class UniqueSaleListTest {
         uniqueSaleList.setSales(listWithDuplicateSales);
     }
 
+    @Test
+    public void setSales_listWithDuplicateSales_reportsDuplicateSaleIds() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+        Sale otherSale = new Sale(new SaleId("2"), item, quantity, saleDate);
+
+        try {
+            uniqueSaleList.setSales(Arrays.asList(sale, otherSale, sale, otherSale, sale));
+            fail("Expected DuplicateSaleException to be thrown");
+        } catch (DuplicateSaleException e) {
+            assertEquals(Arrays.asList("1", "2"), e.getDuplicateSaleIds());
+        }
+        assertEquals(new UniqueSaleList(), uniqueSaleList);
+    }
+
+    @Test
+    public void contains_afterSetSalesAndRemove_tracksSaleIds() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+        Sale otherSale = new Sale(new SaleId("2"), item, quantity, saleDate);
+
+        uniqueSaleList.setSales(Arrays.asList(sale, otherSale));
+        assertTrue(uniqueSaleList.contains(otherSale));
+
+        uniqueSaleList.remove(otherSale);
+        assertFalse(uniqueSaleList.contains(otherSale));
+        assertTrue(uniqueSaleList.contains(sale));
+    }
+
+    @Test
+    public void setSales_range_replacesRangeAndTracksSaleIds() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+        Sale otherSale = new Sale(new SaleId("2"), item, quantity, saleDate);
+        Sale newSale = new Sale(new SaleId("3"), item, quantity, saleDate);
+        uniqueSaleList.setSales(Arrays.asList(sale, otherSale));
+
+        uniqueSaleList.setSales(0, 1, Collections.singletonList(newSale));
+        assertEquals(new UniqueSaleList(Arrays.asList(newSale, otherSale)), uniqueSaleList);
+        assertFalse(uniqueSaleList.contains(sale));
+        assertTrue(uniqueSaleList.contains(newSale));
+    }
+
+    @Test
+    public void setSales_rangeWithSaleIdOutsideRange_throwsDuplicateSaleException() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+        Sale otherSale = new Sale(new SaleId("2"), item, quantity, saleDate);
+        uniqueSaleList.setSales(Arrays.asList(sale, otherSale));
+
+        thrown.expect(DuplicateSaleException.class);
+        uniqueSaleList.setSales(0, 1, Collections.singletonList(otherSale));
+    }
+
+    @Test
+    public void mergeSales_newAndChangedSales_addedAndReplacedInPlace() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+        Sale otherSale = new Sale(new SaleId("2"), item, quantity, saleDate);
+        uniqueSaleList.setSales(Arrays.asList(sale, otherSale));
+
+        Sale editedSale = new Sale(saleId, item, new Quantity("5"), saleDate);
+        Sale newSale = new Sale(new SaleId("3"), item, quantity, saleDate);
+        assertEquals(2, uniqueSaleList.mergeSales(Arrays.asList(newSale, otherSale, editedSale)));
+
+        UniqueSaleList expectedUniqueSaleList = new UniqueSaleList(Arrays.asList(editedSale, otherSale, newSale));
+        assertEquals(expectedUniqueSaleList, uniqueSaleList);
+        assertTrue(uniqueSaleList.contains(newSale));
+    }
+
+    @Test
+    public void mergeSales_listWithDuplicateSales_throwsDuplicateSaleException() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+
+        thrown.expect(DuplicateSaleException.class);
+        uniqueSaleList.mergeSales(Arrays.asList(sale, sale));
+    }
+
+    @Test
+    public void constructor_list_containsProvidedSales() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+
+        UniqueSaleList expectedUniqueSaleList = new UniqueSaleList();
+        expectedUniqueSaleList.add(sale);
+        UniqueSaleList bulkLoadedSaleList = new UniqueSaleList(Collections.singletonList(sale));
+        assertEquals(expectedUniqueSaleList, bulkLoadedSaleList);
+        assertTrue(bulkLoadedSaleList.contains(sale));
+    }
+
+    @Test
+    public void constructor_listWithDuplicateSales_throwsDuplicateSaleException() {
+        Sale sale = new Sale(saleId, item, quantity, saleDate);
+
+        thrown.expect(DuplicateSaleException.class);
+        new UniqueSaleList(Arrays.asList(sale, sale));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
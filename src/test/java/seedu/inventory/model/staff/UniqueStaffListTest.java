@@ -3,6 +3,7 @@ package seedu.inventory.model.staff;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.inventory.testutil.staff.TypicalStaffs.DARREN;
 import static seedu.inventory.testutil.staff.TypicalStaffs.ESMOND;
 import static seedu.inventory.testutil.staff.TypicalStaffs.TENGXIONG;
@@ -176,6 +177,46 @@ public class UniqueStaffListTest {
         uniqueStaffList.setStaffs(listWithDuplicateStaffs);
     }
 
+    @Test
+    public void setStaffs_listWithDuplicateStaffs_reportsDuplicateUsernames() {
+        try {
+            uniqueStaffList.setStaffs(Arrays.asList(ZUL, TENGXIONG, ZUL, TENGXIONG, DARREN));
+            fail("Expected DuplicateStaffException to be thrown");
+        } catch (DuplicateStaffException e) {
+            assertEquals(Arrays.asList(ZUL.getUsername().toString(), TENGXIONG.getUsername().toString()),
+                    e.getDuplicateUsernames());
+        }
+        assertEquals(new UniqueStaffList(), uniqueStaffList);
+    }
+
+    @Test
+    public void setStaffs_range_replacesRange() {
+        uniqueStaffList.setStaffs(Arrays.asList(ZUL, ESMOND, DARREN));
+        uniqueStaffList.setStaffs(1, 2, Arrays.asList(TENGXIONG, ESMOND));
+        assertEquals(new UniqueStaffList(Arrays.asList(ZUL, TENGXIONG, ESMOND, DARREN)), uniqueStaffList);
+    }
+
+    @Test
+    public void setStaffs_rangeWithStaffOutsideRange_throwsDuplicateStaffException() {
+        uniqueStaffList.setStaffs(Arrays.asList(ZUL, ESMOND));
+        thrown.expect(DuplicateStaffException.class);
+        uniqueStaffList.setStaffs(1, 2, Collections.singletonList(ZUL));
+    }
+
+    @Test
+    public void constructor_list_containsProvidedStaffs() {
+        UniqueStaffList expectedUniqueStaffList = new UniqueStaffList();
+        expectedUniqueStaffList.add(ZUL);
+        expectedUniqueStaffList.add(TENGXIONG);
+        assertEquals(expectedUniqueStaffList, new UniqueStaffList(Arrays.asList(ZUL, TENGXIONG)));
+    }
+
+    @Test
+    public void constructor_listWithDuplicateStaffs_throwsDuplicateStaffException() {
+        thrown.expect(DuplicateStaffException.class);
+        new UniqueStaffList(Arrays.asList(ZUL, ZUL));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
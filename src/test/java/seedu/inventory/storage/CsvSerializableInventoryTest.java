@@ -0,0 +1,109 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.CsvUtil;
+import seedu.inventory.commons.util.ProgressListener;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.item.Quantity;
+import seedu.inventory.model.purchaseorder.PurchaseOrder;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.sale.SaleDate;
+import seedu.inventory.model.sale.SaleId;
+import seedu.inventory.storage.csv.CsvSerializableInventory;
+import seedu.inventory.testutil.TypicalItems;
+import seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder;
+
+public class CsvSerializableInventoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readInventory_exportedInventory_success() throws Exception {
+        Inventory original = getTypicalFullInventory();
+        Path directory = testFolder.getRoot().toPath().resolve("inventory");
+        CsvSerializableInventory.writeInventory(original, directory, ProgressListener.NONE);
+
+        for (String fileName : CsvSerializableInventory.FILES) {
+            assertTrue(Files.exists(directory.resolve(fileName)));
+        }
+        List<List<String>> manifest = CsvUtil.getDataFromFile(directory.resolve(CsvSerializableInventory.MANIFEST_FILE),
+                new CsvSerializableInventory()).getContents();
+        assertEquals(Arrays.asList(CsvSerializableInventory.ITEMS_FILE, "7"), manifest.get(0).subList(0, 2));
+
+        Inventory readBack = CsvSerializableInventory.readInventory(directory, ProgressListener.NONE);
+        assertEquals(original, readBack);
+        assertEquals(original.getSaleList(), readBack.getSaleList());
+    }
+
+    @Test
+    public void writeInventory_progressReported() throws Exception {
+        Inventory original = getTypicalFullInventory();
+        long[] lastProgress = new long[2];
+        Path directory = testFolder.getRoot().toPath();
+        CsvSerializableInventory.writeInventory(original, directory, (done, total) -> {
+            lastProgress[0] = done;
+            lastProgress[1] = total;
+        });
+
+        // each of the four files has two header rows
+        long rowCount = original.getItemList().size() + original.getSaleList().size()
+                + original.getStaffList().size() + original.getPurchaseOrderList().size() + 4 * 2;
+        assertEquals(rowCount, lastProgress[0]);
+        assertEquals(rowCount, lastProgress[1]);
+    }
+
+    @Test
+    public void readInventory_changedFile_throwsUnrecognizableDataException() throws Exception {
+        Path directory = testFolder.getRoot().toPath();
+        CsvSerializableInventory.writeInventory(getTypicalFullInventory(), directory, ProgressListener.NONE);
+        Path itemsFile = directory.resolve(CsvSerializableInventory.ITEMS_FILE);
+        List<String> lines = Files.readAllLines(itemsFile);
+        Files.write(itemsFile, lines.subList(0, lines.size() - 1));
+
+        thrown.expect(UnrecognizableDataException.class);
+        thrown.expectMessage(String.format(CsvSerializableInventory.MESSAGE_CHECKSUM_MISMATCH,
+                CsvSerializableInventory.ITEMS_FILE));
+        CsvSerializableInventory.readInventory(directory, ProgressListener.NONE);
+    }
+
+    @Test
+    public void readInventory_missingFile_throwsFileNotFoundException() throws Exception {
+        Path directory = testFolder.getRoot().toPath();
+        CsvSerializableInventory.writeInventory(getTypicalFullInventory(), directory, ProgressListener.NONE);
+        Files.delete(directory.resolve(CsvSerializableInventory.SALES_FILE));
+
+        thrown.expect(FileNotFoundException.class);
+        CsvSerializableInventory.readInventory(directory, ProgressListener.NONE);
+    }
+
+    /**
+     * Returns an {@code Inventory} with the typical items, staffs and purchase orders, and a sale.
+     */
+    private static Inventory getTypicalFullInventory() {
+        Inventory inventory = TypicalItems.getTypicalInventoryWithStaff();
+        for (PurchaseOrder purchaseOrder : TypicalPurchaseOrder.getTypicalPurchaseOrder()) {
+            inventory.addPurchaseOrder(purchaseOrder);
+        }
+        inventory.addSale(new Sale(new SaleId("1"), IPHONE, new Quantity("1"), new SaleDate("2018-08-01")));
+        return inventory;
+    }
+}
@@ -3,16 +3,22 @@ package seedu.inventory.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
+import java.io.BufferedWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
 import seedu.inventory.commons.util.CsvUtil;
 import seedu.inventory.model.ItemList;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.model.item.Price;
+import seedu.inventory.model.item.Sku;
 import seedu.inventory.storage.csv.CsvSerializableItemList;
 import seedu.inventory.storage.csv.CsvSerializableSaleList;
 import seedu.inventory.testutil.TypicalItems;
@@ -23,10 +29,15 @@ public class CsvSerializableItemListTest {
     private static final Path TYPICAL_ITEMS_FILE = TEST_DATA_FOLDER.resolve("typicalItemList.csv");
     private static final Path INVALID_ITEM_FILE = TEST_DATA_FOLDER.resolve("invalidItemList.csv");
     private static final Path DUPLICATE_ITEM_FILE = TEST_DATA_FOLDER.resolve("duplicateItemList.csv");
+    private static final Path INVALID_ITEMS_ON_MANY_LINES_FILE =
+            TEST_DATA_FOLDER.resolve("invalidItemsOnManyLines.csv");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void toModelType_typicalItemsFile_success() throws Exception {
         CsvSerializableItemList dataFromFile = new CsvSerializableItemList(CsvUtil.getDataFromFile(TYPICAL_ITEMS_FILE,
@@ -54,6 +65,50 @@ public class CsvSerializableItemListTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void readItemList_typicalItemsFile_success() throws Exception {
+        assertEquals(new ItemList(TypicalItems.getTypicalInventory()),
+                CsvSerializableItemList.readItemList(TYPICAL_ITEMS_FILE));
+    }
+
+    @Test
+    public void readItemList_duplicateItems_lineOfDuplicateReported() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage("Line 10: " + CsvSerializableItemList.MESSAGE_DUPLICATE_ITEM);
+        CsvSerializableItemList.readItemList(DUPLICATE_ITEM_FILE);
+    }
+
+    @Test
+    public void readItemList_invalidItemsOnManyLines_allReported() throws Exception {
+        try {
+            CsvSerializableItemList.readItemList(INVALID_ITEMS_ON_MANY_LINES_FILE);
+            throw new AssertionError("The expected IllegalValueException was not thrown.");
+        } catch (IllegalValueException ive) {
+            assertEquals("Line 3: " + Sku.MESSAGE_SKU_CONSTRAINTS + "\n"
+                    + "Line 5: " + Price.MESSAGE_PRICE_CONSTRAINTS + "\n"
+                    + "Line 6: " + CsvSerializableItemList.MESSAGE_DUPLICATE_ITEM, ive.getMessage());
+        }
+    }
+
+    @Test
+    public void readItemList_manyChunks_itemsInFileOrder() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("manyItems.csv");
+        int itemCount = 5000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("Item,,,,,\nname,price,quantity,sku,image,tags\n");
+            for (int i = 0; i < itemCount; i++) {
+                writer.write("Item " + i + ",1.00,1,item-" + i + ",docs/images/iphone.jpg,\n");
+            }
+        }
+
+        ItemList itemList = CsvSerializableItemList.readItemList(file);
+        assertEquals(itemCount, itemList.getItemList().size());
+        for (int i = 0; i < itemCount; i++) {
+            Item item = itemList.getItemList().get(i);
+            assertEquals("item-" + i, item.getSku().value);
+        }
+    }
+
     @Test
     public void equals() {
         CsvSerializableItemList itemList = new CsvSerializableItemList();
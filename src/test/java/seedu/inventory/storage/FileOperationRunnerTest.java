@@ -0,0 +1,118 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.inventory.commons.events.BaseEvent;
+import seedu.inventory.commons.events.storage.FileOperationProgressEvent;
+import seedu.inventory.commons.events.storage.FileOperationProgressEvent.State;
+
+public class FileOperationRunnerTest {
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor();
+    private final List<BaseEvent> raisedEvents = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completions = new CopyOnWriteArrayList<>();
+    private final FileOperationRunner runner = new FileOperationRunner(worker, raisedEvents::add);
+
+    @After
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    public void submit_operationDone_completionHandedToCompletionExecutor() throws Exception {
+        runner.setCompletionExecutor(completions::add);
+        AtomicBoolean isCompleted = new AtomicBoolean();
+        runner.submit("Importing", progressListener -> {
+            progressListener.update(10, 10);
+            return () -> isCompleted.set(true);
+        });
+        awaitWorker();
+
+        assertEquals(1, completions.size());
+        assertFalse(isCompleted.get());
+        completions.get(0).run();
+        assertTrue(isCompleted.get());
+
+        FileOperationProgressEvent lastEvent = getLastProgressEvent();
+        assertEquals(State.FINISHED, lastEvent.state);
+        assertEquals(10, lastEvent.done);
+        assertEquals(1.0, lastEvent.getProgress(), 0);
+        assertEquals(0, runner.getPendingCount());
+    }
+
+    @Test
+    public void cancel_runningOperation_interruptedAndCompletionDropped() throws Exception {
+        runner.setCompletionExecutor(completions::add);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean isInterrupted = new AtomicBoolean();
+        AtomicBoolean isCancelHandled = new AtomicBoolean();
+        runner.submit("Exporting", progressListener -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ie) {
+                isInterrupted.set(true);
+            }
+            return () -> { };
+        }, () -> isCancelHandled.set(true));
+        started.await();
+
+        assertEquals(1, runner.cancel());
+        awaitWorker();
+
+        assertTrue(isInterrupted.get());
+        assertTrue(isCancelHandled.get());
+        assertTrue(completions.isEmpty());
+        assertEquals(State.CANCELLED, getLastProgressEvent().state);
+    }
+
+    @Test
+    public void cancel_waitingOperation_neverRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        worker.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicBoolean isRun = new AtomicBoolean();
+        runner.submit("Importing", progressListener -> {
+            isRun.set(true);
+            return () -> { };
+        });
+
+        assertEquals(1, runner.cancel());
+        assertEquals(0, runner.cancel());
+        release.countDown();
+        awaitWorker();
+
+        assertFalse(isRun.get());
+        assertEquals(State.CANCELLED, getLastProgressEvent().state);
+        assertEquals(0, runner.getPendingCount());
+    }
+
+    /**
+     * Waits for the tasks submitted to the worker so far to finish.
+     */
+    private void awaitWorker() throws Exception {
+        worker.submit(() -> { }).get();
+    }
+
+    private FileOperationProgressEvent getLastProgressEvent() {
+        return (FileOperationProgressEvent) raisedEvents.get(raisedEvents.size() - 1);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.SONY;
+import static seedu.inventory.testutil.staff.TypicalStaffs.ZUL;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.item.Item;
+import seedu.inventory.storage.StorageManager.DataCollection;
+import seedu.inventory.testutil.InventoryBuilder;
+import seedu.inventory.testutil.ItemBuilder;
+
+public class InventorySnapshotTest {
+
+    @Test
+    public void constructor_laterChangesToInventory_notInSnapshot() {
+        Inventory inventory = new InventoryBuilder().withItem(IPHONE).build();
+        InventorySnapshot snapshot = new InventorySnapshot(inventory);
+        inventory.addItem(SONY);
+
+        assertEquals(Arrays.asList(IPHONE), snapshot.getItemList());
+        assertNull(snapshot.getItemBySku(SONY.getSku().value));
+    }
+
+    @Test
+    public void constructor_someCollections_otherListsEmpty() {
+        Inventory inventory = new InventoryBuilder().withItem(IPHONE).build();
+        inventory.addStaff(ZUL);
+        InventorySnapshot snapshot = new InventorySnapshot(inventory, EnumSet.of(DataCollection.STAFFS));
+
+        assertEquals(Arrays.asList(ZUL), snapshot.getStaffList());
+        assertTrue(snapshot.getItemList().isEmpty());
+        assertTrue(snapshot.getSaleList().isEmpty());
+        assertNull(snapshot.getItemBySku(IPHONE.getSku().value));
+    }
+
+    @Test
+    public void getItemBySku_skusDifferOnlyInCase_prefersExactMatch() {
+        Item upperCaseSku = new ItemBuilder(IPHONE).withSku(IPHONE.getSku().value.toUpperCase()).build();
+        InventorySnapshot snapshot = new InventorySnapshot(new InventoryBuilder().withItem(upperCaseSku)
+                .withItem(IPHONE).build());
+
+        assertSame(IPHONE, snapshot.getItemBySku(IPHONE.getSku().value));
+        assertSame(upperCaseSku, snapshot.getItemBySku(upperCaseSku.getSku().value));
+        assertSame(upperCaseSku, snapshot.getItemBySku("Apple-iPhone-XR"));
+    }
+}
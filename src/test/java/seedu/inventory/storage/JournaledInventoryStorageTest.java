@@ -0,0 +1,218 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.NOKIA;
+import static seedu.inventory.testutil.TypicalItems.XIAOMI;
+import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.IPHONEPO;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.LGPO;
+import static seedu.inventory.testutil.staff.TypicalStaffs.DARREN;
+import static seedu.inventory.testutil.staff.TypicalStaffs.ZUL;
+import static seedu.inventory.testutil.staff.TypicalStaffs.getTypicalStaffList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.StaffList;
+import seedu.inventory.testutil.ItemBuilder;
+import seedu.inventory.testutil.staff.StaffBuilder;
+
+public class JournaledInventoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path staffFilePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempInventory.xml");
+        staffFilePath = testFolder.getRoot().toPath().resolve("TempStaffList.xml");
+        journalFilePath = JournaledInventoryStorage.getJournalFilePath(filePath);
+    }
+
+    private JournaledInventoryStorage createStorage(int maxJournalRecords) {
+        return new JournaledInventoryStorage(new XmlInventoryStorage(filePath, staffFilePath), maxJournalRecords,
+                JournaledInventoryStorage.DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readInventory().isPresent());
+    }
+
+    @Test
+    public void saveInventory_changes_appendedToJournalNotSnapshot() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        Inventory original = getTypicalInventory();
+        original.addPurchaseOrder(LGPO);
+        original.addPurchaseOrder(IPHONEPO);
+        storage.saveInventory(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addItem(NOKIA);
+        storage.saveInventory(original);
+        original.removeItem(IPHONE);
+        storage.saveInventory(original);
+        original.updateItem(NOKIA, new ItemBuilder(NOKIA).withQuantity("3").build());
+        storage.saveInventory(original);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(4, Files.readAllLines(journalFilePath).size()); // header and one record per save
+        assertEquals(original, new Inventory(createStorage(10).readInventory().get()));
+    }
+
+    @Test
+    public void savePurchaseOrderList_changes_journaledApartFromItems() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        Inventory original = getTypicalInventory();
+        original.addPurchaseOrder(LGPO);
+        storage.saveInventory(original);
+
+        original.addPurchaseOrder(IPHONEPO);
+        storage.savePurchaseOrderList(original);
+
+        Path purchaseOrderFilePath = storage.getPurchaseOrderListFilePath();
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(2, Files.readAllLines(JournaledInventoryStorage.getJournalFilePath(purchaseOrderFilePath))
+                .size());
+        assertEquals(original, new Inventory(createStorage(10).readInventory().get()));
+    }
+
+    @Test
+    public void saveInventory_unchangedInventory_nothingAppended() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        Inventory original = getTypicalInventory();
+        storage.saveInventory(original);
+        storage.saveInventory(original);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void saveInventory_journalFull_compactedIntoSnapshot() throws Exception {
+        JournaledInventoryStorage storage = createStorage(1);
+        Inventory original = getTypicalInventory();
+        storage.saveInventory(original);
+
+        original.addItem(NOKIA);
+        storage.saveInventory(original);
+        original.addItem(XIAOMI);
+        storage.saveInventory(original);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new Inventory(new XmlInventoryStorage(filePath, staffFilePath)
+                .readInventory().get()));
+        assertEquals(original, new Inventory(createStorage(1).readInventory().get()));
+    }
+
+    @Test
+    public void saveInventory_compressedFile_compactedIntoCompressedSnapshot() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempInventory.xml.gz");
+        journalFilePath = JournaledInventoryStorage.getJournalFilePath(filePath);
+        JournaledInventoryStorage storage = createStorage(1);
+        Inventory original = getTypicalInventory();
+        storage.saveInventory(original);
+
+        original.addItem(NOKIA);
+        storage.saveInventory(original);
+        original.addItem(XIAOMI);
+        storage.saveInventory(original);
+
+        // the snapshot starts with the magic number of gzip streams
+        assertEquals((byte) 0x1f, Files.readAllBytes(filePath)[0]);
+        assertEquals(original, new Inventory(new XmlInventoryStorage(filePath, staffFilePath)
+                .readInventory().get()));
+        assertEquals(original, new Inventory(createStorage(1).readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_continuesJournal() throws Exception {
+        Inventory original = getTypicalInventory();
+        createStorage(10).saveInventory(original);
+        original.addItem(NOKIA);
+        createStorage(10).saveInventory(original); // unknown state, written as a snapshot
+
+        JournaledInventoryStorage storage = createStorage(10);
+        storage.readInventory();
+        original.addItem(XIAOMI);
+        storage.saveInventory(original);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new Inventory(createStorage(10).readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_truncatedRecord_recordIgnored() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        Inventory original = getTypicalInventory();
+        storage.saveInventory(original);
+        original.addItem(NOKIA);
+        storage.saveInventory(original);
+        Inventory expected = new Inventory(original);
+
+        Files.write(journalFilePath, "<record list=\"items\" fr".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(expected, new Inventory(createStorage(10).readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        Inventory original = getTypicalInventory();
+        storage.saveInventory(original);
+        original.addItem(NOKIA);
+        storage.saveInventory(original);
+
+        // the snapshot is replaced, as by a compaction that did not get to reset the journal
+        Inventory snapshot = getTypicalInventory();
+        snapshot.addItem(XIAOMI);
+        new XmlInventoryStorage(filePath, staffFilePath).saveInventory(snapshot);
+        assertEquals(snapshot, new Inventory(createStorage(10).readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_recordOutOfRange_throwsDataConversionException() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        storage.saveInventory(getTypicalInventory());
+        Files.write(journalFilePath, "<record list=\"items\" from=\"100\" removed=\"1\"/>\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        createStorage(10).readInventory();
+    }
+
+    @Test
+    public void saveStaffList_changes_replayedOnRead() throws Exception {
+        JournaledInventoryStorage storage = createStorage(10);
+        StaffList original = new StaffList(getTypicalStaffList());
+        storage.saveStaffList(original);
+
+        original.removeStaff(ZUL);
+        storage.saveStaffList(original);
+        original.updateStaff(DARREN, new StaffBuilder(DARREN).withName("Darren Ong Junior").build());
+        storage.saveStaffList(original);
+
+        assertEquals(3, Files.readAllLines(JournaledInventoryStorage.getJournalFilePath(staffFilePath)).size());
+        assertEquals(original.getStaffList(), createStorage(10).readStaffList().get().getStaffList());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.item.ImageMetadata;
+
+public class JsonImageMetadataStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readImageMetadata_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonImageMetadataStorage(getTempFilePath("missing.json")).readImageMetadata().isPresent());
+    }
+
+    @Test
+    public void readImageMetadata_missingPath_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("imageMetadata.json");
+        Files.write(filePath, "{ \"images\" : [ { \"size\" : 1 } ] }".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        new JsonImageMetadataStorage(filePath).readImageMetadata();
+    }
+
+    @Test
+    public void readAndSaveImageMetadata_allInOrder_success() throws Exception {
+        JsonImageMetadataStorage storage = new JsonImageMetadataStorage(getTempFilePath("data/imageMetadata.json"));
+        List<ImageMetadata> original = Arrays.asList(
+                new ImageMetadata("/images/iphone.jpg", 1024, 1540000000000L, "image/jpeg"),
+                new ImageMetadata("/docs/AboutUs.adoc", 64, 1540000000000L, null));
+
+        storage.saveImageMetadata(original);
+        assertEquals(original, storage.readImageMetadata().get());
+    }
+
+    @Test
+    public void getImageMetadataFilePath_besideDataFile() {
+        assertEquals(getTempFilePath(JsonImageMetadataStorage.IMAGE_METADATA_FILE_NAME),
+                JsonImageMetadataStorage.getImageMetadataFilePath(getTempFilePath("inventory.xml")));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -1,13 +1,16 @@
 package seedu.inventory.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.NOKIA;
 import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
 import static seedu.inventory.testutil.staff.TypicalStaffs.getTypicalStaffList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -17,17 +20,23 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.inventory.commons.events.model.InventoryChangedEvent;
+import seedu.inventory.commons.events.model.InventoryExportEvent;
+import seedu.inventory.commons.events.model.InventoryImportEvent;
+import seedu.inventory.commons.events.model.ItemImageValidationEvent;
 import seedu.inventory.commons.events.model.ItemListExportEvent;
 import seedu.inventory.commons.events.model.ItemListImportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListExportEvent;
 import seedu.inventory.commons.events.model.PurchaseOrderListImportEvent;
 import seedu.inventory.commons.events.model.SaleListExportEvent;
 import seedu.inventory.commons.events.model.SaleListImportEvent;
+import seedu.inventory.commons.events.model.StaffListChangedEvent;
 import seedu.inventory.commons.events.model.StaffListExportEvent;
 import seedu.inventory.commons.events.model.StaffListImportEvent;
 import seedu.inventory.commons.events.storage.DataExportingExceptionEvent;
 import seedu.inventory.commons.events.storage.DataImportingExceptionEvent;
 import seedu.inventory.commons.events.storage.DataSavingExceptionEvent;
+import seedu.inventory.commons.events.ui.NewResultAvailableEvent;
+import seedu.inventory.commons.util.ProgressListener;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ItemList;
 import seedu.inventory.model.PurchaseOrderList;
@@ -43,6 +52,7 @@ import seedu.inventory.model.sale.Sale;
 import seedu.inventory.model.sale.SaleDate;
 import seedu.inventory.model.sale.SaleId;
 import seedu.inventory.storage.csv.CsvReportingStorage;
+import seedu.inventory.testutil.ItemBuilder;
 import seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder;
 import seedu.inventory.ui.testutil.EventsCollectorRule;
 
@@ -99,20 +109,74 @@ public class StorageManagerTest {
         assertEquals(original, new Inventory(retrieved));
     }
 
+    @Test
+    public void handleInventoryChangedEvent_savesLatestStateOnFlush() throws Exception {
+        Inventory inventory = getTypicalInventory();
+        storageManager.handleInventoryChangedEvent(new InventoryChangedEvent(inventory));
+
+        // changes made after the event are not part of the saved state
+        Inventory expected = new Inventory(inventory);
+        inventory.removeItem(inventory.getItemList().get(0));
+
+        storageManager.flush();
+        assertEquals(expected, new Inventory(storageManager.readInventory().get()));
+    }
+
+    @Test
+    public void handleStaffListChangedEvent_onlyChangedCollectionsSaved() throws Exception {
+        Inventory inventory = getTypicalInventory();
+        storageManager.handleInventoryChangedEvent(new InventoryChangedEvent(inventory));
+        storageManager.flush();
+        Files.delete(storageManager.getInventoryFilePath());
+
+        // the items did not change, so only the staff list is written
+        inventory.resetData(getTypicalStaffList());
+        storageManager.handleStaffListChangedEvent(new StaffListChangedEvent(inventory));
+        storageManager.flush();
+        assertFalse(Files.exists(storageManager.getInventoryFilePath()));
+        assertEquals(new StaffList(getTypicalStaffList()), new StaffList(storageManager.readStaffList().get()));
+
+        // the items changed, so they are written whichever event carried the change
+        inventory.addItem(NOKIA);
+        storageManager.handleStaffListChangedEvent(new StaffListChangedEvent(inventory));
+        storageManager.flush();
+        assertEquals(new ItemList(inventory), new ItemList(storageManager.readInventory().get()));
+    }
+
+    @Test
+    public void handleItemImageValidationEvent_invalidImages_reportedAndMetadataSaved() throws Exception {
+        Path imageFile = getTempFilePath("image.png");
+        Files.copy(Paths.get("docs", "images", "yao-tx.png"), imageFile);
+        ItemList itemList = new ItemList();
+        itemList.addItem(IPHONE);
+        itemList.addItem(new ItemBuilder(NOKIA).withImage(imageFile.toString()).build());
+        Files.delete(imageFile);
+
+        storageManager.handleItemImageValidationEvent(new ItemImageValidationEvent(itemList));
+        storageManager.awaitBackgroundJobs();
+
+        NewResultAvailableEvent result = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(result.message.contains(NOKIA.getSku().value));
+        assertFalse(result.message.contains(IPHONE.getSku().value));
+        assertTrue(Files.exists(storageManager.getImageMetadataFilePath()));
+    }
+
     @Test
     public void getInventoryFilePath() {
         assertNotNull(storageManager.getInventoryFilePath());
     }
 
     @Test
-    public void handleInventoryChangedEvent_exceptionThrown_eventRaised() {
+    public void handleInventoryChangedEvent_exceptionThrown_eventRaised() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
-        Storage storage = new StorageManager(new XmlInventoryStorageExceptionThrowingStub(
+        StorageManager storage = new StorageManager(new XmlInventoryStorageExceptionThrowingStub(
                 Paths.get("dummy"), Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")),
                                              new XmlSaleListStorage(),
                                              new CsvReportingStorage());
         storage.handleInventoryChangedEvent(new InventoryChangedEvent(new Inventory()));
+        storage.awaitBackgroundJobs();
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -171,85 +235,93 @@ public class StorageManagerTest {
     }
 
     @Test
-    public void handleItemListExportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleItemListExportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleItemListExportEvent(new ItemListExportEvent(new ItemList(), Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataExportingExceptionEvent);
     }
 
     @Test
-    public void handleItemListImportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleItemListImportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleItemListImportEvent(new ItemListImportEvent(Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataImportingExceptionEvent);
     }
 
     @Test
-    public void handleStaffListExportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleStaffListExportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleStaffListExportEvent(new StaffListExportEvent(new StaffList(), Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataExportingExceptionEvent);
     }
 
     @Test
-    public void handleStaffListImportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleStaffListImportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleStaffListImportEvent(new StaffListImportEvent(Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataImportingExceptionEvent);
     }
 
 
     @Test
-    public void handleSaleListExportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleSaleListExportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleSaleListExportEvent(new SaleListExportEvent(new SaleList(), Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataExportingExceptionEvent);
     }
 
     @Test
-    public void handleSaleListImportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handleSaleListImportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handleSaleListImportEvent(new SaleListImportEvent(new Inventory(), Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataImportingExceptionEvent);
     }
 
     @Test
-    public void handlePurchaseOrderListExportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handlePurchaseOrderListExportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handlePurchaseOrderListExportEvent(new PurchaseOrderListExportEvent(new PurchaseOrderList(),
                 Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataExportingExceptionEvent);
     }
 
     @Test
-    public void handlePurchaseOrderListImportEvent_exceptionThrown_eventRaised() {
-        Storage storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+    public void handlePurchaseOrderListImportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")),
                 new XmlSaleListStorage(),
                 new CsvReportingStorageExceptionThrowingStub());
         storage.handlePurchaseOrderListImportEvent(new PurchaseOrderListImportEvent(new Inventory(),
                 Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataImportingExceptionEvent);
     }
 
@@ -266,6 +338,39 @@ public class StorageManagerTest {
         public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
             throw new IOException("dummy exception");
         }
+
+        @Override
+        public void saveItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+
+        @Override
+        public void savePurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+                throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+
+    @Test
+    public void handleInventoryExportEvent_exceptionThrown_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")),
+                new XmlSaleListStorage(),
+                new CsvReportingStorageExceptionThrowingStub());
+        storage.handleInventoryExportEvent(new InventoryExportEvent(new Inventory(), Paths.get("dummy")));
+        storage.awaitBackgroundJobs();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataExportingExceptionEvent);
+    }
+
+    @Test
+    public void handleInventoryImportEvent_manifestMissing_eventRaised() throws Exception {
+        StorageManager storage = new StorageManager(new XmlInventoryStorage(Paths.get("dummy"), Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")),
+                new XmlSaleListStorage(),
+                new CsvReportingStorageExceptionThrowingStub());
+        storage.handleInventoryImportEvent(new InventoryImportEvent(testFolder.getRoot().toPath()));
+        storage.awaitBackgroundJobs();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataImportingExceptionEvent);
     }
 
     /**
@@ -274,22 +379,31 @@ public class StorageManagerTest {
     class CsvReportingStorageExceptionThrowingStub extends CsvReportingStorage {
 
         @Override
-        public void exportItemList(ReadOnlyItemList itemList, Path filePath) throws IOException {
+        public void exportItemList(ReadOnlyItemList itemList, Path filePath, ProgressListener progressListener)
+                throws IOException {
+            throw new IOException("dummy exception");
+        }
+
+        @Override
+        public void exportSaleList(ReadOnlySaleList saleList, Path filePath, ProgressListener progressListener)
+                throws IOException {
             throw new IOException("dummy exception");
         }
 
         @Override
-        public void exportSaleList(ReadOnlySaleList saleList, Path filePath) throws IOException {
+        public void exportStaffList(ReadOnlyStaffList staffList, Path filePath, ProgressListener progressListener)
+                throws IOException {
             throw new IOException("dummy exception");
         }
 
         @Override
-        public void exportStaffList(ReadOnlyStaffList staffList, Path filePath) throws IOException {
+        public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath,
+                ProgressListener progressListener) throws IOException {
             throw new IOException("dummy exception");
         }
 
         @Override
-        public void exportPurchaseOrderList(ReadOnlyPurchaseOrderList purchaseOrderList, Path filePath)
+        public void exportInventory(ReadOnlyInventory inventory, Path directory, ProgressListener progressListener)
                 throws IOException {
             throw new IOException("dummy exception");
         }
@@ -0,0 +1,81 @@
+package seedu.inventory.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class WriteBehindPersisterTest {
+
+    private static final Path FIRST_FILE = Paths.get("first");
+    private static final Path SECOND_FILE = Paths.get("second");
+
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+
+    // a long interval, so that saves are only written when the test flushes them
+    private final WriteBehindPersister persister = new WriteBehindPersister(60000, errors::add);
+
+    @After
+    public void tearDown() {
+        persister.shutdown();
+    }
+
+    @Test
+    public void submit_burstOfSaves_writesLatestSaveOncePerFile() {
+        for (int i = 0; i < 50; i++) {
+            String state = "state " + i;
+            persister.submit(FIRST_FILE, () -> writes.add(FIRST_FILE + " " + state));
+        }
+        persister.submit(SECOND_FILE, () -> writes.add(SECOND_FILE + " state"));
+        assertTrue(writes.isEmpty());
+
+        persister.flush();
+        assertEquals(2, writes.size());
+        assertEquals(FIRST_FILE + " state 49", writes.get(0));
+        assertEquals(SECOND_FILE + " state", writes.get(1));
+
+        // nothing left to write
+        persister.flush();
+        assertEquals(2, writes.size());
+    }
+
+    @Test
+    public void submit_shortInterval_writesWithoutFlush() throws Exception {
+        WriteBehindPersister shortIntervalPersister = new WriteBehindPersister(1, errors::add);
+        shortIntervalPersister.submit(FIRST_FILE, () -> writes.add("written"));
+        for (int i = 0; i < 500 && writes.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList("written"), writes);
+        shortIntervalPersister.shutdown();
+    }
+
+    @Test
+    public void flush_saveThrowsException_exceptionPassedToHandler() {
+        IOException exception = new IOException("dummy exception");
+        persister.submit(FIRST_FILE, () -> {
+            throw exception;
+        });
+        persister.submit(SECOND_FILE, () -> writes.add("written"));
+        persister.flush();
+
+        assertEquals(Collections.singletonList(exception), errors);
+        assertEquals(Collections.singletonList("written"), writes);
+    }
+
+    @Test
+    public void submit_afterShutdown_writesImmediately() {
+        persister.shutdown();
+        persister.submit(FIRST_FILE, () -> writes.add("written"));
+        assertEquals(Collections.singletonList("written"), writes);
+    }
+}
@@ -2,14 +2,17 @@ package seedu.inventory.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.inventory.testutil.TypicalItems.IPHONE;
 import static seedu.inventory.testutil.TypicalItems.NOKIA;
 import static seedu.inventory.testutil.TypicalItems.XIAOMI;
 import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,8 +20,10 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.commons.util.FileUtil;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.model.ReadOnlyInventory;
+import seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder;
 
 public class XmlInventoryStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlInventoryStorageTest");
@@ -100,6 +105,40 @@ public class XmlInventoryStorageTest {
 
     }
 
+    @Test
+    public void saveItemList_purchaseOrderListNotRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempInventory.xml");
+        Path staffFilePath = testFolder.getRoot().toPath().resolve("TempStaffList.xml");
+        Inventory original = TypicalPurchaseOrder.getTypicalInventory();
+        XmlInventoryStorage xmlInventoryStorage = new XmlInventoryStorage(filePath, staffFilePath);
+        xmlInventoryStorage.saveInventory(original);
+        byte[] purchaseOrders = Files.readAllBytes(xmlInventoryStorage.getPurchaseOrderListFilePath());
+
+        original.addItem(NOKIA);
+        xmlInventoryStorage.saveItemList(original);
+
+        assertTrue(Arrays.equals(purchaseOrders,
+                Files.readAllBytes(xmlInventoryStorage.getPurchaseOrderListFilePath())));
+        assertEquals(original, new Inventory(xmlInventoryStorage.readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_purchaseOrdersInInventoryFile_movedOnSave() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempInventory.xml");
+        Path staffFilePath = testFolder.getRoot().toPath().resolve("TempStaffList.xml");
+        Inventory original = TypicalPurchaseOrder.getTypicalInventory();
+        XmlInventoryStorage xmlInventoryStorage = new XmlInventoryStorage(filePath, staffFilePath);
+        FileUtil.createIfMissing(filePath);
+        XmlFileStorage.saveInventoryToFile(filePath, original);
+        assertEquals(original, new Inventory(xmlInventoryStorage.readInventory().get()));
+
+        original.addItem(NOKIA);
+        xmlInventoryStorage.saveItemList(original);
+
+        assertTrue(Files.exists(xmlInventoryStorage.getPurchaseOrderListFilePath()));
+        assertEquals(original, new Inventory(xmlInventoryStorage.readInventory().get()));
+    }
+
     @Test
     public void saveInventory_nullInventory_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
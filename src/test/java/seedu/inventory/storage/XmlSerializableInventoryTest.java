@@ -1,15 +1,19 @@
 package seedu.inventory.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.util.XmlElementReader;
 import seedu.inventory.commons.util.XmlUtil;
 import seedu.inventory.model.Inventory;
 import seedu.inventory.testutil.TypicalItems;
@@ -29,6 +33,9 @@ public class XmlSerializableInventoryTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void toModelType_typicalItemsFile_success() throws Exception {
         XmlSerializableInventory dataFromFile = XmlUtil.getDataFromFile(TYPICAL_ITEMS_FILE,
@@ -72,4 +79,36 @@ public class XmlSerializableInventoryTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void readInventory_typicalPurchaseOrdersFile_sameAsToModelType() throws Exception {
+        Inventory expected = XmlUtil.getDataFromFile(TYPICAL_PURCHASE_ORDER_FILE, XmlSerializableInventory.class)
+                .toModelType();
+        try (XmlElementReader reader = new XmlElementReader(TYPICAL_PURCHASE_ORDER_FILE,
+                XmlSerializableInventory.ROOT_ELEMENT)) {
+            assertEquals(expected, XmlSerializableInventory.readInventory(reader));
+        }
+    }
+
+    @Test
+    public void readInventory_duplicateItems_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableInventory.MESSAGE_DUPLICATE_ITEM);
+        XmlFileStorage.loadInventoryFromSaveFile(DUPLICATE_ITEM_FILE);
+    }
+
+    @Test
+    public void writeInventory_sameBytesAsMarshalling() throws Exception {
+        Inventory inventory = TypicalPurchaseOrder.getTypicalInventory();
+        Path marshalledFile = testFolder.newFile("marshalled.xml").toPath();
+        Path streamedFile = testFolder.newFile("streamed.xml").toPath();
+
+        XmlUtil.saveDataToFile(marshalledFile, new XmlSerializableInventory(inventory));
+        XmlFileStorage.saveInventoryToFile(streamedFile, inventory);
+        assertArrayEquals(Files.readAllBytes(marshalledFile), Files.readAllBytes(streamedFile));
+
+        XmlUtil.saveDataToFile(marshalledFile, new XmlSerializableInventory(new Inventory()));
+        XmlFileStorage.saveInventoryToFile(streamedFile, new Inventory());
+        assertArrayEquals(Files.readAllBytes(marshalledFile), Files.readAllBytes(streamedFile));
+    }
+
 }
@@ -48,4 +48,17 @@ public class XmlSerializableStaffListTest {
         thrown.expectMessage(XmlSerializableStaffList.MESSAGE_DUPLICATE_STAFF);
         dataFromFile.toModelType();
     }
+
+    @Test
+    public void loadStaffListFromSaveFile_typicalStaffsFile_success() throws Exception {
+        assertEquals(TypicalStaffs.getTypicalStaffList(),
+                XmlFileStorage.loadStaffListFromSaveFile(TYPICAL_STAFFS_FILE));
+    }
+
+    @Test
+    public void loadStaffListFromSaveFile_duplicateStaffs_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableStaffList.MESSAGE_DUPLICATE_STAFF);
+        XmlFileStorage.loadStaffListFromSaveFile(DUPLICATE_STAFF_FILE);
+    }
 }
@@ -0,0 +1,100 @@
+package seedu.inventory.storage.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.NOKIA;
+import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.IPHONEPO;
+import static seedu.inventory.testutil.purchaseorder.TypicalPurchaseOrder.LGPO;
+import static seedu.inventory.testutil.staff.TypicalStaffs.getTypicalStaffList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.StaffList;
+import seedu.inventory.storage.XmlInventoryStorage;
+
+public class BinaryInventoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path staffFilePath;
+    private BinaryInventoryStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempInventory.bin");
+        staffFilePath = testFolder.getRoot().toPath().resolve("TempStaffList.bin");
+        storage = new BinaryInventoryStorage(filePath, staffFilePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readInventory().isPresent());
+    }
+
+    @Test
+    public void readAndSaveInventory_allInOrder_success() throws Exception {
+        Inventory original = getTypicalInventory();
+        original.addPurchaseOrder(LGPO);
+        original.addPurchaseOrder(IPHONEPO);
+
+        storage.saveInventory(original);
+        assertTrue(BinaryFormat.isBinaryFile(filePath));
+        assertEquals(original, new Inventory(storage.readInventory().get()));
+
+        original.addItem(NOKIA);
+        storage.saveInventory(original, filePath);
+        assertEquals(original, new Inventory(storage.readInventory(filePath).get()));
+    }
+
+    @Test
+    public void readAndSaveStaffList_allInOrder_success() throws Exception {
+        StaffList original = new StaffList(getTypicalStaffList());
+        storage.saveStaffList(original);
+        assertTrue(BinaryFormat.isBinaryFile(staffFilePath));
+        assertEquals(original.getStaffList(), storage.readStaffList().get().getStaffList());
+    }
+
+    @Test
+    public void readInventory_xmlFile_readAsXml() throws Exception {
+        Inventory original = getTypicalInventory();
+        new XmlInventoryStorage(filePath, staffFilePath).saveInventory(original);
+
+        assertFalse(BinaryFormat.isBinaryFile(filePath));
+        assertEquals(original, new Inventory(storage.readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_corruptedFile_throwsDataConversionException() throws Exception {
+        storage.saveInventory(getTypicalInventory());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1]++;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readInventory();
+    }
+
+    @Test
+    public void readInventory_staffListFile_throwsDataConversionException() throws Exception {
+        storage.saveStaffList(new StaffList(getTypicalStaffList()), filePath);
+
+        thrown.expect(DataConversionException.class);
+        storage.readInventory();
+    }
+}
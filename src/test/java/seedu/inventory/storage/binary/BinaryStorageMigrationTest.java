@@ -0,0 +1,77 @@
+package seedu.inventory.storage.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.NOKIA;
+import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
+import static seedu.inventory.testutil.staff.TypicalStaffs.getTypicalStaffList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.StaffList;
+import seedu.inventory.model.item.Quantity;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.sale.SaleDate;
+import seedu.inventory.model.sale.SaleId;
+import seedu.inventory.storage.JournaledInventoryStorage;
+import seedu.inventory.storage.XmlInventoryStorage;
+import seedu.inventory.storage.XmlSaleListStorage;
+
+public class BinaryStorageMigrationTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void migrate_xmlFiles_rewrittenInBinary() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.xml");
+        Path staffFilePath = testFolder.getRoot().toPath().resolve("staffList.xml");
+        Path saleFilePath = testFolder.getRoot().toPath().resolve("sale.xml");
+
+        JournaledInventoryStorage xmlStorage = new JournaledInventoryStorage(
+                new XmlInventoryStorage(filePath, staffFilePath));
+        Inventory inventory = getTypicalInventory();
+        xmlStorage.saveInventory(inventory);
+        inventory.addItem(NOKIA);
+        xmlStorage.saveInventory(inventory); // journaled, not in the snapshot
+        StaffList staffList = new StaffList(getTypicalStaffList());
+        xmlStorage.saveStaffList(staffList);
+        SaleList saleList = new SaleList();
+        saleList.addSale(new Sale(new SaleId("1"), IPHONE, new Quantity("1"), new SaleDate("2018-08-01")));
+        new XmlSaleListStorage().saveSaleList(saleList, saleFilePath);
+
+        BinaryStorageMigration.migrate(filePath, staffFilePath, saleFilePath);
+
+        assertTrue(BinaryFormat.isBinaryFile(filePath));
+        assertTrue(BinaryFormat.isBinaryFile(staffFilePath));
+        assertTrue(MappedSaleListStorage.isSaleRecordFile(saleFilePath));
+        assertFalse(Files.exists(JournaledInventoryStorage.getJournalFilePath(filePath)));
+
+        BinaryInventoryStorage binaryStorage = new BinaryInventoryStorage(filePath, staffFilePath);
+        assertEquals(inventory, new Inventory(binaryStorage.readInventory().get()));
+        assertEquals(staffList.getStaffList(), binaryStorage.readStaffList().get().getStaffList());
+        assertEquals(saleList, new SaleList(new MappedSaleListStorage(saleFilePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void migrate_missingFiles_nothingWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.xml");
+        Path staffFilePath = testFolder.getRoot().toPath().resolve("staffList.xml");
+        Path saleFilePath = testFolder.getRoot().toPath().resolve("sale.xml");
+
+        BinaryStorageMigration.migrate(filePath, staffFilePath, saleFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(staffFilePath));
+        assertFalse(Files.exists(saleFilePath));
+    }
+}
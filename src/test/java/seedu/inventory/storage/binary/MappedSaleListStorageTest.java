@@ -0,0 +1,236 @@
+package seedu.inventory.storage.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.inventory.testutil.TypicalItems.IPHONE;
+import static seedu.inventory.testutil.TypicalItems.LG;
+import static seedu.inventory.testutil.TypicalItems.getTypicalInventory;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.DataConversionException;
+import seedu.inventory.model.Inventory;
+import seedu.inventory.model.SaleList;
+import seedu.inventory.model.item.Quantity;
+import seedu.inventory.model.sale.Sale;
+import seedu.inventory.model.sale.SaleDate;
+import seedu.inventory.model.sale.SaleId;
+import seedu.inventory.storage.XmlSaleListStorage;
+
+public class MappedSaleListStorageTest {
+
+    private static final Sale IPHONE_SALE = new Sale(new SaleId("1"), IPHONE, new Quantity("2"),
+            new SaleDate("2018-08-01"));
+    private static final Sale LG_SALE = new Sale(new SaleId("2"), LG, new Quantity("1"), new SaleDate("2018-09-15"));
+    private static final Sale LATER_IPHONE_SALE = new Sale(new SaleId("3"), IPHONE, new Quantity("1"),
+            new SaleDate("2018-10-30"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Inventory inventory;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("sale.dat");
+        inventory = getTypicalInventory();
+    }
+
+    @Test
+    public void readSaleList_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedSaleListStorage(filePath).readSaleList(inventory).isPresent());
+    }
+
+    @Test
+    public void readAndSaveSaleList_allInOrder_success() throws Exception {
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        original.addSale(LG_SALE);
+
+        new MappedSaleListStorage(filePath).saveSaleList(original);
+        assertTrue(MappedSaleListStorage.isSaleRecordFile(filePath));
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void saveSaleList_addedSales_appendedInPlace() throws Exception {
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        storage.saveSaleList(original);
+        Object fileKey = Files.readAttributes(filePath, "fileKey").get("fileKey");
+
+        original.addSale(LG_SALE);
+        original.addSale(LATER_IPHONE_SALE);
+        storage.saveSaleList(original);
+
+        if (fileKey != null) {
+            // a rewrite would have moved a new file over the old one
+            assertEquals(fileKey, Files.readAttributes(filePath, "fileKey").get("fileKey"));
+        }
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void saveSaleList_removedSale_rewritten() throws Exception {
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        original.addSale(LG_SALE);
+        storage.saveSaleList(original);
+
+        original.removeSale(IPHONE_SALE);
+        original.addSale(LATER_IPHONE_SALE);
+        storage.saveSaleList(original);
+
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void saveSaleList_removedSaleAfterRead_rewrittenInPlace() throws Exception {
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        original.addSale(LG_SALE);
+        new MappedSaleListStorage(filePath).saveSaleList(original);
+
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList saleList = new SaleList(storage.readSaleList(inventory).get());
+        Object fileKey = Files.readAttributes(filePath, "fileKey").get("fileKey");
+        saleList.removeSale(IPHONE_SALE);
+        storage.saveSaleList(saleList);
+
+        if (fileKey != null) {
+            // the mapped file cannot be replaced on every platform
+            assertEquals(fileKey, Files.readAttributes(filePath, "fileKey").get("fileKey"));
+        }
+        assertFalse(Files.exists(SaleRecordFile.getRedoFilePath(filePath)));
+        assertEquals(saleList, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void readSaleList_unfinishedRewrite_redoFileReplayed() throws Exception {
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        original.addSale(LG_SALE);
+        storage.saveSaleList(original);
+        byte[] originalContents = Files.readAllBytes(filePath);
+
+        SaleList changed = new SaleList();
+        changed.addSale(LATER_IPHONE_SALE);
+        storage.saveSaleList(changed);
+        Path redoFile = SaleRecordFile.getRedoFilePath(filePath);
+        Files.write(redoFile, originalContents);
+
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+        assertFalse(Files.exists(redoFile));
+    }
+
+    @Test
+    public void readAndSaveSaleList_nonCanonicalSaleIds_keptAsWritten() throws Exception {
+        SaleList original = new SaleList();
+        original.addSale(new Sale(new SaleId("007"), IPHONE, new Quantity("1"), new SaleDate("2018-08-01")));
+        original.addSale(new Sale(new SaleId("7"), LG, new Quantity("1"), new SaleDate("2018-08-02")));
+        original.addSale(new Sale(new SaleId("12345678901234567890123"), LG, new Quantity("1"),
+                new SaleDate("2018-08-03")));
+
+        new MappedSaleListStorage(filePath).saveSaleList(original);
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void saveSaleList_february29OfNonLeapYear_savedAndLaterSalesAppended() throws Exception {
+        // SaleDate accepts February 29 of any year
+        Sale leapDaySale = new Sale(new SaleId("4"), LG, new Quantity("3"), new SaleDate("2019-02-29"));
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList original = new SaleList();
+        original.addSale(leapDaySale);
+        storage.saveSaleList(original);
+
+        original.addSale(LATER_IPHONE_SALE);
+        storage.saveSaleList(original);
+
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+        assertEquals(3 * LG.getPrice().getCents(),
+                storage.getRevenueCents(LocalDate.of(2019, 2, 28), LocalDate.of(2019, 3, 1)));
+    }
+
+    @Test
+    public void readSaleList_numericSaleIdFile_readAndRewrittenOnSave() throws Exception {
+        ByteBuffer contents = ByteBuffer.allocate(16 + 32);
+        contents.put(new byte[] {'I', 'M', 'S', 'R'});
+        contents.putInt(4, 1);
+        contents.putInt(8, 1);
+        contents.putLong(16, 42);
+        contents.putLong(24, IPHONE.getPrice().getCents());
+        contents.putInt(32, 0);
+        contents.putInt(36, 2);
+        contents.putInt(40, (int) LocalDate.of(2018, 8, 1).toEpochDay());
+        Files.write(filePath, contents.array());
+        Files.write(SaleRecordFile.getStringFilePath(filePath), Arrays.asList(IPHONE.getSku().value));
+
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList saleList = new SaleList(storage.readSaleList(inventory).get());
+        Sale expectedSale = new Sale(new SaleId("42"), IPHONE, new Quantity("2"), new SaleDate("2018-08-01"));
+        assertEquals(Arrays.asList(expectedSale), saleList.getSaleList());
+
+        saleList.addSale(LG_SALE);
+        storage.saveSaleList(saleList);
+        assertEquals(saleList, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void readSaleList_xmlFile_readAsXml() throws Exception {
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        new XmlSaleListStorage().saveSaleList(original, filePath);
+
+        assertFalse(MappedSaleListStorage.isSaleRecordFile(filePath));
+        assertEquals(original, new SaleList(new MappedSaleListStorage(filePath).readSaleList(inventory).get()));
+    }
+
+    @Test
+    public void getRevenueCents_savedSales_revenueInRange() throws Exception {
+        MappedSaleListStorage storage = new MappedSaleListStorage(filePath);
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        original.addSale(LG_SALE);
+        original.addSale(LATER_IPHONE_SALE);
+        storage.saveSaleList(original);
+
+        long iphoneCents = IPHONE.getPrice().getCents();
+        long lgCents = LG.getPrice().getCents();
+        assertEquals(2 * iphoneCents + lgCents,
+                storage.getRevenueCents(LocalDate.of(2018, 8, 1), LocalDate.of(2018, 9, 30)));
+        assertEquals(3 * iphoneCents + lgCents,
+                new MappedSaleListStorage(filePath).getRevenueCents(LocalDate.of(2018, 1, 1),
+                        LocalDate.of(2018, 12, 31)));
+    }
+
+    @Test
+    public void readSaleList_truncatedFile_throwsDataConversionException() throws Exception {
+        SaleList original = new SaleList();
+        original.addSale(IPHONE_SALE);
+        new MappedSaleListStorage(filePath).saveSaleList(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        new MappedSaleListStorage(filePath).readSaleList(inventory);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.inventory.storage.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.inventory.commons.exceptions.IllegalValueException;
+import seedu.inventory.commons.exceptions.UnrecognizableDataException;
+import seedu.inventory.commons.util.ProgressListener;
+
+public class ParallelCsvImportTest {
+
+    private static final String INVALID_SKU_MESSAGE = "Invalid SKU";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ForkJoinPool pool = new ForkJoinPool(1);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void importFrom_manyInvalidLines_firstLinesReportedWithCount() throws Exception {
+        int invalidCount = ParallelCsvImport.MAX_REPORTED_ERRORS + 5;
+        Path file = writeItems(invalidCount, false);
+        ParallelCsvImport<String> csvImport = new ParallelCsvImport<>(new CsvSerializableItemList(), content -> {
+            throw new IllegalValueException(INVALID_SKU_MESSAGE);
+        }, null, null, pool);
+
+        try {
+            csvImport.importFrom(file, ProgressListener.NONE);
+            throw new AssertionError("The expected IllegalValueException was not thrown.");
+        } catch (IllegalValueException ive) {
+            String[] lines = ive.getMessage().split("\n");
+            assertEquals(ParallelCsvImport.MAX_REPORTED_ERRORS + 1, lines.length);
+            assertEquals(String.format(ParallelCsvImport.MESSAGE_INVALID_LINE, 3, INVALID_SKU_MESSAGE), lines[0]);
+            assertEquals(String.format(ParallelCsvImport.MESSAGE_MORE_INVALID_LINES, 5), lines[lines.length - 1]);
+        }
+    }
+
+    @Test
+    public void importFrom_readingFails_pendingChunksCancelled() throws Exception {
+        Path file = writeItems(2 * ParallelCsvImport.CHUNK_SIZE, true);
+        CountDownLatch readingFailed = new CountDownLatch(1);
+        AtomicInteger convertedCount = new AtomicInteger();
+        ParallelCsvImport<String> csvImport = new ParallelCsvImport<>(new CsvSerializableItemList(), content -> {
+            try {
+                readingFailed.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            convertedCount.incrementAndGet();
+            return content.get(3);
+        }, null, null, pool);
+
+        try {
+            csvImport.importFrom(file, ProgressListener.NONE);
+            throw new AssertionError("The expected UnrecognizableDataException was not thrown.");
+        } catch (UnrecognizableDataException ude) {
+            // the malformed last row stops the reading, before the first chunk can be converted
+        }
+        readingFailed.countDown();
+        assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        // the second chunk waits behind the first on the pool, and is cancelled before it is converted
+        assertTrue(convertedCount.get() <= ParallelCsvImport.CHUNK_SIZE);
+    }
+
+    /**
+     * Writes an item csv file with {@code itemCount} items, followed by a row with too few fields if
+     * {@code isMalformedRowAdded}.
+     */
+    private Path writeItems(int itemCount, boolean isMalformedRowAdded) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("items.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("Item,,,,,\nname,price,quantity,sku,image,tags\n");
+            for (int i = 0; i < itemCount; i++) {
+                writer.write("Item " + i + ",1.00,1,item-" + i + ",docs/images/iphone.jpg,\n");
+            }
+            if (isMalformedRowAdded) {
+                writer.write("Item,1.00\n");
+            }
+        }
+        return file;
+    }
+}
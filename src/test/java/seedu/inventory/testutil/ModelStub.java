@@ -1,10 +1,12 @@
 package seedu.inventory.testutil;
 
 import java.nio.file.Path;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.inventory.commons.events.storage.InventoryUpdateEvent;
 import seedu.inventory.commons.events.storage.ItemListUpdateEvent;
 import seedu.inventory.commons.events.storage.PurchaseOrderListUpdateEvent;
 import seedu.inventory.commons.events.storage.SaleListUpdateEvent;
@@ -29,6 +31,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean isLowStock(Item item) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void viewLowQuantity() {
         throw new AssertionError("This method should not be called.");
@@ -54,6 +61,25 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void mergeItemList(ReadOnlyItemList newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void mergeSaleList(ReadOnlySaleList newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void loadSaleList(Future<? extends ReadOnlySaleList> saleListLoading) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void awaitSaleList() {
+    }
+
     @Override
     public void resetStaffList(ReadOnlyStaffList newData) {
         throw new AssertionError("This method should not be called.");
@@ -95,6 +121,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void validateItemImages() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void exportItemList(Path filePath) {
         throw new AssertionError("This method should not be called.");
@@ -105,6 +136,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void importItemList(Path filePath, boolean isMerge) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void exportSaleList(Path filePath) {
         throw new AssertionError("This method should not be called.");
@@ -115,6 +151,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void importSaleList(Path filePath, boolean isMerge) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void exportStaffList(Path filePath) {
         throw new AssertionError("This method should not be called.");
@@ -135,6 +176,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void exportInventory(Path directory) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void importInventory(Path directory) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void cancelFileOperations() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //========================= Item ======================================
     @Override
     public boolean hasItem(Item item) {
@@ -361,4 +417,9 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void handleInventoryUpdateEvent(InventoryUpdateEvent iue) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }
@@ -2,16 +2,27 @@ package seedu.inventory.ui;
 
 import static guitests.guihandles.WebViewUtil.waitUntilBrowserLoaded;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static seedu.inventory.testutil.EventsUtil.postNow;
 import static seedu.inventory.testutil.TypicalItems.IPHONE;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import guitests.guihandles.BrowserPanelHandle;
+import javafx.collections.FXCollections;
+import javafx.scene.image.Image;
 import seedu.inventory.commons.events.ui.ItemPanelSelectionChangedEvent;
 
 public class BrowserPanelTest extends GuiUnitTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ItemPanelSelectionChangedEvent selectionChangedEventStub;
 
     private BrowserPanel browserPanel;
@@ -19,9 +30,10 @@ public class BrowserPanelTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        selectionChangedEventStub = new ItemPanelSelectionChangedEvent(IPHONE);
+        selectionChangedEventStub = new ItemPanelSelectionChangedEvent(IPHONE, 0);
 
-        guiRobot.interact(() -> browserPanel = new BrowserPanel());
+        guiRobot.interact(() -> browserPanel = new BrowserPanel(item -> false,
+                FXCollections.observableArrayList(IPHONE), new ThumbnailCache(temporaryFolder.getRoot().toPath())));
         uiPartRule.setUiPart(browserPanel);
 
         browserPanelHandle = new BrowserPanelHandle(browserPanel.getRoot());
@@ -36,5 +48,33 @@ public class BrowserPanelTest extends GuiUnitTest {
         postNow(selectionChangedEventStub);
         waitUntilBrowserLoaded(browserPanelHandle);
         assertEquals("file:docs/images/iphone.jpg", browserPanelHandle.getLoadedUrl());
+
+        // the thumbnail has been decoded by the time it is shown
+        Image thumbnail = browserPanelHandle.getLoadedImage();
+        assertNotNull(thumbnail);
+        assertFalse(thumbnail.isError());
+        assertEquals(1, thumbnail.getProgress(), 0);
+        assertEquals(ThumbnailCache.THUMBNAIL_SIZE, thumbnail.getWidth(), 0);
+    }
+
+    @Test
+    public void display_thumbnailFails_imageShown() {
+        ThumbnailCache failingCache = new ThumbnailCache(temporaryFolder.getRoot().toPath()) {
+            @Override
+            public synchronized CompletableFuture<Image> getThumbnail(String imagePath) {
+                CompletableFuture<Image> thumbnail = new CompletableFuture<>();
+                thumbnail.completeExceptionally(new IllegalArgumentException("Thumbnail cannot be decoded"));
+                return thumbnail;
+            }
+        };
+        guiRobot.interact(() -> browserPanel = new BrowserPanel(item -> false,
+                FXCollections.observableArrayList(IPHONE), failingCache));
+        uiPartRule.setUiPart(browserPanel);
+        browserPanelHandle = new BrowserPanelHandle(browserPanel.getRoot());
+
+        postNow(selectionChangedEventStub);
+        waitUntilBrowserLoaded(browserPanelHandle);
+        assertEquals("file:docs/images/iphone.jpg", browserPanelHandle.getLoadedUrl());
+        assertNotNull(browserPanelHandle.getLoadedImage());
     }
 }
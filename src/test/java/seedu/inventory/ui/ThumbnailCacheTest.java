@@ -0,0 +1,137 @@
+package seedu.inventory.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.scene.image.Image;
+
+public class ThumbnailCacheTest extends GuiUnitTest {
+    private static final String IPHONE_IMAGE = "docs/images/iphone.jpg";
+    private static final String GOOGLE_IMAGE = "docs/images/google.jpg";
+    private static final String LG_IMAGE = "docs/images/lg.jpg";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getThumbnail_sameImage_servedFromMemory() throws Exception {
+        ThumbnailCache thumbnailCache = new ThumbnailCache(temporaryFolder.getRoot().toPath());
+        Image thumbnail = thumbnailCache.getThumbnail(IPHONE_IMAGE).get();
+
+        assertEquals(ThumbnailCache.THUMBNAIL_SIZE, thumbnail.getWidth(), 0);
+        assertEquals(ThumbnailCache.THUMBNAIL_SIZE, thumbnail.getHeight(), 0);
+        assertTrue(thumbnailCache.getThumbnail(IPHONE_IMAGE).isDone());
+        assertSame(thumbnail, thumbnailCache.getThumbnail(IPHONE_IMAGE).get());
+    }
+
+    @Test
+    public void getThumbnail_imageFile_thumbnailSavedToDisk() throws Exception {
+        Path thumbnailDirectory = temporaryFolder.getRoot().toPath();
+        Image thumbnail = new ThumbnailCache(thumbnailDirectory).getThumbnail(IPHONE_IMAGE).get();
+        assertEquals(1, thumbnail.getProgress(), 0);
+        assertFalse(thumbnail.isError());
+        assertEquals(1, countFiles(thumbnailDirectory));
+
+        // a new cache reads the thumbnail from disk instead of decoding the image
+        Image savedThumbnail = new ThumbnailCache(thumbnailDirectory).getThumbnail(IPHONE_IMAGE).get();
+        assertNotSame(thumbnail, savedThumbnail);
+        assertTrue(savedThumbnail.getUrl().startsWith(thumbnailDirectory.toUri().toString()));
+        assertEquals(thumbnail.getWidth(), savedThumbnail.getWidth(), 0);
+    }
+
+    @Test
+    public void getThumbnail_thumbnailCannotBeSaved_thumbnailReturnedAndTemporaryFileDeleted() throws Exception {
+        Path thumbnailDirectory = temporaryFolder.newFolder("thumbnails").toPath();
+        new ThumbnailCache(thumbnailDirectory).getThumbnail(IPHONE_IMAGE).get();
+        Path thumbnailFile = listFiles(thumbnailDirectory)[0];
+
+        // a non-empty directory in place of the thumbnail file cannot be replaced
+        Files.delete(thumbnailFile);
+        Files.createDirectories(thumbnailFile.resolve("blocker"));
+        Image thumbnail = new ThumbnailCache(thumbnailDirectory).getThumbnail(IPHONE_IMAGE).get();
+
+        assertFalse(thumbnail.isError());
+        assertEquals(ThumbnailCache.THUMBNAIL_SIZE, thumbnail.getWidth(), 0);
+        assertEquals(1, countFiles(thumbnailDirectory));
+    }
+
+    @Test
+    public void getThumbnail_capacityExceeded_leastRecentlyUsedEvicted() throws Exception {
+        ThumbnailCache thumbnailCache = new ThumbnailCache(temporaryFolder.getRoot().toPath(), 2);
+        thumbnailCache.getThumbnail(IPHONE_IMAGE).get();
+        thumbnailCache.getThumbnail(GOOGLE_IMAGE).get();
+        thumbnailCache.getThumbnail(IPHONE_IMAGE).get();
+        thumbnailCache.getThumbnail(LG_IMAGE).get();
+
+        assertEquals(2, thumbnailCache.size());
+        assertTrue(thumbnailCache.getThumbnail(IPHONE_IMAGE).isDone());
+        assertFalse(thumbnailCache.getThumbnail(GOOGLE_IMAGE).isDone());
+    }
+
+    @Test
+    public void prefetch_images_loadedIntoMemory() throws Exception {
+        ThumbnailCache thumbnailCache = new ThumbnailCache(temporaryFolder.getRoot().toPath());
+        thumbnailCache.prefetch(Arrays.asList(IPHONE_IMAGE, GOOGLE_IMAGE));
+
+        guiRobot.waitForEvent(() -> thumbnailCache.size() == 2);
+        assertTrue(thumbnailCache.getThumbnail(GOOGLE_IMAGE).isDone());
+    }
+
+    @Test
+    public void evictStaleThumbnails_changedAndRemovedImages_thumbnailsDeleted() throws Exception {
+        Path thumbnailDirectory = temporaryFolder.newFolder("thumbnails").toPath();
+        Path changedImage = temporaryFolder.getRoot().toPath().resolve("changed.jpg");
+        Files.copy(Paths.get(LG_IMAGE), changedImage);
+        ThumbnailCache thumbnailCache = new ThumbnailCache(thumbnailDirectory);
+        thumbnailCache.getThumbnail(IPHONE_IMAGE).get();
+        thumbnailCache.getThumbnail(GOOGLE_IMAGE).get();
+        thumbnailCache.getThumbnail(changedImage.toString()).get();
+        assertEquals(3, countFiles(thumbnailDirectory));
+
+        FileTime modifiedTime = Files.getLastModifiedTime(changedImage);
+        Files.setLastModifiedTime(changedImage, FileTime.fromMillis(modifiedTime.toMillis() + 60000));
+        thumbnailCache.evictStaleThumbnails(Arrays.asList(IPHONE_IMAGE, changedImage.toString())).get();
+
+        // only the thumbnail of the unchanged image is kept
+        assertEquals(1, countFiles(thumbnailDirectory));
+        Image savedThumbnail = new ThumbnailCache(thumbnailDirectory).getThumbnail(IPHONE_IMAGE).get();
+        assertTrue(savedThumbnail.getUrl().startsWith(thumbnailDirectory.toUri().toString()));
+    }
+
+    @Test
+    public void evictStaleThumbnails_leftoverTemporaryFile_deleted() throws Exception {
+        Path thumbnailDirectory = temporaryFolder.newFolder("thumbnails").toPath();
+        ThumbnailCache thumbnailCache = new ThumbnailCache(thumbnailDirectory);
+        thumbnailCache.getThumbnail(IPHONE_IMAGE).get();
+        Files.createTempFile(thumbnailDirectory, "thumbnail", ".tmp");
+
+        thumbnailCache.evictStaleThumbnails(Arrays.asList(IPHONE_IMAGE)).get();
+        assertEquals(1, countFiles(thumbnailDirectory));
+    }
+
+    private static Path[] listFiles(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toArray(Path[]::new);
+        }
+    }
+
+    private static long countFiles(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
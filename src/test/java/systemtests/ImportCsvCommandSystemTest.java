@@ -54,7 +54,7 @@ public class ImportCsvCommandSystemTest extends InventorySystemTest {
         command = "   " + ImportCsvCommand.COMMAND_WORD_ITEMS + "  "
                 + PREFIX_FILEPATH + path + "   ";
         String expectedContentMessage = FILE_IMPORT_ERROR_DIALOG_CONTENT_MESSAGE + ":\n"
-                + new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_ITEM));
+                + new DataConversionException(new IllegalValueException("Line 10: " + MESSAGE_DUPLICATE_ITEM));
         assertCommandSuccessWithErrorDialog(command, expectedContentMessage, path);
 
         // Case: invalid item file
@@ -62,7 +62,7 @@ public class ImportCsvCommandSystemTest extends InventorySystemTest {
         command = "   " + ImportCsvCommand.COMMAND_WORD_ITEMS + "  "
                 + PREFIX_FILEPATH + path + "   ";
         expectedContentMessage = FILE_IMPORT_ERROR_DIALOG_CONTENT_MESSAGE + ":\n"
-                + new DataConversionException(new IllegalValueException(Sku.MESSAGE_SKU_CONSTRAINTS));
+                + new DataConversionException(new IllegalValueException("Line 3: " + Sku.MESSAGE_SKU_CONSTRAINTS));
         assertCommandSuccessWithErrorDialog(command, expectedContentMessage, path);
 
         // Case: invalid file name